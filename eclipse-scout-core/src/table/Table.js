@@ -3780,6 +3780,13 @@ export default class Table extends Widget {
     this._triggerFilterReset();
   }
 
+  /**
+   * @returns {boolean} whether the user may filter the rows using the text filter or the column filters.
+   */
+  isUserFilterPossible() {
+    return true;
+  }
+
   hasUserFilter() {
     return objects.values(this._filterMap)
       .filter(filter => {
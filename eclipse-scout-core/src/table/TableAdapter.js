@@ -418,6 +418,55 @@ export default class TableAdapter extends ModelAdapter {
     this.widget.deleteAllRows();
   }
 
+  _syncRowCount(rowCount) {
+    this.widget.setProperty('rowCount', rowCount);
+    if (this.widget._isDataRendered()) {
+      this.widget._renderFiller();
+    }
+  }
+
+  _syncRowWindowStart(rowWindowStart) {
+    this.widget.setProperty('rowWindowStart', rowWindowStart);
+    if (this.widget._isDataRendered()) {
+      this.widget._renderFiller();
+    }
+    // The rows of the new window follow in the same response -> check the viewport again when they are processed
+    this._rowWindowRequested = false;
+    this.session.onEventsProcessed(this._requestRowWindowForViewport.bind(this));
+  }
+
+  /**
+   * If the row window is enabled (rowWindowSize > 0), the UI only holds the rows from rowWindowStart to rowWindowStart + rowWindowSize.
+   * The rows outside of the window are represented by the fillers (see _renderFiller), assuming they have the default row height.
+   * Requests a new window as soon as the viewport comes close to the start or the end of the current window.
+   */
+  _requestRowWindowForViewport() {
+    let table = this.widget;
+    if (this._rowWindowRequested || this.session.processingEvents || !table._isDataRendered() || !table.rowHeight) {
+      return;
+    }
+    let rowWindowStart = scout.nvl(table.rowWindowStart, 0),
+      rowWindowEnd = rowWindowStart + table.visibleRows.length,
+      rowCount = scout.nvl(table.rowCount, 0),
+      margin = Math.floor(table.rowWindowSize / 4),
+      viewportFrom = Math.floor(table.$data[0].scrollTop / table.rowHeight),
+      viewportTo = viewportFrom + Math.ceil(table.$data[0].clientHeight / table.rowHeight);
+    let startReached = rowWindowStart > 0 && viewportFrom < rowWindowStart + margin;
+    let endReached = rowWindowEnd < rowCount && viewportTo > rowWindowEnd - margin;
+    if (!startReached && !endReached) {
+      return;
+    }
+    // Same computation as on the server, don't request the window the UI already holds
+    let newRowWindowStart = Math.max(Math.min(viewportFrom - margin, rowCount - table.rowWindowSize), 0);
+    if (newRowWindowStart === rowWindowStart) {
+      return;
+    }
+    this._rowWindowRequested = true;
+    this._send('rowWindowRequested', {
+      rowIndex: viewportFrom
+    });
+  }
+
   _onRowsUpdated(rows) {
     this.widget.updateRows(rows);
   }
@@ -668,12 +717,50 @@ export default class TableAdapter extends ModelAdapter {
         // In a JS only app the flag 'uiSortPossible' is never set and thus defaults to true. Additionally we check if each column can install
         // its comparator used to sort. If installation failed for some reason, sorting is not possible. In a remote app the server sets the
         // 'uiSortPossible' flag, which decides if the column must be sorted by the server or can be sorted by the client.
-        let uiSortPossible = scout.nvl(this.uiSortPossible, true);
+        // If the row window is enabled, the ui does not know all rows and therefore cannot sort them.
+        let uiSortPossible = scout.nvl(this.uiSortPossible, true) && !(this.rowWindowSize > 0);
         return uiSortPossible && this._isSortingPossibleOrig(sortColumns);
       }
       return this._isSortingPossibleOrig(sortColumns);
     }, true);
 
+    // _renderViewport
+    objects.replacePrototypeFunction(Table, '_renderViewport', function() {
+      this._renderViewportOrig();
+      if (this.modelAdapter && this.rowWindowSize > 0) {
+        this.modelAdapter._requestRowWindowForViewport();
+      }
+    }, true);
+
+    // _renderFiller
+    objects.replacePrototypeFunction(Table, '_renderFiller', function() {
+      this._renderFillerOrig();
+      if (this.modelAdapter && this.rowWindowSize > 0) {
+        // The fillers take the place of the rows outside of the row window, so that the scroll bar reflects all rows
+        let rowsBefore = scout.nvl(this.rowWindowStart, 0),
+          rowsAfter = Math.max(scout.nvl(this.rowCount, 0) - rowsBefore - this.visibleRows.length, 0);
+        this.$fillBefore.cssHeight(this.$fillBefore.cssHeight() + rowsBefore * this.rowHeight);
+        this.$fillAfter.cssHeight(this.$fillAfter.cssHeight() + rowsAfter * this.rowHeight);
+      }
+    }, true);
+
+    // _rowIndexAtScrollTop
+    objects.replacePrototypeFunction(Table, '_rowIndexAtScrollTop', function(scrollTop) {
+      if (this.modelAdapter && this.rowWindowSize > 0) {
+        scrollTop = Math.max(scrollTop - scout.nvl(this.rowWindowStart, 0) * this.rowHeight, 0);
+      }
+      return this._rowIndexAtScrollTopOrig(scrollTop);
+    }, true);
+
+    // isUserFilterPossible
+    objects.replacePrototypeFunction(Table, 'isUserFilterPossible', function() {
+      if (this.modelAdapter && this.rowWindowSize > 0) {
+        // If the row window is enabled, the ui does not know all rows and therefore cannot filter them.
+        return false;
+      }
+      return this.isUserFilterPossibleOrig();
+    }, true);
+
     // sort
     objects.replacePrototypeFunction(Table, 'sort', function(column, direction, multiSort, remove) {
       if (this.modelAdapter && column.guiOnly) {
@@ -76,6 +76,7 @@ export default class TableFooter extends Widget {
     }
     this.$clearIcon = $filter.appendSpan('clear-icon unfocusable needsclick')
       .on('mousedown', this._onDeleteFilterMouseDown.bind(this));
+    $filter.setVisible(this.table.isUserFilterPossible());
 
     // load info ("X rows loaded, click to reload")
     this._$infoLoad = this._$info
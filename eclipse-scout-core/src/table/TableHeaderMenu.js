@@ -104,8 +104,8 @@ export default class TableHeaderMenu extends Popup {
     this.filter.on('filterFieldsChanged', this._updateFilterTable.bind(this));
     this._updateFilterTableCheckedMode();
 
-    this.hasFilterTable = this.filter.availableValues.length > 0;
-    this.hasFilterFields = this.filter.hasFilterFields;
+    this.hasFilterTable = this.table.isUserFilterPossible() && this.filter.availableValues.length > 0;
+    this.hasFilterFields = this.table.isUserFilterPossible() && this.filter.hasFilterFields;
 
     if (this.hasFilterTable) {
       this._tableFilterHandler = this._onFilterTableChanged.bind(this);
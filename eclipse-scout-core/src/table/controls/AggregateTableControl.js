@@ -24,6 +24,7 @@ export default class AggregateTableControl extends TableControl {
 
     this.animateDuration = AggregateTableControl.CONTAINER_ANIMATE_DURATION;
     this.aggregateRow = [];
+    this.aggregates = null; // Totals computed by the server, indexed by column index
     this.cssClass = 'aggregate';
     this.height = 0; // Will be as height as a row
     this.iconId = icons.SUM;
@@ -132,6 +133,17 @@ export default class AggregateTableControl extends TableControl {
     return null;
   }
 
+  setAggregates(aggregates) {
+    this.setProperty('aggregates', aggregates);
+  }
+
+  _setAggregates(aggregates) {
+    this._setProperty('aggregates', aggregates);
+    if (this.contentRendered && this.selected) {
+      this._aggregate();
+    }
+  }
+
   _aggregate() {
     let rows,
       aggregateRow = [],
@@ -140,15 +152,20 @@ export default class AggregateTableControl extends TableControl {
     if (selectedRows.length > 1) {
       rows = selectedRows;
       aggregateRow.selection = true;
+    } else if (this.aggregates && !this.table.hasUserFilter()) {
+      // Use the totals of the server, they are computed over all rows of the table
+      this._aggregateFromServer(aggregateRow);
     } else {
       rows = this.table.filteredRows();
     }
 
-    this.table._forEachVisibleColumn('aggrStart', aggregateRow);
-    rows.forEach(function(row) {
-      this.table._forEachVisibleColumn('aggrStep', aggregateRow, row);
-    }, this);
-    this.table._forEachVisibleColumn('aggrFinish', aggregateRow);
+    if (rows) {
+      this.table._forEachVisibleColumn('aggrStart', aggregateRow);
+      rows.forEach(function(row) {
+        this.table._forEachVisibleColumn('aggrStep', aggregateRow, row);
+      }, this);
+      this.table._forEachVisibleColumn('aggrFinish', aggregateRow);
+    }
 
     this.aggregateRow = aggregateRow;
     if (this.contentRendered && this.selected) {
@@ -156,6 +173,25 @@ export default class AggregateTableControl extends TableControl {
     }
   }
 
+  _aggregateFromServer(aggregateRow) {
+    this.table.visibleColumns().forEach((column, i) => {
+      let aggregate = this.aggregates[column.index];
+      if (!aggregate || !column.aggrStart) {
+        aggregateRow[i] = undefined;
+      } else if (column.aggregationFunction === 'sum') {
+        aggregateRow[i] = aggregate.count > 0 ? aggregate.sum : undefined;
+      } else if (column.aggregationFunction === 'avg') {
+        aggregateRow[i] = aggregate.count > 0 ? aggregate.sum / aggregate.count : undefined;
+      } else if (column.aggregationFunction === 'min') {
+        aggregateRow[i] = aggregate.min;
+      } else if (column.aggregationFunction === 'max') {
+        aggregateRow[i] = aggregate.max;
+      } else {
+        aggregateRow[i] = undefined;
+      }
+    });
+  }
+
   _reconcileScrollPos() {
     // When scrolling horizontally scroll aggregate content as well
     let scrollLeft = this.table.$data.scrollLeft();
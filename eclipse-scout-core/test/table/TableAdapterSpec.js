@@ -8,7 +8,7 @@
  * Contributors:
  *     BSI Business Systems Integration AG - initial API and implementation
  */
-import {RemoteEvent} from '../../src/index';
+import {Range, RemoteEvent} from '../../src/index';
 import {LocaleSpecHelper, TableSpecHelper} from '../../src/testing/index';
 
 /* global removePopups */
@@ -684,4 +684,60 @@ describe('TableAdapter', () => {
 
   });
 
+  describe('row window', () => {
+    let adapter, table;
+
+    beforeEach(() => {
+      let model = helper.createModelFixture(2, 10);
+      model.rowWindowSize = 10;
+      model.rowWindowStart = 5;
+      model.rowCount = 30;
+      adapter = helper.createTableAdapter(model);
+      table = adapter.createWidget(model, session.desktop);
+    });
+
+    it('reserves the space of the rows outside of the window with the fillers', () => {
+      table.render();
+      let notRenderedRowsHeight = table._calculateFillerHeight(new Range(table.viewRangeRendered.to, table.visibleRows.length));
+      expect(table.$fillBefore.cssHeight()).toBe(5 * table.rowHeight);
+      expect(table.$fillAfter.cssHeight()).toBe(15 * table.rowHeight + notRenderedRowsHeight);
+    });
+
+    it('maps the scroll position to the rows of the window', () => {
+      table.render();
+      expect(table._rowIndexAtScrollTop(0)).toBe(0);
+      expect(table._rowIndexAtScrollTop(5 * table.rowHeight)).toBe(0);
+      expect(table._rowIndexAtScrollTop(7 * table.rowHeight)).toBe(2);
+    });
+
+    it('requests a new window if the viewport is outside of the window', () => {
+      table.render();
+      table._renderViewport();
+      sendQueuedAjaxCalls();
+
+      let event = new RemoteEvent(table.id, 'rowWindowRequested', {
+        rowIndex: 0
+      });
+      expect(mostRecentJsonRequest()).toContainEvents(event);
+    });
+
+    it('updates the fillers if the window moves', () => {
+      table.render();
+      adapter._syncRowWindowStart(20);
+      expect(table.rowWindowStart).toBe(20);
+      expect(table.$fillBefore.cssHeight()).toBe(20 * table.rowHeight);
+
+      adapter._syncRowCount(40);
+      let notRenderedRowsHeight = table._calculateFillerHeight(new Range(table.viewRangeRendered.to, table.visibleRows.length));
+      expect(table.$fillAfter.cssHeight()).toBe(10 * table.rowHeight + notRenderedRowsHeight);
+    });
+
+    it('does not sort or filter in the ui', () => {
+      expect(table._isSortingPossible([table.columns[0]])).toBe(false);
+      expect(table.isUserFilterPossible()).toBe(false);
+
+      table.setProperty('rowWindowSize', 0);
+      expect(table.isUserFilterPossible()).toBe(true);
+    });
+  });
 });
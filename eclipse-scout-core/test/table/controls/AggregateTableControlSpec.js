@@ -249,6 +249,37 @@ describe('AggregateTableControl', () => {
       expect($aggrCells.eq(1).text()).toBe('5');
     });
 
+    it('uses the aggregates of the server unless rows are selected', () => {
+      prepareTable();
+      rows[0].cells[1].value = 1;
+      rows[1].cells[1].value = 2;
+      rows[2].cells[1].value = 3;
+      table.render();
+
+      tableControl.setAggregates([null, {count: 4, sum: 10, min: 1, max: 4}, {count: 0, sum: 0}]);
+      let $aggrCells = $aggregateRow(tableControl).children('.table-cell');
+      $aggrCells.children('.table-cell-icon').remove();
+      expect($aggrCells.eq(0).text()).toBe('\u00a0'); // nbsp
+      expect($aggrCells.eq(1).text()).toBe('10');
+      expect($aggrCells.eq(2).text()).toBe('\u00a0'); // nbsp
+
+      table.changeAggregation(column1, 'max');
+      $aggrCells = $aggregateRow(tableControl).children('.table-cell');
+      $aggrCells.children('.table-cell-icon').remove();
+      expect($aggrCells.eq(1).text()).toBe('4');
+
+      table.selectRows([table.rows[0], table.rows[1]]);
+      $aggrCells = $aggregateRow(tableControl).children('.table-cell');
+      $aggrCells.children('.table-cell-icon').remove();
+      expect($aggrCells.eq(1).text()).toBe('2');
+
+      table.deselectAll();
+      tableControl.setAggregates(null);
+      $aggrCells = $aggregateRow(tableControl).children('.table-cell');
+      $aggrCells.children('.table-cell-icon').remove();
+      expect($aggrCells.eq(1).text()).toBe('3');
+    });
+
     it('does not apply background effect', () => {
       prepareTable();
       rows[0].cells[1].value = 1;
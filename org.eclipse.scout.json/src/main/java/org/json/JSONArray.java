@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -34,6 +37,7 @@ import org.json.JSONStringer.Scope;
  * -----------------------------
  * - Applied Scout code formatting rules
  * - equals() method changed to be symmetric
+ * - Added write(Writer) to encode directly to a java.io.Writer
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -606,6 +610,21 @@ public class JSONArray {
     return stringer.toString();
   }
 
+  /**
+   * Encodes this array as a compact JSON string (see {@link #toString()}) and writes it directly to the given
+   * {@link Writer}, without materializing the whole string in memory. The writer is flushed but not closed.
+   */
+  public void write(Writer writer) throws IOException {
+    JSONStringer stringer = new JSONStringer(writer);
+    try {
+      writeTo(stringer);
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    stringer.flush();
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.array();
     for (Object value : m_values) {
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -40,6 +43,7 @@ import org.json.JSONStringer.Scope;
  * - Changed getString()/optString() to return null for JSON values "null" instead of the string "null".
  * - Replaced task markers from the original source code with 'TO.DO'.
  * - Suppress sonar warnings where necessary
+ * - Added write(Writer) to encode directly to a java.io.Writer
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -709,6 +713,21 @@ public class JSONObject {
     return stringer.toString();
   }
 
+  /**
+   * Encodes this object as a compact JSON string (see {@link #toString()}) and writes it directly to the given
+   * {@link Writer}, without materializing the whole string in memory. The writer is flushed but not closed.
+   */
+  public void write(Writer writer) throws IOException {
+    JSONStringer stringer = new JSONStringer(writer);
+    try {
+      writeTo(stringer);
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    stringer.flush();
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.object();
     for (Entry<String, Object> entry : m_nameValuePairs.entrySet()) {
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -30,6 +33,7 @@ import java.util.List;
  * Changes to the original code:
  * -----------------------------
  * - Applied Scout code formatting rules
+ * - Added streaming mode writing to a java.io.Writer (see JSONStringer(Writer))
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -67,10 +71,22 @@ import java.util.List;
  */
 public class JSONStringer {
 
+  /**
+   * Number of buffered characters after which the buffer is written to the {@link #m_writer} (if there is one).
+   */
+  private static final int WRITER_FLUSH_THRESHOLD = 8192;
+
   /** The output data, containing at most one top-level array or object. */
   @SuppressWarnings("squid:S00116")
   final StringBuilder out = new StringBuilder();
 
+  /**
+   * Optional target of the encoded data. If set, {@link #out} is only used as a buffer and written to this writer
+   * whenever it exceeds {@link #WRITER_FLUSH_THRESHOLD}.
+   */
+  private final Writer m_writer;
+  private boolean m_writtenToWriter;
+
   /**
    * Lexical scoping elements within this stringer, necessary to insert the appropriate separator characters (ie. commas
    * and colons) and to detect nesting errors.
@@ -121,12 +137,29 @@ public class JSONStringer {
 
   public JSONStringer() {
     m_indent = null;
+    m_writer = null;
+  }
+
+  /**
+   * Creates a stringer which writes the encoded data to the given {@link Writer} instead of keeping the whole string in
+   * memory. {@link #flush()} must be called after the top-level value was encoded. {@link #toString()} is undefined
+   * for such a stringer.
+   * <p>
+   * I/O errors of the writer are thrown as {@link UncheckedIOException}.
+   */
+  public JSONStringer(Writer writer) {
+    if (writer == null) {
+      throw new JSONException("Writer must be non-null");
+    }
+    m_indent = null;
+    m_writer = writer;
   }
 
   JSONStringer(int indentSpaces) {
     char[] indentChars = new char[indentSpaces];
     Arrays.fill(indentChars, ' ');
     m_indent = new String(indentChars);
+    m_writer = null;
   }
 
   /**
@@ -169,7 +202,7 @@ public class JSONStringer {
    * Enters a new scope by appending any necessary whitespace and the given bracket.
    */
   JSONStringer open(Scope empty, String openBracket) {
-    if (m_stack.isEmpty() && out.length() > 0) {
+    if (m_stack.isEmpty() && (out.length() > 0 || m_writtenToWriter)) {
       throw new JSONException("Nesting problem: multiple top-level roots");
     }
     beforeValue();
@@ -192,6 +225,7 @@ public class JSONStringer {
       newline();
     }
     out.append(closeBracket);
+    writeToWriterIfNecessary();
     return this;
   }
 
@@ -251,6 +285,7 @@ public class JSONStringer {
       string(value.toString());
     }
 
+    writeToWriterIfNecessary();
     return this;
   }
 
@@ -265,6 +300,7 @@ public class JSONStringer {
     }
     beforeValue();
     out.append(value);
+    writeToWriterIfNecessary();
     return this;
   }
 
@@ -281,6 +317,7 @@ public class JSONStringer {
     }
     beforeValue();
     out.append(JSONObject.numberToString(value));
+    writeToWriterIfNecessary();
     return this;
   }
 
@@ -295,6 +332,7 @@ public class JSONStringer {
     }
     beforeValue();
     out.append(value);
+    writeToWriterIfNecessary();
     return this;
   }
 
@@ -419,6 +457,44 @@ public class JSONStringer {
     }
   }
 
+  /**
+   * Writes the buffered data to the writer passed to {@link #JSONStringer(Writer)} if the buffer exceeds
+   * {@link #WRITER_FLUSH_THRESHOLD}. Does nothing if there is no writer.
+   */
+  private void writeToWriterIfNecessary() {
+    if (m_writer != null && out.length() >= WRITER_FLUSH_THRESHOLD) {
+      writeToWriter();
+    }
+  }
+
+  private void writeToWriter() {
+    try {
+      m_writer.append(out);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    out.setLength(0);
+    m_writtenToWriter = true;
+  }
+
+  /**
+   * Writes all remaining buffered data to the writer passed to {@link #JSONStringer(Writer)} and flushes it. Does
+   * nothing if there is no writer.
+   */
+  public void flush() throws IOException {
+    if (m_writer == null) {
+      return;
+    }
+    try {
+      writeToWriter();
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    m_writer.flush();
+  }
+
   /**
    * Returns the encoded JSON string.
    * <p>
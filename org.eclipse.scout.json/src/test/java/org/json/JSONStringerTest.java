@@ -20,12 +20,16 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import junit.framework.TestCase;
 
 /*
  * Changes to the original code:
  * -----------------------------
  * - Applied Scout code formatting rules
+ * - Added tests for streaming mode (JSONStringer(Writer))
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -374,4 +378,51 @@ public class JSONStringerTest extends TestCase {
     catch (JSONException e) {
     }
   }
+
+  public void testWriter() throws IOException {
+    StringWriter writer = new StringWriter();
+    JSONStringer stringer = new JSONStringer(writer);
+    stringer.object();
+    stringer.key("a").value("b");
+    stringer.key("c").array().value(1).value(true).endArray();
+    stringer.endObject();
+    stringer.flush();
+    assertEquals("{\"a\":\"b\",\"c\":[1,true]}", writer.toString());
+  }
+
+  public void testWriterLargeContent() throws IOException {
+    JSONArray array = new JSONArray();
+    for (int i = 0; i < 10000; i++) {
+      JSONObject object = new JSONObject();
+      object.put("id", i);
+      object.put("text", "\"quoted\" / " + i);
+      array.put(object);
+    }
+    JSONObject object = new JSONObject();
+    object.put("rows", array);
+
+    StringWriter writer = new StringWriter();
+    object.write(writer);
+    assertEquals(object.toString(), writer.toString());
+
+    writer = new StringWriter();
+    array.write(writer);
+    assertEquals(array.toString(), writer.toString());
+  }
+
+  public void testWriterMultipleRoots() throws IOException {
+    JSONStringer stringer = new JSONStringer(new StringWriter());
+    stringer.array();
+    for (int i = 0; i < 10000; i++) {
+      stringer.value(i);
+    }
+    stringer.endArray();
+    stringer.flush();
+    try {
+      stringer.object();
+      fail();
+    }
+    catch (JSONException e) {
+    }
+  }
 }
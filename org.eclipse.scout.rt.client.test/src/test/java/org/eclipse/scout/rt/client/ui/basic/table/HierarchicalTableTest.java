@@ -13,6 +13,7 @@ package org.eclipse.scout.rt.client.ui.basic.table;
 import static org.junit.Assert.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -217,6 +218,65 @@ public class HierarchicalTableTest {
             .collect(Collectors.toList()));
   }
 
+  /**
+   * <pre>
+   * 1
+   * |--2
+   * |--3
+   * 4
+   * |--5
+   *    |--6
+   * </pre>
+   */
+  @Test
+  public void testFilteredRowIndex() {
+    P_SinglePrimaryKeyColumnTable table = new P_SinglePrimaryKeyColumnTable();
+    table.init();
+    List<ITableRow> rows = new ArrayList<>();
+    rows.add(table.createRow(new Object[]{1, null}));
+    rows.add(table.createRow(new Object[]{2, 1}));
+    rows.add(table.createRow(new Object[]{3, 1}));
+    rows.add(table.createRow(new Object[]{4, null}));
+    rows.add(table.createRow(new Object[]{5, 4}));
+    rows.add(table.createRow(new Object[]{6, 5}));
+    table.replaceRows(rows);
+    assertFilteredRowIndexes(table);
+
+    ITableRow row3 = table.getRowByKey(Collections.singletonList(3));
+    table.addRowFilter(row -> row != row3);
+    expectRowOrder(new Integer[]{1, 2, 4, 5, 6}, table.getFilteredRows());
+    assertEquals(-1, table.getFilteredRowIndex(row3));
+    assertFilteredRowIndexes(table);
+
+    table.getColumnSet().setSortColumn(table.getPrimaryKeyColumn(), false);
+    table.sort();
+    expectRowOrder(new Integer[]{4, 5, 6, 1, 2}, table.getFilteredRows());
+    assertFilteredRowIndexes(table);
+
+    table.addRow(table.createRow(new Object[]{7, 1}));
+    expectRowOrder(new Integer[]{4, 5, 6, 1, 7, 2}, table.getFilteredRows());
+    assertFilteredRowIndexes(table);
+
+    ITableRow row5 = table.getRowByKey(Collections.singletonList(5));
+    table.deleteRow(row5);
+    expectRowOrder(new Integer[]{4, 1, 7, 2}, table.getFilteredRows());
+    assertEquals(-1, table.getFilteredRowIndex(row5));
+    assertFilteredRowIndexes(table);
+
+    table.removeRowFilter(table.getRowFilters().get(0));
+    expectRowOrder(new Integer[]{4, 1, 7, 3, 2}, table.getFilteredRows());
+    assertFilteredRowIndexes(table);
+    assertEquals(-1, table.getFilteredRowIndex(null));
+  }
+
+  private void assertFilteredRowIndexes(ITable table) {
+    List<ITableRow> filteredRows = table.getFilteredRows();
+    for (int i = 0; i < filteredRows.size(); i++) {
+      assertSame(filteredRows.get(i), table.getFilteredRow(i));
+      assertEquals(i, table.getFilteredRowIndex(filteredRows.get(i)));
+    }
+  }
+
   public static class P_SinglePrimaryKeyColumnTable extends AbstractTable {
 
     public ParentKeyColumn getParentKeyColumn() {
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.InternalTableRow;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.exception.VetoException;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.junit.Test;
+
+/**
+ * Tests tables whose cells are only created when they are accessed (see
+ * {@link AbstractTable#getConfiguredLazyCellMaterialization()}).
+ */
+public class LazyCellMaterializationTest {
+
+  @Test
+  public void testTableRowKeepsValues() {
+    P_Table table = new P_Table();
+    TableRow row = new TableRow(table.getColumnSet());
+    row.setCellValue(0, "a");
+    assertFalse(row.isCellMaterialized(0));
+    assertEquals("a", row.getCellValue(0));
+    assertEquals("a", row.getCell(0).getValue());
+    assertTrue(row.isCellMaterialized(0));
+  }
+
+  @Test
+  public void testNotLazyByDefault() {
+    P_Table table = new P_Table();
+    table.setLazyCellMaterialization(false);
+    table.replaceRowsByMatrix(new Object[][]{{"a"}, {"b"}});
+    assertTrue(getInternalRow(table, 0).isCellMaterialized(0));
+    assertFalse(getInternalRow(table, 0).isCellsPending());
+    assertEquals(2, table.getDefaultColumn().getDecorateCount());
+  }
+
+  @Test
+  public void testCellsCreatedOnAccess() {
+    P_Table table = new P_Table();
+    table.replaceRowsByMatrix(new Object[][]{{"a"}, {"b"}});
+    assertEquals(2, table.getDefaultColumn().getParseCount());
+    assertEquals(2, table.getDefaultColumn().getValidateCount());
+    assertEquals(0, table.getDefaultColumn().getDecorateCount());
+
+    // values are read without creating the cells
+    assertEquals("a", table.getDefaultColumn().getValue(0));
+    assertEquals("b", table.getDefaultColumn().getValue(1));
+    assertNotNull(table.getRowByKey(CollectionUtility.arrayList("b")));
+    assertFalse(getInternalRow(table, 0).isCellMaterialized(0));
+    assertTrue(getInternalRow(table, 0).isCellsPending());
+
+    // accessing a cell creates, initializes and decorates the cells of the row
+    Cell cell = getInternalRow(table, 0).getCellForUpdate(0);
+    assertEquals("a", cell.getText());
+    assertEquals("decorated", cell.getTooltipText());
+    assertEquals("ff0000", cell.getBackgroundColor());
+    assertTrue(cell.isHtmlEnabled());
+    assertSame(getInternalRow(table, 0), cell.getObserver());
+    assertEquals(1, table.getDefaultColumn().getDecorateCount());
+    assertFalse(getInternalRow(table, 0).isCellsPending());
+    assertFalse(getInternalRow(table, 1).isCellMaterialized(0));
+  }
+
+  @Test
+  public void testMaterializeCells() {
+    P_Table table = new P_Table();
+    table.replaceRowsByMatrix(new Object[][]{{"a"}, {"b"}});
+    List<Integer> updates = new ArrayList<>();
+    table.addTableListener(e -> updates.add(e.getType()), TableEvent.TYPE_ROWS_UPDATED);
+
+    table.materializeCells(table.getRows());
+    assertEquals(2, table.getDefaultColumn().getDecorateCount());
+    assertTrue(getInternalRow(table, 1).isCellMaterialized(0));
+    assertEquals("b", table.getCell(1, 0).getText());
+    assertEquals(ITableRow.STATUS_INSERTED, table.getRow(1).getStatus());
+    assertTrue(updates.isEmpty());
+
+    // cells are only decorated once
+    table.materializeCells(table.getRows());
+    assertEquals(2, table.getDefaultColumn().getDecorateCount());
+  }
+
+  @Test
+  public void testSetValue() {
+    P_Table table = new P_Table();
+    table.replaceRowsByMatrix(new Object[][]{{"a"}, {"b"}});
+    table.getRow(0).setStatusNonchanged();
+
+    table.getDefaultColumn().setValue(0, "c");
+    assertEquals("c", table.getDefaultColumn().getValue(0));
+    assertEquals("c", table.getCell(0, 0).getText());
+    assertEquals(ITableRow.STATUS_UPDATED, table.getRow(0).getStatus());
+    // decorated when the cell is created and again after the update
+    assertEquals(2, table.getDefaultColumn().getDecorateCount());
+  }
+
+  @Test
+  public void testInvalidValue() {
+    P_Table table = new P_Table();
+    table.replaceRowsByMatrix(new Object[][]{{"invalid"}, {"b"}});
+    // cells with invalid values keep their error status
+    assertTrue(getInternalRow(table, 0).isCellMaterialized(0));
+    assertFalse(table.getCell(0, 0).isContentValid());
+    assertEquals("invalid", table.getCell(0, 0).getText());
+    assertFalse(getInternalRow(table, 1).isCellMaterialized(0));
+  }
+
+  @Test
+  public void testRowStyle() {
+    P_Table table = new P_Table();
+    table.replaceRowsByMatrix(new Object[][]{{"a"}});
+    table.getRow(0).setCssClass("row");
+    assertFalse(getInternalRow(table, 0).isCellMaterialized(0));
+    assertEquals("row", table.getCell(0, 0).getCssClass());
+
+    table.getRow(0).setForegroundColor("00ff00");
+    assertEquals("00ff00", table.getCell(0, 0).getForegroundColor());
+  }
+
+  private static InternalTableRow getInternalRow(ITable table, int rowIndex) {
+    return (InternalTableRow) table.getRow(rowIndex);
+  }
+
+  public static class P_Table extends AbstractTable {
+
+    @Override
+    protected boolean getConfiguredLazyCellMaterialization() {
+      return true;
+    }
+
+    public DefaultColumn getDefaultColumn() {
+      return getColumnSet().getColumnByClass(DefaultColumn.class);
+    }
+
+    @Order(10)
+    public class DefaultColumn extends AbstractStringColumn {
+
+      private int m_parseCount = 0;
+      private int m_validateCount = 0;
+      private int m_decorateCount = 0;
+
+      @Override
+      protected boolean getConfiguredPrimaryKey() {
+        return true;
+      }
+
+      @Override
+      protected boolean getConfiguredHtmlEnabled() {
+        return true;
+      }
+
+      @Override
+      protected String getConfiguredBackgroundColor() {
+        return "ff0000";
+      }
+
+      public int getDecorateCount() {
+        return m_decorateCount;
+      }
+
+      public int getValidateCount() {
+        return m_validateCount;
+      }
+
+      public int getParseCount() {
+        return m_parseCount;
+      }
+
+      @Override
+      public String execParseValue(ITableRow row, Object rawValue) {
+        m_parseCount++;
+        return super.execParseValue(row, rawValue);
+      }
+
+      @Override
+      protected String execValidateValue(ITableRow row, String rawValue) {
+        m_validateCount++;
+        if ("invalid".equals(rawValue)) {
+          throw new VetoException("invalid value");
+        }
+        return super.execValidateValue(row, rawValue);
+      }
+
+      @Override
+      protected void execDecorateCell(Cell cell, ITableRow row) {
+        m_decorateCount++;
+        cell.setTooltipText("decorated");
+      }
+    }
+  }
+}
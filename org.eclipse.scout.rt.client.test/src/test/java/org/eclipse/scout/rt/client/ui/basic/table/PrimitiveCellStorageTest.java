@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractBigDecimalColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractDateColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractIntegerColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractLongColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.InternalTableRow;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.exception.VetoException;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests the cells of columns with display texts computed on demand, which are stored as (primitive) values (see
+ * {@link org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn#getPrimitiveCellCodec()}).
+ */
+@RunWith(PlatformTestRunner.class)
+public class PrimitiveCellStorageTest {
+
+  private static final Date DATE = new Date(1600000000000L);
+
+  @Test
+  public void testValuesStoredInPrimitiveForm() {
+    P_Table table = new P_Table();
+    table.replaceRowsByMatrix(new Object[][]{{"a", Long.MIN_VALUE, 42, new BigDecimal("-123.450"), DATE}});
+    InternalTableRow row = getInternalRow(table, 0);
+
+    assertTrue(row.isCellMaterialized(0));
+    for (int i = 1; i < 5; i++) {
+      assertFalse(row.isCellMaterialized(i));
+    }
+    assertEquals(Long.valueOf(Long.MIN_VALUE), table.getLongColumn().getValue(row));
+    assertEquals(Integer.valueOf(42), table.getIntegerColumn().getValue(row));
+    assertEquals(new BigDecimal("-123.450"), table.getBigDecimalColumn().getValue(row));
+    assertEquals(DATE, table.getDateColumn().getValue(row));
+
+    // reading the cells does not keep them
+    assertEquals(table.getLongColumn().getFormat().format(Long.MIN_VALUE), table.getCell(0, 1).getText());
+    assertEquals(table.getIntegerColumn().getFormat().format(42), table.getCell(0, 2).getText());
+    assertEquals(table.getBigDecimalColumn().getFormat().format(new BigDecimal("-123.450")), table.getCell(0, 3).getText());
+    assertEquals(table.getDateColumn().format(DATE), table.getCell(0, 4).getText());
+    assertEquals("ff0000", table.getCell(0, 1).getBackgroundColor());
+    assertFalse(row.isCellMaterialized(1));
+  }
+
+  @Test
+  public void testOtherValuesStoredAsObjects() {
+    P_Table table = new P_Table();
+    Timestamp timestamp = new Timestamp(DATE.getTime());
+    BigDecimal decimal = new BigDecimal("123456789012345678901234567890");
+    table.replaceRowsByMatrix(new Object[][]{{"a", null, null, decimal, timestamp}});
+    InternalTableRow row = getInternalRow(table, 0);
+
+    assertFalse(row.isCellMaterialized(1));
+    assertNull(table.getLongColumn().getValue(row));
+    assertFalse(row.isCellMaterialized(3));
+    assertEquals(decimal, table.getBigDecimalColumn().getValue(row));
+    assertFalse(row.isCellMaterialized(4));
+    assertSame(timestamp, table.getDateColumn().getValue(row));
+  }
+
+  @Test
+  public void testStyledAndInvalidCellsKept() {
+    P_Table table = new P_Table();
+    table.replaceRowsByMatrix(new Object[][]{{"a", 1L, 1}, {"b", -1L, 1}, {"c", 1001L, 1}});
+
+    assertFalse(getInternalRow(table, 0).isCellMaterialized(1));
+    // decorated individually
+    assertTrue(getInternalRow(table, 1).isCellMaterialized(1));
+    assertEquals("negative", table.getCell(1, 1).getCssClass());
+    // error status
+    assertTrue(getInternalRow(table, 2).isCellMaterialized(1));
+    assertFalse(table.getCell(2, 1).isContentValid());
+  }
+
+  @Test
+  public void testRowStyle() {
+    P_Table table = new P_Table();
+    table.replaceRowsByMatrix(new Object[][]{{"a", 1L, 1}});
+    table.getRow(0).setCssClass("row");
+
+    assertEquals("row", table.getCell(0, 1).getCssClass());
+    assertEquals("ff0000", table.getCell(0, 1).getBackgroundColor());
+  }
+
+  @Test
+  public void testSetValue() {
+    P_Table table = new P_Table();
+    table.replaceRowsByMatrix(new Object[][]{{"a", 1L, 1}});
+    table.getRow(0).setStatusNonchanged();
+    List<TableEvent> events = new ArrayList<>();
+    table.addTableListener(events::add, TableEvent.TYPE_ROWS_UPDATED);
+
+    table.getLongColumn().setValue(0, 5L);
+    assertEquals(Long.valueOf(5), table.getLongColumn().getValue(0));
+    assertEquals(table.getLongColumn().getFormat().format(5L), table.getCell(0, 1).getText());
+    assertEquals(ITableRow.STATUS_UPDATED, table.getRow(0).getStatus());
+    assertEquals(1, events.size());
+    assertTrue(events.get(0).getUpdatedColumns(table.getRow(0)).contains(table.getLongColumn()));
+    // stored as value again once the update is processed
+    assertFalse(getInternalRow(table, 0).isCellMaterialized(1));
+  }
+
+  @Test
+  public void testColumnStyleChanged() {
+    P_Table table = new P_Table();
+    table.replaceRowsByMatrix(new Object[][]{{"a", 1L, 1}});
+    List<TableEvent> events = new ArrayList<>();
+    table.addTableListener(events::add, TableEvent.TYPE_ROWS_UPDATED);
+
+    table.getLongColumn().setBackgroundColor("00ff00");
+    assertEquals("00ff00", table.getCell(0, 1).getBackgroundColor());
+    assertEquals(1, events.size());
+    assertFalse(getInternalRow(table, 0).isCellMaterialized(1));
+  }
+
+  @Test
+  public void testCellsKeptWithoutDisplayTextOnDemand() {
+    P_Table table = new P_Table();
+    table.replaceRowsByMatrix(new Object[][]{{"a", 1L, 1}});
+
+    assertTrue(getInternalRow(table, 0).isCellMaterialized(0));
+    assertNull(table.getStringColumn().getPrimitiveCellCodec());
+    assertNotNull(table.getLongColumn().getPrimitiveCellCodec());
+  }
+
+  @Test
+  public void testLazyCellMaterialization() {
+    P_Table table = new P_Table();
+    table.setLazyCellMaterialization(true);
+    table.replaceRowsByMatrix(new Object[][]{{"a", 1L, 2}});
+    InternalTableRow row = getInternalRow(table, 0);
+    assertTrue(row.isCellsPending());
+    assertEquals(Long.valueOf(1), table.getLongColumn().getValue(row));
+
+    table.materializeCells(table.getRows());
+    assertFalse(row.isCellsPending());
+    assertTrue(row.isCellMaterialized(0));
+    assertFalse(row.isCellMaterialized(1));
+    assertEquals("ff0000", table.getCell(0, 1).getBackgroundColor());
+    assertEquals(Integer.valueOf(2), table.getIntegerColumn().getValue(row));
+  }
+
+  @Test
+  public void testCopyRow() {
+    P_Table table = new P_Table();
+    table.replaceRowsByMatrix(new Object[][]{{"a", 1L, 1}});
+
+    TableRow copy = new TableRow(table.getColumnSet(), table.getRow(0));
+    assertEquals(Long.valueOf(1), copy.getCellValue(1));
+    assertEquals(table.getLongColumn().getFormat().format(1L), copy.getCell(1).getText());
+    assertEquals("ff0000", copy.getCell(1).getBackgroundColor());
+  }
+
+  private static InternalTableRow getInternalRow(ITable table, int rowIndex) {
+    return (InternalTableRow) table.getRow(rowIndex);
+  }
+
+  public static class P_Table extends AbstractTable {
+
+    public StringColumn getStringColumn() {
+      return getColumnSet().getColumnByClass(StringColumn.class);
+    }
+
+    public LongColumn getLongColumn() {
+      return getColumnSet().getColumnByClass(LongColumn.class);
+    }
+
+    public IntegerColumn getIntegerColumn() {
+      return getColumnSet().getColumnByClass(IntegerColumn.class);
+    }
+
+    public BigDecimalColumn getBigDecimalColumn() {
+      return getColumnSet().getColumnByClass(BigDecimalColumn.class);
+    }
+
+    public DateColumn getDateColumn() {
+      return getColumnSet().getColumnByClass(DateColumn.class);
+    }
+
+    @Order(10)
+    public class StringColumn extends AbstractStringColumn {
+    }
+
+    @Order(20)
+    public class LongColumn extends AbstractLongColumn {
+
+      @Override
+      protected boolean getConfiguredDisplayTextOnDemand() {
+        return true;
+      }
+
+      @Override
+      protected String getConfiguredBackgroundColor() {
+        return "ff0000";
+      }
+
+      @Override
+      protected Long execValidateValue(ITableRow row, Long rawValue) {
+        if (rawValue != null && rawValue > 1000) {
+          throw new VetoException("too large");
+        }
+        return super.execValidateValue(row, rawValue);
+      }
+
+      @Override
+      protected void execDecorateCell(Cell cell, ITableRow row) {
+        Long value = getValue(row);
+        if (value != null && value < 0) {
+          cell.setCssClass("negative");
+        }
+      }
+    }
+
+    @Order(30)
+    public class IntegerColumn extends AbstractIntegerColumn {
+
+      @Override
+      protected boolean getConfiguredDisplayTextOnDemand() {
+        return true;
+      }
+    }
+
+    @Order(40)
+    public class BigDecimalColumn extends AbstractBigDecimalColumn {
+
+      @Override
+      protected boolean getConfiguredDisplayTextOnDemand() {
+        return true;
+      }
+
+      @Override
+      protected int getConfiguredMaxFractionDigits() {
+        return 3;
+      }
+    }
+
+    @Order(50)
+    public class DateColumn extends AbstractDateColumn {
+
+      @Override
+      protected boolean getConfiguredDisplayTextOnDemand() {
+        return true;
+      }
+
+      public String format(Date value) {
+        return getDateFormat().format(value);
+      }
+    }
+  }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.TableAggregator.Aggregate;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractLongColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.INumberColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.INumberColumn.AggregationFunction;
+import org.eclipse.scout.rt.client.ui.basic.table.controls.AggregateTableControl;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link TableAggregator}
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class TableAggregatorTest {
+
+  private P_Table m_table;
+  private List<ITableRow> m_rows;
+  private TableAggregator m_aggregator;
+
+  @Before
+  public void setUp() {
+    m_table = new P_Table();
+    m_rows = m_table.addRowsByMatrix(new Object[][]{
+        {"a", 10L},
+        {"a", 20L},
+        {"b", 30L},
+        {"b", null}});
+    m_aggregator = new TableAggregator(m_table);
+    m_aggregator.attach();
+  }
+
+  @After
+  public void tearDown() {
+    m_aggregator.detach();
+  }
+
+  @Test
+  public void testTotals() {
+    Aggregate aggregate = m_aggregator.getAggregate(m_table.getAmountColumn());
+    assertAggregate(aggregate, 3, 60, 10L, 30L);
+    assertEquals(new BigDecimal(20), aggregate.getAvg());
+    assertEquals(aggregate.getSum(), aggregate.getValue(AggregationFunction.SUM));
+    assertNull(aggregate.getValue(AggregationFunction.NONE));
+  }
+
+  @Test
+  public void testIncrementalUpdates() {
+    m_table.addRowByArray(new Object[]{"c", 5L});
+    assertAggregate(m_aggregator.getAggregate(m_table.getAmountColumn()), 4, 65, 5L, 30L);
+
+    m_table.getAmountColumn().setValue(m_rows.get(3), 100L);
+    assertAggregate(m_aggregator.getAggregate(m_table.getAmountColumn()), 5, 165, 5L, 100L);
+
+    // removes the maximum
+    m_table.deleteRow(m_rows.get(3));
+    assertAggregate(m_aggregator.getAggregate(m_table.getAmountColumn()), 4, 65, 5L, 30L);
+
+    m_table.deleteAllRows();
+    Aggregate aggregate = m_aggregator.getAggregate(m_table.getAmountColumn());
+    assertAggregate(aggregate, 0, 0, null, null);
+    assertNull(aggregate.getAvg());
+  }
+
+  @Test
+  public void testDuplicateExtrema() {
+    ITableRow row = m_table.addRowByArray(new Object[]{"c", 30L});
+    assertAggregate(m_aggregator.getAggregate(m_table.getAmountColumn()), 4, 90, 10L, 30L);
+
+    // another row holds the same maximum
+    m_table.deleteRow(row);
+    assertAggregate(m_aggregator.getAggregate(m_table.getAmountColumn()), 3, 60, 10L, 30L);
+
+    m_table.deleteRow(m_rows.get(2));
+    assertAggregate(m_aggregator.getAggregate(m_table.getAmountColumn()), 2, 30, 10L, 20L);
+  }
+
+  @Test
+  public void testRowFilter() {
+    m_table.addRowFilter(row -> !"b".equals(m_table.getGroupColumn().getValue(row)));
+    assertAggregate(m_aggregator.getAggregate(m_table.getAmountColumn()), 2, 30, 10L, 20L);
+  }
+
+  @Test
+  public void testGroups() {
+    assertTrue(m_aggregator.getGroupAggregates(m_table.getAmountColumn()).isEmpty());
+    assertNull(m_aggregator.getGroupAggregate(m_table.getAmountColumn(), m_rows.get(0)));
+
+    m_table.getColumnSet().setGroupingColumn(m_table.getGroupColumn(), true);
+    Map<List<Object>, Aggregate> groups = m_aggregator.getGroupAggregates(m_table.getAmountColumn());
+    assertEquals(Arrays.asList(Arrays.asList("a"), Arrays.asList("b")), new ArrayList<>(groups.keySet()));
+    assertAggregate(groups.get(Arrays.<Object> asList("a")), 2, 30, 10L, 20L);
+    assertAggregate(groups.get(Arrays.<Object> asList("b")), 1, 30, 30L, 30L);
+    assertEquals(groups.get(Arrays.<Object> asList("a")), m_aggregator.getGroupAggregate(m_table.getAmountColumn(), m_rows.get(0)));
+
+    // the totals are not affected by the grouping
+    assertAggregate(m_aggregator.getAggregate(m_table.getAmountColumn()), 3, 60, 10L, 30L);
+
+    m_table.addRowByArray(new Object[]{"c", 5L});
+    assertAggregate(m_aggregator.getGroupAggregates(m_table.getAmountColumn()).get(Arrays.<Object> asList("c")), 1, 5, 5L, 5L);
+  }
+
+  @Test
+  public void testRegrouping() {
+    m_table.getColumnSet().setGroupingColumn(m_table.getGroupColumn(), true);
+
+    // moves the maximum of group a to group b
+    ITableRow row = m_rows.get(1);
+    m_table.getGroupColumn().setValue(row, "b");
+    assertAggregate(m_aggregator.getGroupAggregate(m_table.getAmountColumn(), row), 2, 50, 20L, 30L);
+    assertAggregate(m_aggregator.getGroupAggregate(m_table.getAmountColumn(), m_rows.get(0)), 1, 10, 10L, 10L);
+    assertAggregate(m_aggregator.getAggregate(m_table.getAmountColumn()), 3, 60, 10L, 30L);
+
+    // changes the value and the group of a row at once
+    m_table.getGroupColumn().setValue(row, "a");
+    m_table.getAmountColumn().setValue(row, 40L);
+    assertAggregate(m_aggregator.getGroupAggregate(m_table.getAmountColumn(), row), 2, 50, 10L, 40L);
+    assertAggregate(m_aggregator.getGroupAggregate(m_table.getAmountColumn(), m_rows.get(2)), 1, 30, 30L, 30L);
+  }
+
+  @Test
+  public void testGroupRemoval() {
+    m_table.getColumnSet().setGroupingColumn(m_table.getGroupColumn(), true);
+
+    // the last row of group a moves to a new group
+    m_table.getGroupColumn().setValue(m_rows.get(0), "c");
+    m_table.getGroupColumn().setValue(m_rows.get(1), "c");
+    Map<List<Object>, Aggregate> groups = m_aggregator.getGroupAggregates(m_table.getAmountColumn());
+    assertEquals(Arrays.asList(Arrays.asList("b"), Arrays.asList("c")), new ArrayList<>(groups.keySet()));
+    assertAggregate(groups.get(Arrays.<Object> asList("c")), 2, 30, 10L, 20L);
+
+    // a group whose rows have no value remains
+    m_table.deleteRow(m_rows.get(2));
+    groups = m_aggregator.getGroupAggregates(m_table.getAmountColumn());
+    assertAggregate(groups.get(Arrays.<Object> asList("b")), 0, 0, null, null);
+
+    m_table.deleteRow(m_rows.get(3));
+    groups = m_aggregator.getGroupAggregates(m_table.getAmountColumn());
+    assertEquals(Arrays.asList(Arrays.asList("c")), new ArrayList<>(groups.keySet()));
+
+    // filtered rows are removed from their group
+    m_table.addRowFilter(r -> !"c".equals(m_table.getGroupColumn().getValue(r)));
+    assertTrue(m_aggregator.getGroupAggregates(m_table.getAmountColumn()).isEmpty());
+    assertNull(m_aggregator.getGroupAggregate(m_table.getAmountColumn(), m_rows.get(0)));
+  }
+
+  @Test
+  public void testUngrouping() {
+    m_table.getColumnSet().setGroupingColumn(m_table.getGroupColumn(), true);
+    assertEquals(2, m_aggregator.getGroupAggregates(m_table.getAmountColumn()).size());
+
+    m_table.getColumnSet().removeGroupColumn(m_table.getGroupColumn());
+    assertTrue(m_aggregator.getGroupAggregates(m_table.getAmountColumn()).isEmpty());
+    assertNull(m_aggregator.getGroupAggregate(m_table.getAmountColumn(), m_rows.get(0)));
+    assertAggregate(m_aggregator.getAggregate(m_table.getAmountColumn()), 3, 60, 10L, 30L);
+  }
+
+  @Test
+  public void testAggregatesAndChangeListener() {
+    AtomicInteger changes = new AtomicInteger();
+    m_aggregator.addChangeListener(changes::incrementAndGet);
+    m_table.addRowByArray(new Object[]{"c", 5L});
+    assertEquals(1, changes.get());
+
+    Map<INumberColumn<?>, Aggregate> aggregates = m_aggregator.getAggregates();
+    assertEquals(1, aggregates.size());
+    assertEquals(m_aggregator.getAggregate(m_table.getAmountColumn()), aggregates.get(m_table.getAmountColumn()));
+    assertAggregate(aggregates.get(m_table.getAmountColumn()), 4, 65, 5L, 30L);
+
+    m_aggregator.detach();
+    assertTrue(m_aggregator.getAggregates().isEmpty());
+    m_table.addRowByArray(new Object[]{"d", 1L});
+    assertEquals(1, changes.get());
+  }
+
+  @Test
+  public void testAggregateTableControl() {
+    AggregateTableControl control = new AggregateTableControl();
+    control.setTable(m_table);
+    assertNull(control.getAggregator());
+    assertTrue(control.getAggregates().isEmpty());
+
+    control.setSelected(true);
+    assertNotNull(control.getAggregator());
+    assertAggregate(control.getAggregates().get(m_table.getAmountColumn()), 3, 60, 10L, 30L);
+    m_table.deleteRow(m_rows.get(0));
+    assertAggregate(control.getAggregates().get(m_table.getAmountColumn()), 2, 50, 20L, 30L);
+
+    // the aggregates are only maintained while the control is selected
+    control.setSelected(false);
+    assertNull(control.getAggregator());
+    assertTrue(control.getAggregates().isEmpty());
+  }
+
+  private static void assertAggregate(Aggregate aggregate, long count, long sum, Long min, Long max) {
+    assertNotNull(aggregate);
+    assertEquals(count, aggregate.getCount());
+    assertEquals(0, BigDecimal.valueOf(sum).compareTo(aggregate.getSum()));
+    assertEquals(min, aggregate.getMin());
+    assertEquals(max, aggregate.getMax());
+  }
+
+  public static class P_Table extends AbstractTable {
+
+    public GroupColumn getGroupColumn() {
+      return getColumnSet().getColumnByClass(GroupColumn.class);
+    }
+
+    public AmountColumn getAmountColumn() {
+      return getColumnSet().getColumnByClass(AmountColumn.class);
+    }
+
+    @Order(10)
+    public class GroupColumn extends AbstractStringColumn {
+    }
+
+    @Order(20)
+    public class AmountColumn extends AbstractLongColumn {
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces realistic sequences of {@link TableEvent}s for 50'000 rows in {@link TableEventBuffer}.
+ */
+@Category(ResourceIntensiveTest.class)
+public class TableEventBufferPerfTest {
+  private static final Logger LOG = LoggerFactory.getLogger(TableEventBufferPerfTest.class);
+
+  private static final int ROW_COUNT = 50000;
+
+  private TableEventBuffer m_buffer;
+  private ITable m_table;
+  private List<ITableRow> m_rows;
+
+  @Before
+  public void before() {
+    m_buffer = BEANS.get(TableEventBuffer.class);
+    m_table = mock(ITable.class);
+    m_rows = new ArrayList<>(ROW_COUNT);
+    for (int i = 0; i < ROW_COUNT; i++) {
+      m_rows.add(mock(ITableRow.class));
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void testSingleRowInsertsFollowedByUpdates() {
+    for (ITableRow row : m_rows) {
+      m_buffer.add(new TableEvent(m_table, TableEvent.TYPE_ROWS_INSERTED, Collections.singletonList(row)));
+    }
+    for (ITableRow row : m_rows) {
+      m_buffer.add(new TableEvent(m_table, TableEvent.TYPE_ROWS_UPDATED, Collections.singletonList(row)));
+    }
+
+    List<TableEvent> events = coalesce("single row inserts followed by updates");
+    assertTrue(events.size() <= 2);
+    assertEquals(TableEvent.TYPE_ROWS_INSERTED, events.get(0).getType());
+    assertEquals(m_rows, events.get(0).getRows());
+  }
+
+  @Test(timeout = 10000)
+  public void testBulkInsertFollowedByBulkUpdate() {
+    m_buffer.add(new TableEvent(m_table, TableEvent.TYPE_ROWS_INSERTED, m_rows));
+    m_buffer.add(new TableEvent(m_table, TableEvent.TYPE_ROWS_UPDATED, m_rows));
+
+    List<TableEvent> events = coalesce("bulk insert followed by bulk update");
+    assertEquals(1, events.size());
+    assertEquals(ROW_COUNT, events.get(0).getRowCount());
+  }
+
+  @Test(timeout = 10000)
+  public void testBulkInsertUpdateDelete() {
+    m_buffer.add(new TableEvent(m_table, TableEvent.TYPE_ROWS_INSERTED, m_rows));
+    m_buffer.add(new TableEvent(m_table, TableEvent.TYPE_ROWS_UPDATED, m_rows));
+    m_buffer.add(new TableEvent(m_table, TableEvent.TYPE_ROWS_DELETED, m_rows.subList(0, ROW_COUNT / 2)));
+
+    List<TableEvent> events = coalesce("bulk insert, update and delete");
+    assertEquals(1, events.size());
+    assertEquals(TableEvent.TYPE_ROWS_INSERTED, events.get(0).getType());
+    assertEquals(m_rows.subList(ROW_COUNT / 2, ROW_COUNT), events.get(0).getRows());
+  }
+
+  @Test(timeout = 10000)
+  public void testUpdatesOfExistingRowsWithDeletes() {
+    for (int i = 0; i < ROW_COUNT; i++) {
+      m_buffer.add(new TableEvent(m_table, TableEvent.TYPE_ROWS_UPDATED, Collections.singletonList(m_rows.get(i))));
+      if (i % 10 == 9) {
+        m_buffer.add(new TableEvent(m_table, TableEvent.TYPE_ROWS_DELETED, Collections.singletonList(m_rows.get(i))));
+      }
+    }
+
+    List<TableEvent> events = coalesce("updates of existing rows with deletes");
+    int updatedRowCount = 0;
+    for (TableEvent event : events) {
+      if (event.getType() == TableEvent.TYPE_ROWS_UPDATED) {
+        updatedRowCount += event.getRowCount();
+      }
+    }
+    assertEquals(ROW_COUNT - ROW_COUNT / 10, updatedRowCount);
+  }
+
+  @Test(timeout = 10000)
+  public void testInsertsWithRowOrderChanges() {
+    for (int i = 0; i < ROW_COUNT; i += 1000) {
+      List<ITableRow> chunk = m_rows.subList(i, i + 1000);
+      m_buffer.add(new TableEvent(m_table, TableEvent.TYPE_ROWS_INSERTED, chunk));
+      m_buffer.add(new TableEvent(m_table, TableEvent.TYPE_ROWS_UPDATED, chunk));
+      List<ITableRow> reversed = new ArrayList<>(m_rows.subList(0, i + 1000));
+      Collections.reverse(reversed);
+      m_buffer.add(new TableEvent(m_table, TableEvent.TYPE_ROW_ORDER_CHANGED, reversed));
+    }
+
+    List<TableEvent> events = coalesce("inserts with row order changes");
+    // updates are obsolete, the last row order is applied to the merged insert event
+    List<ITableRow> reversed = new ArrayList<>(m_rows);
+    Collections.reverse(reversed);
+    assertEquals(1, events.size());
+    assertEquals(TableEvent.TYPE_ROWS_INSERTED, events.get(0).getType());
+    assertEquals(reversed, events.get(0).getRows());
+  }
+
+  protected List<TableEvent> coalesce(String scenario) {
+    int bufferedEventCount = m_buffer.size();
+    long start = System.nanoTime();
+    List<TableEvent> events = m_buffer.consumeAndCoalesceEvents();
+    LOG.info("Coalesced {} events ({}) into {} events in {}ms", bufferedEventCount, scenario, events.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    return events;
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.scout.rt.client.ui.basic.table.TableRowComparatorTest.TestTable.AlphanumericColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.TableRowComparatorTest.TestTable.LongColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.TableRowComparatorTest.TestTable.StringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractAlphanumericSortingStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractLongColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.platform.Order;
+import org.junit.Test;
+
+/**
+ * Tests for {@link TableRowComparator}
+ */
+public class TableRowComparatorTest {
+
+  @Test
+  public void testSortKeyExtractor() {
+    TestTable table = new TestTable();
+    assertNotNull(table.getStringColumn().createSortKeyExtractor());
+    assertNotNull(table.getLongColumn().createSortKeyExtractor());
+    // overrides compareTableRows
+    assertNull(table.getAlphanumericColumn().createSortKeyExtractor());
+  }
+
+  @Test
+  public void testSortLikeComparator() {
+    TestTable table = new TestTable();
+    Random random = new Random(42);
+    String[] strings = {null, "", "a", "A", "b", "ä", "a b", "a_b", "a-b", "z10", "z9", "Z2"};
+    for (int i = 0; i < 500; i++) {
+      table.addRowByArray(new Object[]{
+          strings[random.nextInt(strings.length)],
+          random.nextInt(10) == 0 ? null : (long) random.nextInt(20),
+          strings[random.nextInt(strings.length)]});
+    }
+
+    assertSortLikeComparator(table, table.getStringColumn(), true);
+    assertSortLikeComparator(table, table.getStringColumn(), false);
+    assertSortLikeComparator(table, table.getLongColumn(), false);
+    assertSortLikeComparator(table, table.getAlphanumericColumn(), true);
+  }
+
+  @Test
+  public void testParallelSort() {
+    TestTable table = new TestTable();
+    Random random = new Random(42);
+    for (int i = 0; i < 5000; i++) {
+      table.addRowByArray(new Object[]{"row" + random.nextInt(1000), (long) random.nextInt(100), null});
+    }
+    table.getColumnSet().setSortColumn(table.getLongColumn(), false);
+    TableRowComparator comparator = new TableRowComparator(Arrays.asList(table.getLongColumn(), table.getStringColumn()));
+
+    List<ITableRow> expected = new ArrayList<>(table.getRows());
+    List<ITableRow> actual = new ArrayList<>(expected);
+    expected.sort(comparator);
+    comparator.sort(Collections.singletonList(actual), 100);
+    assertEquals(expected, actual);
+  }
+
+  protected void assertSortLikeComparator(TestTable table, IColumn<?> sortColumn, boolean ascending) {
+    table.getColumnSet().setSortColumn(sortColumn, ascending);
+    LinkedHashSet<IColumn<?>> sortColumns = new LinkedHashSet<>(table.getColumnSet().getSortColumns());
+    sortColumns.addAll(table.getColumnSet().getVisibleColumns());
+    TableRowComparator comparator = new TableRowComparator(sortColumns);
+
+    List<ITableRow> expected = new ArrayList<>(table.getRows());
+    Collections.shuffle(expected, new Random(7));
+    List<ITableRow> actual = new ArrayList<>(expected);
+
+    expected.sort(comparator);
+    comparator.sort(Collections.singletonList(actual));
+    assertEquals(expected, actual);
+  }
+
+  public static class TestTable extends AbstractTable {
+
+    public StringColumn getStringColumn() {
+      return getColumnSet().getColumnByClass(StringColumn.class);
+    }
+
+    public LongColumn getLongColumn() {
+      return getColumnSet().getColumnByClass(LongColumn.class);
+    }
+
+    public AlphanumericColumn getAlphanumericColumn() {
+      return getColumnSet().getColumnByClass(AlphanumericColumn.class);
+    }
+
+    @Order(10)
+    public class StringColumn extends AbstractStringColumn {
+    }
+
+    @Order(20)
+    public class LongColumn extends AbstractLongColumn {
+    }
+
+    @Order(30)
+    public class AlphanumericColumn extends AbstractAlphanumericSortingStringColumn {
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractLongColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * PerformanceTest for sorting an {@link AbstractTable} with 100'000 rows. <br>
+ * Should run successfully on slow infrastructure.
+ */
+@Category(ResourceIntensiveTest.class)
+public class TableSortingPerfTest {
+  private static final Logger LOG = LoggerFactory.getLogger(TableSortingPerfTest.class);
+
+  private static final int ROW_COUNT = 100_000;
+
+  @Test
+  public void testSortStringColumn() {
+    TestTable table = createTable();
+    long millis = measureSort(table, table.getNameColumn(), true);
+    LOG.info("Sorted {} rows by a string column in {}ms", ROW_COUNT, millis);
+    assertTrue("sorting took " + millis + "ms", millis < 10000);
+    assertSorted(table);
+  }
+
+  @Test
+  public void testSortLongColumn() {
+    TestTable table = createTable();
+    long millis = measureSort(table, table.getNumberColumn(), false);
+    LOG.info("Sorted {} rows by a long column in {}ms", ROW_COUNT, millis);
+    assertTrue("sorting took " + millis + "ms", millis < 10000);
+  }
+
+  protected long measureSort(TestTable table, IColumn<?> column, boolean ascending) {
+    long start = System.nanoTime();
+    table.getColumnSet().setSortColumn(column, ascending);
+    table.sort();
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  protected void assertSorted(TestTable table) {
+    for (int i = 1; i < table.getRowCount(); i++) {
+      assertTrue(table.getNameColumn().compareTableRows(table.getRow(i - 1), table.getRow(i)) <= 0);
+    }
+  }
+
+  protected TestTable createTable() {
+    Random random = new Random(1);
+    Object[][] rows = new Object[ROW_COUNT][2];
+    for (int i = 0; i < ROW_COUNT; i++) {
+      rows[i][0] = "Name " + Integer.toString(random.nextInt(), 36);
+      rows[i][1] = random.nextLong();
+    }
+    TestTable table = new TestTable();
+    table.setSortEnabled(true);
+    table.addRowsByMatrix(rows);
+    return table;
+  }
+
+  public class TestTable extends AbstractTable {
+
+    public NameColumn getNameColumn() {
+      return getColumnSet().getColumnByClass(NameColumn.class);
+    }
+
+    public NumberColumn getNumberColumn() {
+      return getColumnSet().getColumnByClass(NumberColumn.class);
+    }
+
+    @Order(10)
+    public class NameColumn extends AbstractStringColumn {
+    }
+
+    @Order(20)
+    public class NumberColumn extends AbstractLongColumn {
+    }
+  }
+}
@@ -566,6 +566,31 @@ public class TableTest {
     assertEquals(1, table.getSelectedRowCount());
   }
 
+  @Test
+  public void testParallelRowFilter() {
+    P_Table table = new P_Table();
+    table.setParallelRowProcessingThreshold(2);
+    table.init();
+    fillTable(table);
+    ITableRow row1 = table.getRowByKey(Collections.singletonList(1));
+    ITableRow row10 = table.getRowByKey(Collections.singletonList(10));
+    ITableRow row25 = table.getRowByKey(Collections.singletonList(25));
+    ITableRow row30 = table.getRowByKey(Collections.singletonList(30));
+    table.selectRows(CollectionUtility.arrayList(row10, row25));
+
+    table.addRowFilter(row -> table.getFirstColumn().getValue(row) % 2 == 0);
+    assertEquals(3, table.getFilteredRowCount());
+    assertEquals(CollectionUtility.arrayList(row10), table.getSelectedRows());
+    assertFalse(row1.isFilterAccepted());
+    assertFalse(row1.isRejectedByUser());
+
+    table.addRowFilter(new UserTableRowFilter(CollectionUtility.hashSet(row10, row25)));
+    assertEquals(CollectionUtility.arrayList(row10), table.getFilteredRows());
+    assertTrue(row30.isRejectedByUser()); // only rejected by the user filter
+    assertFalse(row25.isRejectedByUser());
+    assertFalse(row1.isRejectedByUser());
+  }
+
   @Test
   public void testSelectionAfterDelete() {
     P_Table table = new P_Table();
@@ -13,9 +13,12 @@ package org.eclipse.scout.rt.client.ui.basic.table.columns;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
 
+import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Locale;
 
+import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
 import org.eclipse.scout.rt.client.ui.basic.cell.ICell;
 import org.eclipse.scout.rt.client.ui.basic.table.AbstractTable;
 import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
@@ -148,6 +151,66 @@ public class AbstractDateColumnTest {
     assertTrue(dateTimeText.length() > timeOnlyText.length());
   }
 
+  /**
+   * Tests that columns with stored display texts call {@link AbstractDateColumn#getDateFormat()} for every value
+   */
+  @Test
+  public void testOverriddenDateFormatNotCached() {
+    Date testDate = new Date();
+    String[] pattern = {"yyyy"};
+    AbstractDateColumn column = new AbstractDateColumn() {
+      @Override
+      protected DateFormat getDateFormat() {
+        return new SimpleDateFormat(pattern[0], NlsLocale.get());
+      }
+    };
+    Cell cell = new Cell();
+    cell.setValue(testDate);
+    column.updateDisplayText(mock(ITableRow.class), cell);
+    assertEquals(new SimpleDateFormat("yyyy", NlsLocale.get()).format(testDate), cell.getText());
+
+    pattern[0] = "MMMM";
+    column.updateDisplayText(mock(ITableRow.class), cell);
+    assertEquals(new SimpleDateFormat("MMMM", NlsLocale.get()).format(testDate), cell.getText());
+  }
+
+  /**
+   * Tests that texts computed on demand use the locale of the column initialization, not the one of the reading thread
+   */
+  @Test
+  public void testDisplayTextOnDemandLocale() {
+    Date testDate = new Date();
+    Locale oldLocale = NlsLocale.getOrElse(null);
+    try {
+      NlsLocale.set(Locale.GERMAN);
+      AbstractDateColumn column = new AbstractDateColumn() {
+        @Override
+        protected String getConfiguredFormat() {
+          return "EEEE MMMM";
+        }
+
+        @Override
+        protected boolean getConfiguredDisplayTextOnDemand() {
+          return true;
+        }
+      };
+      Cell cell = new Cell();
+      cell.setValue(testDate);
+      column.updateDisplayText(mock(ITableRow.class), cell);
+      assertNotNull(cell.getTextFormatter());
+
+      NlsLocale.set(Locale.ENGLISH);
+      assertEquals(new SimpleDateFormat("EEEE MMMM", Locale.GERMAN).format(testDate), cell.getText());
+
+      // the cached format is replaced when the format changes
+      column.setFormat("MMMM");
+      assertEquals(new SimpleDateFormat("MMMM", Locale.GERMAN).format(testDate), cell.getText());
+    }
+    finally {
+      NlsLocale.set(oldLocale);
+    }
+  }
+
   public class TestTable extends AbstractTable {
 
     public TestDateColumn getTestDateColumn() {
@@ -11,6 +11,9 @@
 package org.eclipse.scout.rt.client.ui.basic.table.columns;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
 
 import java.text.DecimalFormat;
@@ -46,6 +49,32 @@ public class AbstractLongColumnTest extends AbstractLongColumn {
     }
   }
 
+  @Test
+  public void testDisplayTextOnDemand() {
+    ITableRow row = mock(ITableRow.class);
+    Cell cell = new Cell();
+    cell.setValue(Long.valueOf(1234567));
+    setDisplayTextOnDemand(true);
+
+    updateDisplayText(row, cell);
+    assertNotNull(cell.getTextFormatter());
+    assertEquals(getFormat().format(1234567L), cell.getText());
+
+    // text follows the value without being stored
+    cell.setValue(Long.valueOf(-42));
+    assertEquals(getFormat().format(-42L), cell.getText());
+
+    // copies share the formatter
+    Cell copy = new Cell(cell);
+    assertSame(cell.getTextFormatter(), copy.getTextFormatter());
+    assertEquals(getFormat().format(-42L), copy.getText());
+
+    // explicit texts replace the formatter
+    cell.setText("explicit");
+    assertNull(cell.getTextFormatter());
+    assertEquals("explicit", cell.getText());
+  }
+
   @Test
   public void testPrepareEditInternal() {
     AbstractLongColumn column = new AbstractLongColumn() {
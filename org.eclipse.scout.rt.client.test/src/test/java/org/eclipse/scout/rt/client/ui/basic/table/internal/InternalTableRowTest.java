@@ -12,6 +12,8 @@ package org.eclipse.scout.rt.client.ui.basic.table.internal;
 
 import static org.junit.Assert.*;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.scout.rt.client.ui.basic.cell.ICell;
@@ -147,6 +149,50 @@ public class InternalTableRowTest {
     ir.setRowChanging(false);
   }
 
+  @Test
+  public void testNoChangedCells() {
+    TestTable table = new TestTable();
+    InternalTableRow ir = new InternalTableRow(table, table.createRow());
+    assertTrue(ir.getUpdatedColumnIndexes().isEmpty());
+    assertTrue(ir.getUpdatedColumnIndexes(ICell.VALUE_BIT).isEmpty());
+    assertTrue(ir.getChildRows().isEmpty());
+  }
+
+  @Test
+  public void testCustomValues() {
+    TestTable table = new TestTable();
+    ITableRow row = table.createRow();
+    InternalTableRow empty = new InternalTableRow(table, row);
+    assertNull(empty.getCustomValue("key"));
+    assertTrue(empty.getCustomValues().isEmpty());
+
+    row.setCustomValue("key", "value");
+    InternalTableRow ir = new InternalTableRow(table, row);
+    assertEquals("value", ir.getCustomValue("key"));
+    ir.getCustomValues().put("other", "value2");
+    assertEquals("value2", ir.getCustomValue("other"));
+    assertNull(row.getCustomValue("other"));
+  }
+
+  @Test
+  public void testChildRows() {
+    TestTable table = new TestTable();
+    InternalTableRow parent = new InternalTableRow(table, table.createRow());
+    InternalTableRow child1 = new InternalTableRow(table, table.createRow());
+    InternalTableRow child2 = new InternalTableRow(table, table.createRow());
+    parent.setChildRowsInternal(Collections.emptyList());
+    parent.addChildRowInternal(child1);
+    List<ITableRow> childRows = parent.getChildRows();
+    parent.addChildRowInternal(child2);
+    assertEquals(1, childRows.size());
+    assertEquals(2, parent.getChildRows().size());
+
+    parent.removeChildRowInternal(child1);
+    assertEquals(Collections.singletonList(child2), parent.getChildRows());
+    parent.removeChildRowInternal(child1);
+    assertEquals(1, parent.getChildRows().size());
+  }
+
   /**
    * A table with a test column where only the first row is editable.
    */
@@ -14,6 +14,7 @@ import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -206,6 +207,42 @@ public class AbstractTreeTest {
     assertDisposed(m_node1, m_node2, m_subNode1, m_node1Menu1, m_subNode1Menu1, m_subNode1Menu2);
   }
 
+  @Test
+  public void testFindNodeWithPrimaryKeyIndex() {
+    m_node1.setPrimaryKey("node1");
+    m_node2.setPrimaryKey("node2");
+    m_tree.setPrimaryKeyIndexEnabled(true);
+    m_subNode1.setPrimaryKey("subNode1");
+
+    assertSame(m_node1, m_tree.findNode("node1"));
+    assertSame(m_subNode1, m_tree.findNode("subNode1"));
+    assertNull(m_tree.findNode("unknown"));
+    assertEquals(Arrays.asList(m_node2, m_node1), m_tree.findNodes(Arrays.asList("node2", "unknown", "node1", "node2")));
+
+    P_TreeNode node3 = new P_TreeNode("node3");
+    node3.setPrimaryKey("node3");
+    m_tree.addChildNode(m_node1, node3);
+    assertSame(node3, m_tree.findNode("node3"));
+
+    m_tree.removeNode(m_node2);
+    assertNull(m_tree.findNode("node2"));
+    assertNull(m_tree.findNode("subNode1"));
+
+    // several nodes with the same primary key: the first one is found
+    P_TreeNode duplicate = new P_TreeNode("duplicate");
+    duplicate.setPrimaryKey("node1");
+    m_tree.addChildNode(m_tree.getRootNode(), duplicate);
+    assertSame(m_node1, m_tree.findNode("node1"));
+    m_tree.removeNode(m_node1);
+    assertSame(duplicate, m_tree.findNode("node1"));
+    assertNull(m_tree.findNode("node3"));
+
+    // no longer ambiguous once the duplicates are gone
+    duplicate.setPrimaryKey("duplicate");
+    assertNull(m_tree.findNode("node1"));
+    assertSame(duplicate, m_tree.findNode("duplicate"));
+  }
+
   @Test
   public void testCheckNodes() {
     m_tree.setCheckable(true);
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.tree;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * PerformanceTest for {@link AbstractTree#findNode(Object)} in a tree with 50'000 nodes, with and without primary key
+ * index.
+ */
+@Category(ResourceIntensiveTest.class)
+@RunWith(PlatformTestRunner.class)
+public class TreeFindNodePerfTest {
+  private static final Logger LOG = LoggerFactory.getLogger(TreeFindNodePerfTest.class);
+
+  private static final int PARENT_COUNT = 50;
+  private static final int CHILD_COUNT = 1000;
+  private static final int LOOKUP_COUNT = 1000;
+
+  @Test
+  public void testFindNode() {
+    P_Tree tree = createTree();
+    Random random = new Random(1);
+    Integer[] keys = new Integer[LOOKUP_COUNT];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = random.nextInt(PARENT_COUNT * CHILD_COUNT);
+    }
+
+    long start = System.nanoTime();
+    List<ITreeNode> visited = new ArrayList<>();
+    for (Integer key : keys) {
+      visited.add(tree.findNode(key));
+    }
+    long visitMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    tree.setPrimaryKeyIndexEnabled(true);
+    start = System.nanoTime();
+    List<ITreeNode> indexed = new ArrayList<>();
+    for (Integer key : keys) {
+      indexed.add(tree.findNode(key));
+    }
+    long indexMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    LOG.info("{} lookups in a tree with {} nodes: {}ms visiting the tree, {}ms using the primary key index",
+        LOOKUP_COUNT, PARENT_COUNT * CHILD_COUNT, visitMillis, indexMillis);
+    assertEquals(visited, indexed);
+    assertFalse(indexed.contains(null));
+    assertTrue("lookups took " + indexMillis + "ms", indexMillis < 1000);
+  }
+
+  protected P_Tree createTree() {
+    P_Tree tree = new P_Tree();
+    int key = 0;
+    for (int i = 0; i < PARENT_COUNT; i++) {
+      AbstractTreeNode parent = new AbstractTreeNode() {
+      };
+      parent.setPrimaryKey("parent" + i);
+      tree.addChildNode(tree.getRootNode(), parent);
+      List<ITreeNode> children = new ArrayList<>(CHILD_COUNT);
+      for (int j = 0; j < CHILD_COUNT; j++) {
+        AbstractTreeNode child = new AbstractTreeNode() {
+        };
+        child.setPrimaryKey(key++);
+        children.add(child);
+      }
+      tree.addChildNodes(parent, children);
+    }
+    return tree;
+  }
+
+  private static class P_Tree extends AbstractTree {
+  }
+}
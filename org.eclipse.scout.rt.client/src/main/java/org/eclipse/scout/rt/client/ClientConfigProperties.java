@@ -10,6 +10,7 @@
  */
 package org.eclipse.scout.rt.client;
 
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
@@ -77,4 +78,24 @@ public final class ClientConfigProperties {
       return 10L;
     }
   }
+
+  public static class ClientNotificationStreamProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.clientnotification.stream";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies whether client notifications are pushed by the server over a single long-running HTTP response instead of being polled.\n"
+          + "If the server does not support it, the client falls back to polling. Proxies between client and server must not buffer responses.\n"
+          + "The default value is false.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+  }
 }
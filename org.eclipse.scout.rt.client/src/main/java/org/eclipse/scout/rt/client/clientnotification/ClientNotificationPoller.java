@@ -10,11 +10,13 @@
  */
 package org.eclipse.scout.rt.client.clientnotification;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.PostConstruct;
 
+import org.eclipse.scout.rt.client.ClientConfigProperties.ClientNotificationStreamProperty;
 import org.eclipse.scout.rt.client.context.ClientRunContexts;
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
@@ -23,6 +25,7 @@ import org.eclipse.scout.rt.platform.IPlatform.State;
 import org.eclipse.scout.rt.platform.IPlatformListener;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.PlatformEvent;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
@@ -38,6 +41,7 @@ import org.eclipse.scout.rt.shared.SharedConfigProperties.NotificationSubjectPro
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
 import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationService;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnel;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnel;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -88,8 +92,27 @@ public class ClientNotificationPoller {
     }
   }
 
+  /**
+   * Receives client notifications over a stream (see {@link HttpServiceTunnel#streamClientNotifications}) until it
+   * ends.
+   *
+   * @return <code>false</code> if streams are not supported by the tunnel or the server. Connection errors and error
+   *         status codes are thrown and retried after a pause.
+   * @since 11.0
+   */
+  protected static boolean streamMessages() throws IOException, ClassNotFoundException {
+    IServiceTunnel tunnel = BEANS.get(IServiceTunnel.class);
+    if (!(tunnel instanceof HttpServiceTunnel)) {
+      return false;
+    }
+    return ((HttpServiceTunnel) tunnel).streamClientNotifications(INode.ID, ClientNotificationPoller::handleMessagesReceived);
+  }
+
   private static final class P_NotificationPoller implements IRunnable {
 
+    // polling is used if streams are disabled or once the server has answered a stream request without confirming it
+    private boolean m_poll = !CONFIG.getPropertyValue(ClientNotificationStreamProperty.class);
+
     @Override
     public void run() {
       final RunMonitor outerRunMonitor = RunMonitor.CURRENT.get();
@@ -104,7 +127,13 @@ public class ClientNotificationPoller {
               .withParentRunMonitor(outerRunMonitor)
               .run(() -> {
                 try {
-                  handleMessagesReceived(BEANS.get(IClientNotificationService.class).getNotifications(INode.ID));
+                  if (!m_poll && !streamMessages()) {
+                    LOG.info("Client notification streams are not supported, falling back to polling.");
+                    m_poll = true;
+                  }
+                  if (m_poll) {
+                    handleMessagesReceived(BEANS.get(IClientNotificationService.class).getNotifications(INode.ID));
+                  }
                 }
                 finally {
                   outerRunMonitor.unregisterCancellable(tempRunMonitor);
@@ -51,7 +51,7 @@ public class Cell implements ICell, IStyleable, IHtmlCapable {
 
   private ICellObserver m_observer;
   private Object m_value;
-  private String m_text;
+  private Object m_text; // String or ICellTextFormatter
   private ICellSpecialization m_cellSpecialization = DEFAULT_CELL_STYLE;
 
   private IMultiStatus m_errorStatus = null;
@@ -89,8 +89,14 @@ public class Cell implements ICell, IStyleable, IHtmlCapable {
       setHorizontalAlignment(c.getHorizontalAlignment());
       setTooltipText(c.getTooltipText());
       setIconId(c.getIconId());
-      setText(c.getText());
+      ICellTextFormatter textFormatter = c instanceof Cell ? ((Cell) c).getTextFormatter() : null;
+      if (textFormatter == null) {
+        setText(c.getText());
+      }
       setValue(c.getValue());
+      if (textFormatter != null) {
+        setTextFormatter(textFormatter);
+      }
       setMandatory(c.isMandatory());
       setErrorStatusInternal(c.getErrorStatus());
       setHtmlEnabled(c.isHtmlEnabled());
@@ -127,12 +133,61 @@ public class Cell implements ICell, IStyleable, IHtmlCapable {
 
   @Override
   public String getText() {
-    return m_text;
+    if (m_text instanceof ICellTextFormatter) {
+      return ((ICellTextFormatter) m_text).format(this);
+    }
+    return (String) m_text;
   }
 
   public void setText(String s) {
-    if (ObjectUtility.notEquals(m_text, s)) {
+    if (m_text instanceof ICellTextFormatter) {
+      String oldText = getText();
       m_text = s;
+      if (ObjectUtility.notEquals(oldText, s)) {
+        notifyObserver(TEXT_BIT);
+      }
+    }
+    else if (ObjectUtility.notEquals(m_text, s)) {
+      m_text = s;
+      notifyObserver(TEXT_BIT);
+    }
+  }
+
+  /**
+   * Informs the observer about a changed text if the text is computed by a formatter, e.g. because the format of the
+   * formatter has changed.
+   */
+  public void refreshText() {
+    if (m_text instanceof ICellTextFormatter) {
+      notifyObserver(TEXT_BIT);
+    }
+  }
+
+  /**
+   * @return the formatter computing the text of this cell or {@code null} if the text is stored in the cell
+   */
+  public ICellTextFormatter getTextFormatter() {
+    return m_text instanceof ICellTextFormatter ? (ICellTextFormatter) m_text : null;
+  }
+
+  /**
+   * Computes the text of this cell on demand using the given formatter instead of storing it. The formatter is
+   * replaced as soon as an explicit text is set using {@link #setText(String)}.
+   *
+   * @param formatter
+   *          formatter computing the text from the cell value, {@code null} to store the current text
+   */
+  public void setTextFormatter(ICellTextFormatter formatter) {
+    if (formatter == null) {
+      m_text = getText();
+      return;
+    }
+    if (m_text == formatter) {
+      return;
+    }
+    String oldText = getText();
+    m_text = formatter;
+    if (ObjectUtility.notEquals(oldText, getText())) {
       notifyObserver(TEXT_BIT);
     }
   }
@@ -299,6 +354,17 @@ public class Cell implements ICell, IStyleable, IHtmlCapable {
     m_observer = observer;
   }
 
+  /**
+   * @return {@code true} if the given cell has the same style, tooltip, editable and mandatory state as this cell
+   */
+  public boolean hasSameStyle(Cell c) {
+    return c != null
+        && ObjectUtility.equals(m_cellSpecialization.getCellStyle(), c.m_cellSpecialization.getCellStyle())
+        && ObjectUtility.equals(getTooltipText(), c.getTooltipText())
+        && isEditable() == c.isEditable()
+        && isMandatory() == c.isMandatory();
+  }
+
   private void setValueInternal(int bitPos, ICellSpecialization cellSpecialization) {
     synchronized (SHARED_STYLE_STORE_LOCK) {
       CellStyle newStyle = cellSpecialization.getCellStyle();
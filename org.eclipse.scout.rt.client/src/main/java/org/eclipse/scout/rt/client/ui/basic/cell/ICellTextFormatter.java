@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.cell;
+
+/**
+ * Computes the text of a {@link Cell} from its value whenever the text is requested.
+ * <p>
+ * Used to avoid storing a display text per cell for columns whose text only depends on the cell value (see
+ * {@link Cell#setTextFormatter(ICellTextFormatter)}). Instances are usually shared by all cells of a column.
+ */
+@FunctionalInterface
+public interface ICellTextFormatter {
+
+  /**
+   * @return the text of the cell
+   */
+  String format(Cell cell);
+}
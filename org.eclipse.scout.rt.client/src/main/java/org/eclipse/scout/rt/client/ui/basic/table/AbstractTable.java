@@ -27,11 +27,13 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.eclipse.scout.rt.client.ModelContextProxy;
 import org.eclipse.scout.rt.client.ModelContextProxy.ModelContext;
+import org.eclipse.scout.rt.client.context.ClientRunContexts;
 import org.eclipse.scout.rt.client.extension.ui.action.tree.MoveActionNodesHandler;
 import org.eclipse.scout.rt.client.extension.ui.basic.table.ITableExtension;
 import org.eclipse.scout.rt.client.extension.ui.basic.table.TableChains.TableAppLinkActionChain;
@@ -104,6 +106,7 @@ import org.eclipse.scout.rt.platform.annotations.ConfigOperation;
 import org.eclipse.scout.rt.platform.annotations.ConfigProperty;
 import org.eclipse.scout.rt.platform.classid.ClassId;
 import org.eclipse.scout.rt.platform.classid.ITypeWithClassId;
+import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
 import org.eclipse.scout.rt.platform.exception.PlatformError;
 import org.eclipse.scout.rt.platform.html.HTML;
@@ -193,6 +196,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   private P_CellEditorContext m_editContext;
   private IBooleanColumn m_checkableColumn;
   private List<ITableRow> m_cachedFilteredRows;
+  private Map<ITableRow, Integer> m_cachedFilteredRowIndexes;
   private IEventHistory<TableEvent> m_eventHistory;
   private ContributionComposite m_contributionHolder;
   private List<ITableControl> m_tableControls;
@@ -201,6 +205,8 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   private ISummaryCellBuilder m_summaryCellBuilder;
   private int m_valueChangeTriggerEnabled = 1;// >=1 is true
   private boolean m_treeStructureDirty;
+  private int m_parallelRowProcessingThreshold;
+  private boolean m_lazyCellMaterialization;
 
   public AbstractTable() {
     this(true);
@@ -684,6 +690,56 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     return false;
   }
 
+  /**
+   * Configures the number of rows the UI holds at once. If set, the UI only holds a window of the filtered rows around
+   * its scroll position and requests another window while scrolling. This reduces the size of the responses and of
+   * the UI model for tables with many rows. The window should hold at least four times the rows of the viewport.
+   * <p>
+   * Sorting is then always done by the table model. The UI does not offer user filters (text and column filters)
+   * because it does not know all rows, use row filters of the table model instead. The row window is ignored while
+   * the table is hierarchical (see {@link #isHierarchical()}), the UI then holds all rows.
+   * <p>
+   * Subclasses can override this method. Default is <code>0</code> which means the UI holds all rows.
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(300)
+  protected int getConfiguredRowWindowSize() {
+    return 0;
+  }
+
+  /**
+   * Configures the number of rows from which on the row filters are evaluated and the rows are sorted in parallel
+   * (fork/join). All {@link ITableRowFilter}s of the table must be thread-safe and must not modify the table if
+   * enabled. Sorting is only done in parallel if all sort columns provide sort keys (see
+   * {@link IColumn#createSortKeyExtractor()}). Events are still fired in the model thread.
+   * <p>
+   * Subclasses can override this method. Default is <code>0</code> which means rows are always processed in the model
+   * thread.
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(310)
+  protected int getConfiguredParallelRowProcessingThreshold() {
+    return 0;
+  }
+
+  /**
+   * Configures whether the cells of added rows are only created when they are accessed for the first time, e.g. when
+   * the row is sent to the UI, sorted by a column comparing display texts or edited. Until then, a row only keeps the
+   * parsed and validated values of its cells. The cells are initialized with the column defaults and decorated (see
+   * {@link #execDecorateCell(Cell, ITableRow, IColumn)}) when they are created, the row itself is still decorated
+   * when it is added. This reduces the memory used by tables with many rows of which only a few are displayed, e.g.
+   * together with a row window (see {@link #getConfiguredRowWindowSize()}).
+   * <p>
+   * Row filters, comparators and decorators that access cells create the cells of the accessed rows.
+   * <p>
+   * Subclasses can override this method. Default is {@code false}.
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(320)
+  protected boolean getConfiguredLazyCellMaterialization() {
+    return false;
+  }
+
   /**
    * <p>
    * Called after a drag operation was executed on one or several table rows.
@@ -1031,6 +1087,9 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     setTableStatusVisible(getConfiguredTableStatusVisible());
     setTruncatedCellTooltipEnabled(getConfiguredTruncatedCellTooltipEnabled());
     setClientUiPreferencesEnabled(getConfiguredClientUiPreferencesEnabled());
+    setRowWindowSize(getConfiguredRowWindowSize());
+    setParallelRowProcessingThreshold(getConfiguredParallelRowProcessingThreshold());
+    setLazyCellMaterialization(getConfiguredLazyCellMaterialization());
     if (getTableCustomizer() == null) {
       setTableCustomizer(createTableCustomizer());
     }
@@ -1455,6 +1514,9 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   }
 
   private boolean applyRowFiltersInternal() {
+    if (!m_rowFilters.isEmpty() && isParallelRowProcessing(m_rows.size())) {
+      return applyRowFiltersParallel();
+    }
     boolean filterChanged = false;
     for (ITableRow row : m_rows) {
       boolean wasFilterAccepted = row.isFilterAccepted();
@@ -1466,6 +1528,57 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     return filterChanged;
   }
 
+  /**
+   * Evaluates the row filters in parallel (see {@link #getConfiguredParallelRowProcessingThreshold()}), with the same
+   * result as {@link #applyRowFiltersInternal(InternalTableRow)}. Rows are deselected in the model thread afterwards.
+   */
+  private boolean applyRowFiltersParallel() {
+    List<ITableRow> rows = getRows();
+    List<ITableRowFilter> filters = new ArrayList<>(m_rowFilters);
+    boolean[] wasFilterAccepted = new boolean[rows.size()];
+    for (int i = 0; i < wasFilterAccepted.length; i++) {
+      InternalTableRow row = (InternalTableRow) rows.get(i);
+      wasFilterAccepted[i] = row.isFilterAccepted();
+      row.setFilterAcceptedInternal(true);
+      row.setRejectedByUser(false);
+    }
+
+    int[] rejectingFilterCount = new int[rows.size()];
+    ITableRowFilter[] rejectingFilter = new ITableRowFilter[rows.size()];
+    int chunkSize = Math.max(256, rows.size() / (ForkJoinPool.getCommonPoolParallelism() * 4) + 1);
+    int chunkCount = (rows.size() + chunkSize - 1) / chunkSize;
+    // filters may depend on the current session or locale
+    RunContext runContext = ClientRunContexts.copyCurrent(true);
+    IntStream.range(0, chunkCount).parallel().forEach(chunk -> runContext.copy().run(() -> {
+      int end = Math.min(rows.size(), (chunk + 1) * chunkSize);
+      for (int i = chunk * chunkSize; i < end; i++) {
+        ITableRow row = rows.get(i);
+        for (ITableRowFilter filter : filters) {
+          if (!filter.accept(row)) {
+            rejectingFilterCount[i]++;
+            rejectingFilter[i] = filter;
+          }
+        }
+      }
+    }));
+
+    boolean filterChanged = false;
+    for (int i = 0; i < wasFilterAccepted.length; i++) {
+      InternalTableRow row = (InternalTableRow) rows.get(i);
+      if (rejectingFilterCount[i] > 0) {
+        row.setFilterAcceptedInternal(false);
+        if (isSelectedRow(row)) {
+          deselectRow(row);
+        }
+      }
+      row.setRejectedByUser(row.isRejectedByUser() || rejectingFilterCount[i] == 1 && rejectingFilter[i] instanceof IUserFilter);
+      if (row.isFilterAccepted() != wasFilterAccepted[i]) {
+        filterChanged = true;
+      }
+    }
+    return filterChanged;
+  }
+
   private void applyRowFiltersInternal(InternalTableRow row) {
     List<ITableRowFilter> rejectingFilters = new ArrayList<>();
     row.setFilterAcceptedInternal(true);
@@ -2943,7 +3056,28 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
 
   @Override
   public int getFilteredRowIndex(ITableRow row) {
-    return getFilteredRows().indexOf(row);
+    if (row == null) {
+      return -1;
+    }
+    if (m_rowFilters.isEmpty()) {
+      int rowIndex = row.getRowIndex();
+      if (getRow(rowIndex) == row) {
+        return rowIndex;
+      }
+      return getRows().indexOf(row);
+    }
+    //lazy create index in getter, make sure to be thread-safe since getters may be called from "wild" threads
+    synchronized (m_cachedFilteredRowsLock) {
+      if (m_cachedFilteredRowIndexes == null) {
+        List<ITableRow> filteredRows = getFilteredRows();
+        Map<ITableRow, Integer> filteredRowIndexes = new HashMap<>(filteredRows.size() * 4 / 3 + 1);
+        for (int i = 0; i < filteredRows.size(); i++) {
+          filteredRowIndexes.putIfAbsent(filteredRows.get(i), i);
+        }
+        m_cachedFilteredRowIndexes = filteredRowIndexes;
+      }
+      return m_cachedFilteredRowIndexes.getOrDefault(row, -1);
+    }
   }
 
   @Override
@@ -3119,7 +3253,9 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
       setTableChanging(true);
       //
       int oldRowCount = m_rows.size();
-      initCells(newRows);
+      if (!isLazyCellMaterialization()) {
+        initCells(newRows);
+      }
       if (markAsInserted) {
         updateStatus(newRows, ITableRow.STATUS_INSERTED);
       }
@@ -3178,14 +3314,20 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   }
 
   /**
-   * Add InternalTableRow as an observer to the cell in order to update the row status on changes
+   * Add InternalTableRow as an observer to the cell in order to update the row status on changes. Cells that are not
+   * materialized yet are observed as soon as they are created.
    */
   private void addCellObserver(List<InternalTableRow> rows) {
+    boolean lazy = isLazyCellMaterialization();
     for (InternalTableRow row : rows) {
       for (int i = 0; i < row.getCellCount(); i++) {
-        Cell cell = row.getCellForUpdate(i);
-        cell.setObserver(row);
+        if (row.isCellMaterialized(i)) {
+          Cell cell = row.getCellForUpdate(i);
+          cell.setObserver(row);
+        }
       }
+      // initialize and decorate the cells when they are accessed for the first time
+      row.setCellsPendingInternal(lazy);
     }
   }
 
@@ -3765,17 +3907,20 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
       }
     });
 
-    CollectingVisitor<ITableRow> collector = new CollectingVisitor<>();
-    if (comparator != null) {
+    if (comparator instanceof TableRowComparator) {
+      // extracts the sort keys of all rows at once
+      List<List<ITableRow>> rowLists = new ArrayList<>(parentToChildren.size() + 1);
+      rowLists.add(rootNodes);
+      rowLists.addAll(parentToChildren.values());
+      ((TableRowComparator) comparator).sort(rowLists, m_parallelRowProcessingThreshold);
+    }
+    else if (comparator != null) {
       rootNodes.sort(comparator);
+      parentToChildren.values().forEach(childRows -> childRows.sort(comparator));
     }
-    rootNodes.forEach(root -> TreeTraversals.create(collector, node -> {
-      List<ITableRow> childRows = parentToChildren.get(node);
-      if (comparator != null && CollectionUtility.hasElements(childRows)) {
-        childRows.sort(comparator);
-      }
-      return childRows;
-    }).traverse(root));
+
+    CollectingVisitor<ITableRow> collector = new CollectingVisitor<>();
+    rootNodes.forEach(root -> TreeTraversals.create(collector, parentToChildren::get).traverse(root));
     return collector.getCollection();
   }
 
@@ -4059,7 +4204,8 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
 
       for (Entry<Integer, Set<ITableRow>> e : entrySet) {
         IColumn<?> col = getColumnSet().getColumn(e.getKey());
-        col.updateDisplayTexts(CollectionUtility.arrayList(e.getValue()));
+        // the texts of cells that are not materialized yet are computed when they are created
+        col.updateDisplayTexts(getRowsWithMaterializedCells(e.getValue()));
       }
     }
     finally {
@@ -4072,6 +4218,8 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
 
   @SuppressWarnings("unchecked")
   private void applyRowDecorations(Set<ITableRow> rows) {
+    // cells that are not materialized yet are decorated when they are created, also if this happens in decorateRow
+    List<ITableRow> cellRows = getRowsWithMaterializedCells(rows);
     try {
       for (ITableRow tableRow : rows) {
         tableRow.setRowChanging(true);
@@ -4079,10 +4227,10 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
       }
 
       for (IColumn col : getColumns()) {
-        col.decorateCells(CollectionUtility.arrayList(rows));
+        col.decorateCells(cellRows);
 
         // cell decorator on table
-        for (ITableRow row : rows) {
+        for (ITableRow row : cellRows) {
           this.decorateCell(row, col);
         }
       }
@@ -4096,6 +4244,82 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
         tableRow.setRowChanging(false);
       }
     }
+    compactCells(cellRows);
+  }
+
+  /**
+   * Drops the cells that can be restored from their values, see {@link IColumn#getPrimitiveCellCodec()}.
+   */
+  private void compactCells(Collection<? extends ITableRow> rows) {
+    if (rows.isEmpty() || getColumns().stream().allMatch(col -> col.getPrimitiveCellCodec() == null)) {
+      return;
+    }
+    for (ITableRow row : rows) {
+      if (row instanceof InternalTableRow && row.getTable() == this) {
+        ((InternalTableRow) row).compactCellsInternal();
+      }
+    }
+  }
+
+  private List<ITableRow> getRowsWithMaterializedCells(Collection<ITableRow> rows) {
+    List<ITableRow> result = new ArrayList<>(rows.size());
+    for (ITableRow row : rows) {
+      if (!(row instanceof InternalTableRow) || !((InternalTableRow) row).isCellsPending()) {
+        result.add(row);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public void materializeCells(Collection<? extends ITableRow> rows) {
+    List<InternalTableRow> pendingRows = new ArrayList<>();
+    for (ITableRow row : rows) {
+      if (row instanceof InternalTableRow && row.getTable() == this && ((InternalTableRow) row).isCellsPending()) {
+        pendingRows.add((InternalTableRow) row);
+      }
+    }
+    if (pendingRows.isEmpty()) {
+      return;
+    }
+    // like the decorations of added rows, initializing and decorating the cells does not fire row updates
+    boolean[] rowPropertiesChanged = new boolean[pendingRows.size()];
+    for (int i = 0; i < pendingRows.size(); i++) {
+      InternalTableRow row = pendingRows.get(i);
+      rowPropertiesChanged[i] = row.isRowPropertiesChanged();
+      row.setRowChanging(true);
+    }
+    try {
+      for (InternalTableRow row : pendingRows) {
+        row.materializeCellsInternal();
+      }
+      initCells(pendingRows);
+      List<ITableRow> cellRows = new ArrayList<>(pendingRows);
+      for (ITableRow row : cellRows) {
+        // the css class of the row overrides the one of the column, as in the copy constructor of InternalTableRow
+        row.setCssClass(row.getCssClass());
+      }
+      for (IColumn<?> col : getColumns()) {
+        col.updateDisplayTexts(cellRows);
+      }
+      for (IColumn<?> col : getColumns()) {
+        col.decorateCells(cellRows);
+        for (ITableRow row : cellRows) {
+          this.decorateCell(row, col);
+        }
+      }
+    }
+    catch (Exception ex) {
+      LOG.error("Error occurred while materializing cells", ex);
+    }
+    finally {
+      for (int i = 0; i < pendingRows.size(); i++) {
+        InternalTableRow row = pendingRows.get(i);
+        row.setRowPropertiesChanged(rowPropertiesChanged[i]);
+        row.setRowChanging(false);
+      }
+    }
+    compactCells(pendingRows);
   }
 
   /**
@@ -4292,6 +4516,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   private void fireRowsInserted(List<? extends ITableRow> rows) {
     synchronized (m_cachedFilteredRowsLock) {
       m_cachedFilteredRows = null;
+      m_cachedFilteredRowIndexes = null;
     }
     fireTableEventInternal(new TableEvent(this, TableEvent.TYPE_ROWS_INSERTED, rows));
   }
@@ -4299,6 +4524,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   private void fireRowsUpdated(List<? extends ITableRow> rows) {
     synchronized (m_cachedFilteredRowsLock) {
       m_cachedFilteredRows = null;
+      m_cachedFilteredRowIndexes = null;
     }
     TableEvent e = new TableEvent(this, TableEvent.TYPE_ROWS_UPDATED, rows);
     // For each row, add information about updated columns to the event. (A row may also be updated if
@@ -4327,6 +4553,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   private void fireRowsDeleted(List<? extends ITableRow> rows) {
     synchronized (m_cachedFilteredRowsLock) {
       m_cachedFilteredRows = null;
+      m_cachedFilteredRowIndexes = null;
     }
     fireTableEventInternal(new TableEvent(this, TableEvent.TYPE_ROWS_DELETED, rows));
   }
@@ -4334,6 +4561,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   private void fireAllRowsDeleted(List<? extends ITableRow> rows) {
     synchronized (m_cachedFilteredRowsLock) {
       m_cachedFilteredRows = null;
+      m_cachedFilteredRowIndexes = null;
     }
     fireTableEventInternal(new TableEvent(this, TableEvent.TYPE_ALL_ROWS_DELETED, rows));
   }
@@ -4411,6 +4639,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   private void fireRowOrderChanged() {
     synchronized (m_cachedFilteredRowsLock) {
       m_cachedFilteredRows = null;
+      m_cachedFilteredRowIndexes = null;
     }
     fireTableEventInternal(new TableEvent(this, TableEvent.TYPE_ROW_ORDER_CHANGED, getRows()));
   }
@@ -4429,6 +4658,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   private void fireRowFilterChanged() {
     synchronized (m_cachedFilteredRowsLock) {
       m_cachedFilteredRows = null;
+      m_cachedFilteredRowIndexes = null;
     }
     fireTableEventInternal(new TableEvent(this, TableEvent.TYPE_ROW_FILTER_CHANGED));
   }
@@ -5356,6 +5586,40 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     propertySupport.setPropertyInt(PROP_MAX_ROW_COUNT, maxRowCount);
   }
 
+  @Override
+  public int getRowWindowSize() {
+    return propertySupport.getPropertyInt(PROP_ROW_WINDOW_SIZE);
+  }
+
+  @Override
+  public void setRowWindowSize(int rowWindowSize) {
+    propertySupport.setPropertyInt(PROP_ROW_WINDOW_SIZE, Math.max(0, rowWindowSize));
+  }
+
+  @Override
+  public int getParallelRowProcessingThreshold() {
+    return m_parallelRowProcessingThreshold;
+  }
+
+  @Override
+  public void setParallelRowProcessingThreshold(int threshold) {
+    m_parallelRowProcessingThreshold = Math.max(0, threshold);
+  }
+
+  @Override
+  public boolean isLazyCellMaterialization() {
+    return m_lazyCellMaterialization;
+  }
+
+  @Override
+  public void setLazyCellMaterialization(boolean lazyCellMaterialization) {
+    m_lazyCellMaterialization = lazyCellMaterialization;
+  }
+
+  protected boolean isParallelRowProcessing(int rowCount) {
+    return m_parallelRowProcessingThreshold > 0 && rowCount >= m_parallelRowProcessingThreshold;
+  }
+
   @Override
   public TriState isTruncatedCellTooltipEnabled() {
     return (TriState) propertySupport.getProperty(PROP_TRUNCATED_CELL_TOOLTIP_ENABLED);
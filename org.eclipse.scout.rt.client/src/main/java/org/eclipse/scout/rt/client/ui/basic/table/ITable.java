@@ -273,6 +273,13 @@ public interface ITable extends IWidget, IDNDSupport, IStyleable, IAppLinkCapabl
    */
   String PROP_CLIENT_UI_PREFERENCES_ENABLED = "clientUiPreferencesEnabled";
 
+  /**
+   * type int
+   *
+   * @since 11.0
+   */
+  String PROP_ROW_WINDOW_SIZE = "rowWindowSize";
+
   /**
    * Alternative loading style. Adds a decent loading animation at the top of the table. To enable it, add this css
    * class and then activate the loading using {@link #setLoading(boolean)}.
@@ -1348,4 +1355,68 @@ public interface ITable extends IWidget, IDNDSupport, IStyleable, IAppLinkCapabl
    * <b>Caution</b>: use this with care because it should only be necessary in very rare cases.
    */
   void firePendingEvents();
+
+  /**
+   * @return the number of rows in the window of rows the UI holds (virtual scrolling), 0 if the UI always holds all
+   *         rows (default). Sorting is always done by the table model if a row window is used.
+   * @since 11.0
+   */
+  default int getRowWindowSize() {
+    return 0;
+  }
+
+  /**
+   * Ignored by default, the UI then always holds all rows.
+   *
+   * @see #getRowWindowSize()
+   * @since 11.0
+   */
+  default void setRowWindowSize(int rowWindowSize) {
+  }
+
+  /**
+   * @return the number of rows from which on row filters are evaluated and rows are sorted in parallel, 0 if rows are
+   *         always processed in the model thread (default)
+   * @since 11.0
+   */
+  default int getParallelRowProcessingThreshold() {
+    return 0;
+  }
+
+  /**
+   * Ignored by default, tables not supporting parallel row processing always process rows in the model thread.
+   *
+   * @see #getParallelRowProcessingThreshold()
+   * @since 11.0
+   */
+  default void setParallelRowProcessingThreshold(int threshold) {
+  }
+
+  /**
+   * @return {@code true} if the cells of added rows are only created, initialized and decorated when they are accessed
+   *         for the first time, {@code false} if this is done when the rows are added (default)
+   * @since 11.0
+   */
+  default boolean isLazyCellMaterialization() {
+    return false;
+  }
+
+  /**
+   * Ignored by default, tables not supporting lazy cells always create the cells when rows are added.
+   *
+   * @see #isLazyCellMaterialization()
+   * @since 11.0
+   */
+  default void setLazyCellMaterialization(boolean lazyCellMaterialization) {
+  }
+
+  /**
+   * Creates, initializes and decorates the cells of the given rows that have not been accessed yet (see
+   * {@link #isLazyCellMaterialization()}) in one batch, e.g. before the rows are sent to the UI. Does nothing by
+   * default.
+   *
+   * @since 11.0
+   */
+  default void materializeCells(Collection<? extends ITableRow> rows) {
+  }
 }
@@ -0,0 +1,474 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IDecimalColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.INumberColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.INumberColumn.AggregationFunction;
+import org.eclipse.scout.rt.platform.util.NumberUtility;
+
+/**
+ * Maintains the aggregates (count, sum, average, minimum and maximum) of all number columns of a table over its
+ * filtered rows, in total and per group of the grouped columns.
+ * <p>
+ * The aggregates are updated incrementally from the row events of the table (inserted, updated and deleted rows).
+ * A row whose grouped column values change moves to its new group, groups without rows are removed. Only filter,
+ * column or grouping changes cause a full recomputation. Each aggregate keeps its values sorted, so that minimum
+ * and maximum remain available in logarithmic time when a row holding the current extreme is removed.
+ * <p>
+ * The aggregator is only active between {@link #attach()} and {@link #detach()}. While attached, it remembers the
+ * aggregated values of every filtered row. The {@link org.eclipse.scout.rt.client.ui.basic.table.controls.AggregateTableControl}
+ * therefore only attaches it while the control is selected.
+ *
+ * @see INumberColumn#getAggregationFunction()
+ */
+public class TableAggregator {
+
+  private static final Integer[] EVENT_TYPES = {
+      TableEvent.TYPE_ROWS_INSERTED,
+      TableEvent.TYPE_ROWS_UPDATED,
+      TableEvent.TYPE_ROWS_DELETED,
+      TableEvent.TYPE_ALL_ROWS_DELETED,
+      TableEvent.TYPE_ROW_FILTER_CHANGED,
+      TableEvent.TYPE_COLUMN_STRUCTURE_CHANGED,
+      TableEvent.TYPE_COLUMN_HEADERS_UPDATED};
+
+  private final ITable m_table;
+  private TableListener m_tableListener;
+
+  private final List<Runnable> m_changeListeners = new ArrayList<>();
+  private List<INumberColumn<?>> m_columns = Collections.emptyList();
+  private List<IColumn<?>> m_groupColumns = Collections.emptyList();
+  private final Map<ITableRow, RowValues> m_rowValues = new HashMap<>();
+  private Accumulator[] m_totals = new Accumulator[0];
+  private final Map<List<Object>, Accumulator[]> m_groups = new LinkedHashMap<>();
+
+  public TableAggregator(ITable table) {
+    m_table = table;
+  }
+
+  public ITable getTable() {
+    return m_table;
+  }
+
+  /**
+   * Computes the aggregates of all filtered rows and keeps them up to date until {@link #detach()} is called.
+   */
+  public void attach() {
+    if (m_tableListener == null) {
+      m_tableListener = new P_TableListener();
+      getTable().addTableListener(m_tableListener, EVENT_TYPES);
+      rebuild();
+    }
+  }
+
+  /**
+   * Stops updating and discards the aggregates.
+   */
+  public void detach() {
+    if (m_tableListener != null) {
+      getTable().removeTableListener(m_tableListener, EVENT_TYPES);
+      m_tableListener = null;
+      m_columns = Collections.emptyList();
+      m_groupColumns = Collections.emptyList();
+      m_rowValues.clear();
+      m_totals = new Accumulator[0];
+      m_groups.clear();
+    }
+  }
+
+  public boolean isAttached() {
+    return m_tableListener != null;
+  }
+
+  /**
+   * @return aggregate of the column over all filtered rows or {@code null} if the column is not aggregated (not
+   *         attached or not a column of the table)
+   */
+  public Aggregate getAggregate(INumberColumn<?> column) {
+    int index = m_columns.indexOf(column);
+    if (index < 0) {
+      return null;
+    }
+    return toAggregate(m_totals[index]);
+  }
+
+  /**
+   * @return aggregates of all aggregated number columns over all filtered rows, in the order of the columns. Empty if
+   *         not attached.
+   */
+  public Map<INumberColumn<?>, Aggregate> getAggregates() {
+    Map<INumberColumn<?>, Aggregate> result = new LinkedHashMap<>(m_columns.size());
+    for (int i = 0; i < m_columns.size(); i++) {
+      result.put(m_columns.get(i), toAggregate(m_totals[i]));
+    }
+    return result;
+  }
+
+  /**
+   * @return aggregate of the column over the filtered rows in the same group as the given row or {@code null} if no
+   *         column is grouped or the row is not aggregated
+   */
+  public Aggregate getGroupAggregate(INumberColumn<?> column, ITableRow row) {
+    int index = m_columns.indexOf(column);
+    RowValues values = m_rowValues.get(row);
+    if (index < 0 || values == null || values.m_groupKey == null) {
+      return null;
+    }
+    return toAggregate(m_groups.get(values.m_groupKey)[index]);
+  }
+
+  /**
+   * @return aggregates of the column per group, the keys are the values of the grouped columns (see
+   *         {@link ColumnSet#getGroupedColumns()}) in the order the groups were first encountered. Empty if no column is
+   *         grouped.
+   */
+  public Map<List<Object>, Aggregate> getGroupAggregates(INumberColumn<?> column) {
+    int index = m_columns.indexOf(column);
+    if (index < 0 || m_groups.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    Map<List<Object>, Aggregate> result = new LinkedHashMap<>(m_groups.size());
+    for (Entry<List<Object>, Accumulator[]> e : m_groups.entrySet()) {
+      result.put(e.getKey(), toAggregate(e.getValue()[index]));
+    }
+    return result;
+  }
+
+  /**
+   * @param listener
+   *          notified after the aggregates have been updated due to a table event
+   */
+  public void addChangeListener(Runnable listener) {
+    m_changeListeners.add(listener);
+  }
+
+  public void removeChangeListener(Runnable listener) {
+    m_changeListeners.remove(listener);
+  }
+
+  protected void fireChanged() {
+    for (Runnable listener : new ArrayList<>(m_changeListeners)) {
+      listener.run();
+    }
+  }
+
+  /**
+   * Recomputes all aggregates from the filtered rows of the table.
+   */
+  public void rebuild() {
+    m_columns = getAggregatedColumns();
+    m_groupColumns = getTable().getColumnSet().getGroupedColumns();
+    m_rowValues.clear();
+    m_groups.clear();
+    m_totals = createAccumulators();
+    for (ITableRow row : getTable().getFilteredRows()) {
+      addRow(row);
+    }
+  }
+
+  protected List<INumberColumn<?>> getAggregatedColumns() {
+    List<INumberColumn<?>> columns = new ArrayList<>();
+    for (IColumn<?> column : getTable().getColumnSet().getColumns()) {
+      if (column instanceof INumberColumn) {
+        columns.add((INumberColumn<?>) column);
+      }
+    }
+    return columns;
+  }
+
+  protected void updateRows(List<ITableRow> rows) {
+    for (ITableRow row : rows) {
+      removeRow(row);
+      if (row.isFilterAccepted() && row.getStatus() != ITableRow.STATUS_DELETED) {
+        addRow(row);
+      }
+    }
+  }
+
+  protected void removeRows(List<ITableRow> rows) {
+    for (ITableRow row : rows) {
+      removeRow(row);
+    }
+  }
+
+  protected void addRow(ITableRow row) {
+    if (m_columns.isEmpty()) {
+      return;
+    }
+    List<Object> groupKey = null;
+    if (!m_groupColumns.isEmpty()) {
+      groupKey = new ArrayList<>(m_groupColumns.size());
+      for (IColumn<?> groupColumn : m_groupColumns) {
+        groupKey.add(groupColumn.getValue(row));
+      }
+    }
+    Accumulator[] group = groupKey != null ? m_groups.computeIfAbsent(groupKey, k -> createAccumulators()) : null;
+    Number[] values = new Number[m_columns.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = getAggregatedValue(m_columns.get(i), row);
+      m_totals[i].add(values[i]);
+      if (group != null) {
+        group[i].add(values[i]);
+      }
+    }
+    m_rowValues.put(row, new RowValues(groupKey, values));
+  }
+
+  /**
+   * @return the value of the row to aggregate. Decimal values are rounded to the fraction digits of the column like the
+   *         aggregation in the UI does.
+   */
+  protected Number getAggregatedValue(INumberColumn<?> column, ITableRow row) {
+    Number value = column.getValue(row);
+    if (value == null || !(column instanceof IDecimalColumn)) {
+      return value;
+    }
+    IDecimalColumn<?> decimalColumn = (IDecimalColumn<?>) column;
+    BigDecimal decimal = toBigDecimal(value);
+    if (decimalColumn.getMultiplier() == 1) {
+      return decimal.setScale(decimalColumn.getMaxFractionDigits(), decimalColumn.getRoundingMode());
+    }
+    BigDecimal multiplier = BigDecimal.valueOf(decimalColumn.getMultiplier());
+    return decimal.multiply(multiplier)
+        .setScale(decimalColumn.getMaxFractionDigits(), decimalColumn.getRoundingMode())
+        .divide(multiplier, MathContext.DECIMAL128);
+  }
+
+  protected void removeRow(ITableRow row) {
+    RowValues rowValues = m_rowValues.remove(row);
+    if (rowValues == null) {
+      return;
+    }
+    Accumulator[] group = rowValues.m_groupKey != null ? m_groups.get(rowValues.m_groupKey) : null;
+    for (int i = 0; i < rowValues.m_values.length; i++) {
+      m_totals[i].remove(rowValues.m_values[i]);
+      if (group != null) {
+        group[i].remove(rowValues.m_values[i]);
+      }
+    }
+    if (group != null && group[0].m_rowCount == 0) {
+      m_groups.remove(rowValues.m_groupKey);
+    }
+  }
+
+  protected Accumulator[] createAccumulators() {
+    Accumulator[] accumulators = new Accumulator[m_columns.size()];
+    for (int i = 0; i < accumulators.length; i++) {
+      accumulators[i] = new Accumulator();
+    }
+    return accumulators;
+  }
+
+  protected Aggregate toAggregate(Accumulator acc) {
+    if (acc.m_values.isEmpty()) {
+      return new Aggregate(acc.m_count, acc.m_sum, null, null);
+    }
+    return new Aggregate(acc.m_count, acc.m_sum, acc.m_values.firstKey(), acc.m_values.lastKey());
+  }
+
+  protected static BigDecimal toBigDecimal(Number n) {
+    if (n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte) {
+      return BigDecimal.valueOf(n.longValue());
+    }
+    if (n instanceof BigInteger) {
+      return new BigDecimal((BigInteger) n);
+    }
+    return NumberUtility.numberToBigDecimal(n);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected static int compare(Number a, Number b) {
+    return ((Comparable<Object>) a).compareTo(b);
+  }
+
+  /**
+   * Group and values of an aggregated row at the time it was added, used to remove the row from the aggregates.
+   */
+  protected static final class RowValues {
+    private final List<Object> m_groupKey;
+    private final Number[] m_values;
+
+    private RowValues(List<Object> groupKey, Number[] values) {
+      m_groupKey = groupKey;
+      m_values = values;
+    }
+  }
+
+  /**
+   * Running aggregate of one column.
+   */
+  protected static final class Accumulator {
+    private int m_rowCount; // including rows with a null value
+    private long m_count;
+    private BigDecimal m_sum = BigDecimal.ZERO;
+    private final TreeMap<Number, Integer> m_values = new TreeMap<>(TableAggregator::compare); // value -> number of rows
+
+    private void add(Number value) {
+      m_rowCount++;
+      BigDecimal decimal = value != null ? toBigDecimal(value) : null;
+      if (decimal == null) {
+        return;
+      }
+      m_count++;
+      m_sum = m_sum.add(decimal);
+      m_values.merge(value, 1, Integer::sum);
+    }
+
+    private void remove(Number value) {
+      m_rowCount--;
+      BigDecimal decimal = value != null ? toBigDecimal(value) : null;
+      if (decimal == null) {
+        return;
+      }
+      m_count--;
+      m_sum = m_sum.subtract(decimal);
+      m_values.computeIfPresent(value, (k, rowCount) -> rowCount > 1 ? rowCount - 1 : null);
+    }
+  }
+
+  /**
+   * Aggregate of a column over a set of rows. Rows with a {@code null} value are not counted.
+   */
+  public static final class Aggregate {
+    private final long m_count;
+    private final BigDecimal m_sum;
+    private final Number m_min;
+    private final Number m_max;
+
+    public Aggregate(long count, BigDecimal sum, Number min, Number max) {
+      m_count = count;
+      m_sum = sum;
+      m_min = min;
+      m_max = max;
+    }
+
+    /**
+     * @return number of rows with a value
+     */
+    public long getCount() {
+      return m_count;
+    }
+
+    public BigDecimal getSum() {
+      return m_sum;
+    }
+
+    /**
+     * @return average of all values or {@code null} if there is no value
+     */
+    public BigDecimal getAvg() {
+      if (m_count == 0) {
+        return null;
+      }
+      return m_sum.divide(BigDecimal.valueOf(m_count), MathContext.DECIMAL128);
+    }
+
+    public Number getMin() {
+      return m_min;
+    }
+
+    public Number getMax() {
+      return m_max;
+    }
+
+    /**
+     * @param aggregationFunction
+     *          one of the constant values in {@link AggregationFunction}
+     * @return result of the aggregation function, {@code null} for {@link AggregationFunction#NONE}
+     */
+    public Object getValue(String aggregationFunction) {
+      if (aggregationFunction == null) {
+        return null;
+      }
+      switch (aggregationFunction) {
+        case AggregationFunction.SUM:
+          return getSum();
+        case AggregationFunction.AVG:
+          return getAvg();
+        case AggregationFunction.MIN:
+          return getMin();
+        case AggregationFunction.MAX:
+          return getMax();
+        default:
+          return null;
+      }
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(m_count, m_sum, m_min, m_max);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      Aggregate other = (Aggregate) obj;
+      return m_count == other.m_count
+          && Objects.equals(m_sum, other.m_sum)
+          && Objects.equals(m_min, other.m_min)
+          && Objects.equals(m_max, other.m_max);
+    }
+
+    @Override
+    public String toString() {
+      return getClass().getSimpleName() + "[count=" + m_count + ", sum=" + m_sum + ", min=" + m_min + ", max=" + m_max + "]";
+    }
+  }
+
+  private class P_TableListener implements TableListener {
+    @Override
+    public void tableChanged(TableEvent e) {
+      switch (e.getType()) {
+        case TableEvent.TYPE_ROWS_INSERTED:
+        case TableEvent.TYPE_ROWS_UPDATED:
+          updateRows(e.getRows());
+          break;
+        case TableEvent.TYPE_ROWS_DELETED:
+          removeRows(e.getRows());
+          break;
+        case TableEvent.TYPE_ALL_ROWS_DELETED:
+        case TableEvent.TYPE_ROW_FILTER_CHANGED:
+        case TableEvent.TYPE_COLUMN_STRUCTURE_CHANGED:
+          rebuild();
+          break;
+        case TableEvent.TYPE_COLUMN_HEADERS_UPDATED:
+          if (m_groupColumns.equals(getTable().getColumnSet().getGroupedColumns())) {
+            return;
+          }
+          rebuild();
+          break;
+        default:
+          return;
+      }
+      fireChanged();
+    }
+  }
+}
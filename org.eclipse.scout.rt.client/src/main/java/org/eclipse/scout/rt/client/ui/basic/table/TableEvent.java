@@ -246,18 +246,16 @@ public class TableEvent extends EventObject implements IModelEvent {
     if (CollectionUtility.isEmpty(rowsToRemove) || m_rows.isEmpty()) {
       return false;
     }
-    boolean removed = false;
-    for (Iterator<? extends ITableRow> it = m_rows.iterator(); it.hasNext();) {
-      final ITableRow row = it.next();
-      if (rowsToRemove.contains(row)) {
-        it.remove();
-        removed = true;
-        if (removedRowsCollector != null) {
-          removedRowsCollector.add(row);
-        }
+    // removeIf instead of Iterator.remove: removing many rows from an ArrayList must not be quadratic
+    return m_rows.removeIf(row -> {
+      if (!rowsToRemove.contains(row)) {
+        return false;
       }
-    }
-    return removed;
+      if (removedRowsCollector != null) {
+        removedRowsCollector.add(row);
+      }
+      return true;
+    });
   }
 
   public void clearRows() {
@@ -43,6 +43,8 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
  */
 public class TableEventBuffer extends AbstractEventBuffer<TableEvent> {
 
+  private Set<Integer> m_rowRelatedEvents; // lazily initialized, see isRowRelatedEvent
+
   /**
    * Removes unnecessary events or combines events in the list.
    */
@@ -139,13 +141,17 @@ public class TableEventBuffer extends AbstractEventBuffer<TableEvent> {
 
   /**
    * Update a previous event of given type and removes a newer one of another type.
+   * <p>
+   * The accumulated removers are indexed by row, so that each row of an event of the old type only visits the removers
+   * containing it.
    */
   protected void replacePrevious(List<TableEvent> events, int oldType, int newType) {
     if (events.size() < 2) {
       return;
     }
 
-    final List<CommonRowsRemover> commonRowsRemovers = new LinkedList<>();
+    final List<CommonRowsRemover> commonRowsRemovers = new ArrayList<>();
+    final Map<ITableRow, List<CommonRowsRemover>> commonRowsRemoversByRow = new HashMap<>();
     for (ListIterator<TableEvent> it = events.listIterator(events.size()); it.hasPrevious();) {
       final TableEvent event = it.previous();
       final int type = event.getType();
@@ -153,19 +159,28 @@ public class TableEventBuffer extends AbstractEventBuffer<TableEvent> {
       if (type == newType && event.hasRows()) {
         CommonRowsRemover remover = new CommonRowsRemover(event);
         commonRowsRemovers.add(remover);
+        for (ITableRow row : remover.getRowsSet()) {
+          commonRowsRemoversByRow.computeIfAbsent(row, k -> new ArrayList<>(1)).add(remover);
+        }
       }
-      else if (type == oldType && event.hasRows()) {
+      else if (type == oldType && event.hasRows() && !commonRowsRemoversByRow.isEmpty()) {
         // apply to accumulated removers
-        for (CommonRowsRemover remover : commonRowsRemovers) {
-          remover.removeCommonRows(event);
+        for (ITableRow row : event.getRows()) {
+          List<CommonRowsRemover> removers = commonRowsRemoversByRow.get(row);
+          if (removers != null) {
+            for (CommonRowsRemover remover : removers) {
+              remover.removeRow(row);
+            }
+          }
         }
       }
-      if (!isRowOrderUnchanged(type)) {
+      if (!isRowOrderUnchanged(type) && !commonRowsRemovers.isEmpty()) {
         // complete and reset common row removers
         for (CommonRowsRemover remover : commonRowsRemovers) {
           remover.complete();
         }
         commonRowsRemovers.clear();
+        commonRowsRemoversByRow.clear();
       }
     }
 
@@ -457,7 +472,10 @@ public class TableEventBuffer extends AbstractEventBuffer<TableEvent> {
   }
 
   protected boolean isRowRelatedEvent(int type) {
-    return getRowRelatedEvents().contains(type);
+    if (m_rowRelatedEvents == null) {
+      m_rowRelatedEvents = getRowRelatedEvents();
+    }
+    return m_rowRelatedEvents.contains(type);
   }
 
   /**
@@ -611,27 +629,43 @@ public class TableEventBuffer extends AbstractEventBuffer<TableEvent> {
   protected static class CommonRowsRemover {
 
     private final TableEvent m_initialEvent;
-    private final List<ITableRow> m_rows;
+    private final Set<ITableRow> m_rowsSet;
+    private final Set<ITableRow> m_removedRows = new HashSet<>();
 
     public CommonRowsRemover(TableEvent initialEvent) {
       m_initialEvent = initialEvent;
-      m_rows = new LinkedList<>(m_initialEvent.getRows());
+      m_rowsSet = m_initialEvent.getRowsSet();
+    }
+
+    /**
+     * @return the distinct rows of the initial event
+     */
+    public Set<ITableRow> getRowsSet() {
+      return m_rowsSet;
     }
 
     public void removeCommonRows(TableEvent event) {
-      if (event == null || !event.hasRows() || m_rows.isEmpty()) {
+      if (event == null || !event.hasRows() || m_removedRows.size() == m_rowsSet.size()) {
         return;
       }
 
-      m_rows.removeIf(event::containsRow);
+      for (ITableRow row : event.getRows()) {
+        removeRow(row);
+      }
+    }
+
+    public void removeRow(ITableRow row) {
+      if (m_rowsSet.contains(row)) {
+        m_removedRows.add(row);
+      }
     }
 
     public void complete() {
-      if (m_rows.isEmpty()) {
+      if (m_removedRows.size() == m_rowsSet.size()) {
         m_initialEvent.clearRows();
       }
-      else {
-        m_initialEvent.setRows(m_rows);
+      else if (!m_removedRows.isEmpty()) {
+        m_initialEvent.removeRows(m_removedRows);
       }
     }
   }
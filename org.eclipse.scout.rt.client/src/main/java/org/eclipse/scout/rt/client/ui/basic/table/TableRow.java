@@ -11,11 +11,13 @@
 package org.eclipse.scout.rt.client.ui.basic.table;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
 import org.eclipse.scout.rt.client.ui.basic.cell.ICell;
@@ -32,21 +34,26 @@ public class TableRow implements ITableRow {
   private static final String ROW_PROPERTIES_CHANGED = "ROW_PROPERTIES_CHANGED";
   protected static final String REJECTED_BY_USER = "REJECTED_BY_USER";
   protected static final String FILTER_ACCEPTED = "FILTER_ACCEPTED";
+  protected static final String CELLS_PENDING = "CELLS_PENDING";
 
-  protected static final NamedBitMaskHelper FLAGS_BIT_HELPER = new NamedBitMaskHelper(CHECKED, EXPANDED, IDimensions.ENABLED, ROW_PROPERTIES_CHANGED, REJECTED_BY_USER, FILTER_ACCEPTED);
+  protected static final NamedBitMaskHelper FLAGS_BIT_HELPER = new NamedBitMaskHelper(CHECKED, EXPANDED, IDimensions.ENABLED, ROW_PROPERTIES_CHANGED, REJECTED_BY_USER, FILTER_ACCEPTED, CELLS_PENDING);
 
-  private final Object m_childRowListLock;
-  private List<ITableRow> m_childRowList;
+  @SuppressWarnings("rawtypes")
+  private static final AtomicReferenceFieldUpdater<TableRow, List> CHILD_ROW_LIST_UPDATER = AtomicReferenceFieldUpdater.newUpdater(TableRow.class, List.class, "m_childRowList");
+
+  private volatile List<ITableRow> m_childRowList; // null if there are no child rows, replaced instead of changed (copy on write)
 
   private final ColumnSet m_columnSet;
-  private final Map<String, Object> m_customValues;
-  protected final List<Cell> m_cells;
+  private Map<String, Object> m_customValues; // null if there are no custom values
+  protected final List<Cell> m_cells; // null for cells that are not materialized yet, see m_values
+  protected Object[] m_values; // values of the cells that are not materialized yet, null if there are no such cells
   private String m_compactValue;
 
   /**
    * Provides 8 boolean flags.<br>
    * Currently used: {@link IDimensions#ENABLED}, {@link #CHECKED}, {@link #EXPANDED}, {@link #ROW_PROPERTIES_CHANGED},
-   * {@link #FILTER_ACCEPTED} (in subclass), {@link #REJECTED_BY_USER} (in subclass).
+   * {@link #FILTER_ACCEPTED} (in subclass), {@link #REJECTED_BY_USER} (in subclass), {@link #CELLS_PENDING} (in
+   * subclass).
    */
   protected byte m_flags;
 
@@ -61,10 +68,7 @@ public class TableRow implements ITableRow {
    *          may be null
    */
   public TableRow(ColumnSet columnSet) {
-    m_childRowListLock = new Object();
-    m_childRowList = new ArrayList<>();
     m_columnSet = columnSet;
-    m_customValues = new HashMap<>(0);
 
     int colCount = columnSet != null ? columnSet.getColumnCount() : 0;
     m_cells = new ArrayList<>(colCount);
@@ -73,10 +77,12 @@ public class TableRow implements ITableRow {
   }
 
   public TableRow(ColumnSet columnSet, ITableRow row) {
-    m_childRowListLock = new Object();
-    m_childRowList = new ArrayList<>();
     m_columnSet = columnSet;
-    m_customValues = new HashMap<>(row.getCustomValues());
+    // read the custom values of table rows directly to not allocate them on the source row
+    Map<String, Object> customValues = row instanceof TableRow ? ((TableRow) row).m_customValues : row.getCustomValues();
+    if (customValues != null && !customValues.isEmpty()) {
+      m_customValues = new HashMap<>(customValues);
+    }
     m_compactValue = row.getCompactValue();
 
     int colCount = columnSet != null ? columnSet.getColumnCount() : 0;
@@ -89,22 +95,118 @@ public class TableRow implements ITableRow {
     this(columnSet);
     if (CollectionUtility.hasElements(values)) {
       for (int i = 0; i < values.size(); i++) {
-        Cell cell = getCellForUpdate(i);
-        cell.setValue(values.get(i));
+        if (isCellMaterialized(i)) {
+          getCellForUpdate(i).setValue(values.get(i));
+        }
+        else {
+          setUnmaterializedValue(i, values.get(i));
+        }
       }
     }
   }
 
   private void addCells(int colCount) {
+    // only keep the values, the cells are created when they are accessed for the first time
+    if (colCount > 0) {
+      m_values = new Object[colCount];
+    }
     for (int i = 0; i < colCount; i++) {
-      m_cells.add(new Cell());
+      m_cells.add(null);
     }
   }
 
   private void copyCells(ITableRow row) {
-    for (int i = 0; i < row.getCellCount(); i++) {
-      m_cells.add(new Cell(row.getCell(i)));
+    TableRow tableRow = row instanceof TableRow ? (TableRow) row : null;
+    int cellCount = row.getCellCount();
+    for (int i = 0; i < cellCount; i++) {
+      if (tableRow != null && tableRow.isCellValueOnly(i)) {
+        // do not materialize the cell on the source row, copy its value only
+        if (m_values == null) {
+          m_values = new Object[cellCount];
+        }
+        m_values[i] = tableRow.getCellValue(i);
+        m_cells.add(null);
+      }
+      else {
+        m_cells.add(new Cell(row.getCell(i)));
+      }
+    }
+  }
+
+  /**
+   * @return {@code false} if only the value of the cell at the given index is kept and its {@link Cell} is created
+   *         when it is accessed for the first time, {@code true} otherwise
+   */
+  public boolean isCellMaterialized(int columnIndex) {
+    return columnIndex < 0 || columnIndex >= m_cells.size() || m_cells.get(columnIndex) != null;
+  }
+
+  /**
+   * @return {@code true} if the cell at the given index consists of its value only, i.e. copies of this row only have to
+   *         copy the value
+   */
+  protected boolean isCellValueOnly(int columnIndex) {
+    return !isCellMaterialized(columnIndex);
+  }
+
+  /**
+   * @return the column set this row was created for, may be {@code null}
+   */
+  protected ColumnSet getColumnSet() {
+    return m_columnSet;
+  }
+
+  /**
+   * Creates the cell at the given index if only its value is kept.
+   */
+  protected Cell materializeCell(int columnIndex) {
+    Cell cell = m_cells.get(columnIndex);
+    if (cell == null) {
+      cell = createCell(columnIndex, getUnmaterializedValue(columnIndex));
+      m_cells.set(columnIndex, cell);
+      m_values[columnIndex] = null;
     }
+    return cell;
+  }
+
+  /**
+   * Creates the cell for a value that was kept without a cell so far.
+   */
+  protected Cell createCell(int columnIndex, Object value) {
+    Cell cell = new Cell();
+    cell.setValue(value);
+    if (m_cssClass != null) {
+      cell.setCssClass(m_cssClass);
+    }
+    return cell;
+  }
+
+  /**
+   * @return the value of a cell that is not materialized yet
+   */
+  protected Object getUnmaterializedValue(int columnIndex) {
+    return m_values[columnIndex];
+  }
+
+  /**
+   * Sets the value of a cell that is not materialized yet.
+   */
+  protected void setUnmaterializedValue(int columnIndex, Object value) {
+    if (m_values == null) {
+      m_values = new Object[m_cells.size()];
+    }
+    else if (columnIndex >= m_values.length) {
+      m_values = Arrays.copyOf(m_values, m_cells.size());
+    }
+    m_values[columnIndex] = value;
+  }
+
+  /**
+   * @return {@code true} if the cells of this row have not been initialized and decorated yet because the table
+   *         materializes cells lazily (see {@link ITable#isLazyCellMaterialization()})
+   */
+  public boolean isCellsPending() {
+    return FLAGS_BIT_HELPER.isBitSet(CELLS_PENDING, m_flags);
   }
 
   @Override
@@ -224,7 +326,7 @@ public class TableRow implements ITableRow {
   @Override
   public ICell getCell(int columnIndex) {
     if (columnIndex < m_cells.size()) {
-      return m_cells.get(columnIndex);
+      return materializeCell(columnIndex);
     }
     else {
       return null;
@@ -254,11 +356,14 @@ public class TableRow implements ITableRow {
     while (columnIndex >= m_cells.size()) {
       m_cells.add(new Cell());
     }
-    return m_cells.get(columnIndex);
+    return materializeCell(columnIndex);
   }
 
   @Override
   public Object getCellValue(int columnIndex) {
+    if (!isCellMaterialized(columnIndex)) {
+      return getUnmaterializedValue(columnIndex);
+    }
     ICell cell = getCell(columnIndex);
     if (cell != null) {
       return cell.getValue();
@@ -270,17 +375,21 @@ public class TableRow implements ITableRow {
 
   @Override
   public Object getCustomValue(String id) {
-    return m_customValues.get(id);
+    return m_customValues != null ? m_customValues.get(id) : null;
   }
 
   @Override
   public Map<String, Object> getCustomValues() {
+    // the returned map is modifiable, most rows never have custom values
+    if (m_customValues == null) {
+      m_customValues = new HashMap<>(0);
+    }
     return m_customValues;
   }
 
   @Override
   public void setCustomValue(String id, Object value) {
-    m_customValues.put(id, value);
+    getCustomValues().put(id, value);
   }
 
   @Override
@@ -343,8 +452,12 @@ public class TableRow implements ITableRow {
         return false;
       }
       else {
-        getCellForUpdate(columnIndex);
-        m_cells.get(columnIndex).setValue(value);
+        if (isCellMaterialized(columnIndex)) {
+          getCellForUpdate(columnIndex).setValue(value);
+        }
+        else {
+          setUnmaterializedValue(columnIndex, value);
+        }
         if (isStatusNonchanged()) {
           setStatusUpdated();
         }
@@ -383,24 +496,25 @@ public class TableRow implements ITableRow {
 
   @Override
   public List<ITableRow> getChildRows() {
-    synchronized (m_childRowListLock) {
-      return CollectionUtility.arrayList(m_childRowList);
-    }
+    return CollectionUtility.arrayList(m_childRowList);
   }
 
   @Override
   public final void setChildRowsInternal(List<ITableRow> childRows) {
-    synchronized (m_childRowListLock) {
-      m_childRowList = childRows;
-    }
+    m_childRowList = childRows;
   }
 
   /**
    * do not use internal method
    */
   public final void addChildRowInternal(ITableRow row) {
-    synchronized (m_childRowListLock) {
-      m_childRowList.add(row);
+    while (true) {
+      List<ITableRow> oldList = m_childRowList;
+      List<ITableRow> newList = oldList != null ? new ArrayList<>(oldList) : new ArrayList<>(1);
+      newList.add(row);
+      if (CHILD_ROW_LIST_UPDATER.compareAndSet(this, oldList, newList)) {
+        return;
+      }
     }
   }
 
@@ -408,8 +522,16 @@ public class TableRow implements ITableRow {
    * do not use internal method
    */
   public final void removeChildRowInternal(ITableRow childRow) {
-    synchronized (m_childRowListLock) {
-      m_childRowList.remove(childRow);
+    while (true) {
+      List<ITableRow> oldList = m_childRowList;
+      if (oldList == null || !oldList.contains(childRow)) {
+        return;
+      }
+      List<ITableRow> newList = new ArrayList<>(oldList);
+      newList.remove(childRow);
+      if (CHILD_ROW_LIST_UPDATER.compareAndSet(this, oldList, newList)) {
+        return;
+      }
     }
   }
 
@@ -435,23 +557,26 @@ public class TableRow implements ITableRow {
 
   @Override
   public void setBackgroundColor(String c) {
-    for (Cell m_cell : m_cells) {
-      m_cell.setBackgroundColor(c);
+    for (int i = 0; i < m_cells.size(); i++) {
+      getCellForUpdate(i).setBackgroundColor(c);
     }
   }
 
   @Override
   public void setForegroundColor(String c) {
-    for (Cell m_cell : m_cells) {
-      m_cell.setForegroundColor(c);
+    for (int i = 0; i < m_cells.size(); i++) {
+      getCellForUpdate(i).setForegroundColor(c);
     }
   }
 
   @Override
   public void setCssClass(String cssClass) {
     m_cssClass = cssClass;
-    for (Cell m_cell : m_cells) {
-      m_cell.setCssClass(cssClass);
+    // cells that are not materialized yet get the css class when they are created
+    for (Cell cell : m_cells) {
+      if (cell != null) {
+        cell.setCssClass(cssClass);
+      }
     }
   }
 
@@ -462,15 +587,15 @@ public class TableRow implements ITableRow {
 
   @Override
   public void setFont(FontSpec f) {
-    for (Cell m_cell : m_cells) {
-      m_cell.setFont(f);
+    for (int i = 0; i < m_cells.size(); i++) {
+      getCellForUpdate(i).setFont(f);
     }
   }
 
   @Override
   public void setTooltipText(String s) {
-    for (Cell m_cell : m_cells) {
-      m_cell.setTooltipText(s);
+    for (int i = 0; i < m_cells.size(); i++) {
+      getCellForUpdate(i).setTooltipText(s);
     }
   }
 
@@ -526,7 +651,18 @@ public class TableRow implements ITableRow {
 
   @Override
   public String toString() {
-    return getClass().getSimpleName() + m_cells;
+    return getClass().getSimpleName() + getCellsForToString();
+  }
+
+  /**
+   * @return the materialized cells and the values of the cells that are not materialized yet
+   */
+  protected List<Object> getCellsForToString() {
+    List<Object> cells = new ArrayList<>(m_cells.size());
+    for (int i = 0; i < m_cells.size(); i++) {
+      cells.add(isCellMaterialized(i) ? m_cells.get(i) : getUnmaterializedValue(i));
+    }
+    return cells;
   }
 
   @Override
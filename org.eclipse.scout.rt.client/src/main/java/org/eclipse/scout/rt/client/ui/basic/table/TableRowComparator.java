@@ -10,8 +10,12 @@
  */
 package org.eclipse.scout.rt.client.ui.basic.table;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
 
 import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
 
@@ -43,6 +47,119 @@ public class TableRowComparator implements Comparator<ITableRow> {
     return 0;
   }
 
+  /**
+   * Sorts each list of rows in place, with the same result as sorting them using this comparator.
+   * <p>
+   * The sort keys of each row (see {@link IColumn#createSortKeyExtractor()}) are extracted once for all rows and the
+   * rows are sorted by these keys. {@link IColumn#compareTableRows(ITableRow, ITableRow)} is only used for columns
+   * without sort keys.
+   */
+  public void sort(Collection<? extends List<ITableRow>> rowLists) {
+    sort(rowLists, 0);
+  }
+
+  /**
+   * Same as {@link #sort(Collection)}, but lists with at least <code>parallelThreshold</code> rows are sorted in
+   * parallel (fork/join) if all columns provide sort keys.
+   *
+   * @param parallelThreshold
+   *          0 to always sort in the calling thread
+   */
+  public void sort(Collection<? extends List<ITableRow>> rowLists, int parallelThreshold) {
+    IColumn<?>[] columns = m_columns.toArray(new IColumn<?>[0]);
+    List<SortEntry[]> entryLists = new ArrayList<>(rowLists.size());
+    for (List<ITableRow> rows : rowLists) {
+      SortEntry[] entries = new SortEntry[rows.size()];
+      for (int i = 0; i < entries.length; i++) {
+        entries[i] = new SortEntry(rows.get(i), columns.length);
+      }
+      entryLists.add(entries);
+    }
+
+    boolean[] hasSortKeys = new boolean[columns.length];
+    boolean[] descending = new boolean[columns.length];
+    // compareTableRows may depend on the calling thread, only comparing sort keys is done in parallel
+    boolean parallel = parallelThreshold > 0;
+    for (int i = 0; i < columns.length; i++) {
+      hasSortKeys[i] = extractSortKeys(columns[i], i, entryLists);
+      parallel &= hasSortKeys[i];
+      // only consider sortAscending flag when sort is active (see compare)
+      descending[i] = columns[i].isSortActive() && !columns[i].getHeaderCell().isSortAscending();
+    }
+
+    Comparator<SortEntry> comparator = (e1, e2) -> {
+      for (int i = 0; i < columns.length; i++) {
+        int c = hasSortKeys[i] ? compareSortKeys(e1.m_sortKeys[i], e2.m_sortKeys[i]) : columns[i].compareTableRows(e1.m_row, e2.m_row);
+        if (descending[i]) {
+          c = -c;
+        }
+        if (c != 0) {
+          return c;
+        }
+      }
+      return 0;
+    };
+
+    int listIndex = 0;
+    for (List<ITableRow> rows : rowLists) {
+      SortEntry[] entries = entryLists.get(listIndex++);
+      if (entries.length < 2) {
+        continue;
+      }
+      if (parallel && entries.length >= parallelThreshold) {
+        Arrays.parallelSort(entries, comparator);
+      }
+      else {
+        Arrays.sort(entries, comparator);
+      }
+      for (int i = 0; i < entries.length; i++) {
+        rows.set(i, entries[i].m_row);
+      }
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the sort keys of the column were stored in the entries, <code>false</code> if the
+   *         rows must be compared using {@link IColumn#compareTableRows(ITableRow, ITableRow)}
+   */
+  protected boolean extractSortKeys(IColumn<?> column, int columnIndex, List<SortEntry[]> entryLists) {
+    Function<ITableRow, Comparable<?>> extractor = column.createSortKeyExtractor();
+    if (extractor == null) {
+      return false;
+    }
+    Class<?> keyType = null;
+    for (SortEntry[] entries : entryLists) {
+      for (SortEntry entry : entries) {
+        Comparable<?> key = extractor.apply(entry.m_row);
+        if (key != null) {
+          if (keyType == null) {
+            keyType = key.getClass();
+          }
+          else if (keyType != key.getClass()) {
+            // keys of different types are not necessarily comparable to each other
+            return false;
+          }
+        }
+        entry.m_sortKeys[columnIndex] = key;
+      }
+    }
+    return true;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected static int compareSortKeys(Comparable key1, Comparable key2) {
+    if (key1 == key2) {
+      return 0;
+    }
+    if (key1 == null) {
+      return -1;
+    }
+    if (key2 == null) {
+      return 1;
+    }
+    return key1.compareTo(key2);
+  }
+
   @Override
   public boolean equals(Object obj) {
     return obj != null && obj.getClass() == this.getClass() && ((TableRowComparator) obj).m_columns == this.m_columns;
@@ -52,4 +169,14 @@ public class TableRowComparator implements Comparator<ITableRow> {
   public int hashCode() {
     return 0;
   }
+
+  protected static final class SortEntry {
+    private final ITableRow m_row;
+    private final Comparable[] m_sortKeys;
+
+    private SortEntry(ITableRow row, int columnCount) {
+      m_row = row;
+      m_sortKeys = new Comparable[columnCount];
+    }
+  }
 }
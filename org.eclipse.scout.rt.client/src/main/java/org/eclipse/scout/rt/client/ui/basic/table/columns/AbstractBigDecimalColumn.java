@@ -25,6 +25,10 @@ import org.eclipse.scout.rt.platform.util.DECIMAL;
 @ClassId("cf4984e1-7ec9-4442-a9d8-23145b0e1614")
 public abstract class AbstractBigDecimalColumn extends AbstractDecimalColumn<BigDecimal> implements IBigDecimalColumn {
 
+  private static final int PRIMITIVE_SCALE_BITS = 4;
+  private static final int PRIMITIVE_SCALE_MASK = (1 << PRIMITIVE_SCALE_BITS) - 1;
+  private static final int PRIMITIVE_UNSCALED_BITS = Long.SIZE - PRIMITIVE_SCALE_BITS - 1;
+
   public AbstractBigDecimalColumn() {
     this(true);
   }
@@ -68,6 +72,29 @@ public abstract class AbstractBigDecimalColumn extends AbstractDecimalColumn<Big
     return validValue;
   }
 
+  /**
+   * Values with a scale between 0 and {@value #PRIMITIVE_SCALE_MASK} and an unscaled value of at most
+   * {@value #PRIMITIVE_UNSCALED_BITS} bits are stored in primitive form, the scale in the lowest bits.
+   */
+  @Override
+  protected boolean isPrimitiveValue(Object value) {
+    if (!(value instanceof BigDecimal)) {
+      return false;
+    }
+    BigDecimal decimal = (BigDecimal) value;
+    return decimal.scale() >= 0 && decimal.scale() <= PRIMITIVE_SCALE_MASK && decimal.unscaledValue().bitLength() <= PRIMITIVE_UNSCALED_BITS;
+  }
+
+  @Override
+  protected long encodePrimitiveValue(BigDecimal value) {
+    return (value.unscaledValue().longValue() << PRIMITIVE_SCALE_BITS) | value.scale();
+  }
+
+  @Override
+  protected BigDecimal decodePrimitiveValue(long primitiveValue) {
+    return BigDecimal.valueOf(primitiveValue >> PRIMITIVE_SCALE_BITS, (int) (primitiveValue & PRIMITIVE_SCALE_MASK));
+  }
+
   @Override
   protected IBigDecimalField createDefaultEditor() {
     return new AbstractBigDecimalField() {
@@ -11,11 +11,14 @@
 package org.eclipse.scout.rt.client.ui.basic.table.columns;
 
 import java.security.Permission;
+import java.text.Collator;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.eclipse.scout.rt.client.extension.ui.basic.table.columns.ColumnChains.ColumnCompleteEditChain;
 import org.eclipse.scout.rt.client.extension.ui.basic.table.columns.ColumnChains.ColumnDecorateCellChain;
@@ -30,6 +33,7 @@ import org.eclipse.scout.rt.client.services.common.icon.IIconProviderService;
 import org.eclipse.scout.rt.client.ui.ClientUIPreferences;
 import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
 import org.eclipse.scout.rt.client.ui.basic.cell.ICell;
+import org.eclipse.scout.rt.client.ui.basic.cell.ICellTextFormatter;
 import org.eclipse.scout.rt.client.ui.basic.table.AbstractTable;
 import org.eclipse.scout.rt.client.ui.basic.table.ColumnSet;
 import org.eclipse.scout.rt.client.ui.basic.table.HeaderCell;
@@ -37,6 +41,7 @@ import org.eclipse.scout.rt.client.ui.basic.table.IHeaderCell;
 import org.eclipse.scout.rt.client.ui.basic.table.ITable;
 import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
 import org.eclipse.scout.rt.client.ui.basic.table.ITableRowCustomValueContributor;
+import org.eclipse.scout.rt.client.ui.basic.table.TableRow;
 import org.eclipse.scout.rt.client.ui.basic.table.TableRowDataMapper;
 import org.eclipse.scout.rt.client.ui.basic.table.userfilter.TableUserFilterManager;
 import org.eclipse.scout.rt.client.ui.form.AbstractForm;
@@ -47,6 +52,7 @@ import org.eclipse.scout.rt.client.ui.form.fields.IValueField;
 import org.eclipse.scout.rt.client.ui.form.fields.ParsingFailedStatus;
 import org.eclipse.scout.rt.client.ui.form.fields.ValidationFailedStatus;
 import org.eclipse.scout.rt.client.ui.form.fields.tablefield.AbstractTableField;
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.IOrdered;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.Replace;
@@ -55,6 +61,8 @@ import org.eclipse.scout.rt.platform.annotations.ConfigProperty;
 import org.eclipse.scout.rt.platform.classid.ClassId;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.holders.IHolder;
+import org.eclipse.scout.rt.platform.nls.CollatorProvider;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
 import org.eclipse.scout.rt.platform.reflect.AbstractPropertyObserver;
 import org.eclipse.scout.rt.platform.reflect.ConfigurationUtility;
 import org.eclipse.scout.rt.platform.status.IMultiStatus;
@@ -90,13 +98,14 @@ public abstract class AbstractColumn<VALUE> extends AbstractPropertyObserver imp
   private static final String INITIALLY_ALWAYS_INCLUDE_SORT_AT_BEGIN = "INITIALLY_ALWWAYS_INCLUDE_SORT_AT_BEGIN";
   private static final String INITIALLY_ALWWAYS_INCLUDE_SORT_AT_END = "INITIALLY_ALWWAYS_INCLUDE_SORT_AT_END";
   private static final String COMPACTED = "COMPACTED";
+  private static final String DISPLAY_TEXT_ON_DEMAND = "DISPLAY_TEXT_ON_DEMAND";
 
   private static final Logger LOG = LoggerFactory.getLogger(AbstractColumn.class);
   private static final NamedBitMaskHelper VISIBLE_BIT_HELPER = new NamedBitMaskHelper(IDimensions.VISIBLE, IDimensions.VISIBLE_GRANTED, DISPLAYABLE, COMPACTED);
   private static final NamedBitMaskHelper FLAGS_BIT_HELPER = new NamedBitMaskHelper(INITIALIZED, PRIMARY_KEY, SUMMARY, INITIALLY_VISIBLE,
       INITIALLY_GROUPED, INITIALLY_SORTED_ASC, INITIALLY_ALWAYS_INCLUDE_SORT_AT_BEGIN, INITIALLY_ALWWAYS_INCLUDE_SORT_AT_END);
 
-  private static final NamedBitMaskHelper FLAGS2_BIT_HELPER = new NamedBitMaskHelper(PARENT_KEY, COMPACTED);
+  private static final NamedBitMaskHelper FLAGS2_BIT_HELPER = new NamedBitMaskHelper(PARENT_KEY, COMPACTED, DISPLAY_TEXT_ON_DEMAND);
 
   private ITable m_table;
 
@@ -117,10 +126,13 @@ public abstract class AbstractColumn<VALUE> extends AbstractPropertyObserver imp
 
   /**
    * Provides 8 boolean flags.<br>
-   * Currently all are used: {@link #PARENT_KEY}
+   * Currently used: {@link #PARENT_KEY}, {@link #COMPACTED}, {@link #DISPLAY_TEXT_ON_DEMAND}
    */
   private byte m_flags2;
 
+  private ICellTextFormatter m_displayTextFormatter; // set when display texts are computed on demand
+  private P_PrimitiveCellCodec m_primitiveCellCodec; // set when display texts are computed on demand
+
   private int m_initialWidth;
   private int m_initialSortIndex;
 
@@ -660,6 +672,26 @@ public abstract class AbstractColumn<VALUE> extends AbstractPropertyObserver imp
     return true;
   }
 
+  /**
+   * Configures whether the display texts of this column are formatted whenever they are requested instead of being
+   * stored in each cell. Reduces the memory used by tables with many rows at the cost of formatting the value on every
+   * access of the text. Texts set explicitly, e.g. when decorating a cell, are still stored. Only use it if
+   * {@link #formatValueInternal(ITableRow, Object)} only depends on the value, as for number and date columns.
+   * <p>
+   * The rows then also keep only the values of cells that just have the column defaults instead of a cell object per
+   * value. Values of long, integer, big decimal and date columns are stored in primitive form (see
+   * {@link #getPrimitiveCellCodec()}).
+   * <p>
+   * Subclasses can override this method. Default is {@code false}.
+   *
+   * @return {@code true} if the display texts are computed on demand, {@code false} otherwise.
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(240)
+  protected boolean getConfiguredDisplayTextOnDemand() {
+    return false;
+  }
+
   /**
    * Called after this column has been added to the column set of the surrounding table. This method may execute
    * additional initialization for this column (e.g. register listeners).
@@ -992,6 +1024,7 @@ public abstract class AbstractColumn<VALUE> extends AbstractPropertyObserver imp
     setHtmlEnabled(getConfiguredHtmlEnabled());
     setUiSortPossible(getConfiguredUiSortPossible());
     setNodeColumnCandidate(getConfiguredNodeColumnCandidate());
+    setDisplayTextOnDemand(getConfiguredDisplayTextOnDemand());
   }
 
   /**
@@ -1068,9 +1101,30 @@ public abstract class AbstractColumn<VALUE> extends AbstractPropertyObserver imp
     if (getTable() == null) {
       return;
     }
-    for (ITableRow row : getTable().getRows()) {
-      initCell(row);
+    try {
+      getTable().setTableChanging(true);
+      for (ITableRow row : getTable().getRows()) {
+        // pending cells are initialized when they are created
+        if (!isCellsPending(row)) {
+          initCell(row);
+        }
+      }
+      if (m_primitiveCellCodec != null) {
+        // cells that only have the new column defaults are stored as values again when the table processes the changes
+        m_primitiveCellCodec.resetTemplate();
+      }
     }
+    finally {
+      getTable().setTableChanging(false);
+    }
+  }
+
+  /**
+   * @return {@code true} if the cells of the given row are not created yet, see
+   *         {@link ITable#isLazyCellMaterialization()}
+   */
+  protected boolean isCellsPending(ITableRow row) {
+    return row instanceof TableRow && ((TableRow) row).isCellsPending();
   }
 
   @Override
@@ -1548,6 +1602,27 @@ public abstract class AbstractColumn<VALUE> extends AbstractPropertyObserver imp
     return c;
   }
 
+  /**
+   * Sort keys matching the default implementation of {@link #compareTableRows(ITableRow, ITableRow)}: the value itself
+   * if it is {@link Comparable}, otherwise a collation key of its string representation. If
+   * {@link #compareTableRows(ITableRow, ITableRow)} is overridden, <code>null</code> is returned.
+   */
+  @Override
+  public Function<ITableRow, Comparable<?>> createSortKeyExtractor() {
+    if (ConfigurationUtility.isMethodOverwrite(AbstractColumn.class, "compareTableRows", new Class[]{ITableRow.class, ITableRow.class}, getClass())) {
+      return null;
+    }
+    Collator collator = BEANS.get(CollatorProvider.class).getInstance(NlsLocale.get());
+    collator.setStrength(Collator.SECONDARY);
+    return row -> {
+      VALUE value = getValue(row);
+      if (value == null || value instanceof Comparable) {
+        return (Comparable<?>) value;
+      }
+      return collator.getCollationKey(value.toString());
+    };
+  }
+
   /**
    * Refresh all column values to trigger re-validate and re-format
    */
@@ -1747,7 +1822,18 @@ public abstract class AbstractColumn<VALUE> extends AbstractPropertyObserver imp
   @Override
   public void updateDisplayTexts(List<ITableRow> rows) {
     for (ITableRow row : Assertions.assertNotNull(rows)) {
-      updateDisplayText(row, row.getCellForUpdate(this));
+      if (isCellsPending(row)) {
+        // the text is computed when the cell is created
+        continue;
+      }
+      Cell cell = row.getCellForUpdate(this);
+      if (isDisplayTextOnDemand() && cell.getTextFormatter() == m_displayTextFormatter) {
+        // the text is not stored, just inform about a possibly changed format
+        cell.refreshText();
+      }
+      else {
+        updateDisplayText(row, cell);
+      }
     }
   }
 
@@ -1763,7 +1849,87 @@ public abstract class AbstractColumn<VALUE> extends AbstractPropertyObserver imp
   }
 
   private void updateDisplayText(ITableRow row, Cell cell, VALUE value) {
-    cell.setText(formatValueInternal(row, value));
+    if (isDisplayTextOnDemand() && !cell.hasError() && ObjectUtility.equals(cell.getValue(), value)) {
+      cell.setTextFormatter(m_displayTextFormatter);
+    }
+    else {
+      cell.setText(formatValueInternal(row, value));
+    }
+  }
+
+  /**
+   * Computes the display text of a cell whose text is not stored (see {@link #isDisplayTextOnDemand()}). Called with
+   * the {@link NlsLocale} that was current when computing texts on demand was enabled.
+   */
+  @SuppressWarnings("unchecked")
+  protected String formatDisplayTextOnDemand(Cell cell) {
+    ITableRow row = cell.getObserver() instanceof ITableRow ? (ITableRow) cell.getObserver() : null;
+    return formatValueInternal(row, (VALUE) cell.getValue());
+  }
+
+  /**
+   * @return {@code true} if the display texts of valid cells are computed from their values whenever they are
+   *         requested instead of being stored in each cell
+   */
+  protected boolean isDisplayTextOnDemand() {
+    return FLAGS2_BIT_HELPER.isBitSet(DISPLAY_TEXT_ON_DEMAND, m_flags2);
+  }
+
+  /**
+   * Enables or disables computing the display texts on demand. Saves the memory of one string per cell, but formats the
+   * value whenever the text of a cell is requested. Only use it if {@link #formatValueInternal(ITableRow, Object)} is
+   * cheap and only depends on the value.
+   */
+  protected void setDisplayTextOnDemand(boolean displayTextOnDemand) {
+    if (displayTextOnDemand == isDisplayTextOnDemand()) {
+      return;
+    }
+    m_flags2 = FLAGS2_BIT_HELPER.changeBit(DISPLAY_TEXT_ON_DEMAND, displayTextOnDemand, m_flags2);
+    if (displayTextOnDemand) {
+      // texts may be requested by any thread, format them with the locale stored texts would have been formatted with
+      m_displayTextFormatter = new P_DisplayTextFormatter(NlsLocale.get());
+      if (m_primitiveCellCodec == null) {
+        m_primitiveCellCodec = new P_PrimitiveCellCodec();
+      }
+      else {
+        m_primitiveCellCodec.resetTemplate();
+      }
+    }
+    updateDisplayTexts();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Available once the display texts are computed on demand (see {@link #getConfiguredDisplayTextOnDemand()}). The
+   * codec is kept if this is disabled later on, to read the values of cells that are still stored as values.
+   */
+  @Override
+  public IPrimitiveCellCodec getPrimitiveCellCodec() {
+    return m_primitiveCellCodec;
+  }
+
+  /**
+   * @return {@code true} if the given value can be stored in primitive form using
+   *         {@link #encodePrimitiveValue(Object)}. The default returns {@code false}, values are then stored as
+   *         objects.
+   */
+  protected boolean isPrimitiveValue(Object value) {
+    return false;
+  }
+
+  /**
+   * @return the given value as {@code long}, only called for values accepted by {@link #isPrimitiveValue(Object)}
+   */
+  protected long encodePrimitiveValue(VALUE value) {
+    throw new UnsupportedOperationException("Values of " + getClass().getName() + " are not stored in primitive form");
+  }
+
+  /**
+   * @return the value that was encoded by {@link #encodePrimitiveValue(Object)}
+   */
+  protected VALUE decodePrimitiveValue(long primitiveValue) {
+    throw new UnsupportedOperationException("Values of " + getClass().getName() + " are not stored in primitive form");
   }
 
   /**
@@ -2223,4 +2389,73 @@ public abstract class AbstractColumn<VALUE> extends AbstractPropertyObserver imp
     chain.execDisposeColumn();
   }
 
+  private class P_PrimitiveCellCodec implements IPrimitiveCellCodec {
+    private Cell m_template; // cell with the column defaults, created when it is needed
+
+    void resetTemplate() {
+      m_template = null;
+    }
+
+    private Cell getTemplate() {
+      if (m_template == null) {
+        TableRow row = new TableRow(null);
+        initCell(row);
+        Cell template = row.getCellForUpdate(AbstractColumn.this);
+        template.setTextFormatter(m_displayTextFormatter);
+        m_template = template;
+      }
+      return m_template;
+    }
+
+    @Override
+    public boolean isEncodable(Object value) {
+      return isPrimitiveValue(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public long encode(Object value) {
+      return encodePrimitiveValue((VALUE) value);
+    }
+
+    @Override
+    public Object decode(long encodedValue) {
+      return decodePrimitiveValue(encodedValue);
+    }
+
+    @Override
+    public Cell createCell(Object value) {
+      Cell cell = new Cell(getTemplate());
+      cell.setValue(value);
+      return cell;
+    }
+
+    @Override
+    public boolean isRestorable(Cell cell) {
+      return isDisplayTextOnDemand()
+          && cell.getErrorStatus() == null
+          && cell.getTextFormatter() == m_displayTextFormatter
+          && cell.hasSameStyle(getTemplate());
+    }
+  }
+
+  private class P_DisplayTextFormatter implements ICellTextFormatter {
+    private final Locale m_locale;
+
+    P_DisplayTextFormatter(Locale locale) {
+      m_locale = locale;
+    }
+
+    @Override
+    public String format(Cell cell) {
+      Locale oldLocale = NlsLocale.getOrElse(null);
+      try {
+        NlsLocale.set(m_locale);
+        return formatDisplayTextOnDemand(cell);
+      }
+      finally {
+        NlsLocale.set(oldLocale);
+      }
+    }
+  }
 }
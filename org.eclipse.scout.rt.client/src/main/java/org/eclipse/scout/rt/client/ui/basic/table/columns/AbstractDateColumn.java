@@ -13,6 +13,7 @@ package org.eclipse.scout.rt.client.ui.basic.table.columns;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Locale;
 
 import org.eclipse.scout.rt.client.extension.ui.basic.table.columns.IDateColumnExtension;
 import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
@@ -39,6 +40,7 @@ public abstract class AbstractDateColumn extends AbstractColumn<Date> implements
   private boolean m_hasTime;
   private boolean m_hasDate;
   private Date m_autoDate;
+  private P_CachedDateFormat m_cachedDateFormat; // date format used by formatValueInternal, reset on format changes
 
   public AbstractDateColumn() {
     this(true);
@@ -140,6 +142,7 @@ public abstract class AbstractDateColumn extends AbstractColumn<Date> implements
   @Override
   public void setFormat(String s) {
     m_format = s;
+    m_cachedDateFormat = null;
     updateDisplayTexts();
   }
 
@@ -151,12 +154,14 @@ public abstract class AbstractDateColumn extends AbstractColumn<Date> implements
   @Override
   public void setHasDate(boolean b) {
     m_hasDate = b;
+    m_cachedDateFormat = null;
     refreshValues();
   }
 
   @Override
   public void setHasTime(boolean b) {
     m_hasTime = b;
+    m_cachedDateFormat = null;
     refreshValues();
   }
 
@@ -222,10 +227,51 @@ public abstract class AbstractDateColumn extends AbstractColumn<Date> implements
 
   @Override
   protected String formatValueInternal(ITableRow row, Date value) {
-    if (value != null) {
+    if (value == null) {
+      return "";
+    }
+    if (!isDisplayTextOnDemand()) {
       return getDateFormat().format(value);
     }
-    return "";
+    DateFormat df = getCachedDateFormat();
+    synchronized (df) {
+      return df.format(value);
+    }
+  }
+
+  /**
+   * Only plain {@link Date} values are stored in primitive form, subclasses like {@link java.sql.Timestamp} are kept as
+   * objects.
+   */
+  @Override
+  protected boolean isPrimitiveValue(Object value) {
+    return value != null && value.getClass() == Date.class;
+  }
+
+  @Override
+  protected long encodePrimitiveValue(Date value) {
+    return value.getTime();
+  }
+
+  @Override
+  protected Date decodePrimitiveValue(long primitiveValue) {
+    return new Date(primitiveValue);
+  }
+
+  /**
+   * @return the {@link #getDateFormat()} of the current locale, reused until the format or the locale changes. Only
+   *         used for display texts computed on demand (see {@link #isDisplayTextOnDemand()}), override it as well if
+   *         {@link #getDateFormat()} depends on further state. Date formats are not thread-safe, synchronize on the
+   *         returned instance.
+   */
+  protected DateFormat getCachedDateFormat() {
+    Locale locale = NlsLocale.get();
+    P_CachedDateFormat cachedDateFormat = m_cachedDateFormat;
+    if (cachedDateFormat == null || !cachedDateFormat.getLocale().equals(locale)) {
+      cachedDateFormat = new P_CachedDateFormat(locale, getDateFormat());
+      m_cachedDateFormat = cachedDateFormat;
+    }
+    return cachedDateFormat.getDateFormat();
   }
 
   protected DateFormat getDateFormat() {
@@ -248,6 +294,24 @@ public abstract class AbstractDateColumn extends AbstractColumn<Date> implements
     return df;
   }
 
+  private static final class P_CachedDateFormat {
+    private final Locale m_locale;
+    private final DateFormat m_dateFormat;
+
+    private P_CachedDateFormat(Locale locale, DateFormat dateFormat) {
+      m_locale = locale;
+      m_dateFormat = dateFormat;
+    }
+
+    public Locale getLocale() {
+      return m_locale;
+    }
+
+    public DateFormat getDateFormat() {
+      return m_dateFormat;
+    }
+  }
+
   protected static class LocalDateColumnExtension<OWNER extends AbstractDateColumn> extends LocalColumnExtension<Date, OWNER> implements IDateColumnExtension<OWNER> {
 
     public LocalDateColumnExtension(OWNER owner) {
@@ -78,6 +78,21 @@ public abstract class AbstractIntegerColumn extends AbstractNumberColumn<Integer
     return validValue;
   }
 
+  @Override
+  protected boolean isPrimitiveValue(Object value) {
+    return value instanceof Integer;
+  }
+
+  @Override
+  protected long encodePrimitiveValue(Integer value) {
+    return value;
+  }
+
+  @Override
+  protected Integer decodePrimitiveValue(long primitiveValue) {
+    return (int) primitiveValue;
+  }
+
   @Override
   protected IIntegerField createDefaultEditor() {
     return new AbstractIntegerField() {
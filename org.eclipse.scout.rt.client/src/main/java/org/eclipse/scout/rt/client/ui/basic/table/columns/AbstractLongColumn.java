@@ -73,6 +73,21 @@ public abstract class AbstractLongColumn extends AbstractNumberColumn<Long> impl
     return validValue;
   }
 
+  @Override
+  protected boolean isPrimitiveValue(Object value) {
+    return value instanceof Long;
+  }
+
+  @Override
+  protected long encodePrimitiveValue(Long value) {
+    return value;
+  }
+
+  @Override
+  protected Long decodePrimitiveValue(long primitiveValue) {
+    return primitiveValue;
+  }
+
   @Override
   protected ILongField createDefaultEditor() {
     return new AbstractLongField() {
@@ -376,7 +376,18 @@ public abstract class AbstractNumberColumn<NUMBER extends Number> extends Abstra
 
   @Override
   protected String formatValueInternal(ITableRow row, NUMBER value) {
-    return (value != null) ? getFormat().format(value) : "";
+    if (value == null) {
+      return "";
+    }
+    if (!isDisplayTextOnDemand()) {
+      return getFormat().format(value);
+    }
+    // on demand texts are formatted often: use the internal format instead of a copy. It is replaced but never
+    // changed, decimal formats are not thread-safe
+    DecimalFormat format = getFormatInternal();
+    synchronized (format) {
+      return format.format(value);
+    }
   }
 
   protected static class LocalNumberColumnExtension<NUMBER extends Number, OWNER extends AbstractNumberColumn<NUMBER>> extends LocalColumnExtension<NUMBER, OWNER> implements INumberColumnExtension<NUMBER, OWNER> {
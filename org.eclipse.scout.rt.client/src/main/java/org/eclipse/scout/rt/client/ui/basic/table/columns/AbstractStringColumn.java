@@ -10,6 +10,9 @@
  */
 package org.eclipse.scout.rt.client.ui.basic.table.columns;
 
+import java.text.Collator;
+import java.util.function.Function;
+
 import org.eclipse.scout.rt.client.extension.ui.basic.table.columns.IStringColumnExtension;
 import org.eclipse.scout.rt.client.ui.basic.table.ITable;
 import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
@@ -17,9 +20,13 @@ import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
 import org.eclipse.scout.rt.client.ui.form.fields.IValueField;
 import org.eclipse.scout.rt.client.ui.form.fields.stringfield.AbstractStringField;
 import org.eclipse.scout.rt.client.ui.form.fields.stringfield.IStringField;
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.annotations.ConfigProperty;
 import org.eclipse.scout.rt.platform.classid.ClassId;
+import org.eclipse.scout.rt.platform.nls.CollatorProvider;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.reflect.ConfigurationUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 
 /**
@@ -261,6 +268,24 @@ public abstract class AbstractStringColumn extends AbstractColumn<String> implem
     return StringUtility.compareIgnoreCase(s1, s2);
   }
 
+  /**
+   * Collation keys matching {@link StringUtility#compareIgnoreCase(String, String)}. If
+   * {@link #compareTableRows(ITableRow, ITableRow)} is overridden, <code>null</code> is returned.
+   */
+  @Override
+  public Function<ITableRow, Comparable<?>> createSortKeyExtractor() {
+    if (ConfigurationUtility.isMethodOverwrite(AbstractStringColumn.class, "compareTableRows", new Class[]{ITableRow.class, ITableRow.class}, getClass())) {
+      return null;
+    }
+    Collator collator = BEANS.get(CollatorProvider.class).getInstance(NlsLocale.get());
+    collator.setStrength(Collator.SECONDARY);
+    return row -> {
+      String value = getValue(row);
+      // compareIgnoreCase treats empty strings like null
+      return StringUtility.isNullOrEmpty(value) ? null : collator.getCollationKey(value);
+    };
+  }
+
   protected static class LocalStringColumnExtension<OWNER extends AbstractStringColumn> extends LocalColumnExtension<String, OWNER> implements IStringColumnExtension<OWNER> {
 
     public LocalStringColumnExtension(OWNER owner) {
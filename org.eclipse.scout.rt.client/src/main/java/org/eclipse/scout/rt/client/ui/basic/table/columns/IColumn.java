@@ -13,6 +13,7 @@ package org.eclipse.scout.rt.client.ui.basic.table.columns;
 import java.security.Permission;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 
 import org.eclipse.scout.rt.client.ui.IHtmlCapable;
 import org.eclipse.scout.rt.client.ui.IStyleable;
@@ -130,6 +131,19 @@ public interface IColumn<VALUE> extends IPropertyObserver, ITypeWithClassId, IOr
 
   int compareTableRows(ITableRow r1, ITableRow r2);
 
+  /**
+   * Used to sort many rows at once: the sort key of each row is extracted only once and the rows are sorted by their
+   * keys instead of calling {@link #compareTableRows(ITableRow, ITableRow)} for each comparison.
+   *
+   * @return a function returning the sort key of a row (<code>null</code> keys are sorted first) which orders the rows
+   *         the same way as {@link #compareTableRows(ITableRow, ITableRow)}. <code>null</code> if rows must be
+   *         compared using {@link #compareTableRows(ITableRow, ITableRow)}, which is the default.
+   * @since 11.0
+   */
+  default Function<ITableRow, Comparable<?>> createSortKeyExtractor() {
+    return null;
+  }
+
   VALUE getValue(int rowIndex);
 
   VALUE getValue(ITableRow r);
@@ -482,6 +496,16 @@ public interface IColumn<VALUE> extends IPropertyObserver, ITypeWithClassId, IOr
    */
   void initCell(ITableRow row);
 
+  /**
+   * @return the codec used by the rows of the table to store the cells of this column as (primitive) values instead of
+   *         {@link org.eclipse.scout.rt.client.ui.basic.cell.Cell} objects, {@code null} if cells are always kept,
+   *         which is the default
+   * @since 11.0
+   */
+  default IPrimitiveCellCodec getPrimitiveCellCodec() {
+    return null;
+  }
+
   /**
    * Delegates to {@link ITableOrganizer#isColumnRemovable(IColumn)}.
    */
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.columns;
+
+import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
+
+/**
+ * Allows table rows to keep only the values of the cells of a column instead of {@link Cell} objects. Values supported
+ * by {@link #isEncodable(Object)} are stored in primitive form, e.g. the values of long, integer, big decimal and date
+ * columns. Cells are only kept if they differ from the cell {@link #createCell(Object)} creates for their value, e.g.
+ * because they are styled individually or have an error status.
+ *
+ * @see IColumn#getPrimitiveCellCodec()
+ * @since 11.0
+ */
+public interface IPrimitiveCellCodec {
+
+  /**
+   * @return {@code true} if the given value can be stored as a {@code long} using {@link #encode(Object)}
+   */
+  boolean isEncodable(Object value);
+
+  /**
+   * @return the given value in primitive form, only called for values accepted by {@link #isEncodable(Object)}
+   */
+  long encode(Object value);
+
+  /**
+   * @return the value that was encoded to the given {@code long} by {@link #encode(Object)}
+   */
+  Object decode(long encodedValue);
+
+  /**
+   * @return a new cell with the given value and the defaults of the column, without an observer
+   */
+  Cell createCell(Object value);
+
+  /**
+   * @return {@code true} if the given cell is equal to the cell {@link #createCell(Object)} creates for its value and
+   *         therefore does not need to be kept
+   */
+  boolean isRestorable(Cell cell);
+}
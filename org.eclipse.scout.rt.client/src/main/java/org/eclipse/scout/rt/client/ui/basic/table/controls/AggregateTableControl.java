@@ -10,6 +10,13 @@
  */
 package org.eclipse.scout.rt.client.ui.basic.table.controls;
 
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.scout.rt.client.ui.basic.table.ITable;
+import org.eclipse.scout.rt.client.ui.basic.table.TableAggregator;
+import org.eclipse.scout.rt.client.ui.basic.table.TableAggregator.Aggregate;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.INumberColumn;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.classid.ClassId;
 import org.eclipse.scout.rt.platform.text.TEXTS;
@@ -19,6 +26,8 @@ import org.eclipse.scout.rt.shared.AbstractIcons;
 @Order(600)
 public class AggregateTableControl extends AbstractTableControl implements IAggregateTableControl {
 
+  private TableAggregator m_aggregator;
+
   public AggregateTableControl() {
     this(true);
   }
@@ -32,6 +41,57 @@ public class AggregateTableControl extends AbstractTableControl implements IAggr
     super.initConfig();
     setTooltipText(TEXTS.get("ui.Total"));
     setIconId(AbstractIcons.Sum);
+    addPropertyChangeListener(PROP_SELECTED, e -> updateAggregator());
+  }
+
+  @Override
+  public void setTable(ITable table) {
+    super.setTable(table);
+    updateAggregator();
+  }
+
+  /**
+   * The aggregator is only maintained while the control is selected, i.e. while the aggregates are displayed.
+   */
+  protected void updateAggregator() {
+    ITable table = getTable();
+    boolean active = isSelected() && table != null;
+    boolean changed = false;
+    if (m_aggregator != null && (!active || m_aggregator.getTable() != table)) {
+      m_aggregator.detach();
+      m_aggregator = null;
+      changed = true;
+    }
+    if (active && m_aggregator == null) {
+      m_aggregator = createAggregator(table);
+      m_aggregator.addChangeListener(this::updateAggregates);
+      m_aggregator.attach();
+      changed = true;
+    }
+    if (changed) {
+      updateAggregates();
+    }
+  }
+
+  protected void updateAggregates() {
+    // always fire: the aggregates are also resent if only the columns changed
+    propertySupport.setPropertyAlwaysFire(PROP_AGGREGATES, m_aggregator != null ? m_aggregator.getAggregates() : Collections.emptyMap());
+  }
+
+  @Override
+  public TableAggregator getAggregator() {
+    return m_aggregator;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Map<INumberColumn<?>, Aggregate> getAggregates() {
+    Map<INumberColumn<?>, Aggregate> aggregates = (Map<INumberColumn<?>, Aggregate>) propertySupport.getProperty(PROP_AGGREGATES);
+    return aggregates != null ? aggregates : Collections.emptyMap();
+  }
+
+  protected TableAggregator createAggregator(ITable table) {
+    return new TableAggregator(table);
   }
 
 }
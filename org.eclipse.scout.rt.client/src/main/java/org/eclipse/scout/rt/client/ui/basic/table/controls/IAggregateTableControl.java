@@ -10,5 +10,33 @@
  */
 package org.eclipse.scout.rt.client.ui.basic.table.controls;
 
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.scout.rt.client.ui.basic.table.TableAggregator;
+import org.eclipse.scout.rt.client.ui.basic.table.TableAggregator.Aggregate;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.INumberColumn;
+
 public interface IAggregateTableControl extends ITableControl {
+
+  /**
+   * type {@link Map}&lt;{@link INumberColumn}, {@link Aggregate}&gt;
+   */
+  String PROP_AGGREGATES = "aggregates";
+
+  /**
+   * @return the aggregator maintaining the aggregates of the number columns of the table while the control is
+   *         selected. {@code null} if the control is not selected, does not belong to a table or does not support it.
+   */
+  default TableAggregator getAggregator() {
+    return null;
+  }
+
+  /**
+   * @return aggregates of the number columns over all filtered rows of the table, maintained while the control is
+   *         selected. Empty if the control is not selected or does not support it.
+   */
+  default Map<INumberColumn<?>, Aggregate> getAggregates() {
+    return Collections.emptyMap();
+  }
 }
@@ -11,6 +11,8 @@
 package org.eclipse.scout.rt.client.ui.basic.table.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -21,10 +23,14 @@ import java.util.Set;
 import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
 import org.eclipse.scout.rt.client.ui.basic.cell.ICell;
 import org.eclipse.scout.rt.client.ui.basic.cell.ICellObserver;
+import org.eclipse.scout.rt.client.ui.basic.table.ColumnSet;
 import org.eclipse.scout.rt.client.ui.basic.table.ITable;
 import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRowCustomValueContributor;
 import org.eclipse.scout.rt.client.ui.basic.table.TableRow;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IPrimitiveCellCodec;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.platform.util.VerboseUtility;
 import org.eclipse.scout.rt.shared.data.basic.FontSpec;
@@ -34,32 +40,38 @@ import org.eclipse.scout.rt.shared.data.basic.FontSpec;
  */
 public class InternalTableRow extends TableRow implements ICellObserver {
 
+  private static final Object PRIMITIVE_VALUE = new Object(); // marks the cells whose value is stored in m_primitiveValues
+
   private ITable m_table;
   private int m_rowIndex;
   private int m_rowChanging = 0;
-  private final Map<ICell, Set<Integer>> m_updatedCells;
+  private Map<ICell, Set<Integer>> m_updatedCells; // null while no cell has changed
+  private long[] m_primitiveValues; // null if no value is stored in primitive form, see IPrimitiveCellCodec
 
   private InternalTableRow() {
     super(null);
-    m_updatedCells = new HashMap<>();
     setFilterAcceptedInternal(true);
   }
 
   public InternalTableRow(ITable table) {
     super(table.getColumnSet());
-    m_updatedCells = new HashMap<>(table.getColumnSet().getColumnCount());
     setFilterAcceptedInternal(true);
     m_table = table;
   }
 
   public InternalTableRow(ITable table, ITableRow row) {
     super(table.getColumnSet(), row);
-    m_updatedCells = new HashMap<>(table.getColumnSet().getColumnCount());
     setFilterAcceptedInternal(true);
     setEnabled(row.isEnabled());
     m_rowIndex = row.getRowIndex();
+    boolean lazy = table.isLazyCellMaterialization();
     for (IColumn<?> c : table.getColumns()) {
-      c.parseValueAndSet(this, c.getValue(row));
+      if (lazy && !isCellMaterialized(c.getColumnIndex())) {
+        importValueLazy(c, c.getValue(row));
+      }
+      else {
+        c.parseValueAndSet(this, c.getValue(row));
+      }
     }
     // copy status and properties
     setStatus(row.getStatus());
@@ -69,6 +81,26 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     m_table = table;
   }
 
+  /**
+   * Parses and validates the value of a cell that is not materialized yet without creating the cell. The cell is only
+   * created if the value is invalid to keep the error status.
+   */
+  private void importValueLazy(IColumn<?> column, Object rawValue) {
+    Object value;
+    try {
+      value = column.parseValue(this, rawValue);
+    }
+    catch (ProcessingException e) { // NOSONAR
+      // parse again to create the cell with the error status
+      column.parseValueAndSet(this, rawValue);
+      return;
+    }
+    setUnmaterializedValue(column.getColumnIndex(), value);
+    if (column instanceof ITableRowCustomValueContributor) {
+      ((ITableRowCustomValueContributor) column).enrichCustomValues(this, getCustomValues());
+    }
+  }
+
   @Override
   public int getRowIndex() {
     return m_rowIndex;
@@ -158,6 +190,116 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     m_flags = FLAGS_BIT_HELPER.changeBit(REJECTED_BY_USER, rejectedByUser, m_flags);
   }
 
+  /**
+   * do not use this internal method
+   */
+  public void setCellsPendingInternal(boolean b) {
+    m_flags = FLAGS_BIT_HELPER.changeBit(CELLS_PENDING, b, m_flags);
+  }
+
+  /**
+   * Creates all cells that are not materialized yet, without initializing or decorating them.
+   * <p>
+   * do not use this internal method, use {@link ITable#materializeCells(java.util.Collection)} instead
+   */
+  public void materializeCellsInternal() {
+    setCellsPendingInternal(false);
+    for (int i = 0; i < getCellCount(); i++) {
+      materializeCell(i);
+    }
+  }
+
+  private void materializeCells() {
+    if (getTable() != null) {
+      getTable().materializeCells(Collections.singletonList(this));
+    }
+    if (isCellsPending()) {
+      materializeCellsInternal();
+    }
+  }
+
+  /**
+   * Only keeps the values of the cells that can be restored from their values (see
+   * {@link IPrimitiveCellCodec#isRestorable(Cell)}).
+   * <p>
+   * do not use this internal method
+   */
+  public void compactCellsInternal() {
+    if (isCellsPending()) {
+      return;
+    }
+    String cssClass = getCssClass();
+    for (int i = 0; i < m_cells.size(); i++) {
+      Cell cell = m_cells.get(i);
+      IPrimitiveCellCodec codec = cell != null ? getPrimitiveCellCodec(i) : null;
+      // restored cells get the css class of the row, see createRestoredCell
+      if (codec != null && codec.isRestorable(cell) && (cssClass == null || cssClass.equals(cell.getCssClass()))) {
+        m_cells.set(i, null);
+        setUnmaterializedValue(i, cell.getValue());
+        if (m_updatedCells != null) {
+          m_updatedCells.remove(cell);
+        }
+      }
+    }
+  }
+
+  private IPrimitiveCellCodec getPrimitiveCellCodec(int columnIndex) {
+    ColumnSet columnSet = getColumnSet();
+    IColumn<?> column = columnSet != null ? columnSet.getColumn(columnIndex) : null;
+    return column != null ? column.getPrimitiveCellCodec() : null;
+  }
+
+  private Cell createRestoredCell(IPrimitiveCellCodec codec, Object value) {
+    Cell cell = codec.createCell(value);
+    if (getCssClass() != null) {
+      cell.setCssClass(getCssClass());
+    }
+    return cell;
+  }
+
+  @Override
+  protected boolean isCellValueOnly(int columnIndex) {
+    // cells restorable from their values are copied with their column defaults
+    return isCellsPending() && super.isCellValueOnly(columnIndex);
+  }
+
+  @Override
+  protected Cell createCell(int columnIndex, Object value) {
+    IPrimitiveCellCodec codec = getPrimitiveCellCodec(columnIndex);
+    Cell cell = codec != null ? createRestoredCell(codec, value) : super.createCell(columnIndex, value);
+    if (getTable() != null) {
+      cell.setObserver(this);
+    }
+    return cell;
+  }
+
+  @Override
+  protected Object getUnmaterializedValue(int columnIndex) {
+    Object value = super.getUnmaterializedValue(columnIndex);
+    if (value == PRIMITIVE_VALUE) {
+      return getPrimitiveCellCodec(columnIndex).decode(m_primitiveValues[columnIndex]);
+    }
+    return value;
+  }
+
+  @Override
+  protected void setUnmaterializedValue(int columnIndex, Object value) {
+    IPrimitiveCellCodec codec = getPrimitiveCellCodec(columnIndex);
+    if (codec != null && codec.isEncodable(value)) {
+      if (m_primitiveValues == null) {
+        m_primitiveValues = new long[m_cells.size()];
+      }
+      else if (columnIndex >= m_primitiveValues.length) {
+        m_primitiveValues = Arrays.copyOf(m_primitiveValues, m_cells.size());
+      }
+      m_primitiveValues[columnIndex] = codec.encode(value);
+      super.setUnmaterializedValue(columnIndex, PRIMITIVE_VALUE);
+    }
+    else {
+      super.setUnmaterializedValue(columnIndex, value);
+    }
+  }
+
   @Override
   public int getCellCount() {
     return m_cells.size();
@@ -170,6 +312,13 @@ public class InternalTableRow extends TableRow implements ICellObserver {
 
   @Override
   public ICell getCell(int columnIndex) {
+    if (!isCellsPending() && !isCellMaterialized(columnIndex)) {
+      IPrimitiveCellCodec codec = getPrimitiveCellCodec(columnIndex);
+      if (codec != null) {
+        // do not keep the cell again just to read it
+        return createRestoredCell(codec, getUnmaterializedValue(columnIndex));
+      }
+    }
     return getCellForUpdate(columnIndex);
   }
 
@@ -203,11 +352,17 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     if (columnIndex < 0 || columnIndex >= m_cells.size()) {
       return new Cell();
     }
-    return m_cells.get(columnIndex);
+    if (isCellsPending()) {
+      materializeCells();
+    }
+    return materializeCell(columnIndex);
   }
 
   @Override
   public Object getCellValue(int columnIndex) {
+    if (!isCellMaterialized(columnIndex)) {
+      return getUnmaterializedValue(columnIndex);
+    }
     return getCell(columnIndex).getValue();
   }
 
@@ -220,7 +375,7 @@ public class InternalTableRow extends TableRow implements ICellObserver {
         keyColumns = getTable().getColumnSet().getAllColumnIndexes();
       }
       for (int keyIndex : keyColumns) {
-        pk.add(getCell(keyIndex).getValue());
+        pk.add(getCellValue(keyIndex));
       }
     }
     return pk;
@@ -232,7 +387,7 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     if (getTable() != null) {
       int[] keyColumns = getTable().getColumnSet().getParentKeyColumnIndexes();
       for (int keyIndex : keyColumns) {
-        pk.add(getCell(keyIndex).getValue());
+        pk.add(getCellValue(keyIndex));
       }
     }
     return pk;
@@ -255,9 +410,7 @@ public class InternalTableRow extends TableRow implements ICellObserver {
         if (getTable() != null) {
           getTable().updateRow(this);
         }
-        if (m_updatedCells != null) {
-          m_updatedCells.clear();
-        }
+        m_updatedCells = null;
       }
     }
   }
@@ -313,8 +466,8 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     try {
       setRowChanging(true);
       //
-      for (Cell cell : m_cells) {
-        cell.setBackgroundColor(c);
+      for (int i = 0; i < m_cells.size(); i++) {
+        getCellForUpdate(i).setBackgroundColor(c);
       }
     }
     finally {
@@ -327,8 +480,8 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     try {
       setRowChanging(true);
       //
-      for (Cell cell : m_cells) {
-        cell.setForegroundColor(c);
+      for (int i = 0; i < m_cells.size(); i++) {
+        getCellForUpdate(i).setForegroundColor(c);
       }
     }
     finally {
@@ -340,7 +493,12 @@ public class InternalTableRow extends TableRow implements ICellObserver {
   public void setCssClass(String cssClass) {
     try {
       setRowChanging(true);
+      boolean changed = ObjectUtility.notEquals(getCssClass(), cssClass);
       super.setCssClass(cssClass);
+      if (changed) {
+        // cells that are only kept as values do not inform about the changed css class
+        setRowPropertiesChanged(true);
+      }
     }
     finally {
       setRowChanging(false);
@@ -352,8 +510,8 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     try {
       setRowChanging(true);
       //
-      for (Cell cell : m_cells) {
-        cell.setFont(f);
+      for (int i = 0; i < m_cells.size(); i++) {
+        getCellForUpdate(i).setFont(f);
       }
     }
     finally {
@@ -366,8 +524,8 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     try {
       setRowChanging(true);
       //
-      for (Cell cell : m_cells) {
-        cell.setTooltipText(s);
+      for (int i = 0; i < m_cells.size(); i++) {
+        getCellForUpdate(i).setTooltipText(s);
       }
     }
     finally {
@@ -433,7 +591,7 @@ public class InternalTableRow extends TableRow implements ICellObserver {
       if (getTable() != null) {
         int colIndex = -1;
         for (int i = 0; i < m_cells.size(); i++) {
-          if (getCell(i) == cell) {
+          if (m_cells.get(i) == cell) {
             colIndex = i;
             break;
           }
@@ -468,6 +626,9 @@ public class InternalTableRow extends TableRow implements ICellObserver {
   }
 
   private void setCellChanged(ICell cell, int changeBit) {
+    if (m_updatedCells == null) {
+      m_updatedCells = new HashMap<>();
+    }
     Set<Integer> updatedBits = m_updatedCells.get(cell);
     if (updatedBits == null) {
       updatedBits = new HashSet<>();
@@ -478,6 +639,9 @@ public class InternalTableRow extends TableRow implements ICellObserver {
 
   private List<ICell> getChangedCells(int changedBit) {
     List<ICell> cells = new ArrayList<>();
+    if (m_updatedCells == null) {
+      return cells;
+    }
     for (Entry<ICell, Set<Integer>> e : m_updatedCells.entrySet()) {
       Set<Integer> value = e.getValue();
       if (value != null && value.contains(changedBit)) {
@@ -489,6 +653,9 @@ public class InternalTableRow extends TableRow implements ICellObserver {
 
   private List<ICell> getChangedCells() {
     List<ICell> cells = new ArrayList<>();
+    if (m_updatedCells == null) {
+      return cells;
+    }
     for (Entry<ICell, Set<Integer>> e : m_updatedCells.entrySet()) {
       Set<Integer> changedBits = e.getValue();
       if (changedBits != null) {
@@ -523,13 +690,15 @@ public class InternalTableRow extends TableRow implements ICellObserver {
   private Map<ICell, Integer> createCellIndexMap() {
     Map<ICell, Integer> indexesByCell = new HashMap<>();
     for (int i = 0; i < m_cells.size(); i++) {
-      indexesByCell.put(m_cells.get(i), i);
+      if (m_cells.get(i) != null) {
+        indexesByCell.put(m_cells.get(i), i);
+      }
     }
     return indexesByCell;
   }
 
   @Override
   public String toString() {
-    return getClass().getSimpleName() + "[" + VerboseUtility.dumpObjects(m_cells.toArray()) + "]";
+    return getClass().getSimpleName() + "[" + VerboseUtility.dumpObjects(getCellsForToString().toArray()) + "]";
   }
 }
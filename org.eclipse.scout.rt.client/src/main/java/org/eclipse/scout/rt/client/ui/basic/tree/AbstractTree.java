@@ -127,6 +127,7 @@ public abstract class AbstractTree extends AbstractWidget implements ITree, ICon
   private ITreeNode m_lastSeenDropNode;
   private IContributionOwner m_contributionHolder;
   private List<IMenu> m_currentNodeMenus;
+  private Map<Object, Object> m_nodesByPrimaryKey; // node or set of nodes sharing the key, null if the index is disabled
 
   public AbstractTree() {
     this(true);
@@ -413,6 +414,18 @@ public abstract class AbstractTree extends AbstractWidget implements ITree, ICon
     return CheckableStyle.CHECKBOX_TREE_NODE;
   }
 
+  /**
+   * Configures whether the tree maintains an index of its nodes by primary key. If enabled, {@link #findNode(Object)}
+   * and {@link #findNodes(Collection)} do not need to visit the whole tree, which is recommended for large trees.
+   * <p>
+   * Subclasses can override this method. The default is false.
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(160)
+  protected boolean getConfiguredPrimaryKeyIndexEnabled() {
+    return false;
+  }
+
   private List<Class<? extends IKeyStroke>> getConfiguredKeyStrokes() {
     Class<?>[] dca = ConfigurationUtility.getDeclaredPublicClasses(getClass());
     List<Class<IKeyStroke>> fca = ConfigurationUtility.filterClasses(dca, IKeyStroke.class);
@@ -583,6 +596,7 @@ public abstract class AbstractTree extends AbstractWidget implements ITree, ICon
     setLazyExpandingEnabled(getConfiguredLazyExpandingEnabled());
     setDisplayStyle(getConfiguredDisplayStyle());
     setToggleBreadcrumbStyleEnabled(getConfiguredToggleBreadcrumbStyleEnabled());
+    setPrimaryKeyIndexEnabled(getConfiguredPrimaryKeyIndexEnabled());
     setRootNode(new AbstractTreeNode() {
     });
     // add Convenience observer for drag & drop callbacks and event history
@@ -1054,6 +1068,78 @@ public abstract class AbstractTree extends AbstractWidget implements ITree, ICon
     setKeyStrokesInternal(m_baseKeyStrokes);
   }
 
+  @Override
+  public boolean isPrimaryKeyIndexEnabled() {
+    return m_nodesByPrimaryKey != null;
+  }
+
+  @Override
+  public void setPrimaryKeyIndexEnabled(boolean enabled) {
+    if (enabled == isPrimaryKeyIndexEnabled()) {
+      return;
+    }
+    if (!enabled) {
+      m_nodesByPrimaryKey = null;
+      return;
+    }
+    m_nodesByPrimaryKey = new HashMap<>();
+    if (getRootNode() != null) {
+      CollectingVisitor<ITreeNode> v = new CollectingVisitor<>();
+      visitNode(getRootNode(), v);
+      v.getCollection().forEach(this::indexNode);
+    }
+  }
+
+  /**
+   * Adds the node to the primary key index. Called when a node is attached to this tree or its primary key changes.
+   */
+  void indexNode(ITreeNode node) {
+    Object key = node.getPrimaryKey();
+    if (m_nodesByPrimaryKey == null || key == null) {
+      return;
+    }
+    Object existing = m_nodesByPrimaryKey.get(key);
+    if (existing == null || existing == node) {
+      m_nodesByPrimaryKey.put(key, node);
+    }
+    else if (existing instanceof P_AmbiguousPrimaryKey) {
+      ((P_AmbiguousPrimaryKey) existing).m_nodes.add(node);
+    }
+    else {
+      // several nodes with the same primary key: find them by visiting the tree
+      P_AmbiguousPrimaryKey ambiguous = new P_AmbiguousPrimaryKey();
+      ambiguous.m_nodes.add((ITreeNode) existing);
+      ambiguous.m_nodes.add(node);
+      m_nodesByPrimaryKey.put(key, ambiguous);
+    }
+  }
+
+  /**
+   * Removes the node from the primary key index. Called when a node is detached from this tree or before its primary
+   * key changes.
+   */
+  void unindexNode(ITreeNode node) {
+    Object key = node.getPrimaryKey();
+    if (m_nodesByPrimaryKey == null || key == null) {
+      return;
+    }
+    Object existing = m_nodesByPrimaryKey.get(key);
+    if (existing == node) {
+      m_nodesByPrimaryKey.remove(key);
+    }
+    else if (existing instanceof P_AmbiguousPrimaryKey) {
+      Set<ITreeNode> nodes = ((P_AmbiguousPrimaryKey) existing).m_nodes;
+      nodes.remove(node);
+      if (nodes.size() == 1) {
+        // no longer ambiguous
+        m_nodesByPrimaryKey.put(key, CollectionUtility.firstElement(nodes));
+      }
+      else if (nodes.isEmpty()) {
+        m_nodesByPrimaryKey.remove(key);
+      }
+    }
+  }
+
   @Override
   public ITreeNode findNode(Object primaryKey) {
     Collection<ITreeNode> a = findNodes(CollectionUtility.hashSet(primaryKey));
@@ -1071,7 +1157,34 @@ public abstract class AbstractTree extends AbstractWidget implements ITree, ICon
       return CollectionUtility.emptyArrayList();
     }
 
-    final Set<Object> keySet = new HashSet<>(primaryKeys);
+    if (m_nodesByPrimaryKey != null) {
+      // nodes found in the index are returned in the order of the keys, followed by the nodes of the remaining keys
+      // (ambiguous or null), which are looked up by visiting the tree
+      List<ITreeNode> nodes = new ArrayList<>(primaryKeys.size());
+      Set<Object> seen = new HashSet<>();
+      Set<Object> keySet = new HashSet<>();
+      for (Object key : primaryKeys) {
+        if (!seen.add(key)) {
+          continue;
+        }
+        Object node = key != null ? m_nodesByPrimaryKey.get(key) : null;
+        if (node instanceof ITreeNode && ((ITreeNode) node).getTree() == this && key.equals(((ITreeNode) node).getPrimaryKey())) {
+          nodes.add((ITreeNode) node);
+        }
+        else if (key == null || node != null) {
+          keySet.add(key);
+        }
+        // else not in this tree
+      }
+      if (!keySet.isEmpty()) {
+        nodes.addAll(findNodesByVisiting(keySet));
+      }
+      return nodes;
+    }
+    return findNodesByVisiting(new HashSet<>(primaryKeys));
+  }
+
+  private List<ITreeNode> findNodesByVisiting(final Set<Object> keySet) {
     CollectingVisitor<ITreeNode> v = new CollectingVisitor<ITreeNode>() {
 
       @Override
@@ -2722,6 +2835,13 @@ public abstract class AbstractTree extends AbstractWidget implements ITree, ICon
     }
   }// end private class
 
+  /**
+   * Entry of the primary key index for a key shared by several nodes.
+   */
+  private static final class P_AmbiguousPrimaryKey {
+    private final Set<ITreeNode> m_nodes = new HashSet<>();
+  }
+
   /*
    * UI Notifications
    */
@@ -687,7 +687,13 @@ public abstract class AbstractTreeNode implements ITreeNode, ICellObserver, ICon
 
   @Override
   public void setPrimaryKey(Object key) {
+    if (m_tree instanceof AbstractTree) {
+      ((AbstractTree) m_tree).unindexNode(this);
+    }
     m_primaryKey = key;
+    if (m_tree instanceof AbstractTree) {
+      ((AbstractTree) m_tree).indexNode(this);
+    }
   }
 
   @Override
@@ -1065,6 +1071,14 @@ public abstract class AbstractTreeNode implements ITreeNode, ICellObserver, ICon
    */
   @Override
   public void setTreeInternal(ITree tree, boolean includeSubtree) {
+    if (m_tree != tree) {
+      if (m_tree instanceof AbstractTree) {
+        ((AbstractTree) m_tree).unindexNode(this);
+      }
+      if (tree instanceof AbstractTree) {
+        ((AbstractTree) tree).indexNode(this);
+      }
+    }
     m_tree = tree;
     if (m_tree != null && isExpanded()) {
       m_tree.setNodeExpandedInternal(this, true, isLazyExpandingEnabled());
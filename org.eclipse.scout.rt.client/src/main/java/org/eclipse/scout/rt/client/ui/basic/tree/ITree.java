@@ -152,6 +152,22 @@ public interface ITree extends IWidget, IDNDSupport, IStyleable, IAppLinkCapable
 
   List<ITreeNode> findNodes(Collection<?> primaryKeys);
 
+  /**
+   * @return true if the tree maintains an index of its nodes by primary key, used by {@link #findNode(Object)} and
+   *         {@link #findNodes(Collection)}
+   * @since 11.0
+   */
+  default boolean isPrimaryKeyIndexEnabled() {
+    return false;
+  }
+
+  /**
+   * @see #isPrimaryKeyIndexEnabled()
+   * @since 11.0
+   */
+  default void setPrimaryKeyIndexEnabled(boolean enabled) {
+  }
+
   boolean isRootNodeVisible();
 
   void setRootNodeVisible(boolean rootNodeVisible);
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
+import org.eclipse.scout.rt.mom.api.IDestination.ResolveMethod;
+import org.eclipse.scout.rt.mom.api.MOM;
+import org.eclipse.scout.rt.mom.api.marshaller.ObjectMarshaller;
+import org.eclipse.scout.rt.mom.jms.internal.ISessionPoolStats;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IgnoreBean;
+import org.eclipse.scout.rt.platform.Replace;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
+import org.eclipse.scout.rt.testing.platform.testcategory.SlowTest;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(SlowTest.class)
+public class JmsMomWithSessionPoolTest extends AbstractJmsMomTest {
+
+  private static final int POOL_SIZE = 2;
+
+  public JmsMomWithSessionPoolTest(AbstractJmsMomTestParameter parameter) {
+    super(parameter);
+  }
+
+  @Test
+  public void testPublishReusesSession() throws InterruptedException {
+    Assume.assumeFalse(J2eeJmsMomImplementor.class.isAssignableFrom(m_testParameter.getImplementor()));
+    FixtureMomWithSessionPool mom = installMom(FixtureMomWithSessionPool.class);
+
+    IDestination<String> queue = MOM.newDestination("test/mom/testPublishReusesSession", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_disposables.add(MOM.registerMarshaller(FixtureMom.class, queue, BEANS.get(ObjectMarshaller.class)));
+    final CountDownLatch latch = new CountDownLatch(10);
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, message -> latch.countDown()));
+
+    for (int i = 0; i < 10; i++) {
+      MOM.publish(FixtureMom.class, queue, "message-" + i);
+    }
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+    ISessionPoolStats stats = mom.getSessionPoolStats();
+    assertEquals(1, stats.createdSessions());
+    assertEquals(10, stats.borrowedSessions());
+    assertEquals(0, stats.discardedSessions());
+    assertEquals(1, stats.idleSessions());
+  }
+
+  @Test
+  public void testConcurrentPublishIsBounded() throws InterruptedException {
+    Assume.assumeFalse(J2eeJmsMomImplementor.class.isAssignableFrom(m_testParameter.getImplementor()));
+    FixtureMomWithSessionPool mom = installMom(FixtureMomWithSessionPool.class);
+
+    IDestination<String> queue = MOM.newDestination("test/mom/testConcurrentPublishIsBounded", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_disposables.add(MOM.registerMarshaller(FixtureMom.class, queue, BEANS.get(ObjectMarshaller.class)));
+    final int messageCount = 100;
+    final CountDownLatch latch = new CountDownLatch(messageCount);
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, message -> latch.countDown()));
+
+    List<IFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < messageCount; i++) {
+      final String message = "message-" + i;
+      futures.add(Jobs.schedule((IRunnable) () -> MOM.publish(FixtureMom.class, queue, message), Jobs.newInput()));
+    }
+    for (IFuture<Void> future : futures) {
+      future.awaitDoneAndGet();
+    }
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+    ISessionPoolStats stats = mom.getSessionPoolStats();
+    assertEquals(messageCount, stats.borrowedSessions());
+    assertTrue(stats.idleSessions() <= POOL_SIZE);
+    assertEquals(stats.createdSessions() - stats.idleSessions(), stats.discardedSessions());
+  }
+
+  @IgnoreBean
+  @Replace
+  public static class FixtureMomWithSessionPool extends FixtureMom {
+
+    public FixtureMomWithSessionPool(AbstractJmsMomTestParameter parameter) {
+      super(parameter);
+    }
+
+    @Override
+    protected Map<Object, Object> lookupEnvironment() {
+      Map<Object, Object> env = super.lookupEnvironment();
+      env.put(JmsMomImplementor.JMS_SESSION_POOL_SIZE, POOL_SIZE);
+      return env;
+    }
+
+    public ISessionPoolStats getSessionPoolStats() {
+      return ((JmsMomImplementor) getImplementor()).getSessionPoolStats();
+    }
+  }
+}
@@ -21,6 +21,7 @@ import org.eclipse.scout.rt.mom.api.IDestination;
 import org.eclipse.scout.rt.mom.api.IMom;
 import org.eclipse.scout.rt.mom.api.PublishInput;
 import org.eclipse.scout.rt.mom.jms.internal.JmsConnectionWrapper;
+import org.eclipse.scout.rt.mom.jms.internal.JmsSessionProviderPool;
 
 /**
  * Implementation of 'instance-scoped' {@link IMom} based on JMS (Java Messaging Standard).
@@ -59,6 +60,12 @@ public class J2eeJmsMomImplementor extends JmsMomImplementor {
     return new JmsSessionProviderWithConnection(connection, session, jmsDestination);
   }
 
+  @Override
+  protected JmsSessionProviderPool createSessionPool(final Map<Object, Object> properties) {
+    // sessions are not pooled, the shared connection is locked while publishing
+    return null;
+  }
+
   @Override
   protected <DTO> void publishNonTransactional(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) throws JMSException {
     // this publish method uses the shared connection
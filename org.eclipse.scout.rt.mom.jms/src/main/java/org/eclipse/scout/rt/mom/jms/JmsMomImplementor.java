@@ -54,7 +54,9 @@ import org.eclipse.scout.rt.mom.api.PublishInput;
 import org.eclipse.scout.rt.mom.api.SubscribeInput;
 import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
 import org.eclipse.scout.rt.mom.api.marshaller.TextMarshaller;
+import org.eclipse.scout.rt.mom.jms.internal.ISessionPoolStats;
 import org.eclipse.scout.rt.mom.jms.internal.JmsConnectionWrapper;
+import org.eclipse.scout.rt.mom.jms.internal.JmsSessionProviderPool;
 import org.eclipse.scout.rt.mom.jms.internal.JmsSessionProviderWrapper;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
@@ -128,6 +130,14 @@ public class JmsMomImplementor implements IMomImplementor {
    */
   public static final String JMS_REQUEST_CANCELLATION_MESSAGE_CONSUMER_JOB_RECEIVE_TIMEOUT = "scout.mom.jms.requestCancellationMessageConsumerJobReceiveTimeout";
 
+  /**
+   * Key to set the maximum number of idle sessions kept to publish non-transactional messages (see
+   * {@link JmsSessionProviderPool}). The default value is 0 which creates a new session for every published message.
+   * <p>
+   * <b>Value type:</b> {@link Integer}
+   */
+  public static final String JMS_SESSION_POOL_SIZE = "scout.mom.jms.sessionPoolSize";
+
   protected final String m_momUid = UUID.randomUUID().toString();
 
   // init -> thread-safety: only set in init method
@@ -138,6 +148,7 @@ public class JmsMomImplementor implements IMomImplementor {
   protected String m_clientId;
 
   protected JmsConnectionWrapper m_connectionWrapper;
+  protected JmsSessionProviderPool m_sessionPool;
   protected boolean m_requestReplyEnabled;
   protected IDestination<?> m_requestReplyCancellationTopic;
   protected IMarshaller m_defaultMarshaller;
@@ -168,6 +179,7 @@ public class JmsMomImplementor implements IMomImplementor {
       m_connectionFactory = createConnectionFactory(properties);
       m_clientId = computeClientId(properties);
       m_connectionWrapper = createConnectionWrapper(properties);
+      m_sessionPool = createSessionPool(properties);
 
       m_defaultMarshaller = createDefaultMarshaller(properties);
       m_messageHandler = createMessageHandler(properties);
@@ -193,6 +205,26 @@ public class JmsMomImplementor implements IMomImplementor {
         .withConnectionFunction(this::createConnection);
   }
 
+  /**
+   * @return pool of sessions used to publish non-transactional messages or <code>null</code> if disabled
+   */
+  protected JmsSessionProviderPool createSessionPool(final Map<Object, Object> properties) {
+    int poolSize = NumberUtility.nvl(TypeCastUtility.castValue(properties.get(JMS_SESSION_POOL_SIZE), Integer.class), 0);
+    if (poolSize <= 0) {
+      return null;
+    }
+    return new JmsSessionProviderPool(poolSize, () -> createSessionProvider(null, false));
+  }
+
+  /**
+   * @return statistics of the session pool used to publish non-transactional messages or <code>null</code> if the pool
+   *         is disabled (see {@link #JMS_SESSION_POOL_SIZE})
+   */
+  public ISessionPoolStats getSessionPoolStats() {
+    JmsSessionProviderPool sessionPool = m_sessionPool;
+    return sessionPool != null ? sessionPool.getStats() : null;
+  }
+
   @SuppressWarnings("RedundantThrows")
   protected void initRequestReply(final Map<Object, Object> properties) throws JMSException {//NOSONAR
     m_requestReplyEnabled = BooleanUtility.nvl(
@@ -314,6 +346,11 @@ public class JmsMomImplementor implements IMomImplementor {
   }
 
   protected <DTO> void publishNonTransactional(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) throws JMSException {
+    final JmsSessionProviderPool sessionPool = m_sessionPool;
+    if (sessionPool != null) {
+      publishNonTransactional(sessionPool, destination, transferObject, input);
+      return;
+    }
     IJmsSessionProvider sessionProvider = createSessionProvider(destination, false);
     try {
       send(sessionProvider, destination, transferObject, input);
@@ -323,6 +360,21 @@ public class JmsMomImplementor implements IMomImplementor {
     }
   }
 
+  /**
+   * Publishes using a pooled session. The session is discarded instead of returned to the pool if sending failed.
+   */
+  protected <DTO> void publishNonTransactional(final JmsSessionProviderPool sessionPool, final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) throws JMSException {
+    IJmsSessionProvider sessionProvider = sessionPool.borrow();
+    boolean success = false;
+    try {
+      send(sessionProvider, destination, transferObject, input);
+      success = true;
+    }
+    finally {
+      sessionPool.release(sessionProvider, success);
+    }
+  }
+
   protected <DTO> void publishTransactional(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) throws JMSException {
     final ITransaction currentTransaction = assertNotNull(ITransaction.CURRENT.get(), "Transaction required for transactional messaging");
 
@@ -563,6 +615,16 @@ public class JmsMomImplementor implements IMomImplementor {
             .toFilter(), false);
       }
 
+      // close pooled sessions
+      if (m_sessionPool != null) {
+        try {
+          m_sessionPool.close();
+        }
+        finally {
+          m_sessionPool = null;
+        }
+      }
+
       // close connection
       if (m_connectionWrapper != null) {
         try {
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+/**
+ * Statistics of a {@link JmsSessionProviderPool}, used for monitoring and unit testing
+ *
+ * @since 11.0
+ */
+public interface ISessionPoolStats {
+
+  /**
+   * @return the number of session providers created by the pool
+   */
+  long createdSessions();
+
+  /**
+   * @return the number of session providers handed out by the pool, including newly created ones
+   */
+  long borrowedSessions();
+
+  /**
+   * @return the number of session providers closed instead of being returned to the pool because they failed, were
+   *         closed or the pool was full
+   */
+  long discardedSessions();
+
+  /**
+   * @return the number of session providers currently idle in the pool
+   */
+  int idleSessions();
+}
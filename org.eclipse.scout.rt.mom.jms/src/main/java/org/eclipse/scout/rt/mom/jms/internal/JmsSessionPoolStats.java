@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @since 11.0
+ */
+public class JmsSessionPoolStats implements ISessionPoolStats {
+  private final AtomicLong m_createdCount = new AtomicLong();
+  private final AtomicLong m_borrowedCount = new AtomicLong();
+  private final AtomicLong m_discardedCount = new AtomicLong();
+  private final AtomicInteger m_idleCount = new AtomicInteger();
+
+  @Override
+  public long createdSessions() {
+    return m_createdCount.get();
+  }
+
+  @Override
+  public long borrowedSessions() {
+    return m_borrowedCount.get();
+  }
+
+  @Override
+  public long discardedSessions() {
+    return m_discardedCount.get();
+  }
+
+  @Override
+  public int idleSessions() {
+    return m_idleCount.get();
+  }
+
+  public void notifyCreate() {
+    m_createdCount.incrementAndGet();
+  }
+
+  public void notifyBorrow() {
+    m_borrowedCount.incrementAndGet();
+  }
+
+  public void notifyDiscard() {
+    m_discardedCount.incrementAndGet();
+  }
+
+  public void notifyIdleCount(int idleCount) {
+    m_idleCount.set(idleCount);
+  }
+
+  @Override
+  public String toString() {
+    return "JmsSessionPoolStats [created=" + m_createdCount + ", borrowed=" + m_borrowedCount + ", discarded=" + m_discardedCount + ", idle=" + m_idleCount + "]";
+  }
+}
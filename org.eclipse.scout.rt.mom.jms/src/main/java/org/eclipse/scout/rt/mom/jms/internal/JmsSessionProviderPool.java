@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import javax.jms.JMSException;
+
+import org.eclipse.scout.rt.mom.jms.IJmsSessionProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of non-transacted {@link IJmsSessionProvider}s used to publish messages without creating a new JMS
+ * session and producer for every message.
+ * <p>
+ * At most {@code maxIdle} session providers are kept. If more session providers are in use concurrently, additional
+ * ones are created and closed when released. Session providers which failed or are closing are discarded. Reconnects
+ * are handled by the session providers themselves (see {@link JmsSessionProviderWrapper}).
+ *
+ * @since 11.0
+ */
+public class JmsSessionProviderPool {
+  private static final Logger LOG = LoggerFactory.getLogger(JmsSessionProviderPool.class);
+
+  private final int m_maxIdle;
+  private final ISessionProviderFactory m_factory;
+  private final JmsSessionPoolStats m_stats = new JmsSessionPoolStats();
+  private final Deque<IJmsSessionProvider> m_idle = new ArrayDeque<>(); // guarded by this
+  private boolean m_closed; // guarded by this
+
+  public JmsSessionProviderPool(int maxIdle, ISessionProviderFactory factory) {
+    m_maxIdle = maxIdle;
+    m_factory = factory;
+  }
+
+  public int getMaxIdle() {
+    return m_maxIdle;
+  }
+
+  /**
+   * @return an idle session provider of the pool or a new one. Must be released with
+   *         {@link #release(IJmsSessionProvider, boolean)}.
+   */
+  public IJmsSessionProvider borrow() throws JMSException {
+    while (true) {
+      IJmsSessionProvider sessionProvider;
+      synchronized (this) {
+        sessionProvider = m_idle.pollFirst();
+        m_stats.notifyIdleCount(m_idle.size());
+      }
+      if (sessionProvider == null) {
+        break;
+      }
+      if (!sessionProvider.isClosing()) {
+        m_stats.notifyBorrow();
+        return sessionProvider;
+      }
+      // health check: provider was closed in the meantime
+      m_stats.notifyDiscard();
+    }
+
+    IJmsSessionProvider sessionProvider = m_factory.create();
+    m_stats.notifyCreate();
+    m_stats.notifyBorrow();
+    return sessionProvider;
+  }
+
+  /**
+   * Returns the session provider to the pool or closes it.
+   *
+   * @param healthy
+   *          <code>false</code> if using the session provider failed, it is closed instead of being returned to the pool
+   */
+  public void release(IJmsSessionProvider sessionProvider, boolean healthy) {
+    if (sessionProvider == null) {
+      return;
+    }
+    if (healthy && !sessionProvider.isClosing()) {
+      synchronized (this) {
+        if (!m_closed && m_idle.size() < m_maxIdle) {
+          // most recently used first, keeps the remaining ones idle
+          m_idle.addFirst(sessionProvider);
+          m_stats.notifyIdleCount(m_idle.size());
+          return;
+        }
+      }
+    }
+    m_stats.notifyDiscard();
+    closeSessionProvider(sessionProvider);
+  }
+
+  /**
+   * Closes all idle session providers. Session providers released afterwards are closed as well.
+   */
+  public void close() {
+    List<IJmsSessionProvider> idle;
+    synchronized (this) {
+      m_closed = true;
+      idle = new ArrayList<>(m_idle);
+      m_idle.clear();
+      m_stats.notifyIdleCount(0);
+    }
+    for (IJmsSessionProvider sessionProvider : idle) {
+      closeSessionProvider(sessionProvider);
+    }
+  }
+
+  protected void closeSessionProvider(IJmsSessionProvider sessionProvider) {
+    try {
+      sessionProvider.close();
+    }
+    catch (RuntimeException e) {
+      LOG.warn("Failed to close session provider {}", sessionProvider, e);
+    }
+  }
+
+  public ISessionPoolStats getStats() {
+    return m_stats;
+  }
+
+  @FunctionalInterface
+  public interface ISessionProviderFactory {
+    IJmsSessionProvider create() throws JMSException;
+  }
+}
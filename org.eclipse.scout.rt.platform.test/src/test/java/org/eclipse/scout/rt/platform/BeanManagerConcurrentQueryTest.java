@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2010-2020 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.scout.rt.platform.internal.BeanManagerImplementor;
+import org.junit.Test;
+
+/**
+ * Verifies the lock-free read path of {@link BeanManagerImplementor} while beans are registered and unregistered
+ * concurrently.
+ */
+public class BeanManagerConcurrentQueryTest {
+
+  private static final int READER_COUNT = 16;
+  private static final int WRITE_ITERATIONS = 2000;
+
+  @Test
+  public void testQueryAfterRegisterAndUnregister() {
+    BeanManagerImplementor context = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+    assertNull(context.optBean(BaseClass.class));
+
+    IBean<BaseClass> base = context.registerClass(BaseClass.class);
+    assertSame(base, context.getBean(BaseClass.class));
+    assertSame(base, context.getBean(IFixture.class));
+
+    IBean<ReplacingClass> replacing = context.registerClass(ReplacingClass.class);
+    assertSame(replacing, context.getBean(BaseClass.class));
+    assertEquals(1, context.getBeans(IFixture.class).size());
+
+    context.unregisterBean(replacing);
+    assertSame(base, context.getBean(BaseClass.class));
+
+    context.unregisterBean(base);
+    assertNull(context.optBean(BaseClass.class));
+    assertTrue(context.getBeans(IFixture.class).isEmpty());
+  }
+
+  @Test
+  public void testConcurrentQueries() throws Exception {
+    final BeanManagerImplementor context = new BeanManagerImplementor(new SimpleBeanDecorationFactory());
+    final IBean<BaseClass> base = context.registerClass(BaseClass.class);
+
+    ExecutorService executor = Executors.newFixedThreadPool(READER_COUNT);
+    try {
+      final AtomicBoolean running = new AtomicBoolean(true);
+      final CountDownLatch started = new CountDownLatch(READER_COUNT);
+      List<Future<?>> readers = new ArrayList<>();
+      for (int i = 0; i < READER_COUNT; i++) {
+        readers.add(executor.submit(() -> {
+          started.countDown();
+          while (running.get()) {
+            // BaseClass is either replaced or not, but a bean must always be found
+            IBean<BaseClass> bean = context.getBean(BaseClass.class);
+            assertTrue(bean == base || bean.getBeanClazz() == ReplacingClass.class);
+            assertEquals(1, context.getBeans(IFixture.class).size());
+          }
+        }));
+      }
+      assertTrue(started.await(30, TimeUnit.SECONDS));
+
+      for (int i = 0; i < WRITE_ITERATIONS; i++) {
+        IBean<ReplacingClass> replacing = context.registerClass(ReplacingClass.class);
+        context.unregisterBean(replacing);
+      }
+      running.set(false);
+
+      for (Future<?> reader : readers) {
+        reader.get(30, TimeUnit.SECONDS); // propagates assertion errors of readers
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+    assertSame(base, context.getBean(BaseClass.class));
+  }
+
+  private interface IFixture {
+  }
+
+  private static class BaseClass implements IFixture {
+  }
+
+  @Replace
+  private static class ReplacingClass extends BaseClass {
+  }
+}
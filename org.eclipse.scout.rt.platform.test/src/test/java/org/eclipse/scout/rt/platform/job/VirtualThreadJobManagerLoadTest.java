@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job;
+
+import static org.junit.Assert.*;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.job.internal.JobManager;
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
+import org.eclipse.scout.rt.platform.job.internal.VirtualThreadFactory;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs jobs on virtual threads (see {@link VirtualThreadFactory}). Skipped if the JVM does not support virtual threads.
+ */
+@Category(ResourceIntensiveTest.class) // blocks 50k virtual threads
+@RunWith(PlatformTestRunner.class)
+public class VirtualThreadJobManagerLoadTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadJobManagerLoadTest.class);
+
+  private static final String JOB_IDENTIFIER = UUID.randomUUID().toString();
+  private static final int BLOCKED_JOB_COUNT = 50_000;
+
+  private IBean<IJobManager> m_jobManagerBean;
+
+  @Before
+  public void before() {
+    Assume.assumeTrue("virtual threads not supported", VirtualThreadFactory.isSupported());
+    m_jobManagerBean = JobTestUtil.replaceCurrentJobManager(new JobManager() {
+      @Override
+      protected ExecutorService createExecutor() {
+        return createVirtualThreadExecutor(60, createRejectedExecutionHandler());
+      }
+    });
+  }
+
+  @After
+  public void after() {
+    if (m_jobManagerBean != null) {
+      JobTestUtil.unregisterAndShutdownJobManager(m_jobManagerBean);
+    }
+  }
+
+  @Test(timeout = 60_000)
+  public void testBlockedJobs() throws InterruptedException {
+    Predicate<IFuture<?>> filter = Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(JOB_IDENTIFIER)
+        .toFilter();
+
+    final CountDownLatch running = new CountDownLatch(BLOCKED_JOB_COUNT);
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger done = new AtomicInteger();
+
+    Runtime runtime = Runtime.getRuntime();
+    long memoryBefore = runtime.totalMemory() - runtime.freeMemory();
+    long start = System.nanoTime();
+    for (int i = 0; i < BLOCKED_JOB_COUNT; i++) {
+      Jobs.schedule(() -> {
+        running.countDown();
+        release.await();
+        done.incrementAndGet();
+      }, Jobs.newInput()
+          .withExecutionHint(JOB_IDENTIFIER));
+    }
+
+    assertTrue("not all jobs are running", running.await(30, TimeUnit.SECONDS));
+    long startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    long memoryBlocked = runtime.totalMemory() - runtime.freeMemory();
+    LOG.info("{} blocked jobs running after {}ms ({} jobs/s), heap usage increased by {}KB",
+        BLOCKED_JOB_COUNT, startupMillis, BLOCKED_JOB_COUNT * 1000L / Math.max(1, startupMillis), (memoryBlocked - memoryBefore) / 1024);
+
+    release.countDown();
+    try {
+      Jobs.getJobManager().awaitDone(filter, 30, TimeUnit.SECONDS);
+    }
+    catch (TimedOutError e) {
+      Jobs.getJobManager().cancel(filter, true);
+      fail("Releasing 50'000 blocked jobs took longer than 30s");
+    }
+    assertEquals(BLOCKED_JOB_COUNT, done.get());
+  }
+
+  @Test
+  public void testExecutionSemaphore() {
+    Predicate<IFuture<?>> filter = Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(JOB_IDENTIFIER)
+        .toFilter();
+
+    IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(5);
+    final AtomicInteger concurrent = new AtomicInteger();
+    final AtomicInteger maxConcurrent = new AtomicInteger();
+    for (int i = 0; i < 1000; i++) {
+      Jobs.schedule(() -> {
+        maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+        Thread.sleep(1);
+        concurrent.decrementAndGet();
+      }, Jobs.newInput()
+          .withExecutionHint(JOB_IDENTIFIER)
+          .withExecutionSemaphore(semaphore));
+    }
+
+    Jobs.getJobManager().awaitDone(filter, 30, TimeUnit.SECONDS);
+    assertTrue(maxConcurrent.get() <= 5);
+  }
+
+  @Test
+  public void testCancel() throws InterruptedException {
+    final CountDownLatch running = new CountDownLatch(1);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    IFuture<Void> future = Jobs.schedule(() -> {
+      running.countDown();
+      try {
+        new CountDownLatch(1).await();
+      }
+      catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+    }, Jobs.newInput()
+        .withExceptionHandling(null, false));
+
+    assertTrue(running.await(30, TimeUnit.SECONDS));
+    assertTrue(future.cancel(true));
+    future.awaitDone(30, TimeUnit.SECONDS);
+    assertTrue(future.isCancelled());
+    // the job is done as soon as it is cancelled, which may be before the interrupted thread has run the catch block
+    assertTrue(interrupted.await(30, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testThreadName() {
+    final AtomicReference<String> threadName = new AtomicReference<>();
+    final AtomicReference<ThreadInfo> threadInfo = new AtomicReference<>();
+    Jobs.schedule(() -> {
+      threadName.set(Thread.currentThread().getName());
+      threadInfo.set(ThreadInfo.CURRENT.get());
+    }, Jobs.newInput()
+        .withName("virtual-job"))
+        .awaitDone(30, TimeUnit.SECONDS);
+
+    assertNotNull(threadInfo.get());
+    assertTrue(threadName.get(), threadName.get().startsWith("scout-thread-"));
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.serialization;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link CompactObjectSerializer}
+ */
+@RunWith(PlatformTestRunner.class)
+public class CompactObjectSerializerTest {
+
+  @Test
+  public void testRoundTrip() throws IOException, ClassNotFoundException {
+    Map<String, Object> map = new HashMap<>();
+    map.put("list", new ArrayList<>(Arrays.asList(1L, 2, "three", new BigDecimal("4.5"))));
+    map.put("enum", TimeUnit.SECONDS);
+    map.put("types", new Class<?>[]{long.class, String.class, int[].class});
+    map.put("bean", new TestBean("a", 1, new long[]{1, 2, 3}));
+
+    CompactObjectSerializer serializer = createSerializer();
+    @SuppressWarnings("unchecked")
+    Map<String, Object> copy = serializer.deserialize(serializer.serialize(map), Map.class);
+    assertEquals(map.get("list"), copy.get("list"));
+    assertEquals(TimeUnit.SECONDS, copy.get("enum"));
+    assertArrayEquals((Object[]) map.get("types"), (Object[]) copy.get("types"));
+    assertEquals(map.get("bean"), copy.get("bean"));
+  }
+
+  @Test
+  public void testSmallerThanDefault() throws IOException {
+    List<TestBean> beans = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      beans.add(new TestBean("bean" + i, i, new long[]{i}));
+    }
+    int compactSize = createSerializer().serialize(beans).length;
+    int defaultSize = SerializationUtility.createObjectSerializer().serialize(beans).length;
+    assertTrue("compact: " + compactSize + ", default: " + defaultSize, compactSize < defaultSize);
+  }
+
+  @Test(expected = ProcessingException.class)
+  public void testBlacklist() throws IOException, ClassNotFoundException {
+    CompactObjectSerializer serializer = createSerializer();
+    byte[] bytes = serializer.serialize(Arrays.asList(123L, new AtomicLong(123)));
+    serializer
+        .withBlacklist(SerializationUtility.createBlacklistPolicy(Pattern.quote(AtomicLong.class.getName())))
+        .deserialize(bytes, List.class);
+  }
+
+  @Test(expected = ProcessingException.class)
+  public void testWhitelist() throws IOException, ClassNotFoundException {
+    CompactObjectSerializer serializer = createSerializer();
+    byte[] bytes = serializer.serialize(new TestBean("a", 1, null));
+    serializer
+        .withWhitelist(SerializationUtility.createWhitelistPolicy("java\\..*"))
+        .deserialize(bytes, TestBean.class);
+  }
+
+  @Test(expected = IOException.class)
+  public void testDifferentDictionary() throws IOException, ClassNotFoundException {
+    byte[] bytes = createSerializer().serialize(new ArrayList<>(Arrays.asList(1L, 2L)));
+    new CompactObjectSerializer(null, Collections.singletonList(ArrayList.class)).deserialize(bytes, List.class);
+  }
+
+  protected CompactObjectSerializer createSerializer() {
+    return new CompactObjectSerializer(null, Arrays.asList(ArrayList.class, HashMap.class, Number.class, Long.class, Integer.class, TestBean.class));
+  }
+
+  public static class TestBean implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String m_name;
+    private final int m_count;
+    private final long[] m_values;
+
+    public TestBean(String name, int count, long[] values) {
+      m_name = name;
+      m_count = count;
+      m_values = values;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof TestBean)) {
+        return false;
+      }
+      TestBean other = (TestBean) obj;
+      return m_name.equals(other.m_name) && m_count == other.m_count && Arrays.equals(m_values, other.m_values);
+    }
+
+    @Override
+    public int hashCode() {
+      return m_name.hashCode() ^ m_count;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class FrequencySketchTest {
+
+  @Test
+  public void testFrequency() {
+    FrequencySketch sketch = new FrequencySketch(64);
+    assertEquals(0, sketch.frequency("a"));
+
+    for (int i = 0; i < 5; i++) {
+      sketch.increment("a");
+    }
+    sketch.increment("b");
+    assertEquals(5, sketch.frequency("a"));
+    assertEquals(1, sketch.frequency("b"));
+    assertEquals(0, sketch.frequency("c"));
+  }
+
+  @Test
+  public void testFrequencySaturates() {
+    FrequencySketch sketch = new FrequencySketch(64);
+    for (int i = 0; i < 100; i++) {
+      sketch.increment("a");
+    }
+    assertEquals(15, sketch.frequency("a"));
+  }
+
+  @Test
+  public void testAging() {
+    FrequencySketch sketch = new FrequencySketch(16);
+    for (int i = 0; i < 8; i++) {
+      sketch.increment("a");
+    }
+    // 160 accesses trigger halving of all frequencies
+    for (int i = 0; i < 160; i++) {
+      sketch.increment("x" + i);
+    }
+    assertTrue(sketch.frequency("a") < 8);
+  }
+
+  @Test
+  public void testClear() {
+    FrequencySketch sketch = new FrequencySketch(64);
+    sketch.increment("a");
+    sketch.clear();
+    assertEquals(0, sketch.frequency("a"));
+  }
+}
@@ -241,6 +241,29 @@ public final class PlatformConfigProperties {
     }
   }
 
+  public static class JobManagerVirtualThreadsProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.virtualThreads";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Specifies whether jobs should run on virtual threads instead of a pool of platform threads. Requires Java 21 or newer, otherwise the platform thread pool is used.\n"
+          + "If enabled, the properties '%s', '%s' and '%s' are ignored. The default value is false.",
+          BEANS.get(JobManagerCorePoolSizeProperty.class).getKey(),
+          BEANS.get(JobManagerMaximumPoolSizeProperty.class).getKey(),
+          BEANS.get(JobManagerPrestartCoreThreadsProperty.class).getKey());
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
   public static class DevelopmentTextsFileWatcherEnabledProperty extends AbstractBooleanConfigProperty {
 
     @Override
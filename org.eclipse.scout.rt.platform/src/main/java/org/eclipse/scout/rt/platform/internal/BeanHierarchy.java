@@ -20,8 +20,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.Order;
@@ -30,21 +28,22 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 
 /**
- * This class is not thread safe
+ * This class is not thread safe regarding modifications ({@link #addBean(IBean)}, {@link #removeBean(IBean)}). These
+ * must be guarded by the owner (see {@link BeanManagerImplementor}).
+ * <p>
+ * Query results are cached in an immutable snapshot which is published through a volatile field. Therefore
+ * {@link #getCachedQuery(boolean)} may be called without any lock.
  */
 public class BeanHierarchy<T> {
 
   private final Class<T> m_clazz;
   private final List<IBean<T>> m_beans;
-  private final ReadWriteLock m_queryCacheLock;
 
-  private List<IBean<T>> m_single;
-  private List<IBean<T>> m_all;
+  private volatile QuerySnapshot<T> m_querySnapshot;
 
   public BeanHierarchy(Class<T> clazz) {
     m_clazz = clazz;
     m_beans = new ArrayList<>();
-    m_queryCacheLock = new ReentrantReadWriteLock();
   }
 
   public Class<T> getClazz() {
@@ -98,15 +97,21 @@ public class BeanHierarchy<T> {
     return query(false);
   }
 
-  protected void invalidate() {
-    m_queryCacheLock.writeLock().lock();
-    try {
-      m_single = null;
-      m_all = null;
-    }
-    finally {
-      m_queryCacheLock.writeLock().unlock();
+  /**
+   * @return the cached result of {@link #querySingle()} (if {@code querySingle} is {@code true}) or {@link #queryAll()}
+   *         or {@code null} if the result has not been computed yet or was invalidated by a modification. This method
+   *         does not acquire any lock.
+   */
+  public List<IBean<T>> getCachedQuery(boolean querySingle) {
+    QuerySnapshot<T> snapshot = m_querySnapshot;
+    if (snapshot == null) {
+      return null;
     }
+    return querySingle ? snapshot.getSingle() : snapshot.getAll();
+  }
+
+  protected void invalidate() {
+    m_querySnapshot = null;
   }
 
   /**
@@ -132,104 +137,89 @@ public class BeanHierarchy<T> {
     return sorted;
   }
 
-  @SuppressWarnings({"unchecked", "squid:S1244" /* Floating point numbers should not be tested for equality */})
   protected List<IBean<T>> query(boolean querySingle) {
-    boolean isInitialized = false;
-    m_queryCacheLock.readLock().lock();
-    try {
-      isInitialized = m_single != null && m_all != null;
-    }
-    finally {
-      m_queryCacheLock.readLock().unlock();
+    QuerySnapshot<T> snapshot = m_querySnapshot;
+    if (snapshot == null) {
+      synchronized (this) {
+        snapshot = m_querySnapshot;
+        if (snapshot == null) {
+          snapshot = createQuerySnapshot();
+          m_querySnapshot = snapshot;
+        }
+      }
     }
+    return querySingle ? snapshot.getSingle() : snapshot.getAll();
+  }
 
-    if (!isInitialized) {
-      m_queryCacheLock.writeLock().lock();
-      try {
-        isInitialized = m_single != null && m_all != null;
-        if (!isInitialized) {
-          List<IBean<T>> list = sortedBeanCopy();
-          //manage replaced beans
-          final Map<Class<?>, IBean<?>> extendsMap = new HashMap<>();//key is replaced by value
-          for (IBean<T> bean : list) {
-            if (bean.hasAnnotation(Replace.class)) {
-              Assertions.assertFalse(bean.getBeanClazz().isInterface(), "@{} annotation not supported on interface: {}.", Replace.class.getSimpleName(), bean);
-              Class<?> superClazz = bean.getBeanClazz().getSuperclass();
-              Assertions.assertNotNull(superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
-              Assertions.assertNotEquals(Object.class, superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
-              Assertions.assertFalse(Modifier.isAbstract(superClazz.getModifiers()), "Cannot replace an abstract super class: {}. Delete this @{} annotation.", bean, Replace.class.getSimpleName());
-
-              IBean<?> existingBean = extendsMap.get(superClazz);
-              if (existingBean == null) {
-                //only add if first to override, respects @Order annotation
-                extendsMap.put(superClazz, bean);
-              }
-              else {
-                // there is no calculation performed on bean orders (typically these are literals).
-                // therefore we accept direct equality check without epsilon.
-                Assertions.assertFalse(orderOf(existingBean) == orderOf(bean),
-                    "Bean '{}' and '{}' replace the same super class and have identical orders. No unique result possible.",
-                    existingBean.getBeanClazz().getName(), bean.getBeanClazz().getName());
-              }
-            }
-          }
-
-          //find most specific version of @Replaced class
-          Class<T> refClazz = m_clazz;
-          while (extendsMap.containsKey(refClazz)) {
-            refClazz = (Class<T>) extendsMap.get(refClazz).getBeanClazz();
-          }
-
-          //remove replaced beans
-          list.removeIf(tiBean -> extendsMap.containsKey(tiBean.getBeanClazz()));
-
-          if (list.isEmpty()) {
-            m_all = Collections.emptyList();
-            m_single = Collections.emptyList();
-          }
-          else {
-            m_all = Collections.unmodifiableList(new ArrayList<>(list));
-
-            IBean<T> exactBean = getExactBean(list, refClazz);
-            if (exactBean != null) {
-              // we have an exact match: use it
-              m_single = Collections.singletonList(exactBean);
-            }
-            else if (!refClazz.isInterface() && !Modifier.isAbstract(refClazz.getModifiers())) {
-              // we queried an specific class (no interface, no abstract class): only exact beans are allowed but we don't have one.
-              m_single = Collections.emptyList();
-            }
-            else if (list.size() == 1) {
-              m_single = Collections.singletonList(list.get(0));
-            }
-            else {
-              //only retain lowest order and if lowest order is same for multiple beans, keep them all, provocating a multiple instance exception on querySingle
-              List<IBean<T>> lowestOrderBeans = new ArrayList<>(list.size());
-              Iterator<IBean<T>> iterator = list.iterator();
-
-              // first bean
-              IBean<T> curBean = iterator.next();
-              double lowestOrder = orderOf(curBean);
-              lowestOrderBeans.add(curBean);
-
-              // all others having the same order
-              while (iterator.hasNext() && orderOf(curBean = iterator.next()) == lowestOrder) {
-                lowestOrderBeans.add(curBean);
-              }
-              m_single = Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans));
-            }
-          }
+  @SuppressWarnings({"unchecked", "squid:S1244" /* Floating point numbers should not be tested for equality */})
+  protected QuerySnapshot<T> createQuerySnapshot() {
+    List<IBean<T>> list = sortedBeanCopy();
+    //manage replaced beans
+    final Map<Class<?>, IBean<?>> extendsMap = new HashMap<>();//key is replaced by value
+    for (IBean<T> bean : list) {
+      if (bean.hasAnnotation(Replace.class)) {
+        Assertions.assertFalse(bean.getBeanClazz().isInterface(), "@{} annotation not supported on interface: {}.", Replace.class.getSimpleName(), bean);
+        Class<?> superClazz = bean.getBeanClazz().getSuperclass();
+        Assertions.assertNotNull(superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
+        Assertions.assertNotEquals(Object.class, superClazz, "@{} annotation not supported for bean '{}' because it has no super class.", Replace.class.getSimpleName(), bean);
+        Assertions.assertFalse(Modifier.isAbstract(superClazz.getModifiers()), "Cannot replace an abstract super class: {}. Delete this @{} annotation.", bean, Replace.class.getSimpleName());
+
+        IBean<?> existingBean = extendsMap.get(superClazz);
+        if (existingBean == null) {
+          //only add if first to override, respects @Order annotation
+          extendsMap.put(superClazz, bean);
+        }
+        else {
+          // there is no calculation performed on bean orders (typically these are literals).
+          // therefore we accept direct equality check without epsilon.
+          Assertions.assertFalse(orderOf(existingBean) == orderOf(bean),
+              "Bean '{}' and '{}' replace the same super class and have identical orders. No unique result possible.",
+              existingBean.getBeanClazz().getName(), bean.getBeanClazz().getName());
         }
-      }
-      finally {
-        m_queryCacheLock.writeLock().unlock();
       }
     }
 
-    if (querySingle) {
-      return m_single;
+    //find most specific version of @Replaced class
+    Class<T> refClazz = m_clazz;
+    while (extendsMap.containsKey(refClazz)) {
+      refClazz = (Class<T>) extendsMap.get(refClazz).getBeanClazz();
+    }
+
+    //remove replaced beans
+    list.removeIf(tiBean -> extendsMap.containsKey(tiBean.getBeanClazz()));
+
+    if (list.isEmpty()) {
+      return new QuerySnapshot<>(Collections.emptyList(), Collections.emptyList());
     }
-    return m_all;
+
+    List<IBean<T>> all = Collections.unmodifiableList(new ArrayList<>(list));
+    IBean<T> exactBean = getExactBean(list, refClazz);
+    if (exactBean != null) {
+      // we have an exact match: use it
+      return new QuerySnapshot<>(Collections.singletonList(exactBean), all);
+    }
+    if (!refClazz.isInterface() && !Modifier.isAbstract(refClazz.getModifiers())) {
+      // we queried an specific class (no interface, no abstract class): only exact beans are allowed but we don't have one.
+      return new QuerySnapshot<>(Collections.emptyList(), all);
+    }
+    if (list.size() == 1) {
+      return new QuerySnapshot<>(Collections.singletonList(list.get(0)), all);
+    }
+
+    //only retain lowest order and if lowest order is same for multiple beans, keep them all, provocating a multiple instance exception on querySingle
+    List<IBean<T>> lowestOrderBeans = new ArrayList<>(list.size());
+    Iterator<IBean<T>> iterator = list.iterator();
+
+    // first bean
+    IBean<T> curBean = iterator.next();
+    double lowestOrder = orderOf(curBean);
+    lowestOrderBeans.add(curBean);
+
+    // all others having the same order
+    while (iterator.hasNext() && orderOf(curBean = iterator.next()) == lowestOrder) {
+      lowestOrderBeans.add(curBean);
+    }
+    return new QuerySnapshot<>(Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans)), all);
   }
 
   /**
@@ -260,4 +250,25 @@ public class BeanHierarchy<T> {
     }
     return IBean.DEFAULT_BEAN_ORDER;
   }
+
+  /**
+   * Immutable result of {@link BeanHierarchy#query(boolean)}.
+   */
+  protected static final class QuerySnapshot<T> {
+    private final List<IBean<T>> m_single;
+    private final List<IBean<T>> m_all;
+
+    protected QuerySnapshot(List<IBean<T>> single, List<IBean<T>> all) {
+      m_single = single;
+      m_all = all;
+    }
+
+    public List<IBean<T>> getSingle() {
+      return m_single;
+    }
+
+    public List<IBean<T>> getAll() {
+      return m_all;
+    }
+  }
 }
@@ -43,6 +43,11 @@ public class BeanManagerImplementor implements IBeanManager {
 
   private final ReentrantReadWriteLock m_lock;
   private final Map<Class<?>, BeanHierarchy> m_beanHierarchies;
+  /**
+   * Immutable copy of {@link #m_beanHierarchies} used by the lock-free read path. It is reset whenever a new hierarchy
+   * is added and rebuilt lazily by the next query.
+   */
+  private volatile Map<Class<?>, BeanHierarchy> m_beanHierarchiesSnapshot;
   private IBeanDecorationFactory m_beanDecorationFactory;
 
   public BeanManagerImplementor() {
@@ -64,41 +69,63 @@ public class BeanManagerImplementor implements IBeanManager {
   }
 
   protected <T> List<IBean<T>> querySingle(Class<T> beanClazz) {
-    m_lock.readLock().lock();
-    try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    return query(beanClazz, true);
+  }
+
+  protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
+    return query(beanClazz, false);
+  }
+
+  /**
+   * Queries the {@link BeanHierarchy} of the given class. If both the hierarchy snapshot and the query result of the
+   * hierarchy are available, no lock is acquired. Otherwise the query is computed under the read lock.
+   */
+  @SuppressWarnings("unchecked")
+  protected <T> List<IBean<T>> query(Class<T> beanClazz, boolean querySingle) {
+    checkAccess();
+    Map<Class<?>, BeanHierarchy> snapshot = m_beanHierarchiesSnapshot;
+    if (snapshot != null) {
+      BeanHierarchy<T> h = snapshot.get(beanClazz);
       if (h == null) {
         return Collections.emptyList();
       }
-      else {
-        List<IBean<T>> singleBean = h.querySingle();
-        return getDecoratedBeans(singleBean, beanClazz);
+      List<IBean<T>> beans = h.getCachedQuery(querySingle);
+      if (beans != null) {
+        return getDecoratedBeans(beans, beanClazz);
       }
     }
-    finally {
-      m_lock.readLock().unlock();
-    }
-  }
 
-  protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
     m_lock.readLock().lock();
     try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+      BeanHierarchy<T> h = getBeanHierarchiesSnapshot().get(beanClazz);
       if (h == null) {
         return Collections.emptyList();
       }
-      List<IBean<T>> allBeans = h.queryAll();
-      return getDecoratedBeans(allBeans, beanClazz);
+      List<IBean<T>> beans = querySingle ? h.querySingle() : h.queryAll();
+      return getDecoratedBeans(beans, beanClazz);
     }
     finally {
       m_lock.readLock().unlock();
     }
   }
 
+  /**
+   * Must be called while holding the read or write lock.
+   */
+  protected Map<Class<?>, BeanHierarchy> getBeanHierarchiesSnapshot() {
+    Map<Class<?>, BeanHierarchy> snapshot = m_beanHierarchiesSnapshot;
+    if (snapshot == null) {
+      synchronized (m_beanHierarchies) {
+        snapshot = m_beanHierarchiesSnapshot;
+        if (snapshot == null) {
+          snapshot = Collections.unmodifiableMap(new HashMap<>(m_beanHierarchies));
+          m_beanHierarchiesSnapshot = snapshot;
+        }
+      }
+    }
+    return snapshot;
+  }
+
   protected Collection<Class<?>> listImplementedTypes(IBean<?> bean) {
     //interfaces
     Set<Class<?>> set = new LinkedHashSet<>(BeanUtility.getInterfacesHierarchy(bean.getBeanClazz(), Object.class));
@@ -159,7 +186,12 @@ public class BeanManagerImplementor implements IBeanManager {
     try {
       IBean<T> bean = createBeanImplementor(beanData);
       for (Class<?> type : listImplementedTypes(bean)) {
-        BeanHierarchy h = m_beanHierarchies.computeIfAbsent(type, k -> new BeanHierarchy(type));
+        BeanHierarchy h = m_beanHierarchies.get(type);
+        if (h == null) {
+          h = new BeanHierarchy(type);
+          m_beanHierarchies.put(type, h);
+          m_beanHierarchiesSnapshot = null;
+        }
         h.addBean(bean);
       }
       return bean;
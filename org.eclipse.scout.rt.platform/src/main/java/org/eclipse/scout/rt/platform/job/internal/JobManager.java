@@ -34,6 +34,7 @@ import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerC
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerKeepAliveTimeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaximumPoolSizeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerPrestartCoreThreadsProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerVirtualThreadsProperty;
 import org.eclipse.scout.rt.platform.context.RunContextRunner;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IBlockingCondition;
@@ -259,7 +260,26 @@ public class JobManager implements IJobManager {
     final boolean prestartCoreThreads = CONFIG.getPropertyValue(JobManagerPrestartCoreThreadsProperty.class);
 
     // Create the rejection handler.
-    final RejectedExecutionHandler rejectHandler = (runnable, executor) -> {
+    final RejectedExecutionHandler rejectHandler = createRejectedExecutionHandler();
+
+    if (CONFIG.getPropertyValue(JobManagerVirtualThreadsProperty.class)) {
+      if (VirtualThreadFactory.isSupported()) {
+        return createVirtualThreadExecutor(keepAliveTime, rejectHandler);
+      }
+      LOG.warn("Virtual threads are not supported by this JVM, using platform threads instead. [java.version={}]", System.getProperty("java.version"));
+    }
+
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), rejectHandler);
+    executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
+    if (prestartCoreThreads) {
+      executor.prestartAllCoreThreads();
+    }
+
+    return executor;
+  }
+
+  protected RejectedExecutionHandler createRejectedExecutionHandler() {
+    return (runnable, executor) -> {
       if (isShutdown()) {
         LOG.debug("Job rejected because the job manager is shutdown.");
       }
@@ -272,14 +292,15 @@ public class JobManager implements IJobManager {
         ((IRejectableRunnable) runnable).reject();
       }
     };
+  }
 
-    final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), rejectHandler);
-    executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
-    if (prestartCoreThreads) {
-      executor.prestartAllCoreThreads();
-    }
-
-    return executor;
+  /**
+   * Creates the executor to run jobs on virtual threads. There is no limit on the number of threads, and idle threads
+   * are not kept in a core pool because virtual threads are cheap to create.
+   */
+  protected ExecutorService createVirtualThreadExecutor(final long keepAliveTime, final RejectedExecutionHandler rejectHandler) {
+    LOG.info("Jobs are run on virtual threads.");
+    return new ThreadPoolExecutor(0, Integer.MAX_VALUE, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new VirtualThreadFactory("scout-thread"), rejectHandler);
   }
 
   /**
@@ -67,7 +67,7 @@ public class NamedThreadFactory implements ThreadFactory, UncaughtExceptionHandl
         }
       }
     };
-    threadInfoRef.set(new ThreadInfo(thread, m_threadName, m_sequence.incrementAndGet()));
+    threadInfoRef.set(new ThreadInfo(thread, m_threadName, nextSequence()));
 
     thread.setDaemon(false);
     thread.setPriority(Thread.NORM_PRIORITY);
@@ -76,6 +76,20 @@ public class NamedThreadFactory implements ThreadFactory, UncaughtExceptionHandl
     return thread;
   }
 
+  /**
+   * @return the name prefix of the threads created by this factory.
+   */
+  protected String getThreadName() {
+    return m_threadName;
+  }
+
+  /**
+   * @return the next sequence number to be appended to the thread name.
+   */
+  protected long nextSequence() {
+    return m_sequence.incrementAndGet();
+  }
+
   // === UncaughtExceptionHandler ===
 
   @Override
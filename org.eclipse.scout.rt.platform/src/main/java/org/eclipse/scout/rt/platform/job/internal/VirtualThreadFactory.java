@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.slf4j.MDC;
+
+/**
+ * Thread factory for named virtual threads and to handle uncaught exceptions.
+ * <p>
+ * Virtual threads are available as of Java 21 and are therefore looked up by reflection. Use {@link #isSupported()} to
+ * check whether the running JVM supports virtual threads.
+ * <p>
+ * Virtual threads cannot be subclassed, so the {@link ThreadInfo} is installed by the {@link Runnable} given to the
+ * thread instead of by the thread itself.
+ *
+ * @since 11.0
+ */
+public class VirtualThreadFactory extends NamedThreadFactory {
+
+  private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
+  public VirtualThreadFactory(final String threadName) {
+    super(threadName);
+    if (!isSupported()) {
+      throw new PlatformException("Virtual threads are not supported by this JVM [java.version={}]", System.getProperty("java.version"));
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the running JVM supports virtual threads.
+   */
+  public static boolean isSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
+
+  @Override
+  public Thread newThread(final Runnable runnable) {
+    final String threadName = getThreadName();
+    final long sequence = nextSequence();
+    final Thread thread = VIRTUAL_THREAD_FACTORY.newThread(() -> {
+      // clear Mapped Diagnostic Context (MDC), see NamedThreadFactory
+      MDC.clear();
+
+      ThreadInfo.CURRENT.set(new ThreadInfo(Thread.currentThread(), threadName, sequence));
+      try {
+        runnable.run();
+      }
+      finally {
+        ThreadInfo.CURRENT.remove();
+      }
+    });
+    thread.setName(threadName + "-" + sequence);
+    thread.setUncaughtExceptionHandler(this);
+    return thread;
+  }
+
+  /**
+   * @return <code>Thread.ofVirtual().factory()</code> or <code>null</code> if virtual threads are not supported.
+   */
+  private static ThreadFactory createVirtualThreadFactory() {
+    try {
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+    }
+    catch (ReflectiveOperationException | RuntimeException e) { // NOSONAR
+      return null;
+    }
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * {@link IObjectSerializer} writing compact class descriptors. Instead of the full descriptor of a class (name, serial
+ * version UID, names and types of all fields) only its name is written, or its index if the class is part of the
+ * dictionary given to the constructor. The reading side uses the descriptor of its local class.
+ * <p>
+ * Therefore both sides must use identical versions of all transferred classes and the same dictionary, as it is the
+ * case for the client and the server of the same application. Blacklist and whitelist are checked by class name before
+ * a class is loaded.
+ *
+ * @since 11.0
+ */
+public class CompactObjectSerializer extends BasicObjectSerializer {
+
+  private static final int TAG_DICTIONARY = 1;
+  private static final int TAG_NAME = 2;
+
+  private static final Map<String, Class<?>> PRIMITIVE_TYPES;
+
+  static {
+    Map<String, Class<?>> primitiveTypes = new HashMap<>();
+    for (Class<?> c : new Class<?>[]{boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class, void.class}) {
+      primitiveTypes.put(c.getName(), c);
+    }
+    PRIMITIVE_TYPES = Collections.unmodifiableMap(primitiveTypes);
+  }
+
+  private final List<Class<?>> m_dictionary;
+  private final Map<String, Integer> m_dictionaryIndex;
+
+  /**
+   * @param dictionary
+   *          classes which are written as index instead of their name, at most 65536. Must be the same on both sides.
+   */
+  public CompactObjectSerializer(IObjectReplacer objectReplacer, List<Class<?>> dictionary) {
+    super(objectReplacer);
+    m_dictionary = Collections.unmodifiableList(new ArrayList<>(dictionary));
+    if (m_dictionary.size() > 0xffff) {
+      throw new IllegalArgumentException("dictionary is too large: " + m_dictionary.size());
+    }
+    Map<String, Integer> dictionaryIndex = new HashMap<>();
+    for (int i = 0; i < m_dictionary.size(); i++) {
+      dictionaryIndex.putIfAbsent(m_dictionary.get(i).getName(), i);
+    }
+    m_dictionaryIndex = Collections.unmodifiableMap(dictionaryIndex);
+  }
+
+  public List<Class<?>> getDictionary() {
+    return m_dictionary;
+  }
+
+  @Override
+  public ObjectOutputStream createObjectOutputStream(OutputStream out) throws IOException {
+    return new CompactObjectOutputStream(out, getObjectReplacer(), m_dictionaryIndex);
+  }
+
+  @Override
+  public ObjectInputStream createObjectInputStream(InputStream in) throws IOException {
+    return new CompactObjectInputStream(in, getObjectReplacer(), getBlacklist(), getWhitelist(), m_dictionary);
+  }
+
+  public static class CompactObjectOutputStream extends ReplacingObjectOutputStream {
+    private final Map<String, Integer> m_dictionaryIndex;
+
+    public CompactObjectOutputStream(OutputStream out, IObjectReplacer objectReplacer, Map<String, Integer> dictionaryIndex) throws IOException {
+      super(out, objectReplacer);
+      m_dictionaryIndex = dictionaryIndex;
+    }
+
+    @Override
+    protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+      Integer index = m_dictionaryIndex.get(desc.getName());
+      if (index != null) {
+        writeByte(TAG_DICTIONARY);
+        writeShort(index);
+      }
+      else {
+        writeByte(TAG_NAME);
+        writeUTF(desc.getName());
+      }
+    }
+  }
+
+  public static class CompactObjectInputStream extends ResolvingObjectInputStream {
+    private final List<Class<?>> m_dictionary;
+
+    public CompactObjectInputStream(InputStream in, IObjectReplacer objectReplacer, Predicate<String> blacklist, Predicate<String> whitelist, List<Class<?>> dictionary) throws IOException {
+      super(in, objectReplacer, blacklist, whitelist);
+      m_dictionary = dictionary;
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+      int tag = readUnsignedByte();
+      Class<?> c;
+      switch (tag) {
+        case TAG_DICTIONARY: {
+          int index = readUnsignedShort();
+          if (index >= m_dictionary.size()) {
+            throw new StreamCorruptedException("Unknown class dictionary index " + index);
+          }
+          c = m_dictionary.get(index);
+          checkClassName(c.getName());
+          break;
+        }
+        case TAG_NAME: {
+          String className = readUTF();
+          checkClassName(className);
+          c = loadClass(className);
+          break;
+        }
+        default:
+          throw new StreamCorruptedException("Unknown class descriptor tag " + tag);
+      }
+      return ObjectStreamClass.lookupAny(c);
+    }
+
+    protected Class<?> loadClass(String className) throws ClassNotFoundException {
+      Class<?> c = PRIMITIVE_TYPES.get(className);
+      if (c != null) {
+        return c;
+      }
+      return Class.forName(className, false, SerializationUtility.getClassLoader());
+    }
+  }
+}
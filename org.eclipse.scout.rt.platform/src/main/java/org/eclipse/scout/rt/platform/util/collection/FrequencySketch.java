@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe, approximate frequency counter of elements used to decide about admission and eviction in caches (TinyLFU).
+ * <p>
+ * A count-min sketch with four 4-bit counters per element (the maximum estimated frequency is 15). To keep the history
+ * recent, all counters are halved as soon as the number of recorded accesses reaches ten times the expected number of
+ * elements.
+ */
+public class FrequencySketch {
+
+  private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+  private static final long RESET_MASK = 0x7777777777777777L;
+
+  private final AtomicLongArray m_table;
+  private final int m_tableMask;
+  private final int m_sampleSize;
+  private final AtomicInteger m_size = new AtomicInteger();
+
+  /**
+   * @param expectedSize
+   *          expected number of distinct elements
+   */
+  public FrequencySketch(int expectedSize) {
+    int tableLength = Integer.highestOneBit(Math.max(16, Math.min(expectedSize, 1 << 30)) - 1) << 1;
+    m_table = new AtomicLongArray(tableLength);
+    m_tableMask = tableLength - 1;
+    m_sampleSize = Math.max(10, 10 * expectedSize);
+  }
+
+  /**
+   * @return estimated number of accesses of the element since the last aging, at most 15
+   */
+  public int frequency(Object element) {
+    int hash = spread(element.hashCode());
+    int start = (hash & 3) << 2;
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0; i < 4; i++) {
+      long value = m_table.get(indexOf(hash, i));
+      frequency = Math.min(frequency, (int) ((value >>> ((start + i) << 2)) & 0xfL));
+    }
+    return frequency;
+  }
+
+  /**
+   * Records an access of the element.
+   */
+  public void increment(Object element) {
+    int hash = spread(element.hashCode());
+    int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      added |= incrementAt(indexOf(hash, i), start + i);
+    }
+    if (added && m_size.incrementAndGet() >= m_sampleSize) {
+      reset();
+    }
+  }
+
+  /**
+   * Resets all frequencies to zero.
+   */
+  public void clear() {
+    for (int i = 0; i < m_table.length(); i++) {
+      m_table.set(i, 0L);
+    }
+    m_size.set(0);
+  }
+
+  protected boolean incrementAt(int index, int counter) {
+    int shift = counter << 2;
+    long mask = 0xfL << shift;
+    while (true) {
+      long value = m_table.get(index);
+      if ((value & mask) == mask) {
+        return false; // counter saturated
+      }
+      if (m_table.compareAndSet(index, value, value + (1L << shift))) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Ages all frequencies by halving them.
+   */
+  protected void reset() {
+    for (int i = 0; i < m_table.length(); i++) {
+      long value;
+      do {
+        value = m_table.get(i);
+      }
+      while (!m_table.compareAndSet(i, value, (value >>> 1) & RESET_MASK));
+    }
+    m_size.updateAndGet(size -> size >= m_sampleSize ? size / 2 : size);
+  }
+
+  protected int indexOf(int hash, int depth) {
+    long h = (hash + SEEDS[depth]) * SEEDS[depth];
+    h += h >>> 32;
+    return (int) h & m_tableMask;
+  }
+
+  protected static int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    return (x >>> 16) ^ x;
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.commons.servlet.filter.gzip;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link GzipServletResponseWrapper}
+ */
+public class GzipServletResponseWrapperTest {
+
+  private HttpServletResponse m_response;
+  private BufferedServletOutputStream m_out;
+
+  @Before
+  public void before() throws IOException {
+    m_response = mock(HttpServletResponse.class);
+    m_out = new BufferedServletOutputStream();
+    when(m_response.getOutputStream()).thenReturn(m_out);
+    when(m_response.getCharacterEncoding()).thenReturn("UTF-8");
+  }
+
+  @Test
+  public void testBuffered() throws IOException {
+    byte[] content = createContent(1000);
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_response);
+    wrapper.getOutputStream().write(content);
+
+    assertTrue(wrapper.finish(256));
+    assertArrayEquals(content, IOUtility.uncompressGzip(m_out.getContent()));
+    verify(m_response).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    verify(m_response).setContentLength(wrapper.getCompressedLength());
+    assertEquals(1000, wrapper.getUncompressedLength());
+  }
+
+  @Test
+  public void testStreaming() throws IOException {
+    byte[] content = createContent(10000);
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_response, r -> 256);
+    wrapper.getOutputStream().write(content, 0, 100);
+    // below the minimum length: nothing is written yet
+    assertEquals(0, m_out.getContent().length);
+
+    wrapper.getOutputStream().write(content, 100, content.length - 100);
+    wrapper.flushBuffer();
+    // streamed before finish
+    assertTrue(m_out.getContent().length > 0);
+
+    assertTrue(wrapper.finish(256));
+    assertArrayEquals(content, IOUtility.uncompressGzip(m_out.getContent()));
+    verify(m_response).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    verify(m_response, never()).setContentLength(anyInt());
+    assertEquals(10000, wrapper.getUncompressedLength());
+    assertEquals(m_out.getContent().length, wrapper.getCompressedLength());
+  }
+
+  @Test
+  public void testStreamingWriter() throws IOException {
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_response, r -> 10);
+    wrapper.getWriter().write("lorem ipsum dolor sit amet");
+
+    assertTrue(wrapper.finish(10));
+    assertEquals("lorem ipsum dolor sit amet", new String(IOUtility.uncompressGzip(m_out.getContent()), "UTF-8"));
+  }
+
+  @Test
+  public void testStreamingBelowMinimumLength() throws IOException {
+    byte[] content = createContent(100);
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_response, r -> 256);
+    wrapper.getOutputStream().write(content);
+
+    assertFalse(wrapper.finish(256));
+    assertArrayEquals(content, m_out.getContent());
+    verify(m_response, never()).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    verify(m_response).setContentLength(100);
+  }
+
+  @Test
+  public void testStreamingCompressionDisabled() throws IOException {
+    byte[] content = createContent(1000);
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_response, r -> -1);
+    wrapper.setContentLength(content.length);
+    wrapper.getOutputStream().write(content, 0, 10);
+    // passed through without buffering
+    assertEquals(10, m_out.getContent().length);
+    wrapper.getOutputStream().write(content, 10, content.length - 10);
+
+    assertFalse(wrapper.finish(-1));
+    assertArrayEquals(content, m_out.getContent());
+    verify(m_response, never()).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    verify(m_response).setContentLength(1000);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testStreamingNonBlockingRefusedWhenCompressing() throws IOException {
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_response, r -> 256);
+    wrapper.getOutputStream().setWriteListener(mock(WriteListener.class));
+  }
+
+  @Test
+  public void testStreamingNonBlockingDelegated() throws IOException {
+    ServletOutputStream out = mock(ServletOutputStream.class);
+    when(m_response.getOutputStream()).thenReturn(out);
+    when(out.isReady()).thenReturn(false);
+    WriteListener listener = mock(WriteListener.class);
+
+    GzipServletResponseWrapper wrapper = new GzipServletResponseWrapper(m_response, r -> -1);
+    assertTrue(wrapper.getOutputStream().isReady());
+    wrapper.getOutputStream().setWriteListener(listener);
+    verify(out).setWriteListener(listener);
+    verify(listener, never()).onWritePossible();
+    assertFalse(wrapper.getOutputStream().isReady());
+  }
+
+  protected byte[] createContent(int length) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] line = "0123456789 lorem ipsum\n".getBytes();
+    while (out.size() < length) {
+      out.write(line, 0, line.length);
+    }
+    return Arrays.copyOf(out.toByteArray(), length);
+  }
+}
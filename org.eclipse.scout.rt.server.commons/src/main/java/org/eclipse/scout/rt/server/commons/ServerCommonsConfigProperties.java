@@ -23,6 +23,7 @@ import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractMapConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringListConfigProperty;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDevModeProperty;
@@ -162,4 +163,24 @@ public final class ServerCommonsConfigProperties {
       return "URIs to DER (Base64) encoded certificate files that should be trusted. The URI may refer to a local file or a resource on the classpath (use classpath: prefix). The default value is an empty list.";
     }
   }
+
+  public static class HttpResourceCacheMaxSizeProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.http.resourceCacheMaxSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum total size in bytes of the resources held by each HTTP resource cache (e.g. the global cache for web resources or the cache of a UI session). "
+          + "If the limit is reached, only resources which are requested more frequently than the least recently used ones are cached. "
+          + "The value 0 disables the limit. The default value is 100 MB.";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 100L * 1024 * 1024;
+    }
+  }
 }
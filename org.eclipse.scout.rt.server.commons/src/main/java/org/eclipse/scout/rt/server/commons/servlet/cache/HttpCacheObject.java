@@ -11,7 +11,10 @@
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 import javax.servlet.http.HttpServletRequest;
@@ -29,6 +32,8 @@ public class HttpCacheObject implements Serializable {
   private final HttpCacheKey m_cacheKey;
   private final BinaryResource m_resource;
   private final Set<IHttpResponseInterceptor> m_httpResponseInterceptors = new HashSet<>();
+  private final Map<String, BinaryResource> m_encodedResources = new LinkedHashMap<>();
+  private final String m_contentEncoding;
 
   /**
    * @param cacheKey
@@ -37,10 +42,15 @@ public class HttpCacheObject implements Serializable {
    *          not null
    */
   public HttpCacheObject(HttpCacheKey cacheKey, BinaryResource resource) {
+    this(cacheKey, resource, null);
+  }
+
+  protected HttpCacheObject(HttpCacheKey cacheKey, BinaryResource resource, String contentEncoding) {
     Assertions.assertNotNull(cacheKey);
     Assertions.assertNotNull(resource);
     m_cacheKey = cacheKey;
     m_resource = resource;
+    m_contentEncoding = contentEncoding;
   }
 
   public HttpCacheKey getCacheKey() {
@@ -60,11 +70,53 @@ public class HttpCacheObject implements Serializable {
   }
 
   /**
-   * @return an ETAG if the resource's {@link #getContentLength()} and {@link #getFingerprint()} are both not -1
+   * Adds an alternative representation of the resource whose content is already encoded with the given content
+   * coding (e.g. a precompressed <code>gzip</code> or <code>br</code> file). Representations added first are preferred.
+   */
+  public void putEncodedResource(String contentEncoding, BinaryResource resource) {
+    Assertions.assertNotNull(contentEncoding);
+    Assertions.assertNotNull(resource);
+    m_encodedResources.put(contentEncoding, resource);
+  }
+
+  /**
+   * @return content coding to resource, in order of preference
+   */
+  public Map<String, BinaryResource> getEncodedResources() {
+    return Collections.unmodifiableMap(m_encodedResources);
+  }
+
+  /**
+   * @return the representation of this resource with the given content coding (see
+   *         {@link #putEncodedResource(String, BinaryResource)}), <code>null</code> if there is none. The representation
+   *         has its own ETag and the same response interceptors as this object.
+   */
+  public HttpCacheObject getEncodedRepresentation(String contentEncoding) {
+    BinaryResource encodedResource = m_encodedResources.get(contentEncoding);
+    if (encodedResource == null) {
+      return null;
+    }
+    HttpCacheObject representation = new HttpCacheObject(m_cacheKey, encodedResource, contentEncoding);
+    representation.m_httpResponseInterceptors.addAll(m_httpResponseInterceptors);
+    return representation;
+  }
+
+  /**
+   * @return content coding of {@link #getResource()} if this object is an encoded representation (see
+   *         {@link #getEncodedRepresentation(String)}), <code>null</code> for the unencoded resource
+   */
+  public String getContentEncoding() {
+    return m_contentEncoding;
+  }
+
+  /**
+   * @return an ETAG if the resource's {@link #getContentLength()} and {@link #getFingerprint()} are both not -1. The
+   *         ETag of an encoded representation ends with its content coding.
    */
   public String createETag() {
     if (m_resource.getFingerprint() != -1L && m_resource.getContentLength() != -1L) {
-      return "W/\"" + m_resource.getContentLength() + "-" + m_resource.getFingerprint() + "\"";
+      String suffix = m_contentEncoding != null ? "-" + m_contentEncoding : "";
+      return "W/\"" + m_resource.getContentLength() + "-" + m_resource.getFingerprint() + suffix + "\"";
     }
     return null;
   }
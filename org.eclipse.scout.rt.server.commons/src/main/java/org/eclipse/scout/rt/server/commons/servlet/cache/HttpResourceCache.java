@@ -10,51 +10,263 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.util.collection.FrequencySketch;
+import org.eclipse.scout.rt.server.commons.ServerCommonsConfigProperties.HttpResourceCacheMaxSizeProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A server side cache use to store web resources like HTML, CSS and JS.
+ * <p>
+ * The cache is bounded by the total content length of its objects (see {@link HttpResourceCacheMaxSizeProperty}).
+ * If a new object does not fit into the cache, the least recently used objects are evicted, but only if the new object
+ * was requested more frequently than each of them (TinyLFU admission, see {@link FrequencySketch}). Otherwise the new
+ * object is not cached. An object replacing a cached one is always admitted.
+ * <p>
+ * Lookups do not block: the access order is only updated if no other thread currently modifies the cache, otherwise
+ * the access is not recorded. The least recently used order is therefore approximate under contention.
+ * <p>
+ * Every instance has its own weight bound and its own frequency sketch, i.e. the {@link GlobalHttpResourceCache} and
+ * the cache of each UI session are bounded and admit objects independently of each other.
  */
 @Bean
 public class HttpResourceCache implements IHttpResourceCache {
 
   private static final Logger LOG = LoggerFactory.getLogger(HttpResourceCache.class);
+  private static final int EXPECTED_SIZE = 1024;
 
-  private final Map<HttpCacheKey, HttpCacheObject> m_cache = Collections.synchronizedMap(new HashMap<>());
+  private final ConcurrentHashMap<HttpCacheKey, Entry> m_cache = new ConcurrentHashMap<>();
+  private final LinkedHashMap<HttpCacheKey, Entry> m_accessOrder = new LinkedHashMap<>(16, 0.75f, true); // guarded by m_evictionLock
+  private final FrequencySketch m_sketch = new FrequencySketch(EXPECTED_SIZE);
+  private final ReentrantLock m_evictionLock = new ReentrantLock();
+  private final long m_maxWeight;
+  private long m_weight; // guarded by m_evictionLock
+
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final LongAdder m_evictionCount = new LongAdder();
+  private final LongAdder m_rejectionCount = new LongAdder();
+
+  public HttpResourceCache() {
+    this(BEANS.get(HttpResourceCacheMaxSizeProperty.class).getValue());
+  }
+
+  /**
+   * @param maxWeight
+   *          maximum total content length in bytes of all cached objects, 0 for no limit
+   */
+  public HttpResourceCache(long maxWeight) {
+    m_maxWeight = maxWeight;
+  }
 
   @Override
   public boolean put(HttpCacheObject obj) {
     if (!obj.isCachingAllowed()) {
       return false;
     }
-    m_cache.put(obj.getCacheKey(), obj);
-    LOG.debug("Stored object in cache: {}", obj.getCacheKey());
+    HttpCacheKey key = obj.getCacheKey();
+    Entry entry = new Entry(obj, weigh(obj));
+    m_evictionLock.lock();
+    try {
+      Entry old = m_cache.get(key);
+      long oldWeight = old != null ? old.m_weight : 0;
+      if (m_maxWeight > 0 && !makeRoom(key, entry.m_weight, old != null)) {
+        if (old != null) {
+          // do not keep the outdated object
+          m_cache.remove(key);
+          m_accessOrder.remove(key);
+          m_weight -= oldWeight;
+        }
+        m_rejectionCount.increment();
+        LOG.debug("Object not admitted to cache: {}", key);
+        return false;
+      }
+      m_cache.put(key, entry);
+      m_accessOrder.put(key, entry);
+      m_weight += entry.m_weight - oldWeight;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+    LOG.debug("Stored object in cache: {}", key);
+    return true;
+  }
+
+  /**
+   * Evicts least recently used entries until the weight fits, if the candidate is more frequently used than all of
+   * them. A candidate replacing a cached object has been admitted before and evicts without frequency check. Must be
+   * called while holding {@link #m_evictionLock}.
+   *
+   * @return true if there is room for the candidate
+   */
+  protected boolean makeRoom(HttpCacheKey candidateKey, long candidateWeight, boolean replace) {
+    if (candidateWeight > m_maxWeight) {
+      return false;
+    }
+    Entry replaced = replace ? m_cache.get(candidateKey) : null;
+    long excess = m_weight - (replaced != null ? replaced.m_weight : 0) + candidateWeight - m_maxWeight;
+    if (excess <= 0) {
+      return true;
+    }
+    // the access order starts with the least recently used entry, only the victims are visited
+    int candidateFrequency = replace ? 0 : m_sketch.frequency(candidateKey);
+    List<Entry> victims = new ArrayList<>();
+    Iterator<Entry> lru = m_accessOrder.values().iterator();
+    while (excess > 0) {
+      if (!lru.hasNext()) {
+        return false;
+      }
+      Entry e = lru.next();
+      if (e == replaced) {
+        continue;
+      }
+      if (!replace && m_sketch.frequency(e.m_object.getCacheKey()) >= candidateFrequency) {
+        return false;
+      }
+      victims.add(e);
+      excess -= e.m_weight;
+    }
+    for (Entry victim : victims) {
+      HttpCacheKey victimKey = victim.m_object.getCacheKey();
+      m_cache.remove(victimKey);
+      m_accessOrder.remove(victimKey);
+      m_weight -= victim.m_weight;
+      m_evictionCount.increment();
+      LOG.debug("Evicted object from cache: {}", victimKey);
+    }
     return true;
   }
 
+  /**
+   * @return weight of the object in bytes, used to limit the size of the cache
+   */
+  protected long weigh(HttpCacheObject obj) {
+    long weight = Math.max(0, obj.getResource().getContentLength());
+    for (BinaryResource encoded : obj.getEncodedResources().values()) {
+      weight += Math.max(0, encoded.getContentLength());
+    }
+    return weight;
+  }
+
   @Override
   public HttpCacheObject get(HttpCacheKey cacheKey) {
-    HttpCacheObject obj = m_cache.get(cacheKey);
-    LOG.debug("Lookup object in cache: {} found={}", cacheKey, obj != null);
-    return obj;
+    m_sketch.increment(cacheKey);
+    Entry entry = m_cache.get(cacheKey);
+    if (entry == null) {
+      m_missCount.increment();
+      LOG.debug("Lookup object in cache: {} found=false", cacheKey);
+      return null;
+    }
+    m_hitCount.increment();
+    // record the access only if the lock is free, lookups never wait for a writer
+    if (m_evictionLock.tryLock()) {
+      try {
+        m_accessOrder.get(cacheKey);
+      }
+      finally {
+        m_evictionLock.unlock();
+      }
+    }
+    LOG.debug("Lookup object in cache: {} found=true", cacheKey);
+    return entry.m_object;
   }
 
   @Override
   public HttpCacheObject remove(HttpCacheKey cacheKey) {
-    HttpCacheObject obj = m_cache.remove(cacheKey);
-    LOG.debug("Remove object in cache: {} removed={}", cacheKey, obj != null);
-    return obj;
+    Entry entry;
+    m_evictionLock.lock();
+    try {
+      entry = m_cache.remove(cacheKey);
+      if (entry != null) {
+        m_accessOrder.remove(cacheKey);
+        m_weight -= entry.m_weight;
+      }
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+    LOG.debug("Remove object in cache: {} removed={}", cacheKey, entry != null);
+    return entry != null ? entry.m_object : null;
   }
 
   @Override
   public void clear() {
     LOG.debug("Clear resource cache");
-    m_cache.clear();
+    m_evictionLock.lock();
+    try {
+      m_cache.clear();
+      m_accessOrder.clear();
+      m_weight = 0;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  /**
+   * @return number of cached objects
+   */
+  public int size() {
+    return m_cache.size();
+  }
+
+  /**
+   * @return total weight in bytes of all cached objects
+   */
+  public long getWeight() {
+    m_evictionLock.lock();
+    try {
+      return m_weight;
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  public long getMaxWeight() {
+    return m_maxWeight;
+  }
+
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  /**
+   * @return number of objects evicted to make room for more frequently used objects
+   */
+  public long getEvictionCount() {
+    return m_evictionCount.sum();
+  }
+
+  /**
+   * @return number of objects not cached because the cache was full of more frequently used objects
+   */
+  public long getRejectionCount() {
+    return m_rejectionCount.sum();
+  }
+
+  protected static final class Entry {
+    private final HttpCacheObject m_object;
+    private final long m_weight;
+
+    private Entry(HttpCacheObject object, long weight) {
+      m_object = object;
+      m_weight = weight;
+    }
   }
 }
@@ -39,7 +39,10 @@ import org.slf4j.LoggerFactory;
  * <code>.*\.(html|css|js|json|txt)</code>)
  * <li><b>post_pattern:</b> regex of pathInfo that is compressed for POST requests (default value =
  * <code>.{@literal *}/json</code>)
+ * <li><b>streaming:</b> compress the response while it is written instead of buffering the whole response (default
+ * value = <code>false</code>), see {@link GzipServletResponseWrapper}
  * </ul>
+ * Responses which already have a <code>Content-Encoding</code> (e.g. precompressed resources) are not compressed again.
  */
 public class GzipServletFilter implements Filter {
   private static final Logger LOG = LoggerFactory.getLogger(GzipServletFilter.class);
@@ -52,6 +55,7 @@ public class GzipServletFilter implements Filter {
   private int m_getMinSize;
   private int m_postMinSize;
   private Set<String> m_contentTypes;
+  private boolean m_streaming;
 
   @Override
   public void init(FilterConfig config) throws ServletException {
@@ -59,6 +63,7 @@ public class GzipServletFilter implements Filter {
     m_getMinSize = Integer.parseInt(ObjectUtility.nvl(config.getInitParameter("get_min_size"), "256"));
     m_postMinSize = Integer.parseInt(ObjectUtility.nvl(config.getInitParameter("post_min_size"), "256"));
     m_contentTypes = CollectionUtility.hashSet(StringUtility.split(ObjectUtility.nvl(config.getInitParameter("content_types"), CONTENT_TYPES), ","));
+    m_streaming = Boolean.parseBoolean(config.getInitParameter("streaming"));
   }
 
   @Override
@@ -78,19 +83,20 @@ public class GzipServletFilter implements Filter {
       }
     }
     if (requestAcceptsGzipEncoding(req)) {
-      resp = new GzipServletResponseWrapper(resp);
+      if (m_streaming) {
+        final HttpServletRequest gzipReq = req;
+        resp = new GzipServletResponseWrapper(resp, r -> responseMinimumLengthToCompress(gzipReq, r));
+      }
+      else {
+        resp = new GzipServletResponseWrapper(resp);
+      }
     }
 
     chain.doFilter(req, resp);
 
     if (resp instanceof GzipServletResponseWrapper) {
       GzipServletResponseWrapper gzipResp = (GzipServletResponseWrapper) resp;
-      int minLength = minimumLengthToCompress(req);
-      if (!responseNeedsGzipEncoding(req, resp)) {
-        // Disable compression
-        minLength = -1;
-      }
-      boolean compressed = gzipResp.finish(minLength);
+      boolean compressed = gzipResp.finish(responseMinimumLengthToCompress(req, resp));
       if (compressed && LOG.isDebugEnabled()) {
         LOG.debug("GZIP response[size {}%, uncompressed: {}, compressed: {}]: {}",
             gzipResp.getCompressedLength() * 100 / gzipResp.getUncompressedLength(),
@@ -111,10 +117,25 @@ public class GzipServletFilter implements Filter {
     return h != null && h.contains(GZIP);
   }
 
+  /**
+   * @return the minimum uncompressed size that is compressed, -1 if the response must not be compressed
+   */
+  protected int responseMinimumLengthToCompress(HttpServletRequest req, HttpServletResponse resp) {
+    if (!responseNeedsGzipEncoding(req, resp)) {
+      // Disable compression
+      return -1;
+    }
+    return minimumLengthToCompress(req);
+  }
+
   protected boolean responseNeedsGzipEncoding(HttpServletRequest req, HttpServletResponse resp) {
     if (!UrlHints.isCompressHint(req)) {
       return false;
     }
+    if (resp.containsHeader(CONTENT_ENCODING)) {
+      // already encoded (e.g. precompressed resource)
+      return false;
+    }
     String contentType = resp.getContentType();
     if (contentType == null) {
       return false;
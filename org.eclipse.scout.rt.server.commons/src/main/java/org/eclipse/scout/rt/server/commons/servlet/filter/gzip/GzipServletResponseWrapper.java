@@ -10,28 +10,64 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.filter.gzip;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.util.function.ToIntFunction;
+import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpServletResponseWrapper;
 
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
 
+/**
+ * Compresses the response content using gzip.
+ * <p>
+ * By default the whole response is buffered and compressed in {@link #finish(int)}. If the wrapper is created with a
+ * minimum length function (see {@link #GzipServletResponseWrapper(HttpServletResponse, ToIntFunction)}), the
+ * response is compressed while it is written: only the first bytes up to the minimum length are buffered, afterwards
+ * the content is streamed through a {@link GZIPOutputStream} to the underlying response.
+ */
 public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
+  private static final int GZIP_BUFFER_SIZE = 8192;
+
+  private final ToIntFunction<HttpServletResponse> m_streamingMinimumLength;
   private BufferedServletOutputStream m_buf;
+  private StreamingGzipOutputStream m_stream;
   private int m_compressedLength = -1;
   private int m_uncompressedLength = -1;
+  private int m_contentLength = -1;
   // one of these two is used
   private ServletOutputStream m_servletOut;
   private PrintWriter m_writer;
 
   public GzipServletResponseWrapper(HttpServletResponse resp) {
+    this(resp, null);
+  }
+
+  /**
+   * @param streamingMinimumLength
+   *          if not <code>null</code> the response is compressed in streaming mode. The function is evaluated when
+   *          the first content is written and returns the minimum uncompressed size that is compressed, -1 disables
+   *          compression.
+   */
+  public GzipServletResponseWrapper(HttpServletResponse resp, ToIntFunction<HttpServletResponse> streamingMinimumLength) {
     super(resp);
+    m_streamingMinimumLength = streamingMinimumLength;
+  }
+
+  public boolean isStreaming() {
+    return m_streamingMinimumLength != null;
   }
 
   protected BufferedServletOutputStream ensureBufferedStream() {
@@ -41,6 +77,16 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
     return m_buf;
   }
 
+  protected ServletOutputStream ensureContentStream() {
+    if (!isStreaming()) {
+      return ensureBufferedStream();
+    }
+    if (m_stream == null) {
+      m_stream = new StreamingGzipOutputStream();
+    }
+    return m_stream;
+  }
+
   /**
    * only valid after {@link #finish(int)} was called
    */
@@ -61,7 +107,7 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
       throw new IllegalStateException("getWriter was previsouly called, getOutputStream is not available");
     }
     if (m_servletOut == null) {
-      m_servletOut = ensureBufferedStream();
+      m_servletOut = ensureContentStream();
     }
     return m_servletOut;
   }
@@ -72,14 +118,15 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
       throw new IllegalStateException("getOutputStream was previsouly called, getWriter is not available");
     }
     if (m_writer == null) {
-      m_writer = new PrintWriter(new OutputStreamWriter(ensureBufferedStream(), getResponse().getCharacterEncoding()));
+      m_writer = new PrintWriter(new OutputStreamWriter(ensureContentStream(), getResponse().getCharacterEncoding()));
     }
     return m_writer;
   }
 
   @Override
   public void setContentLength(int len) {
-    // ignored
+    // ignored, only passed on in streaming mode if the content is not compressed
+    m_contentLength = len;
   }
 
   @Override
@@ -90,6 +137,9 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
     if (m_buf != null) {
       m_buf.flush();
     }
+    if (m_stream != null) {
+      m_stream.flush();
+    }
     super.flushBuffer();
   }
 
@@ -103,6 +153,14 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
       m_writer.close();
       m_writer = null;
     }
+    if (m_stream != null) {
+      boolean compressed = m_stream.finish(minimumLengthToCompress);
+      m_uncompressedLength = m_stream.m_uncompressedCount;
+      m_compressedLength = m_stream.m_compressedCount;
+      m_stream = null;
+      super.flushBuffer();
+      return compressed;
+    }
     boolean compressed = false;
     if (m_buf != null) {
       m_buf.close();
@@ -128,4 +186,150 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
     }
     return compressed;
   }
+
+  /**
+   * Buffers the content until it reaches the minimum length to compress, afterwards the content is either streamed
+   * through a {@link GZIPOutputStream} or (if compression is disabled) written unchanged to the underlying response.
+   */
+  protected class StreamingGzipOutputStream extends ServletOutputStream {
+    private ByteArrayOutputStream m_threshold = new ByteArrayOutputStream();
+    private boolean m_minimumLengthResolved;
+    private int m_minimumLength;
+    private OutputStream m_out;
+    private GZIPOutputStream m_gzip;
+    private int m_uncompressedCount;
+    private int m_compressedCount;
+    private ServletOutputStream m_asyncOut;
+
+    /**
+     * @return readiness of the underlying stream in non-blocking mode (see {@link #setWriteListener(WriteListener)}),
+     *         always <code>true</code> in blocking mode
+     */
+    @Override
+    public boolean isReady() {
+      return m_asyncOut == null || m_asyncOut.isReady();
+    }
+
+    /**
+     * Non-blocking mode is only supported if the content is not compressed: the {@link GZIPOutputStream} may write
+     * several chunks for one write operation, which is not allowed once the underlying stream is not ready anymore. The
+     * listener is registered with the underlying stream, so the container dispatches its callbacks.
+     *
+     * @throws IllegalStateException
+     *           if the content may be compressed
+     */
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      Assertions.assertNotNull(writeListener);
+      if (m_out == null && resolveMinimumLength() >= 0 || m_gzip != null) {
+        throw new IllegalStateException("Non-blocking IO is not supported for compressed responses");
+      }
+      try {
+        m_asyncOut = getResponse().getOutputStream();
+      }
+      catch (IOException e) {
+        throw new PlatformException("Cannot access the output stream of the response", e);
+      }
+      m_asyncOut.setWriteListener(writeListener);
+    }
+
+    protected int resolveMinimumLength() {
+      if (!m_minimumLengthResolved) {
+        m_minimumLength = m_streamingMinimumLength.applyAsInt(GzipServletResponseWrapper.this);
+        m_minimumLengthResolved = true;
+      }
+      return m_minimumLength;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      m_uncompressedCount += len;
+      if (m_out == null) {
+        if (resolveMinimumLength() >= 0) {
+          m_threshold.write(b, off, len);
+          if (m_threshold.size() >= m_minimumLength) {
+            startCompressed();
+          }
+          return;
+        }
+        startUncompressed(m_contentLength);
+      }
+      m_out.write(b, off, len);
+    }
+
+    /**
+     * Content which is still buffered is not flushed because the decision whether it is compressed is not made yet.
+     */
+    @Override
+    public void flush() throws IOException {
+      if (m_out != null) {
+        m_out.flush();
+      }
+    }
+
+    protected void startCompressed() throws IOException {
+      HttpServletResponse res = (HttpServletResponse) getResponse();
+      res.addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+      m_gzip = new GZIPOutputStream(new CountingOutputStream(res.getOutputStream()), GZIP_BUFFER_SIZE, true);
+      m_out = m_gzip;
+      writeThreshold();
+    }
+
+    protected void startUncompressed(int contentLength) throws IOException {
+      if (contentLength >= 0) {
+        getResponse().setContentLength(contentLength);
+      }
+      m_out = new CountingOutputStream(getResponse().getOutputStream());
+      writeThreshold();
+    }
+
+    protected void writeThreshold() throws IOException {
+      m_threshold.writeTo(m_out);
+      m_threshold = null;
+    }
+
+    /**
+     * @return true if the content was compressed
+     */
+    protected boolean finish(int minimumLengthToCompress) throws IOException {
+      if (m_out == null) {
+        // still buffering: the whole content is known
+        if (minimumLengthToCompress >= 0 && m_uncompressedCount >= minimumLengthToCompress) {
+          startCompressed();
+        }
+        else {
+          startUncompressed(m_uncompressedCount);
+        }
+      }
+      if (m_gzip != null) {
+        m_gzip.finish();
+      }
+      m_out.flush();
+      return m_gzip != null;
+    }
+
+    protected class CountingOutputStream extends FilterOutputStream {
+
+      public CountingOutputStream(OutputStream out) {
+        super(out);
+      }
+
+      @Override
+      public void write(int b) throws IOException {
+        out.write(b);
+        m_compressedCount++;
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        m_compressedCount += len;
+      }
+    }
+  }
 }
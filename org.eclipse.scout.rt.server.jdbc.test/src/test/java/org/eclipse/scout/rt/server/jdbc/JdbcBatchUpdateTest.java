@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService} (using the mock {@link SqlServiceMock}) with JDBC batch updates enabled (see
+ * {@link AbstractSqlService#getConfiguredJdbcBatchSize()}).
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class JdbcBatchUpdateTest {
+
+  private static final String PREPARE_STATEMENT = "Connection.prepareStatement(UDPATE this_table SET v = ? where r = ? and p = ?)\n";
+  private static final String ADD_BATCH = "PreparedStatement.addBatch()\n";
+  private static final String EXECUTE_BATCH = "PreparedStatement.executeBatch()\n";
+
+  @Test
+  public void testBatchUpdateFromArray() {
+    SqlServiceMock sql = createSqlServiceMock(2);
+
+    int rowCount = sql.update("UDPATE this_table SET v = :value where r = :{roles} and p = :personNr", new NVPair("personNr", 9L), new NVPair("roles", new Long[]{5L, 6L, 7L}), new NVPair("value", "lorem"));
+    assertEquals(3, rowCount);
+    assertEquals(PREPARE_STATEMENT
+        + setObjects(5) + ADD_BATCH
+        + setObjects(6) + ADD_BATCH
+        + EXECUTE_BATCH
+        + setObjects(7) + ADD_BATCH
+        + EXECUTE_BATCH, sql.getProtocol().toString());
+  }
+
+  @Test
+  public void testBatchUpdateDisabled() {
+    SqlServiceMock sql = createSqlServiceMock(0);
+
+    sql.update("UDPATE this_table SET v = :value where r = :{roles} and p = :personNr", new NVPair("personNr", 9L), new NVPair("roles", new Long[]{5L, 6L}), new NVPair("value", "lorem"));
+    assertEquals(PREPARE_STATEMENT + setObjects(5) + PREPARE_STATEMENT + setObjects(6), sql.getProtocol().toString());
+  }
+
+  @Test
+  public void testUpdateWithoutBatchInput() {
+    SqlServiceMock sql = createSqlServiceMock(2);
+
+    sql.update("UDPATE this_table SET v = :value where r = :roles and p = :personNr", new NVPair("personNr", 9L), new NVPair("roles", 5L), new NVPair("value", "lorem"));
+    assertEquals(PREPARE_STATEMENT + setObjects(5), sql.getProtocol().toString());
+  }
+
+  private static String setObjects(long role) {
+    return "PreparedStatement.setObject(1, lorem, 12)\n"
+        + "PreparedStatement.setObject(2, " + role + ", -5)\n"
+        + "PreparedStatement.setObject(3, 9, -5)\n";
+  }
+
+  private static SqlServiceMock createSqlServiceMock(final int batchSize) {
+    SqlServiceMock sql = new SqlServiceMock() {
+      @Override
+      protected int getConfiguredJdbcBatchSize() {
+        return batchSize;
+      }
+    };
+    sql.clearProtocol();
+    return sql;
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.server.jdbc.internal.exec.ParsedStatementCache.ParsedStatement;
+import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.DatabaseSpecificToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.TextToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueOutputToken;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link ParsedStatementCache}
+ */
+@RunWith(PlatformTestRunner.class)
+public class ParsedStatementCacheTest {
+
+  private static final String STATEMENT = "SELECT A, $$sysdate FROM T WHERE B = :{b} AND C = :c INTO :a, :d";
+
+  @Test
+  public void testHitAndMissCount() {
+    ParsedStatementCache cache = new ParsedStatementCache();
+    assertTrue(cache.isEnabled());
+
+    cache.get(STATEMENT);
+    assertEquals(0, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.size());
+
+    cache.get(STATEMENT);
+    cache.get(STATEMENT);
+    assertEquals(2, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+
+    cache.get("SELECT 1 FROM DUAL");
+    assertEquals(2, cache.getMissCount());
+    assertEquals(2, cache.size());
+
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getHitCount());
+    assertEquals(0, cache.getMissCount());
+  }
+
+  @Test
+  public void testParsedStatement() {
+    ParsedStatement parsedStatement = new ParsedStatementCache().get(STATEMENT);
+    assertEquals(2, parsedStatement.getIntoModel().getOutputTokens().length);
+    assertEquals("SELECT A, $$sysdate FROM T WHERE B = :{b} AND C = :c ", parsedStatement.getIntoModel().getFilteredStatement());
+
+    IToken[] ioTokens = parsedStatement.getBindModel().getIOTokens();
+    assertEquals(2, ioTokens.length);
+    assertEquals("b", ((ValueInputToken) ioTokens[0]).getName());
+    assertTrue(((ValueInputToken) ioTokens[0]).isBatch());
+    assertEquals("c", ((ValueInputToken) ioTokens[1]).getName());
+    assertFalse(((ValueInputToken) ioTokens[1]).isBatch());
+  }
+
+  @Test
+  public void testCopiesAreIndependent() {
+    ParsedStatementCache cache = new ParsedStatementCache();
+    ParsedStatement first = cache.get(STATEMENT);
+    for (IToken t : first.getBindModel().getAllTokens()) {
+      if (t.isInput() || t instanceof DatabaseSpecificToken) {
+        t.setReplaceToken("?");
+      }
+    }
+    ((ValueInputToken) first.getBindModel().getIOTokens()[1]).setPlainValue(true);
+    assertEquals("SELECT A, ? FROM T WHERE B = ? AND C = ?", first.getBindModel().getFilteredStatement());
+
+    ParsedStatement second = cache.get(STATEMENT);
+    assertEquals(1, cache.getHitCount());
+    assertNotSame(first.getBindModel(), second.getBindModel());
+    assertEquals("SELECT A, $$sysdate FROM T WHERE B = :{b} AND C = :c", second.getBindModel().getFilteredStatement());
+    assertFalse(((ValueInputToken) second.getBindModel().getIOTokens()[1]).isPlainValue());
+  }
+
+  @Test
+  public void testNotCopyableStatementIsNotCached() {
+    ParsedStatementCache cache = new ParsedStatementCache() {
+      @Override
+      protected ParsedStatement parse(String statement) {
+        return new ParsedStatement(new IntoModel(statement, new ValueOutputToken[0]), new BindModel(new IToken[]{new TextToken(statement), new P_CustomToken()}));
+      }
+    };
+
+    ParsedStatement first = cache.get(STATEMENT);
+    ParsedStatement second = cache.get(STATEMENT);
+    assertFalse(first.isCopyable());
+    assertNotSame(first.getBindModel(), second.getBindModel());
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+  }
+
+  private static class P_CustomToken implements IToken {
+    private String m_replaceToken = "custom";
+
+    @Override
+    public String getParsedToken() {
+      return "custom";
+    }
+
+    @Override
+    public String getReplaceToken() {
+      return m_replaceToken;
+    }
+
+    @Override
+    public void setReplaceToken(String s) {
+      m_replaceToken = s;
+    }
+
+    @Override
+    public boolean isInput() {
+      return false;
+    }
+
+    @Override
+    public boolean isOutput() {
+      return false;
+    }
+  }
+}
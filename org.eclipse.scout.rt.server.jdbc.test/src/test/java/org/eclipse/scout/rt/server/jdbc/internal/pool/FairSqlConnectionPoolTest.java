@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link FairSqlConnectionPool}
+ */
+@RunWith(PlatformTestRunner.class)
+public class FairSqlConnectionPoolTest {
+
+  private AbstractSqlService m_service;
+  private List<FairSqlConnectionPool> m_pools;
+
+  @Before
+  public void before() {
+    m_service = mock(AbstractSqlService.class);
+    m_pools = new ArrayList<>();
+  }
+
+  @After
+  public void after() {
+    for (FairSqlConnectionPool pool : m_pools) {
+      pool.destroy();
+    }
+  }
+
+  @Test
+  public void testLeaseAndRelease() throws Exception {
+    FairSqlConnectionPool pool = createPool(2, 0);
+
+    Connection conn = pool.leaseConnection(m_service);
+    assertEquals(1, pool.getActiveCount());
+    assertEquals(0, pool.getIdleCount());
+
+    pool.releaseConnection(conn);
+    assertEquals(0, pool.getActiveCount());
+    assertEquals(1, pool.getIdleCount());
+
+    // idle connection is reused and validated
+    assertSame(conn, pool.leaseConnection(m_service));
+    verify(m_service).callbackAfterConnectionCreated(same(conn));
+    verify(m_service).callbackTestConnection(same(conn));
+    assertEquals(2, pool.getLeaseCount());
+  }
+
+  @Test
+  public void testDirtyConnectionIsReplaced() throws Exception {
+    FairSqlConnectionPool pool = createPool(1, 0);
+    Connection conn = pool.leaseConnection(m_service);
+    pool.releaseConnection(conn);
+
+    doThrow(new SQLException("connection reset")).when(m_service).callbackTestConnection(same(conn));
+    Connection other = pool.leaseConnection(m_service);
+    assertNotSame(conn, other);
+    verify(conn).close();
+    assertEquals(1, pool.getActiveCount());
+  }
+
+  @Test
+  public void testClosedConnectionIsNotReused() throws Exception {
+    FairSqlConnectionPool pool = createPool(1, 0);
+    Connection conn = pool.leaseConnection(m_service);
+    when(conn.isClosed()).thenReturn(true);
+
+    pool.releaseConnection(conn);
+    assertEquals(0, pool.getIdleCount());
+    assertNotSame(conn, pool.leaseConnection(m_service));
+  }
+
+  @Test
+  public void testLeaseTimeout() throws Exception {
+    FairSqlConnectionPool pool = createPool(1, 50);
+    pool.leaseConnection(m_service);
+    try {
+      pool.leaseConnection(m_service);
+      fail("TimedOutError expected");
+    }
+    catch (TimedOutError expected) { // NOSONAR
+      assertEquals(1, pool.getLeaseTimeoutCount());
+    }
+  }
+
+  @Test
+  public void testWaitingThreadGetsReleasedConnection() throws Exception {
+    final FairSqlConnectionPool pool = createPool(1, 0);
+    Connection conn = pool.leaseConnection(m_service);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Connection> waiter = executor.submit(() -> pool.leaseConnection(m_service));
+      while (pool.getWaitingCount() == 0) {
+        Thread.sleep(5);
+      }
+      pool.releaseConnection(conn);
+      assertSame(conn, waiter.get(30, TimeUnit.SECONDS));
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testConcurrentLeases() throws Exception {
+    final int poolSize = 5;
+    final FairSqlConnectionPool pool = createPool(poolSize, 0);
+    final AtomicInteger leased = new AtomicInteger();
+    final AtomicInteger maxLeased = new AtomicInteger();
+
+    ExecutorService executor = Executors.newFixedThreadPool(20);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        futures.add(executor.submit(() -> {
+          for (int j = 0; j < 200; j++) {
+            Connection conn = pool.leaseConnection(m_service);
+            maxLeased.accumulateAndGet(leased.incrementAndGet(), Math::max);
+            leased.decrementAndGet();
+            pool.releaseConnection(conn);
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+
+    assertTrue(maxLeased.get() <= poolSize);
+    assertEquals(0, pool.getActiveCount());
+    assertTrue(pool.getIdleCount() <= poolSize);
+    assertEquals(20 * 200, pool.getLeaseCount());
+    long leases = 0;
+    for (long count : pool.getWaitTimeHistogram()) {
+      leases += count;
+    }
+    assertEquals(20 * 200, leases);
+  }
+
+  protected FairSqlConnectionPool createPool(int poolSize, final long leaseTimeout) {
+    FairSqlConnectionPool pool = new FairSqlConnectionPool() {
+      @Override
+      protected long loadLeaseTimeout() {
+        return leaseTimeout;
+      }
+
+      @Override
+      protected Connection createConnection(AbstractSqlService service) {
+        return mock(Connection.class);
+      }
+    };
+    pool.initialize("test" + m_pools.size(), poolSize, TimeUnit.MINUTES.toMillis(5), TimeUnit.HOURS.toMillis(6));
+    m_pools.add(pool);
+    return pool;
+  }
+}
@@ -46,10 +46,12 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.security.ACCESS;
 import org.eclipse.scout.rt.security.IPermission;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlDirectJdbcConnectionProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcDriverNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcMappingNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionBusyTimeoutProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionLifetimeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolImplementationProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPropertiesProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcStatementCacheSizeProperty;
@@ -62,6 +64,7 @@ import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlTransactionMember
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlUsernameProperty;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.PreparedStatementCache;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementProcessor;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.ISqlConnectionPool;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionBuilder;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionPool;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
@@ -75,7 +78,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSqlService.class);
   public static final int DEFAULT_MEMORY_PREFETCH_SIZE = 1024 * 1024; // = 1MB default
 
-  private volatile SqlConnectionPool m_pool;
+  private volatile ISqlConnectionPool m_pool;
   private final String m_transactionMemberId;
   private final boolean m_directJdbcConnection;
   private final String m_jndiName;
@@ -88,9 +91,11 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private final int m_jdbcPoolSize;
   private final long m_jdbcPoolConnectionLifetime;
   private final long m_jdbcPoolConnectionBusyTimeout;
+  private final Class<? extends ISqlConnectionPool> m_jdbcPoolImplementation;
   private final String m_defaultUser;
   private final String m_defaultPass;
   private final int m_queryCacheSize;
+  private final int m_jdbcBatchSize;
   private final int m_maxFetchMemorySize;
   private final ISqlStyle m_sqlStyle;
 
@@ -117,9 +122,11 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     m_jdbcDriverName = getPropertyValue(SqlJdbcDriverNameProperty.class, getConfiguredJdbcDriverName());
     m_jdbcProps = getPropertyValue(SqlJdbcPropertiesProperty.class, getConfiguredJdbcProperties());
     m_queryCacheSize = getPropertyValue(SqlJdbcStatementCacheSizeProperty.class, getConfiguredJdbcStatementCacheSize());
+    m_jdbcBatchSize = getPropertyValue(SqlJdbcBatchSizeProperty.class, getConfiguredJdbcBatchSize());
     m_jdbcPoolSize = getPropertyValue(SqlJdbcPoolSizeProperty.class, getConfiguredJdbcPoolSize());
     m_jdbcPoolConnectionBusyTimeout = getPropertyValue(SqlJdbcPoolConnectionBusyTimeoutProperty.class, getConfiguredJdbcPoolConnectionBusyTimeout());
     m_jdbcPoolConnectionLifetime = getPropertyValue(SqlJdbcPoolConnectionLifetimeProperty.class, getConfiguredJdbcPoolConnectionLifetime());
+    m_jdbcPoolImplementation = getPropertyValue(SqlJdbcPoolImplementationProperty.class, getConfiguredJdbcPoolImplementation());
     m_maxFetchMemorySize = DEFAULT_MEMORY_PREFETCH_SIZE;
 
     // load sql style
@@ -248,6 +255,15 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return 21600000L;
   }
 
+  /**
+   * @return the {@link ISqlConnectionPool} bean used for direct JDBC connections.
+   */
+  @ConfigProperty(ConfigProperty.OBJECT)
+  @Order(155)
+  protected Class<? extends ISqlConnectionPool> getConfiguredJdbcPoolImplementation() {
+    return SqlConnectionPool.class;
+  }
+
   @ConfigProperty(ConfigProperty.INTEGER)
   @Order(160)
   protected int getConfiguredJdbcStatementCacheSize() {
@@ -278,6 +294,17 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return null;
   }
 
+  /**
+   * @return the maximum number of input batches (e.g. rows of an array or table holder bind) of an insert, update or
+   *         delete statement that are sent to the database in one JDBC batch. Values less than 2 disable JDBC
+   *         batching. Batching is only used if {@link ISqlStyle#isBatchUpdateSupported()} is <code>true</code>.
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(210)
+  protected int getConfiguredJdbcBatchSize() {
+    return 0;
+  }
+
   @ConfigOperation
   @Order(10)
   protected void execTestConnection(Connection conn) throws SQLException {
@@ -437,6 +464,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_queryCacheSize;
   }
 
+  public int getJdbcBatchSize() {
+    return m_jdbcBatchSize;
+  }
+
   public String getJndiName() {
     return m_jndiName;
   }
@@ -485,13 +516,17 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_jdbcPoolConnectionBusyTimeout;
   }
 
+  public Class<? extends ISqlConnectionPool> getJdbcPoolImplementation() {
+    return m_jdbcPoolImplementation;
+  }
+
   public int getMaxFetchMemorySize() {
     return m_maxFetchMemorySize;
   }
 
   @Override
   public String getInventory() {
-    final SqlConnectionPool pool = m_pool;
+    final ISqlConnectionPool pool = m_pool;
     if (pool != null) {
       return pool.getInventory();
     }
@@ -549,10 +584,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     }
   }
 
-  protected synchronized SqlConnectionPool getSqlConnectionPool() {
+  protected synchronized ISqlConnectionPool getSqlConnectionPool() {
     Assertions.assertFalse(isDestroyed(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
     if (m_pool == null) {
-      m_pool = BEANS.get(SqlConnectionPool.class);
+      m_pool = BEANS.get(getJdbcPoolImplementation());
       m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout());
     }
     return m_pool;
@@ -675,7 +710,9 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   }
 
   protected IStatementProcessor createStatementProcessor(String s, Object[] bindBases, int maxRowCount) {
-    return new StatementProcessor(this, s, bindBases, maxRowCount, m_maxFetchMemorySize);
+    StatementProcessor processor = new StatementProcessor(this, s, bindBases, maxRowCount, m_maxFetchMemorySize);
+    processor.setMaxBatchSize(getJdbcBatchSize());
+    return processor;
   }
 
   /**
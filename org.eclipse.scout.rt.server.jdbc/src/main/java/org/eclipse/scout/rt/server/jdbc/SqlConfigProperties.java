@@ -11,9 +11,13 @@
 package org.eclipse.scout.rt.server.jdbc;
 
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractClassConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.FairSqlConnectionPool;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.ISqlConnectionPool;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionPool;
 
 /**
  * Config properties for org.eclipse.scout.rt.server.jdbc
@@ -217,4 +221,72 @@ public final class SqlConfigProperties {
       return "The maximum number of connections to create. The default pool size is 25.";
     }
   }
+
+  public static class SqlJdbcPoolImplementationProperty extends AbstractClassConfigProperty<ISqlConnectionPool> {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.implementation";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Fully qualified class name of the pool for direct JDBC connections. The class must implement '%s'.\n"
+          + "By default '%s' is used. '%s' is an alternative without a global pool lock which hands over connections to waiting threads in FIFO order.",
+          ISqlConnectionPool.class.getName(), SqlConnectionPool.class.getName(), FairSqlConnectionPool.class.getName());
+    }
+  }
+
+  public static class SqlJdbcPoolLeaseTimeoutProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.leaseTimeout";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 0L;
+    }
+
+    @Override
+    public String description() {
+      return String.format("Maximum time in milliseconds to wait for a free connection of the pool. Only used by '%s'. "
+          + "The default value is 0 which waits indefinitely.", FairSqlConnectionPool.class.getName());
+    }
+  }
+
+  public static class SqlJdbcBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.batchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of input batches (e.g. rows of an array or table holder bind) of an insert, update or delete statement that are sent to the database in one JDBC batch. "
+          + "Values less than 2 disable JDBC batching. The default value is 0.";
+    }
+  }
+
+  public static class SqlParsedStatementCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.parsedStatementCacheSize";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1000;
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of parsed SQL statements (bind and select into tokens) which are shared by all SQL services. "
+          + "Set to 0 to disable the cache. The default value is 1000.";
+    }
+  }
 }
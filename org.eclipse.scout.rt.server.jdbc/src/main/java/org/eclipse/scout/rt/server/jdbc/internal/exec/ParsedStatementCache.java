@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlParsedStatementCacheSizeProperty;
+import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
+import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
+
+/**
+ * Bounded cache of parsed SQL statements shared by all {@link StatementProcessor}s.
+ * <p>
+ * Parsing the select into and bind tokens only depends on the statement text. The cached models are never handed out
+ * directly: {@link #get(String)} returns deep copies since the tokens are modified while binding (e.g. replace tokens
+ * of database specific functions or plain binds). Statements containing tokens which cannot be copied (see
+ * {@link org.eclipse.scout.rt.server.jdbc.parsers.token.IToken#isCopyable()}) are not cached.
+ * <p>
+ * The size of the cache is configured by {@link SqlParsedStatementCacheSizeProperty}, 0 disables caching.
+ */
+@ApplicationScoped
+public class ParsedStatementCache {
+
+  private final Map<String, ParsedStatement> m_cache;
+  private final AtomicLong m_hitCount = new AtomicLong();
+  private final AtomicLong m_missCount = new AtomicLong();
+
+  public ParsedStatementCache() {
+    int cacheSize = CONFIG.getPropertyValue(SqlParsedStatementCacheSizeProperty.class);
+    m_cache = cacheSize > 0 ? new ConcurrentExpiringMap<>(0, TimeUnit.MILLISECONDS, cacheSize) : null;
+  }
+
+  /**
+   * @return the parsed statement. The returned models are private to the caller and may be modified.
+   */
+  public ParsedStatement get(String statement) {
+    if (m_cache == null || statement == null) {
+      m_missCount.incrementAndGet();
+      return parse(statement);
+    }
+    ParsedStatement parsedStatement = m_cache.get(statement);
+    if (parsedStatement != null) {
+      m_hitCount.incrementAndGet();
+      return parsedStatement.copy();
+    }
+    m_missCount.incrementAndGet();
+    parsedStatement = parse(statement);
+    if (!parsedStatement.isCopyable()) {
+      // statement contains custom tokens which cannot be copied: not cacheable, hand out the private parse result
+      return parsedStatement;
+    }
+    m_cache.put(statement, parsedStatement);
+    return parsedStatement.copy();
+  }
+
+  protected ParsedStatement parse(String statement) {
+    IntoModel intoModel = new IntoParser(statement).parse();
+    BindModel bindModel = new BindParser(intoModel.getFilteredStatement()).parse();
+    return new ParsedStatement(intoModel, bindModel);
+  }
+
+  public boolean isEnabled() {
+    return m_cache != null;
+  }
+
+  public int size() {
+    return m_cache != null ? m_cache.size() : 0;
+  }
+
+  public long getHitCount() {
+    return m_hitCount.get();
+  }
+
+  public long getMissCount() {
+    return m_missCount.get();
+  }
+
+  public void clear() {
+    if (m_cache != null) {
+      m_cache.clear();
+    }
+    m_hitCount.set(0);
+    m_missCount.set(0);
+  }
+
+  /**
+   * Select into model and bind model of a statement.
+   */
+  public static final class ParsedStatement {
+    private final IntoModel m_intoModel;
+    private final BindModel m_bindModel;
+
+    public ParsedStatement(IntoModel intoModel, BindModel bindModel) {
+      m_intoModel = intoModel;
+      m_bindModel = bindModel;
+    }
+
+    public IntoModel getIntoModel() {
+      return m_intoModel;
+    }
+
+    public BindModel getBindModel() {
+      return m_bindModel;
+    }
+
+    /**
+     * @return <code>true</code> if the statement can be copied and therefore be cached (see
+     *         {@link BindModel#isCopyable()})
+     */
+    public boolean isCopyable() {
+      return m_bindModel.isCopyable();
+    }
+
+    /**
+     * @return a deep copy. The models of the copy may be modified without affecting this statement.
+     */
+    public ParsedStatement copy() {
+      return new ParsedStatement(m_intoModel.copy(), m_bindModel.copy());
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.ObjectName;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.CreateImmediately;
+import org.eclipse.scout.rt.platform.context.PlatformIdentifier;
+import org.eclipse.scout.rt.platform.jmx.MBeanUtility;
+
+@ApplicationScoped
+@CreateImmediately
+public class ParsedStatementCacheMBean implements IParsedStatementCacheMBean {
+
+  @PostConstruct
+  protected void register() {
+    MBeanUtility.register(jmxObjectName(), this);
+  }
+
+  @PreDestroy
+  protected void unregister() {
+    MBeanUtility.unregister(jmxObjectName());
+  }
+
+  protected ObjectName jmxObjectName() {
+    return MBeanUtility.toJmxName("org.eclipse.scout.rt.server.jdbc", PlatformIdentifier.get(), ParsedStatementCache.class.getSimpleName());
+  }
+
+  protected ParsedStatementCache getCache() {
+    return BEANS.get(ParsedStatementCache.class);
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return getCache().isEnabled();
+  }
+
+  @Override
+  public int getCacheSize() {
+    return getCache().size();
+  }
+
+  @Override
+  public long getHitCount() {
+    return getCache().getHitCount();
+  }
+
+  @Override
+  public long getMissCount() {
+    return getCache().getMissCount();
+  }
+
+  @Override
+  public double getHitRatio() {
+    long hits = getHitCount();
+    long total = hits + getMissCount();
+    return total == 0 ? 0 : 100.0 * hits / total;
+  }
+
+  @Override
+  public void clear() {
+    getCache().clear();
+  }
+}
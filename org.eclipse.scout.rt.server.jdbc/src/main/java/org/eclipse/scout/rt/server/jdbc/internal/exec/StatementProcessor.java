@@ -52,11 +52,10 @@ import org.eclipse.scout.rt.server.jdbc.IStatementCache;
 import org.eclipse.scout.rt.server.jdbc.IStatementProcessor;
 import org.eclipse.scout.rt.server.jdbc.IStatementProcessorMonitor;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.ParsedStatementCache.ParsedStatement;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
 import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
 import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
 import org.eclipse.scout.rt.server.jdbc.parsers.sql.SqlFormatter;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.DatabaseSpecificToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.FunctionInputToken;
@@ -93,6 +92,7 @@ public class StatementProcessor implements IStatementProcessor {
   private final List<IBindOutput> m_outputList;
   // state
   private int m_maxFetchSize = -1;
+  private int m_maxBatchSize;
   private int m_currentInputBatchIndex = -1;
   private int m_currentOutputBatchIndex = -1;
   private String m_currentInputStm;
@@ -139,10 +139,9 @@ public class StatementProcessor implements IStatementProcessor {
       m_inputList = new ArrayList<>();
       m_outputList = new ArrayList<>();
       //
-      IntoModel intoModel = new IntoParser(m_originalStm).parse();
-      String stmWithoutSelectInto = intoModel.getFilteredStatement();
-      //
-      m_bindModel = new BindParser(stmWithoutSelectInto).parse();
+      ParsedStatement parsedStatement = BEANS.get(ParsedStatementCache.class).get(m_originalStm);
+      IntoModel intoModel = parsedStatement.getIntoModel();
+      m_bindModel = parsedStatement.getBindModel();
       m_ioTokens = m_bindModel.getIOTokens();
       //
       int jdbcBindIndex = 1;
@@ -193,6 +192,19 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  /**
+   * @return the maximum number of input batches of {@link #processModification(Connection, IStatementCache,
+   *         IStatementProcessorMonitor)} which are sent to the database in one JDBC batch. Values less than 2 disable
+   *         JDBC batching.
+   */
+  public int getMaxBatchSize() {
+    return m_maxBatchSize;
+  }
+
+  public void setMaxBatchSize(int maxBatchSize) {
+    m_maxBatchSize = maxBatchSize;
+  }
+
   protected TreeMap<Integer, SqlBind> getCurrentInputBindMap() {
     return m_currentInputBindMap;
   }
@@ -428,6 +440,9 @@ public class StatementProcessor implements IStatementProcessor {
   @SuppressWarnings("resource")
   @Override
   public int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor) {
+    if (isJdbcBatchEnabled()) {
+      return processModificationJdbcBatch(conn, cache);
+    }
     PreparedStatement ps = null;
     int rowCount = 0;
     try {
@@ -457,6 +472,109 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  /**
+   * @return <code>true</code> if the input batches of a modification are sent to the database using JDBC batch
+   *         updates. This requires a {@link #getMaxBatchSize()} greater than 1, an {@link ISqlStyle} supporting batch
+   *         updates and at least one batch input bind (array, collection or table holder).
+   */
+  protected boolean isJdbcBatchEnabled() {
+    if (m_maxBatchSize < 2) {
+      return false;
+    }
+    ISqlStyle sqlStyle = m_callerService.getSqlStyle();
+    if (sqlStyle == null || !sqlStyle.isBatchUpdateSupported()) {
+      return false;
+    }
+    for (IBindInput in : m_inputList) {
+      if (in.isBatch()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Same as {@link #processModification(Connection, IStatementCache, IStatementProcessorMonitor)} but the input batches
+   * are added to a JDBC batch ({@link PreparedStatement#addBatch()}) which is executed whenever
+   * {@link #getMaxBatchSize()} is reached or the statement text changes (e.g. because of plain binds).
+   */
+  @SuppressWarnings("resource")
+  protected int processModificationJdbcBatch(Connection conn, IStatementCache cache) {
+    PreparedStatement ps = null;
+    String psStatement = null;
+    int pendingCount = 0;
+    int rowCount = 0;
+    try {
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        if (ps != null && !psStatement.equals(m_currentInputStm)) {
+          rowCount += executeJdbcBatch(ps);
+          pendingCount = 0;
+          cache.releasePreparedStatement(ps);
+          ps = null;
+        }
+        if (ps == null) {
+          ps = cache.getPreparedStatement(conn, m_currentInputStm);
+          psStatement = m_currentInputStm;
+        }
+        bindBatch(ps);
+        ps.addBatch();
+        pendingCount++;
+        if (pendingCount >= m_maxBatchSize) {
+          rowCount += executeJdbcBatch(ps);
+          pendingCount = 0;
+        }
+      }
+      if (pendingCount > 0) {
+        rowCount += executeJdbcBatch(ps);
+        pendingCount = 0;
+      }
+      return rowCount;
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+    finally {
+      if (ps != null && pendingCount > 0) {
+        // do not leave pending batch entries on a (cached) statement
+        try {
+          ps.clearBatch();
+        }
+        catch (SQLException e) {
+          LOG.debug("Could not clear batch", e);
+        }
+      }
+      cache.releasePreparedStatement(ps);
+    }
+  }
+
+  /**
+   * Executes the pending JDBC batch of the given statement.
+   *
+   * @return the number of affected rows. Entries reported as {@link Statement#SUCCESS_NO_INFO} are counted as one row.
+   */
+  protected int executeJdbcBatch(PreparedStatement ps) throws SQLException {
+    registerActiveStatement(ps);
+    try {
+      int rowCount = 0;
+      for (int count : ps.executeBatch()) {
+        if (count == Statement.SUCCESS_NO_INFO) {
+          rowCount++;
+        }
+        else if (count > 0) {
+          rowCount += count;
+        }
+      }
+      return rowCount;
+    }
+    finally {
+      unregisterActiveStatement(ps);
+    }
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
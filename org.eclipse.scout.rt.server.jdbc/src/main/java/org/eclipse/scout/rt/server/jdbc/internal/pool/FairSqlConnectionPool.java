@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.ObjectName;
+
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.PlatformIdentifier;
+import org.eclipse.scout.rt.platform.jmx.MBeanUtility;
+import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolLeaseTimeoutProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Connection pool which does not serialize leases and releases on a single monitor.
+ * <ul>
+ * <li>Idle connections are kept in a lock-free stack, the most recently released connection is leased first.</li>
+ * <li>A fair {@link Semaphore} with one permit per connection hands over released connections to waiting threads in
+ * FIFO order. A release wakes up a single waiter only.</li>
+ * <li>Waiting for a connection is limited by {@link SqlJdbcPoolLeaseTimeoutProperty}.</li>
+ * <li>Idle connections are validated with {@link AbstractSqlService#callbackTestConnection(Connection)} when they are
+ * leased.</li>
+ * </ul>
+ * Pool metrics are available by JMX, see {@link IFairSqlConnectionPoolMBean}.
+ * <p>
+ * This class is thread-safe.
+ */
+@Bean
+@SuppressWarnings("squid:S1166")
+public class FairSqlConnectionPool implements ISqlConnectionPool, IFairSqlConnectionPoolMBean {
+  private static final Logger LOG = LoggerFactory.getLogger(FairSqlConnectionPool.class);
+
+  private static final long[] WAIT_TIME_HISTOGRAM_BOUNDS = {1, 10, 100, 1000, 10000};
+
+  private volatile boolean m_destroyed;
+  private final String m_identity = UUID.randomUUID().toString();
+
+  private final Deque<PoolEntry> m_idleEntries = new ConcurrentLinkedDeque<>();
+  private final Map<Connection, PoolEntry> m_busyEntries = new ConcurrentHashMap<>();
+  private volatile Semaphore m_permits;
+  private volatile String m_name;
+  private volatile int m_poolSize;
+  private volatile long m_connectionLifetime;
+  private volatile long m_connectionBusyTimeout;
+  private volatile long m_leaseTimeout;
+  private final AtomicBoolean m_initialized = new AtomicBoolean(false);
+
+  private final AtomicLong m_leaseCount = new AtomicLong();
+  private final AtomicLong m_leaseTimeoutCount = new AtomicLong();
+  private final AtomicLong m_maxWaitTime = new AtomicLong();
+  private final AtomicLongArray m_waitTimeHistogram = new AtomicLongArray(WAIT_TIME_HISTOGRAM_BOUNDS.length + 1);
+
+  @Override
+  public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
+    Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
+    m_name = name;
+    m_poolSize = poolSize;
+    m_connectionLifetime = connectionLifetime;
+    m_connectionBusyTimeout = connectionBusyTimeout;
+    m_leaseTimeout = loadLeaseTimeout();
+    m_permits = new Semaphore(poolSize, true);
+    MBeanUtility.register(jmxObjectName(), this);
+    startManagePool();
+  }
+
+  /**
+   * @return maximum time in milliseconds to wait for a connection, 0 to wait indefinitely
+   */
+  protected long loadLeaseTimeout() {
+    return CONFIG.getPropertyValue(SqlJdbcPoolLeaseTimeoutProperty.class);
+  }
+
+  protected ObjectName jmxObjectName() {
+    return MBeanUtility.toJmxName("org.eclipse.scout.rt.server.jdbc", PlatformIdentifier.get(), getClass().getSimpleName() + "." + m_name);
+  }
+
+  /**
+   * Start managing pool
+   */
+  private void startManagePool() {
+    Jobs.schedule(this::managePool, Jobs.newInput()
+        .withName("Managing SQL connection pool for {}", m_name)
+        .withExecutionHint(m_identity)
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(1, TimeUnit.MINUTES)
+            .withSchedule(FixedDelayScheduleBuilder.repeatForever(1, TimeUnit.MINUTES))));
+  }
+
+  @Override
+  public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    assertNotDestroyed();
+    acquirePermit();
+    boolean leased = false;
+    try {
+      assertNotDestroyed();
+      PoolEntry entry = null;
+      while (entry == null) {
+        entry = m_idleEntries.pollFirst();
+        if (entry == null) {
+          entry = createEntry(service);
+        }
+        else if (isExpired(entry)) {
+          closeConnectionAsync(entry.conn, "expired idle connection");
+          entry = null;
+        }
+        else if (!testConnection(service, entry)) {
+          entry = null;
+        }
+      }
+      entry.leaseBegin = System.currentTimeMillis();
+      entry.leaseCount++;
+      m_busyEntries.put(entry.conn, entry);
+      m_leaseCount.incrementAndGet();
+      leased = true;
+      LOG.debug("lease   {}", entry.conn);
+      return entry.conn;
+    }
+    finally {
+      if (!leased) {
+        m_permits.release();
+      }
+    }
+  }
+
+  protected void acquirePermit() {
+    long start = System.nanoTime();
+    try {
+      if (m_leaseTimeout > 0) {
+        if (!m_permits.tryAcquire(m_leaseTimeout, TimeUnit.MILLISECONDS)) {
+          m_leaseTimeoutCount.incrementAndGet();
+          throw new TimedOutError("Timed out while leasing database connection")
+              .withContextInfo("pool", m_name)
+              .withContextInfo("leaseTimeout", "{}ms", m_leaseTimeout);
+        }
+      }
+      else {
+        m_permits.acquire();
+      }
+    }
+    catch (InterruptedException ie) {
+      Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
+      throw new ThreadInterruptedError("Interrupted while leasing database connection");
+    }
+    recordWaitTime(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+
+  protected PoolEntry createEntry(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    PoolEntry entry = new PoolEntry();
+    entry.conn = createConnection(service);
+    LOG.info("created jdbc connection {}", entry.conn);
+    service.callbackAfterConnectionCreated(entry.conn);
+    entry.createTime = System.currentTimeMillis();
+    return entry;
+  }
+
+  protected Connection createConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    return new SqlConnectionBuilder().createJdbcConnection(service);
+  }
+
+  /**
+   * @return <code>true</code> if the connection of the idle entry is valid. Otherwise the connection is closed.
+   */
+  protected boolean testConnection(AbstractSqlService service, PoolEntry entry) {
+    try {
+      service.callbackTestConnection(entry.conn);
+      return true;
+    }
+    catch (Exception e) {
+      LOG.warn("closing dirty connection: {}", entry.conn, e);
+      try {
+        entry.conn.close();
+      }
+      catch (Exception fatal) {
+        LOG.warn("could not close candidate connection", fatal);
+      }
+      return false;
+    }
+  }
+
+  @Override
+  public void releaseConnection(Connection conn) {
+    LOG.debug("release {}", conn);
+    assertNotDestroyed();
+
+    PoolEntry candidate = m_busyEntries.remove(conn);
+    if (candidate == null) {
+      // unknown or timed out busy connection (the permit was already released by managePool)
+      closeDirtyConnection(conn);
+      return;
+    }
+    try {
+      if (isReusable(candidate.conn)) {
+        candidate.leaseBegin = 0;
+        m_idleEntries.addFirst(candidate);
+      }
+      else {
+        closeDirtyConnection(conn);
+      }
+    }
+    finally {
+      m_permits.release();
+    }
+  }
+
+  protected boolean isReusable(Connection conn) {
+    try {
+      if (conn.isClosed()) {
+        return false;
+      }
+      if (conn.getWarnings() != null) {
+        /*
+         * connection is normally valid again after clearing the warnings.
+         * Since oracle is not supporting warnings, the subsequent call has no effect!
+         */
+        conn.clearWarnings();
+      }
+      return true;
+    }
+    catch (Exception e) {
+      return false;
+    }
+  }
+
+  protected void closeDirtyConnection(Connection conn) {
+    LOG.warn("closing dirty connection: {}", conn);
+    try {
+      conn.close();
+    }
+    catch (SQLException e) {
+      // ignored
+    }
+  }
+
+  protected boolean isExpired(PoolEntry entry) {
+    return System.currentTimeMillis() - entry.createTime > m_connectionLifetime;
+  }
+
+  protected void recordWaitTime(long waitTimeMillis) {
+    int bucket = 0;
+    while (bucket < WAIT_TIME_HISTOGRAM_BOUNDS.length && waitTimeMillis >= WAIT_TIME_HISTOGRAM_BOUNDS[bucket]) {
+      bucket++;
+    }
+    m_waitTimeHistogram.incrementAndGet(bucket);
+    m_maxWaitTime.accumulateAndGet(waitTimeMillis, Math::max);
+  }
+
+  @Override
+  public String getInventory() {
+    StringBuilder buf = new StringBuilder();
+    SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
+    List<PoolEntry> busyEntries = new ArrayList<>(m_busyEntries.values());
+    List<PoolEntry> idleEntries = new ArrayList<>(m_idleEntries);
+    buf.append("Total connections: ").append(busyEntries.size() + idleEntries.size());
+    buf.append("\n");
+    buf.append("Busy: ").append(busyEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : busyEntries) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
+          .append(fmt.format(new Date(e.leaseBegin)));
+      buf.append("\n");
+    }
+    buf.append("Idle: ").append(idleEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : idleEntries) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
+      buf.append("\n");
+    }
+    buf.append("Waiting: ").append(getWaitingCount());
+    buf.append("\n");
+    return buf.toString();
+  }
+
+  /**
+   * Thread worker to manage pool
+   */
+  protected void managePool() {
+    try {
+      if (isDestroyed()) {
+        return;
+      }
+
+      // close old idle connections
+      for (PoolEntry e : m_idleEntries) {
+        if (isExpired(e) && m_idleEntries.removeFirstOccurrence(e)) {
+          closeConnectionAsync(e.conn, "expired idle connection");
+        }
+      }
+      // close timed out busy connections
+      long now = System.currentTimeMillis();
+      for (PoolEntry e : m_busyEntries.values()) {
+        if (now - e.leaseBegin > m_connectionBusyTimeout && m_busyEntries.remove(e.conn, e)) {
+          closeConnectionAsync(e.conn, "timed out busy connection");
+          m_permits.release();
+        }
+      }
+    }
+    catch (Exception t) {
+      LOG.warn("Unexpected Problem while managing SQL connection pool", t);
+    }
+  }
+
+  protected void assertNotDestroyed() {
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+  }
+
+  @Override
+  public boolean isDestroyed() {
+    return m_destroyed;
+  }
+
+  @Override
+  public synchronized void destroy() {
+    if (isDestroyed()) {
+      return;
+    }
+    m_destroyed = true;
+
+    // Cancel jobs.
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(m_identity)
+        .toFilter(), true);
+
+    PoolEntry idleEntry;
+    while ((idleEntry = m_idleEntries.pollFirst()) != null) {
+      closeConnectionAsync(idleEntry.conn, "destroying SQL connection pool");
+    }
+    for (Connection busyConnection : m_busyEntries.keySet()) {
+      if (m_busyEntries.remove(busyConnection) != null) {
+        closeConnectionAsync(busyConnection, "destroying SQL connection pool");
+      }
+    }
+
+    Semaphore permits = m_permits;
+    if (permits != null) {
+      // wake up all waiting threads, they fail because the pool is destroyed
+      permits.release(permits.getQueueLength() + m_poolSize);
+      MBeanUtility.unregister(jmxObjectName());
+    }
+  }
+
+  protected void closeConnectionAsync(final Connection connection, final String reason) {
+    Jobs.schedule(() -> {
+      LOG.info("Closing SQL connection {}", connection);
+      try {
+        connection.close();
+      }
+      catch (SQLException e) {
+        LOG.error("Failed to close SQL connection [connection={}]", connection, e);
+      }
+    }, Jobs.newInput()
+        .withName("Closing SQL connection [name={}, connection={}, reason={}]", m_name, connection, reason)
+        .withExecutionHint(m_identity));
+  }
+
+  /*
+   * JMX
+   */
+
+  @Override
+  public String getName() {
+    return m_name;
+  }
+
+  @Override
+  public int getPoolSize() {
+    return m_poolSize;
+  }
+
+  @Override
+  public int getActiveCount() {
+    return m_busyEntries.size();
+  }
+
+  @Override
+  public int getIdleCount() {
+    return m_idleEntries.size();
+  }
+
+  @Override
+  public int getWaitingCount() {
+    Semaphore permits = m_permits;
+    return permits != null ? permits.getQueueLength() : 0;
+  }
+
+  @Override
+  public long getLeaseCount() {
+    return m_leaseCount.get();
+  }
+
+  @Override
+  public long getLeaseTimeoutCount() {
+    return m_leaseTimeoutCount.get();
+  }
+
+  @Override
+  public long getMaxWaitTime() {
+    return m_maxWaitTime.get();
+  }
+
+  @Override
+  public long[] getWaitTimeHistogramBounds() {
+    return WAIT_TIME_HISTOGRAM_BOUNDS.clone();
+  }
+
+  @Override
+  public long[] getWaitTimeHistogram() {
+    long[] histogram = new long[m_waitTimeHistogram.length()];
+    for (int i = 0; i < histogram.length; i++) {
+      histogram[i] = m_waitTimeHistogram.get(i);
+    }
+    return histogram;
+  }
+}
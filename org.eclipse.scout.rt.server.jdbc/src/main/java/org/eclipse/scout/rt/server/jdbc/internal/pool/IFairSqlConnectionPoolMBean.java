@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import javax.management.MXBean;
+
+@MXBean
+public interface IFairSqlConnectionPoolMBean {
+
+  String getName();
+
+  int getPoolSize();
+
+  /**
+   * @return number of leased connections
+   */
+  int getActiveCount();
+
+  int getIdleCount();
+
+  /**
+   * @return estimated number of threads waiting for a connection
+   */
+  int getWaitingCount();
+
+  long getLeaseCount();
+
+  long getLeaseTimeoutCount();
+
+  /**
+   * @return maximum time in milliseconds a thread waited for a connection
+   */
+  long getMaxWaitTime();
+
+  /**
+   * @return upper bounds (exclusive, in milliseconds) of the buckets of {@link #getWaitTimeHistogram()}
+   */
+  long[] getWaitTimeHistogramBounds();
+
+  /**
+   * @return number of leases per wait time bucket. The last bucket counts all leases which waited at least the last
+   *         value of {@link #getWaitTimeHistogramBounds()}.
+   */
+  long[] getWaitTimeHistogram();
+
+  String getInventory();
+}
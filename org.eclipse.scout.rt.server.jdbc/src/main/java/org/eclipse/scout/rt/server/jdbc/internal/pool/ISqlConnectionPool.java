@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolImplementationProperty;
+
+/**
+ * Pool of direct JDBC connections of an {@link AbstractSqlService}. There is one pool for every ISqlService sub class
+ * type. Implementations must be thread-safe.
+ *
+ * @see SqlJdbcPoolImplementationProperty
+ */
+public interface ISqlConnectionPool {
+
+  void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout);
+
+  Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException;
+
+  void releaseConnection(Connection conn);
+
+  String getInventory();
+
+  /**
+   * Returns whether this SQL pool was destroyed, and cannot be used anymore.
+   */
+  boolean isDestroyed();
+
+  /**
+   * Destroys this connection pool. Upon return, this pool cannot be used anymore.
+   */
+  void destroy();
+}
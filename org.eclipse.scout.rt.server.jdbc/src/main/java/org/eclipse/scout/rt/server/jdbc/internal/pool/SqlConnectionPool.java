@@ -37,7 +37,7 @@ import org.slf4j.LoggerFactory;
  */
 @Bean
 @SuppressWarnings("squid:S1166")
-public class SqlConnectionPool {
+public class SqlConnectionPool implements ISqlConnectionPool {
   private static final Logger LOG = LoggerFactory.getLogger(SqlConnectionPool.class);
 
   private volatile boolean m_destroyed;
@@ -55,6 +55,7 @@ public class SqlConnectionPool {
   private volatile long m_connectionBusyTimeout;
   private final AtomicBoolean m_initialized = new AtomicBoolean(false);
 
+  @Override
   public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
     Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
     m_name = name;
@@ -76,6 +77,7 @@ public class SqlConnectionPool {
             .withSchedule(FixedDelayScheduleBuilder.repeatForever(1, TimeUnit.MINUTES))));
   }
 
+  @Override
   public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
     managePool();
     synchronized (m_poolLock) {
@@ -137,6 +139,7 @@ public class SqlConnectionPool {
     }
   }
 
+  @Override
   public void releaseConnection(Connection conn) {
     LOG.debug("release {}", conn);
     synchronized (m_poolLock) {
@@ -201,6 +204,7 @@ public class SqlConnectionPool {
     managePool();
   }
 
+  @Override
   public String getInventory() {
     StringBuilder buf = new StringBuilder();
     SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
@@ -259,16 +263,12 @@ public class SqlConnectionPool {
     }
   }
 
-  /**
-   * Returns whether this SQL pool was destroyed, and cannot be used anymore.
-   */
+  @Override
   public boolean isDestroyed() {
     return m_destroyed;
   }
 
-  /**
-   * Destroys this connection pool. Upon return, this pool cannot be used anymore.
-   */
+  @Override
   public void destroy() {
     if (isDestroyed()) {
       return;
@@ -38,6 +38,31 @@ public class BindModel {
     m_ioTokens = ioList.toArray(new IToken[0]);
   }
 
+  /**
+   * @return <code>true</code> if all tokens can be copied (see {@link IToken#isCopyable()})
+   */
+  public boolean isCopyable() {
+    for (IToken token : m_allTokens) {
+      if (!token.isCopyable()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return a deep copy of this model. The tokens of the copy may be modified without affecting this model.
+   * @throws UnsupportedOperationException
+   *           if a token cannot be copied (see {@link #isCopyable()})
+   */
+  public BindModel copy() {
+    IToken[] tokens = new IToken[m_allTokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = m_allTokens[i].copy();
+    }
+    return new BindModel(tokens);
+  }
+
   public IToken[] getAllTokens() {
     return m_allTokens;
   }
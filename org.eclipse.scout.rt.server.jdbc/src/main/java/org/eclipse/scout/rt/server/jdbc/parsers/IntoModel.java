@@ -21,6 +21,17 @@ public class IntoModel {
     m_intoTokens = intoTokens;
   }
 
+  /**
+   * @return a deep copy of this model. The tokens of the copy may be modified without affecting this model.
+   */
+  public IntoModel copy() {
+    ValueOutputToken[] tokens = new ValueOutputToken[m_intoTokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = m_intoTokens[i].copy();
+    }
+    return new IntoModel(m_filteredStatement, tokens);
+  }
+
   public ValueOutputToken[] getOutputTokens() {
     return m_intoTokens;
   }
@@ -56,4 +56,16 @@ public class DatabaseSpecificToken implements IToken {
     return m_name;
   }
 
+  @Override
+  public boolean isCopyable() {
+    return true;
+  }
+
+  @Override
+  public DatabaseSpecificToken copy() {
+    DatabaseSpecificToken t = new DatabaseSpecificToken(m_parsedToken, m_name);
+    t.m_replaceToken = m_replaceToken;
+    return t;
+  }
+
 }
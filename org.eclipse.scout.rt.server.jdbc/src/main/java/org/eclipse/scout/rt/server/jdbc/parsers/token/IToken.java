@@ -21,4 +21,22 @@ public interface IToken {
   boolean isInput();
 
   boolean isOutput();
+
+  /**
+   * @return <code>true</code> if {@link #copy()} is supported. <code>false</code> by default. Statements containing
+   *         tokens which cannot be copied are not cached and parsed anew for every execution.
+   */
+  default boolean isCopyable() {
+    return false;
+  }
+
+  /**
+   * @return a copy of this token which can be modified (e.g. {@link #setReplaceToken(String)}) without affecting this
+   *         token. Immutable tokens may return themselves.
+   * @throws UnsupportedOperationException
+   *           if the token cannot be copied (see {@link #isCopyable()})
+   */
+  default IToken copy() {
+    throw new UnsupportedOperationException("Token cannot be copied: " + getClass().getName());
+  }
 }
@@ -42,6 +42,16 @@ public class TextToken implements IToken {
     throw new IllegalArgumentException("Cannot replace content of a TextToken");
   }
 
+  @Override
+  public boolean isCopyable() {
+    return true;
+  }
+
+  @Override
+  public TextToken copy() {
+    return this; // immutable
+  }
+
   @Override
   public String toString() {
     return "TextToken[" + m_parsedToken + "]";
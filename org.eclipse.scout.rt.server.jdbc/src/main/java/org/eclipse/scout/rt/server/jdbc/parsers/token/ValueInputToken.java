@@ -118,6 +118,21 @@ public class ValueInputToken implements IToken {
     m_batch = b;
   }
 
+  @Override
+  public boolean isCopyable() {
+    return true;
+  }
+
+  @Override
+  public ValueInputToken copy() {
+    ValueInputToken t = new ValueInputToken(m_parsedToken, m_name, m_plainValue, m_plainSql);
+    t.m_parsedOp = m_parsedOp;
+    t.m_parsedAttribute = m_parsedAttribute;
+    t.m_replaceToken = m_replaceToken;
+    t.m_batch = m_batch;
+    return t;
+  }
+
   @Override
   public String toString() {
     StringBuilder b = new StringBuilder();
@@ -76,6 +76,19 @@ public class ValueOutputToken implements IToken {
     m_batch = b;
   }
 
+  @Override
+  public boolean isCopyable() {
+    return true;
+  }
+
+  @Override
+  public ValueOutputToken copy() {
+    ValueOutputToken t = new ValueOutputToken(m_parsedToken, m_name, m_selectInto);
+    t.m_replaceToken = m_replaceToken;
+    t.m_batch = m_batch;
+    return t;
+  }
+
   @Override
   public String toString() {
     StringBuilder b = new StringBuilder();
@@ -1070,6 +1070,11 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
     return adaptBindName(bindName);
   }
 
+  @Override
+  public boolean isBatchUpdateSupported() {
+    return true;
+  }
+
   @Override
   public void commit() {
   }
@@ -178,6 +178,20 @@ public interface ISqlStyle extends Serializable {
    */
   boolean isLargeString(String s);
 
+  /**
+   * flag signaling whether JDBC batch updates ({@link PreparedStatement#addBatch()} and
+   * {@link PreparedStatement#executeBatch()}) may be used for insert, update and delete statements with batch binds
+   * (arrays, collections or table holders).
+   * <p>
+   * The driver is expected to return the number of affected rows per batch entry. Entries reported as
+   * {@link java.sql.Statement#SUCCESS_NO_INFO} are counted as one affected row.
+   *
+   * @return <code>false</code> by default, {@link AbstractSqlStyle} returns <code>true</code>
+   */
+  default boolean isBatchUpdateSupported() {
+    return false;
+  }
+
   /*
    * Attribute filters Aggregate SQL code transforming the template code to
    * specific database sql the following methods display an example of an
@@ -15,7 +15,7 @@ import static org.hamcrest.core.IsNot.not;
 import static org.hamcrest.core.StringContains.containsString;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
@@ -87,6 +87,26 @@ public class ServiceOperationInvokerTest {
     assertProcessingException(res, exceptionMessage);
   }
 
+  @Test
+  public void testInvokeRepeatedly() {
+    when(m_pingSvc.ping(any(String.class))).thenReturn(m_testData);
+    ServiceOperationInvoker s = new ServiceOperationInvoker();
+    for (int i = 0; i < 3; i++) {
+      assertValidResponse(s.invoke(ServerRunContexts.empty(), createPingRequest()), m_testData);
+    }
+    verify(m_pingSvc, times(3)).ping("hello");
+  }
+
+  @Test
+  public void testServiceOperationCached() throws Exception {
+    ServiceOperationInvoker s = new ServiceOperationInvoker();
+    ServiceOperationInvoker.ServiceOperation serviceOp = s.getServiceOperation(createPingRequest());
+    assertSame(IPingService.class, serviceOp.getInterfaceClass());
+    assertEquals(IPingService.class.getMethod("ping", String.class), serviceOp.getMethod());
+    assertNotNull(serviceOp.getMethodHandle());
+    assertSame(serviceOp, s.getServiceOperation(createPingRequest()));
+  }
+
   /**
    * Asserts that the response contains an exception without the customMessage information (security)
    */
@@ -106,8 +126,11 @@ public class ServiceOperationInvokerTest {
 
   private ServiceTunnelResponse invokePingService(final ServerRunContext runcontext) {
     ServiceOperationInvoker s = new ServiceOperationInvoker();
-    ServiceTunnelRequest request = new ServiceTunnelRequest(IPingService.class.getName(), "ping", new Class[]{String.class}, new Object[]{"hello"});
-    return s.invoke(runcontext, request);
+    return s.invoke(runcontext, createPingRequest());
+  }
+
+  private ServiceTunnelRequest createPingRequest() {
+    return new ServiceTunnelRequest(IPingService.class.getName(), "ping", new Class[]{String.class}, new Object[]{"hello"});
   }
 
   private void assertValidResponse(ServiceTunnelResponse res, String data) {
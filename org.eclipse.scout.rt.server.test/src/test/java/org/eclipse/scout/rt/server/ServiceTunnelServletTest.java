@@ -13,16 +13,24 @@ package org.eclipse.scout.rt.server;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.security.AccessController;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 import javax.security.auth.Subject;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
@@ -35,6 +43,7 @@ import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationRegistry;
 import org.eclipse.scout.rt.server.commons.context.HttpRunContextProducer;
 import org.eclipse.scout.rt.server.commons.servlet.IHttpServletRoundtrip;
 import org.eclipse.scout.rt.server.commons.servlet.logging.ServletDiagnosticsProviderFactory;
@@ -43,7 +52,11 @@ import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.server.session.ServerSessionCache;
 import org.eclipse.scout.rt.server.session.ServerSessionProvider;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationAddress;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationStreamCodec;
 import org.eclipse.scout.rt.shared.services.common.ping.IPingService;
+import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
@@ -171,6 +184,56 @@ public class ServiceTunnelServletTest {
     assertEquals(0, res.getNotifications().size());
   }
 
+  /**
+   * A request with the stream header is answered with a client notification stream: a first heartbeat frame followed
+   * by a frame for each batch of notifications, until the request is cancelled.
+   */
+  @Test
+  public void testPostClientNotificationStream() throws Exception {
+    final String nodeId = "testStreamNodeId";
+    ClientNotificationRegistry registry = new ClientNotificationRegistry(60 * 1000) {
+      {
+        registerSession(nodeId, "testSessionId", "testUser");
+      }
+    };
+    m_beans.add(BeanTestingHelper.get().registerBean(
+        new BeanMetaData(ClientNotificationRegistry.class)
+            .withInitialInstance(registry)
+            .withApplicationScoped(true)));
+
+    PipedInputStream in = new PipedInputStream();
+    final P_PipedServletOutputStream out = new P_PipedServletOutputStream(new PipedOutputStream(in));
+    when(m_requestMock.getMethod()).thenReturn("POST");
+    when(m_requestMock.getHeader(ClientNotificationStreamCodec.STREAM_HTTP_HEADER)).thenReturn(nodeId);
+    when(m_responseMock.getOutputStream()).thenReturn(out);
+
+    final ServiceTunnelServlet servlet = new ServiceTunnelServlet();
+    IFuture<Void> future = Jobs.schedule(() -> servlet.doPost(m_requestMock, m_responseMock), Jobs.newInput()
+        .withRunContext(RunContexts.copyCurrent()));
+    try {
+      DataInputStream dataIn = new DataInputStream(in);
+      ClientNotificationStreamCodec codec = BEANS.get(ClientNotificationStreamCodec.class);
+      IServiceTunnelContentHandler contentHandler = BEANS.get(IServiceTunnelContentHandler.class);
+      contentHandler.initialize();
+
+      // heartbeat frame confirming the stream
+      assertTrue(codec.readFrame(dataIn, contentHandler).isEmpty());
+      verify(m_responseMock).setHeader(ClientNotificationStreamCodec.STREAM_HTTP_HEADER, Boolean.TRUE.toString());
+
+      registry.publishWithoutClusterNotification(Collections.singleton(
+          new ClientNotificationMessage(ClientNotificationAddress.createAllNodesAddress(), "testNotification", false, null)));
+      List<ClientNotificationMessage> notifications = codec.readFrame(dataIn, contentHandler);
+      assertEquals(1, notifications.size());
+      assertEquals("testNotification", notifications.get(0).getNotification());
+    }
+    finally {
+      future.cancel(true);
+    }
+    future.awaitDone(30, TimeUnit.SECONDS);
+    assertTrue(future.isDone());
+    verify(m_responseMock, never()).sendError(ArgumentMatchers.anyInt());
+  }
+
   private Answer<IServerSession> slowCreateTestsession(final TestServerSession testSession) {
     return invocation -> {
       Thread.sleep(2000); // simulate long running task
@@ -235,4 +298,36 @@ public class ServiceTunnelServletTest {
         .withDiagnostics(BEANS.get(ServletDiagnosticsProviderFactory.class).getProviders(req, resp));
   }
 
+  private static class P_PipedServletOutputStream extends ServletOutputStream {
+    private final PipedOutputStream m_out;
+
+    public P_PipedServletOutputStream(PipedOutputStream out) {
+      m_out = out;
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      // nop
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      m_out.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      m_out.write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      m_out.flush();
+    }
+  }
 }
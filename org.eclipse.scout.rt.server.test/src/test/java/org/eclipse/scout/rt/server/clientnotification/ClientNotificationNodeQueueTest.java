@@ -74,6 +74,18 @@ public class ClientNotificationNodeQueueTest {
     assertEquals("test1", notifications.get(0).getNotification());
   }
 
+  @Test
+  public void testConsumeAvailable() {
+    assertTrue(m_queue.consumeAvailable(10, 10, TimeUnit.MILLISECONDS).isEmpty());
+    putTestNotifications(3);
+    List<ClientNotificationMessage> notifications = m_queue.consumeAvailable(2, 10, TimeUnit.MILLISECONDS);
+    assertEquals(2, notifications.size());
+    assertEquals("test0", notifications.get(0).getNotification());
+    notifications = m_queue.consumeAvailable(2, 10, TimeUnit.MILLISECONDS);
+    assertEquals(1, notifications.size());
+    assertEquals("test2", notifications.get(0).getNotification());
+  }
+
   private void putTestNotifications(int count) {
     ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
     for (int i = 0; i < count; i++) {
@@ -62,6 +62,17 @@ public class RemoteServiceAccessDeniedTest {
     assertNonAccessible(bo, IMockChildProcessService.class, IMockChildProcessService.class.getMethod("interna1"), MockChildProcessService.class);
   }
 
+  @Test
+  public void testAnnotationsCached() throws Exception {
+    ServiceOperationInvokerMock bo = new ServiceOperationInvokerMock();
+    for (int i = 0; i < 2; i++) {
+      assertNonAccessible(bo, IMockProcessService.class, Object.class.getMethod("hashCode"), IMockProcessService.class);
+      assertAccessible(bo, IMockProcessService.class, IMockProcessService.class.getMethod("hello"), MockProcessService1.class);
+      assertNonAccessible(bo, IMockProcessService.class, IMockProcessService.class.getMethod("interna2"), MockProcessService1.class);
+      assertNonAccessible(bo, IMockProcessService.class, IMockProcessService.class.getMethod("hello"), MockProcessService2Sub.class);
+    }
+  }
+
   private static void assertAccessible(ServiceOperationInvokerMock bo, Class<?> serviceInterfaceClass, Method serviceOp, Class<?> serviceImplClass) throws Exception {
     bo.test(serviceInterfaceClass, serviceOp, serviceImplClass);
   }
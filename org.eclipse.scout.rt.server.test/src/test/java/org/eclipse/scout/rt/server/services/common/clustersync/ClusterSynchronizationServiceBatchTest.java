@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.services.common.clustersync;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.mom.api.IMessage;
+import org.eclipse.scout.rt.mom.api.IMomImplementor;
+import org.eclipse.scout.rt.mom.api.NullMomImplementor;
+import org.eclipse.scout.rt.mom.api.PublishInput;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.IBeanInstanceProducer;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.ITransaction;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncBatchDelayProperty;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncBatchMaxSizeProperty;
+import org.eclipse.scout.rt.server.TestServerSession;
+import org.eclipse.scout.rt.server.mom.IClusterMomDestinations;
+import org.eclipse.scout.rt.server.services.common.clustersync.ClusterSynchronizationServiceTest.TestClusterMom;
+import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationBatchMessage;
+import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationMessage;
+import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationProperties;
+import org.eclipse.scout.rt.shared.notification.NotificationHandlerRegistry;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+/**
+ * Tests for {@link ClusterSynchronizationService} with batching enabled.
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestServerSession.class)
+@RunWithSubject("default")
+public class ClusterSynchronizationServiceBatchTest {
+
+  private ClusterSynchronizationService m_svc;
+  private IMomImplementor m_nullMomImplementorSpy;
+  private ArgumentCaptor<IClusterNotificationMessage> m_msgCaptor;
+  private final List<IBean<?>> m_beans = new ArrayList<>();
+
+  @Before
+  public void before() {
+    m_nullMomImplementorSpy = spy(NullMomImplementor.class);
+    m_beans.add(BeanTestingHelper.get().registerBean(new BeanMetaData(TestClusterMom.class)));
+    m_beans.add(BeanTestingHelper.get().registerBean(new BeanMetaData(NullMomImplementor.class).withProducer((IBeanInstanceProducer<IMomImplementor>) bean -> m_nullMomImplementorSpy)));
+    m_beans.add(BeanTestingHelper.get().mockConfigProperty(ClusterSyncBatchMaxSizeProperty.class, 3));
+    // long delay: pending messages are only published if the batch is full or the service is disabled
+    m_beans.add(BeanTestingHelper.get().mockConfigProperty(ClusterSyncBatchDelayProperty.class, TimeUnit.HOURS.toMillis(1)));
+
+    m_msgCaptor = ArgumentCaptor.forClass(IClusterNotificationMessage.class);
+    doNothing().when(m_nullMomImplementorSpy).publish(eq(IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC), m_msgCaptor.capture(), any(PublishInput.class));
+
+    m_svc = new ClusterSynchronizationService();
+    m_svc.enable();
+  }
+
+  @After
+  public void after() {
+    m_svc.disable();
+    BeanTestingHelper.get().unregisterBeans(m_beans);
+  }
+
+  @Test
+  public void testTransactionalBatches() {
+    for (int i = 0; i < 4; i++) {
+      m_svc.publishTransactional("Testnotification" + i);
+    }
+    ITransaction.CURRENT.get().commitPhase1();
+    ITransaction.CURRENT.get().commitPhase2();
+
+    List<IClusterNotificationMessage> messages = m_msgCaptor.getAllValues();
+    assertEquals(2, messages.size());
+    assertEquals(Arrays.asList("Testnotification0", "Testnotification1", "Testnotification2"), messages.get(0).getNotification());
+    assertEquals(ClusterNotificationMessage.class, messages.get(1).getClass());
+    assertEquals("Testnotification3", messages.get(1).getNotification());
+    assertEquals(4, m_svc.getStatusInfo().getSentMessageCount());
+  }
+
+  @Test
+  public void testDelayedPublish() {
+    m_svc.publish("Testnotification0");
+    m_svc.publish("Testnotification1");
+    assertTrue(m_msgCaptor.getAllValues().isEmpty());
+
+    // batch is full
+    m_svc.publish("Testnotification2");
+    assertEquals(1, m_msgCaptor.getAllValues().size());
+    assertTrue(m_msgCaptor.getValue() instanceof ClusterNotificationBatchMessage);
+    assertEquals(3, ((ClusterNotificationBatchMessage) m_msgCaptor.getValue()).getMessages().size());
+
+    // pending messages are published when disabled, the delayed publishing is cancelled
+    m_svc.publish("Testnotification3");
+    assertEquals(1, m_msgCaptor.getAllValues().size());
+    assertFalse(Jobs.getJobManager().isDone(createFlushJobFilter()));
+    m_svc.disable();
+    assertTrue(Jobs.getJobManager().isDone(createFlushJobFilter()));
+    assertEquals(2, m_msgCaptor.getAllValues().size());
+    assertEquals("Testnotification3", m_msgCaptor.getValue().getNotification());
+    assertEquals(4, m_svc.getStatusInfo().getSentMessageCount());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testReceiveBatch() {
+    ClusterNotificationProperties props = new ClusterNotificationProperties("otherNode", "user");
+    ClusterNotificationBatchMessage batch = new ClusterNotificationBatchMessage(Arrays.asList(
+        new ClusterNotificationMessage("Testnotification0", props),
+        new ClusterNotificationMessage("Testnotification1", props)), props);
+    IMessage<IClusterNotificationMessage> momMsg = mock(IMessage.class);
+    when(momMsg.getTransferObject()).thenReturn(batch);
+    NotificationHandlerRegistry handlerRegistry = mock(NotificationHandlerRegistry.class);
+    m_beans.add(BeanTestingHelper.get().registerBean(new BeanMetaData(NotificationHandlerRegistry.class)
+        .withInitialInstance(handlerRegistry)
+        .withApplicationScoped(true)));
+    m_svc.onMessage(momMsg);
+
+    assertEquals(2, m_svc.getStatusInfo().getReceivedMessageCount());
+    assertEquals(2, m_svc.getStatusInfo(String.class).getReceivedMessageCount());
+    InOrder inOrder = inOrder(handlerRegistry);
+    inOrder.verify(handlerRegistry).notifyNotificationHandlers("Testnotification0");
+    inOrder.verify(handlerRegistry).notifyNotificationHandlers("Testnotification1");
+    verifyNoMoreInteractions(handlerRegistry);
+  }
+
+  private Predicate<IFuture<?>> createFlushJobFilter() {
+    return Jobs.newFutureFilterBuilder()
+        .andMatchName("Publishing cluster notifications")
+        .toFilter();
+  }
+}
@@ -13,8 +13,16 @@ package org.eclipse.scout.rt.server.services.lookup;
 import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import javax.security.auth.Subject;
+
+import org.eclipse.scout.rt.platform.cache.ICache;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.security.SimplePrincipal;
+import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupResultCache;
 import org.eclipse.scout.rt.shared.services.lookup.IBatchLookupService;
@@ -26,6 +34,7 @@ import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
 import org.eclipse.scout.rt.testing.platform.mock.BeanMock;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -116,6 +125,93 @@ public class BatchLookupTest {
     testInternal(SubclassedLocalFlowerLookupCallWithMembersWithEqualsOverride.class, 100, 0);
   }
 
+  @Test
+  @RunWithSubject("john")
+  public void testSharedCache() throws Exception {
+    BatchLookupService service = createSharedCacheService(false);
+
+    // equal calls of different requests are executed only once
+    for (int i = 0; i < 3; i++) {
+      List<List<ILookupRow<?>>> resultArray = service.getBatchDataByKey(createBatchCall(FlowerLookupCallWithMembersWithEqualsOverride.class));
+      assertEquals(10, resultArray.size());
+      assertEquals(1L, resultArray.get(0).get(0).getKey());
+    }
+    Mockito.verify(m_lookupService, Mockito.times(10)).getDataByKey(Mockito.<ILookupCall<Object>> any());
+
+    // not cacheable
+    service.getBatchDataByKey(createBatchCall(FlowerLookupCallWithMembersNoEqualsOverride.class));
+    service.getBatchDataByKey(createBatchCall(FlowerLookupCallWithMembersNoEqualsOverride.class));
+    Mockito.verify(m_lookupService, Mockito.times(30)).getDataByKey(Mockito.<ILookupCall<Object>> any());
+
+    service.invalidateCache(Collections.singleton(FlowerLookupCallWithMembersWithEqualsOverride.class));
+    service.getBatchDataByKey(createBatchCall(FlowerLookupCallWithMembersWithEqualsOverride.class));
+    Mockito.verify(m_lookupService, Mockito.times(40)).getDataByKey(Mockito.<ILookupCall<Object>> any());
+  }
+
+  @Test
+  public void testSharedCachePerUser() throws Exception {
+    BatchLookupService service = createSharedCacheService(false);
+
+    runWithSubject("john", () -> service.getBatchDataByKey(createBatchCall(FlowerLookupCallWithMembersWithEqualsOverride.class)));
+    runWithSubject("john", () -> service.getBatchDataByKey(createBatchCall(FlowerLookupCallWithMembersWithEqualsOverride.class)));
+    Mockito.verify(m_lookupService, Mockito.times(10)).getDataByKey(Mockito.<ILookupCall<Object>> any());
+
+    // results of other users are not shared
+    runWithSubject("anna", () -> service.getBatchDataByKey(createBatchCall(FlowerLookupCallWithMembersWithEqualsOverride.class)));
+    Mockito.verify(m_lookupService, Mockito.times(20)).getDataByKey(Mockito.<ILookupCall<Object>> any());
+
+    // without a user, the shared cache is not used
+    service.getBatchDataByKey(createBatchCall(FlowerLookupCallWithMembersWithEqualsOverride.class));
+    service.getBatchDataByKey(createBatchCall(FlowerLookupCallWithMembersWithEqualsOverride.class));
+    Mockito.verify(m_lookupService, Mockito.times(40)).getDataByKey(Mockito.<ILookupCall<Object>> any());
+  }
+
+  @Test
+  public void testSharedCacheAcrossUsers() throws Exception {
+    BatchLookupService service = createSharedCacheService(true);
+
+    runWithSubject("john", () -> service.getBatchDataByKey(createBatchCall(FlowerLookupCallWithMembersWithEqualsOverride.class)));
+    runWithSubject("anna", () -> service.getBatchDataByKey(createBatchCall(FlowerLookupCallWithMembersWithEqualsOverride.class)));
+    service.getBatchDataByKey(createBatchCall(FlowerLookupCallWithMembersWithEqualsOverride.class));
+    Mockito.verify(m_lookupService, Mockito.times(10)).getDataByKey(Mockito.<ILookupCall<Object>> any());
+  }
+
+  private BatchLookupService createSharedCacheService(boolean sharedAcrossUsers) {
+    final ICache<BatchLookupCacheKey, List<ILookupRow<?>>> sharedCache = new BatchLookupService()
+        .createCacheBuilder(TimeUnit.MINUTES.toMillis(1))
+        .withReplaceIfExists(true)
+        .build();
+    return new BatchLookupService() {
+      @Override
+      protected ICache<BatchLookupCacheKey, List<ILookupRow<?>>> getCache() {
+        return sharedCache;
+      }
+
+      @Override
+      protected boolean isSharedAcrossUsers(ILookupCall<?> call) {
+        return sharedAcrossUsers;
+      }
+    };
+  }
+
+  private void runWithSubject(String principalName, IRunnable runnable) {
+    Subject subject = new Subject();
+    subject.getPrincipals().add(new SimplePrincipal(principalName));
+    subject.setReadOnly();
+    RunContexts.copyCurrent().withSubject(subject).run(runnable);
+  }
+
+  private BatchLookupCall createBatchCall(Class<? extends IFlowerLookupCall> callClazz) throws Exception {
+    BatchLookupCall batchCall = new BatchLookupCall();
+    for (int i = 0; i < 10; i++) {
+      IFlowerLookupCall call = callClazz.getConstructor().newInstance();
+      call.setKey(i + 1L);
+      call.setLatinId(i + 1L);
+      batchCall.addLookupCall((LookupCall) call);
+    }
+    return batchCall;
+  }
+
   private void testInternal(Class<? extends IFlowerLookupCall> callClazz, int expectedLocalInvocations, int expectedServerInvocations) throws Exception {
     m_localInvocations = 0;
     BatchLookupCall batchCall = new BatchLookupCall();
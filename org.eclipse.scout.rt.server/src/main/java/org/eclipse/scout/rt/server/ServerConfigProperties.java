@@ -12,9 +12,12 @@ package org.eclipse.scout.rt.server;
 
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.server.services.common.file.RemoteFileService;
+import org.eclipse.scout.rt.server.services.lookup.BatchLookupService;
+import org.eclipse.scout.rt.server.services.lookup.SharedBatchLookupResults;
 
 public final class ServerConfigProperties {
 
@@ -71,4 +74,82 @@ public final class ServerConfigProperties {
       return String.format("Absolute path to the root directory of the '%s'. The default value is null.", RemoteFileService.class.getSimpleName());
     }
   }
+
+  public static class BatchLookupCacheTimeToLiveProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 0L;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.batchLookupCacheTtl";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Number of milliseconds lookup results of the '%s' are shared across requests of the same user and locale. "
+          + "Results of lookup services annotated with '%s' are shared across all users with the same locale. "
+          + "Only lookup calls with a valid equals implementation are cached. The default value is 0 which disables the shared cache.",
+          BatchLookupService.class.getSimpleName(), SharedBatchLookupResults.class.getSimpleName());
+    }
+  }
+
+  public static class BatchLookupCacheMaxSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 10000;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.batchLookupCacheMaxSize";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Approximate maximum number of lookup results in the shared cache of the '%s' (see property 'scout.batchLookupCacheTtl'). The default value is 10000.",
+          BatchLookupService.class.getSimpleName());
+    }
+  }
+
+  public static class ClusterSyncBatchMaxSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clustersync.batchMaxSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of cluster notifications which are transferred together in a single message. "
+          + "All nodes of the cluster must support batch messages if this value is greater than 1. The default value is 1 which disables batching.";
+    }
+  }
+
+  public static class ClusterSyncBatchDelayProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 0L;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clustersync.batchDelay";
+    }
+
+    @Override
+    public String description() {
+      return "Number of milliseconds non-transactional cluster notifications are collected before they are published together "
+          + "(only if property 'scout.clustersync.batchMaxSize' is greater than 1). The default value is 0 which publishes them immediately.";
+    }
+  }
 }
@@ -10,14 +10,22 @@
  */
 package org.eclipse.scout.rt.server;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
+import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
 import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
 import org.eclipse.scout.rt.platform.exception.IThrowableWithContextInfo;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
@@ -43,10 +51,20 @@ import org.slf4j.LoggerFactory;
 /**
  * Provides functionality to invoke service operations as described by {@link ServiceTunnelRequest} and to return the
  * operations result in the form of a {@link ServiceTunnelResponse}.
+ * <p>
+ * Resolved service operations and the results of the reflective access checks are cached, so that repeated calls of
+ * the same operation do not perform any reflective lookups.
  */
 @ApplicationScoped
 public class ServiceOperationInvoker {
   private static final Logger LOG = LoggerFactory.getLogger(ServiceOperationInvoker.class);
+  private static final String ACCESS_GRANTED = "";
+  private static final Object[] NO_ARGS = new Object[0];
+
+  private final ConcurrentMap<ServiceOperationKey, ServiceOperation> m_serviceOperations = new ConcurrentHashMap<>();
+  private final ConcurrentMap<ServiceOperationAccessKey, String> m_interfaceAccess = new ConcurrentHashMap<>();
+  private final ConcurrentMap<ServiceOperationAccessKey, String> m_annotationAccess = new ConcurrentHashMap<>();
+  private final ConcurrentMap<ServiceOperationAccessKey, Boolean> m_mustAuthorize = new ConcurrentHashMap<>();
 
   /**
    * Invoke the service associated with the {@link ServiceTunnelRequest}. <br>
@@ -88,13 +106,11 @@ public class ServiceOperationInvoker {
     CallInspector callInspector = getCallInspector(serviceReq, serverSession);
     ServiceTunnelResponse serviceRes = null;
     try {
-      ServiceUtility serviceUtility = BEANS.get(ServiceUtility.class);
-      Class<?> serviceInterfaceClass = SerializationUtility.getClassLoader().loadClass(serviceReq.getServiceInterfaceClassName());
-      Method serviceOp = serviceUtility.getServiceOperation(serviceInterfaceClass, serviceReq.getOperation(), serviceReq.getParameterTypes());
+      ServiceOperation serviceOp = getServiceOperation(serviceReq);
       Object[] args = serviceReq.getArgs();
-      Object service = getValidatedServiceAccess(serviceInterfaceClass, serviceOp, args);
+      Object service = getValidatedServiceAccess(serviceOp.getInterfaceClass(), serviceOp.getMethod(), args);
 
-      Object data = serviceUtility.invoke(service, serviceOp, args);
+      Object data = invokeServiceOperation(service, serviceOp, args);
       serviceRes = new ServiceTunnelResponse(data);
       return serviceRes;
     }
@@ -103,6 +119,61 @@ public class ServiceOperationInvoker {
     }
   }
 
+  /**
+   * @return the cached service operation described by the request
+   */
+  protected ServiceOperation getServiceOperation(ServiceTunnelRequest serviceReq) throws ClassNotFoundException {
+    ServiceOperationKey key = new ServiceOperationKey(serviceReq.getServiceInterfaceClassName(), serviceReq.getOperation(), serviceReq.getParameterTypes());
+    ServiceOperation serviceOp = m_serviceOperations.get(key);
+    if (serviceOp == null) {
+      // not computeIfAbsent because the lookup may throw checked exceptions
+      serviceOp = createServiceOperation(key);
+      ServiceOperation existing = m_serviceOperations.putIfAbsent(key, serviceOp);
+      if (existing != null) {
+        serviceOp = existing;
+      }
+    }
+    return serviceOp;
+  }
+
+  protected ServiceOperation createServiceOperation(ServiceOperationKey key) throws ClassNotFoundException {
+    Class<?> serviceInterfaceClass = SerializationUtility.getClassLoader().loadClass(key.getInterfaceClassName());
+    Method method = BEANS.get(ServiceUtility.class).getServiceOperation(serviceInterfaceClass, key.getOperation(), key.getParameterTypes());
+    return new ServiceOperation(serviceInterfaceClass, method, createMethodHandle(method));
+  }
+
+  /**
+   * @return a method handle with the signature <code>(Object service, Object[] args)Object</code> or <code>null</code>
+   *         if the operation cannot be invoked by a method handle. Then the operation is invoked by
+   *         {@link ServiceUtility#invoke(Object, Method, Object[])}.
+   */
+  protected MethodHandle createMethodHandle(Method method) {
+    try {
+      return MethodHandles.publicLookup()
+          .unreflect(method)
+          .asSpreader(Object[].class, method.getParameterCount())
+          .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+    }
+    catch (IllegalAccessException | RuntimeException e) {
+      LOG.debug("Could not create method handle for service operation {}", method, e);
+      return null;
+    }
+  }
+
+  @SuppressWarnings("squid:S1181") // Throwable and Error should not be caught
+  protected Object invokeServiceOperation(Object service, ServiceOperation serviceOp, Object[] args) {
+    MethodHandle handle = serviceOp.getMethodHandle();
+    if (handle == null) {
+      return BEANS.get(ServiceUtility.class).invoke(service, serviceOp.getMethod(), args);
+    }
+    try {
+      return handle.invokeExact(service, args != null ? args : NO_ARGS);
+    }
+    catch (Throwable t) {
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(t);
+    }
+  }
+
   private void updateInspector(CallInspector callInspector, ServiceTunnelResponse serviceRes) {
     if (callInspector != null) {
       try {
@@ -153,9 +224,16 @@ public class ServiceOperationInvoker {
    * Check pass 1 on type
    */
   protected void checkRemoteServiceAccessByInterface(Class<?> interfaceClass, Method interfaceMethod, Object[] args) {
+    String code = m_interfaceAccess.computeIfAbsent(new ServiceOperationAccessKey(interfaceClass, null, interfaceMethod), k -> getAccessDeniedCodeByInterface(interfaceClass, interfaceMethod));
+    if (!ACCESS_GRANTED.equals(code)) {
+      throw new SecurityException("access denied (code " + code + ").");
+    }
+  }
+
+  private String getAccessDeniedCodeByInterface(Class<?> interfaceClass, Method interfaceMethod) {
     //check: must be an interface
     if (!interfaceClass.isInterface()) {
-      throw new SecurityException("access denied (code 1a).");
+      return "1a";
     }
 
     //check: method is defined on service interface itself
@@ -165,13 +243,14 @@ public class ServiceOperationInvoker {
     }
     catch (NoSuchMethodException | RuntimeException t) {
       LOG.debug("Could not lookup service method", t);
-      throw new SecurityException("access denied (code 1c).");
+      return "1c";
     }
     //exists
     if (verifyMethod.getDeclaringClass() == IService.class) {
-      throw new SecurityException("access denied (code 1d).");
+      return "1d";
     }
     //continue
+    return ACCESS_GRANTED;
   }
 
   /**
@@ -180,6 +259,13 @@ public class ServiceOperationInvoker {
    * Using blacklist {@link RemoteServiceAccessDenied}
    */
   protected void checkRemoteServiceAccessByAnnotations(Class<?> interfaceClass, Class<?> implClass, Method interfaceMethod, Object[] args) {
+    String code = m_annotationAccess.computeIfAbsent(new ServiceOperationAccessKey(interfaceClass, implClass, interfaceMethod), k -> getAccessDeniedCodeByAnnotations(interfaceClass, implClass, interfaceMethod));
+    if (!ACCESS_GRANTED.equals(code)) {
+      throw new SecurityException("access denied (code " + code + ").");
+    }
+  }
+
+  private String getAccessDeniedCodeByAnnotations(Class<?> interfaceClass, Class<?> implClass, Method interfaceMethod) {
     //check: grant/deny annotation (type level is base, method level is finegrained)
     Class<?> c = implClass;
     while (c != null) {
@@ -192,12 +278,12 @@ public class ServiceOperationInvoker {
         LOG.debug("Could not lookup service method", t);
       }
       if (m != null && m.isAnnotationPresent(RemoteServiceAccessDenied.class)) {
-        throw new SecurityException("access denied (code 2b).");
+        return "2b";
       }
 
       //type level
       if (c.isAnnotationPresent(RemoteServiceAccessDenied.class)) {
-        throw new SecurityException("access denied (code 2c).");
+        return "2c";
       }
 
       //next
@@ -211,6 +297,7 @@ public class ServiceOperationInvoker {
       }
     }
     //continue
+    return ACCESS_GRANTED;
   }
 
   /**
@@ -236,6 +323,10 @@ public class ServiceOperationInvoker {
    * @since 6.1
    */
   protected boolean mustAuthorize(Class<?> interfaceClass, Class<?> implClass, Method interfaceMethod, Object[] args) {
+    return m_mustAuthorize.computeIfAbsent(new ServiceOperationAccessKey(interfaceClass, implClass, interfaceMethod), k -> computeMustAuthorize(interfaceClass, implClass, interfaceMethod));
+  }
+
+  private boolean computeMustAuthorize(Class<?> interfaceClass, Class<?> implClass, Method interfaceMethod) {
     //check: authorize/no-authorize annotation (type level is base, method level is finegrained)
     Class<?> c = implClass;
     while (c != null) {
@@ -317,4 +408,113 @@ public class ServiceOperationInvoker {
     p.setStackTrace(new StackTraceElement[0]);
     return p;
   }
+
+  /**
+   * Key of a service operation as described by a {@link ServiceTunnelRequest}.
+   */
+  protected static final class ServiceOperationKey {
+    private final String m_interfaceClassName;
+    private final String m_operation;
+    private final Class<?>[] m_parameterTypes;
+    private final int m_hashCode;
+
+    public ServiceOperationKey(String interfaceClassName, String operation, Class<?>[] parameterTypes) {
+      m_interfaceClassName = interfaceClassName;
+      m_operation = operation;
+      m_parameterTypes = parameterTypes != null ? parameterTypes : new Class<?>[0];
+      m_hashCode = Objects.hash(interfaceClassName, operation) * 31 + Arrays.hashCode(m_parameterTypes);
+    }
+
+    public String getInterfaceClassName() {
+      return m_interfaceClassName;
+    }
+
+    public String getOperation() {
+      return m_operation;
+    }
+
+    public Class<?>[] getParameterTypes() {
+      return m_parameterTypes;
+    }
+
+    @Override
+    public int hashCode() {
+      return m_hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      ServiceOperationKey other = (ServiceOperationKey) obj;
+      return Objects.equals(m_interfaceClassName, other.m_interfaceClassName)
+          && Objects.equals(m_operation, other.m_operation)
+          && Arrays.equals(m_parameterTypes, other.m_parameterTypes);
+    }
+  }
+
+  /**
+   * Resolved service operation.
+   */
+  protected static final class ServiceOperation {
+    private final Class<?> m_interfaceClass;
+    private final Method m_method;
+    private final MethodHandle m_methodHandle;
+
+    public ServiceOperation(Class<?> interfaceClass, Method method, MethodHandle methodHandle) {
+      m_interfaceClass = interfaceClass;
+      m_method = method;
+      m_methodHandle = methodHandle;
+    }
+
+    public Class<?> getInterfaceClass() {
+      return m_interfaceClass;
+    }
+
+    public Method getMethod() {
+      return m_method;
+    }
+
+    /**
+     * @return see {@link ServiceOperationInvoker#createMethodHandle(Method)}, may be <code>null</code>
+     */
+    public MethodHandle getMethodHandle() {
+      return m_methodHandle;
+    }
+  }
+
+  private static final class ServiceOperationAccessKey {
+    private final Class<?> m_interfaceClass;
+    private final Class<?> m_implClass;
+    private final Method m_interfaceMethod;
+
+    ServiceOperationAccessKey(Class<?> interfaceClass, Class<?> implClass, Method interfaceMethod) {
+      m_interfaceClass = interfaceClass;
+      m_implClass = implClass;
+      m_interfaceMethod = interfaceMethod;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(m_interfaceClass, m_implClass, m_interfaceMethod);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      ServiceOperationAccessKey other = (ServiceOperationAccessKey) obj;
+      return m_interfaceClass == other.m_interfaceClass
+          && m_implClass == other.m_implClass
+          && Objects.equals(m_interfaceMethod, other.m_interfaceMethod);
+    }
+  }
 }
@@ -33,6 +33,7 @@ import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption.IRestorer;
 import org.eclipse.scout.rt.server.admin.html.AdminSession;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationStreamer;
 import org.eclipse.scout.rt.server.commons.idempotent.DuplicateRequestException;
 import org.eclipse.scout.rt.server.commons.idempotent.SequenceNumberDuplicateDetector;
 import org.eclipse.scout.rt.server.commons.servlet.AbstractHttpServlet;
@@ -45,6 +46,7 @@ import org.eclipse.scout.rt.server.context.RunMonitorCancelRegistry;
 import org.eclipse.scout.rt.server.context.RunMonitorCancelRegistry.IRegistrationHandle;
 import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationStreamCodec;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
@@ -123,6 +125,12 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
 
     lazyInit(servletRequest, servletResponse);
 
+    String streamNodeId = servletRequest.getHeader(ClientNotificationStreamCodec.STREAM_HTTP_HEADER);
+    if (streamNodeId != null) {
+      doPostClientNotificationStream(servletRequest, servletResponse, streamNodeId);
+      return;
+    }
+
     try {
       m_serverRunContextProducer.get()
           .getInnerRunContextProducer()
@@ -178,6 +186,39 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
     }
   }
 
+  /**
+   * Streams the client notifications of the given node into the response until the client disconnects (see
+   * {@link ClientNotificationStreamer}).
+   *
+   * @since 11.0
+   */
+  protected void doPostClientNotificationStream(HttpServletRequest servletRequest, HttpServletResponse servletResponse, String nodeId) throws IOException {
+    try {
+      m_serverRunContextProducer.get()
+          .getInnerRunContextProducer()
+          .produce(servletRequest, servletResponse)
+          .run(() -> {
+            m_httpServletControl.get().doDefaults(this, servletRequest, servletResponse);
+            m_httpCacheControl.get().checkAndSetCacheHeaders(servletRequest, servletResponse, null);
+            servletResponse.setContentType(m_contentHandler.getContentType());
+            servletResponse.setHeader(ClientNotificationStreamCodec.STREAM_HTTP_HEADER, Boolean.TRUE.toString());
+            BEANS.get(ClientNotificationStreamer.class).stream(nodeId, m_contentHandler, servletResponse.getOutputStream());
+          }, DefaultExceptionTranslator.class);
+    }
+    catch (Throwable e) {//NOSONAR
+      final boolean interrupted = Thread.interrupted();
+      if (isConnectionError(e) || isInterruption(e)) {
+        LOG.debug("Client notification stream to node {} closed{}", nodeId, interruptInfo(interrupted), e);
+      }
+      else {
+        LOG.error("Client notification stream to node {}, Client={}@{}/{}", nodeId, servletRequest.getRemoteUser(), servletRequest.getRemoteAddr(), servletRequest.getRemoteHost(), e);
+        if (!servletResponse.isCommitted()) {
+          servletResponse.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+      }
+    }
+  }
+
   protected ServiceTunnelResponse doPost(ServiceTunnelRequest serviceRequest) {
     if (LOG.isDebugEnabled()) {
       LOG.debug("requestSequence {} {}.{}", serviceRequest.getRequestSequence(), serviceRequest.getServiceInterfaceClassName(), serviceRequest.getOperation());
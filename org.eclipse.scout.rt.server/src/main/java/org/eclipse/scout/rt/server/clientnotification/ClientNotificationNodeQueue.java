@@ -185,6 +185,38 @@ public class ClientNotificationNodeQueue {
     return collected;
   }
 
+  /**
+   * Like {@link #consume(int, long, TimeUnit)} but returns as soon as at least one notification is available, without
+   * waiting for further notifications. Used by {@link ClientNotificationStreamer}, where notifications arriving later
+   * are sent with the next frame anyway.
+   *
+   * @since 11.0
+   */
+  public List<ClientNotificationMessage> consumeAvailable(int maxAmount, long maxWaitTime, TimeUnit unit) {
+    m_lastConsumeAccess.set(System.currentTimeMillis());
+
+    List<ClientNotificationMessage> result = getAvailableNotifications(maxAmount, maxWaitTime, unit);
+    LOG.debug("consumed {} notifications.", result.size());
+    return result;
+  }
+
+  protected List<ClientNotificationMessage> getAvailableNotifications(int maxAmount, long maxWaitTime, TimeUnit unit) {
+    List<ClientNotificationMessage> collected = new ArrayList<>();
+    try {
+      //blocking wait to get first message
+      ClientNotificationMessage next = m_notifications.poll(maxWaitTime, unit);
+      if (next != null) {
+        collected.add(next);
+        m_notifications.drainTo(collected, maxAmount - 1);
+      }
+    }
+    catch (InterruptedException e) {
+      LOG.info("Interrupted while waiting for client notification messages", e);
+      Thread.currentThread().interrupt();
+    }
+    return collected;
+  }
+
   private List<ClientNotificationMessage> getRelevantNotifications(Collection<? extends ClientNotificationMessage> notificationInput) {
     List<ClientNotificationMessage> notifications = new ArrayList<>(notificationInput);
     notifications.removeIf(clientNotificationMessage -> !isRelevant(clientNotificationMessage.getAddress()));
@@ -113,6 +113,17 @@ public class ClientNotificationRegistry {
     return queue.consume(maxAmount, maxWaitTime, unit);
   }
 
+  /**
+   * This method should only be accessed from {@link ClientNotificationStreamer}. Returns as soon as notifications are
+   * available (see {@link ClientNotificationNodeQueue#consumeAvailable(int, long, TimeUnit)}).
+   *
+   * @since 11.0
+   */
+  List<ClientNotificationMessage> consumeAvailable(String notificationNodeId, int maxAmount, int maxWaitTime, TimeUnit unit) {
+    ClientNotificationNodeQueue queue = getQueue(notificationNodeId);
+    return queue.consumeAvailable(maxAmount, maxWaitTime, unit);
+  }
+
   private ClientNotificationNodeQueue getQueue(String nodeId) {
     Assertions.assertNotNull(nodeId);
     synchronized (m_notificationQueues) {
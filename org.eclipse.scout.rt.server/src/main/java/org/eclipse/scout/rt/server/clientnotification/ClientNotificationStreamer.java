@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.clientnotification;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.MaxNotificationBlockingTimeOut;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationProperties.MaxNotificationMessages;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationStreamCodec;
+import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pushes the notifications of a client node as frames (see {@link ClientNotificationStreamCodec}) into an output stream
+ * as soon as they are available, until the current {@link RunMonitor} is cancelled or the client disconnects.
+ * <p>
+ * A frame contains at most {@link MaxNotificationMessages} notifications. If no notification is available within
+ * {@link MaxNotificationBlockingTimeOut}, an empty heartbeat frame is sent, so that closed connections are detected and
+ * the node queue is not removed as expired. A slow client blocks the writes and with it the consumption of its node
+ * queue, which drops the oldest notifications when its capacity is reached, as when polling.
+ *
+ * @since 11.0
+ */
+@ApplicationScoped
+public class ClientNotificationStreamer {
+  private static final Logger LOG = LoggerFactory.getLogger(ClientNotificationStreamer.class);
+
+  private final int m_blockingTimeout;
+  private final int m_maxNotifications;
+
+  public ClientNotificationStreamer() {
+    m_blockingTimeout = Assertions.assertNotNull(CONFIG.getPropertyValue(MaxNotificationBlockingTimeOut.class));
+    m_maxNotifications = Assertions.assertNotNull(CONFIG.getPropertyValue(MaxNotificationMessages.class));
+  }
+
+  /**
+   * Blocks until the stream ends.
+   *
+   * @throws IOException
+   *           if the client has disconnected
+   */
+  public void stream(String nodeId, IServiceTunnelContentHandler contentHandler, OutputStream out) throws IOException {
+    Assertions.assertNotNull(nodeId);
+    LOG.debug("Start streaming client notifications to node {}", nodeId);
+    ClientNotificationStreamCodec codec = BEANS.get(ClientNotificationStreamCodec.class);
+    DataOutputStream dataOut = new DataOutputStream(out);
+    RunMonitor monitor = RunMonitor.CURRENT.get();
+    // send a first (heartbeat) frame immediately, so that the client knows the stream is established
+    codec.writeFrame(dataOut, contentHandler, new ArrayList<>());
+    while (!isStreamEnded(monitor)) {
+      List<ClientNotificationMessage> notifications = BEANS.get(ClientNotificationRegistry.class).consumeAvailable(nodeId, m_maxNotifications, m_blockingTimeout, TimeUnit.MILLISECONDS);
+      if (isStreamEnded(monitor)) {
+        // notifications are lost as with an interrupted poll request
+        break;
+      }
+      codec.writeFrame(dataOut, contentHandler, notifications);
+      LOG.debug("Streamed {} notifications to node {}", notifications.size(), nodeId);
+    }
+    LOG.debug("Stop streaming client notifications to node {}", nodeId);
+  }
+
+  protected boolean isStreamEnded(RunMonitor monitor) {
+    return Thread.currentThread().isInterrupted() || (monitor != null && monitor.isCancelled());
+  }
+}
@@ -13,10 +13,12 @@ package org.eclipse.scout.rt.server.services.common.clustersync;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 import javax.security.auth.Subject;
 
@@ -32,15 +34,21 @@ import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.PlatformEvent;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.NodeIdentifier;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.security.SimplePrincipal;
 import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncBatchDelayProperty;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncBatchMaxSizeProperty;
 import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncUserProperty;
 import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.server.mom.IClusterMomDestinations;
+import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationBatchMessage;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationMessage;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationProperties;
 import org.eclipse.scout.rt.server.session.ServerSessionProviderWithCache;
@@ -64,6 +72,12 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
 
   private final String m_nodeId = BEANS.get(NodeIdentifier.class).get();
 
+  private final int m_batchMaxSize = CONFIG.getPropertyValue(ClusterSyncBatchMaxSizeProperty.class);
+  private final long m_batchDelay = CONFIG.getPropertyValue(ClusterSyncBatchDelayProperty.class);
+  private final Object m_pendingMessagesLock = new Object();
+  private List<IClusterNotificationMessage> m_pendingMessages = new ArrayList<>(); // guarded by m_pendingMessagesLock
+  private IFuture<Void> m_flushFuture; // guarded by m_pendingMessagesLock
+
   public ClusterSynchronizationService() {
     m_subject = new Subject();
     m_subject.getPrincipals().add(new SimplePrincipal(CONFIG.getPropertyValue(ClusterSyncUserProperty.class)));
@@ -127,6 +141,14 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
       return true;
     }
 
+    try {
+      // also cancels the scheduled flush
+      flushPendingMessages();
+    }
+    catch (RuntimeException e) {
+      LOG.error("Failed to publish pending cluster notifications", e);
+    }
+
     final ISubscription subscription;
     synchronized (m_subscriptionLock) {
       subscription = m_subscription;
@@ -162,15 +184,97 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
       for (Serializable n : notifications) {
         internalMessages.add(new ClusterNotificationMessage(n, getNotificationProperties()));
       }
-      publishInternal(internalMessages);
+      if (isBatchDelayed()) {
+        publishDelayed(internalMessages);
+      }
+      else {
+        publishInternal(internalMessages);
+      }
     }
   }
 
+  /**
+   * @return <code>true</code> if non-transactional notifications are collected and published together (see
+   *         {@link ClusterSyncBatchDelayProperty})
+   */
+  protected boolean isBatchDelayed() {
+    return m_batchMaxSize > 1 && m_batchDelay > 0;
+  }
+
+  /**
+   * Adds the messages to the pending messages which are published as soon as the maximum batch size is reached or
+   * the batch delay has elapsed.
+   */
+  private void publishDelayed(List<IClusterNotificationMessage> messages) {
+    List<IClusterNotificationMessage> messagesToPublish = null;
+    synchronized (m_pendingMessagesLock) {
+      m_pendingMessages.addAll(messages);
+      if (m_pendingMessages.size() >= m_batchMaxSize) {
+        messagesToPublish = takePendingMessages();
+      }
+      else if (m_flushFuture == null) {
+        m_flushFuture = Jobs.schedule(this::flushPendingMessages, Jobs.newInput()
+            .withRunContext(RunContexts.empty())
+            .withName("Publishing cluster notifications")
+            .withExecutionTrigger(Jobs.newExecutionTrigger()
+                .withStartIn(m_batchDelay, TimeUnit.MILLISECONDS)));
+      }
+    }
+    if (messagesToPublish != null) {
+      publishInternal(BEANS.get(ClusterNotificationMessageCoalescer.class).coalesce(messagesToPublish));
+    }
+  }
+
+  /**
+   * Publishes all pending non-transactional messages immediately.
+   */
+  protected void flushPendingMessages() {
+    List<IClusterNotificationMessage> messagesToPublish;
+    synchronized (m_pendingMessagesLock) {
+      messagesToPublish = takePendingMessages();
+    }
+    if (!messagesToPublish.isEmpty()) {
+      publishInternal(BEANS.get(ClusterNotificationMessageCoalescer.class).coalesce(messagesToPublish));
+    }
+  }
+
+  private List<IClusterNotificationMessage> takePendingMessages() {
+    List<IClusterNotificationMessage> messages = m_pendingMessages;
+    m_pendingMessages = new ArrayList<>();
+    // the scheduled flush is obsolete, unless it is the one running
+    if (m_flushFuture != null && m_flushFuture != IFuture.CURRENT.get()) {
+      m_flushFuture.cancel(false);
+    }
+    m_flushFuture = null;
+    return messages;
+  }
+
+  /**
+   * Packs the messages into {@link ClusterNotificationBatchMessage}s of at most {@link ClusterSyncBatchMaxSizeProperty}
+   * messages.
+   */
+  protected List<IClusterNotificationMessage> createTransferMessages(List<IClusterNotificationMessage> messages) {
+    if (m_batchMaxSize <= 1 || messages.size() <= 1) {
+      return messages;
+    }
+    List<IClusterNotificationMessage> transferMessages = new ArrayList<>();
+    for (int i = 0; i < messages.size(); i += m_batchMaxSize) {
+      List<IClusterNotificationMessage> batch = messages.subList(i, Math.min(messages.size(), i + m_batchMaxSize));
+      if (batch.size() == 1) {
+        transferMessages.add(batch.get(0));
+      }
+      else {
+        transferMessages.add(new ClusterNotificationBatchMessage(batch, batch.get(0).getProperties()));
+      }
+    }
+    return transferMessages;
+  }
+
   /**
    * Publish and update status.
    */
   private void publishInternal(List<IClusterNotificationMessage> messages) {
-    for (IClusterNotificationMessage message : messages) {
+    for (IClusterNotificationMessage message : createTransferMessages(messages)) {
       MOM.publish(ClusterMom.class, IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC, message);
     }
     for (IClusterNotificationMessage im : messages) {
@@ -197,15 +301,27 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
         return;
       }
 
-      getStatusInfoInternal().updateReceiveStatus(notificationMessage);
-      getStatusInfoInternal(notificationMessage.getNotification().getClass()).updateReceiveStatus(notificationMessage);
+      // unpack batch messages, all notifications are dispatched within the same run context
+      final List<IClusterNotificationMessage> messages;
+      if (notificationMessage instanceof ClusterNotificationBatchMessage) {
+        messages = ((ClusterNotificationBatchMessage) notificationMessage).getMessages();
+      }
+      else {
+        messages = Collections.singletonList(notificationMessage);
+      }
+      for (IClusterNotificationMessage m : messages) {
+        getStatusInfoInternal().updateReceiveStatus(m);
+        getStatusInfoInternal(m.getNotification().getClass()).updateReceiveStatus(m);
+      }
 
       ServerRunContext serverRunContext = ServerRunContexts.empty();
       serverRunContext.withSubject(m_subject);
       serverRunContext.withSession(BEANS.get(ServerSessionProviderWithCache.class).provide(serverRunContext.copy()));
       serverRunContext.run(() -> {
         NotificationHandlerRegistry reg = BEANS.get(NotificationHandlerRegistry.class);
-        reg.notifyNotificationHandlers(notificationMessage.getNotification());
+        for (IClusterNotificationMessage m : messages) {
+          reg.notifyNotificationHandlers(m.getNotification());
+        }
       });
     }
   }
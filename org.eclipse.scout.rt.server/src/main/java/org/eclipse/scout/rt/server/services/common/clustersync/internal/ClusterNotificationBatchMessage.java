@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.services.common.clustersync.internal;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.scout.rt.server.services.common.clustersync.IClusterNotificationMessage;
+import org.eclipse.scout.rt.server.services.common.clustersync.IClusterNotificationProperties;
+
+/**
+ * Envelope transferring several {@link IClusterNotificationMessage}s with a single MOM message. The receiver unpacks
+ * and dispatches the contained messages.
+ *
+ * @since 11.0
+ */
+public class ClusterNotificationBatchMessage implements IClusterNotificationMessage {
+  private static final long serialVersionUID = 1L;
+  private final ArrayList<IClusterNotificationMessage> m_messages;
+  private final IClusterNotificationProperties m_props;
+
+  public ClusterNotificationBatchMessage(Collection<? extends IClusterNotificationMessage> messages, IClusterNotificationProperties props) {
+    m_messages = new ArrayList<>(messages);
+    m_props = props;
+  }
+
+  /**
+   * @return the contained messages
+   */
+  public List<IClusterNotificationMessage> getMessages() {
+    return Collections.unmodifiableList(m_messages);
+  }
+
+  /**
+   * @return the notifications of all contained messages
+   */
+  @Override
+  public Serializable getNotification() {
+    ArrayList<Serializable> notifications = new ArrayList<>(m_messages.size());
+    for (IClusterNotificationMessage message : m_messages) {
+      notifications.add(message.getNotification());
+    }
+    return notifications;
+  }
+
+  @Override
+  public IClusterNotificationProperties getProperties() {
+    return m_props;
+  }
+
+  @Override
+  public String toString() {
+    return "ClusterNotificationBatchMessage [m_messages=" + m_messages + ", m_props=" + m_props + "]";
+  }
+}
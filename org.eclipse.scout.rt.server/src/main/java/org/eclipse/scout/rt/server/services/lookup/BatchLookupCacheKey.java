@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.services.lookup;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+
+/**
+ * Key of the shared lookup result cache of {@link BatchLookupService}. Two keys are equal if their lookup calls are
+ * equal (see {@link ILookupCall#equals(Object)}), they use the same kind of lookup and have the same scope.
+ * <p>
+ * This class is immutable as long as the lookup call is not modified.
+ *
+ * @since 11.0
+ */
+public final class BatchLookupCacheKey implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  public enum LookupType {
+    KEY {
+      @Override
+      List<? extends ILookupRow<?>> load(ILookupCall<?> call) {
+        return call.getDataByKey();
+      }
+    },
+    TEXT {
+      @Override
+      List<? extends ILookupRow<?>> load(ILookupCall<?> call) {
+        return call.getDataByText();
+      }
+    },
+    ALL {
+      @Override
+      List<? extends ILookupRow<?>> load(ILookupCall<?> call) {
+        return call.getDataByAll();
+      }
+    },
+    REC {
+      @Override
+      List<? extends ILookupRow<?>> load(ILookupCall<?> call) {
+        return call.getDataByRec();
+      }
+    };
+
+    abstract List<? extends ILookupRow<?>> load(ILookupCall<?> call);
+  }
+
+  private final ILookupCall<?> m_call;
+  private final LookupType m_lookupType;
+  private final Object m_scope;
+
+  /**
+   * @param scope
+   *          results are only shared between lookups with equal scope, e.g. the locale, may be null
+   */
+  public BatchLookupCacheKey(ILookupCall<?> call, LookupType lookupType, Object scope) {
+    m_call = Assertions.assertNotNull(call);
+    m_lookupType = Assertions.assertNotNull(lookupType);
+    m_scope = scope;
+  }
+
+  public ILookupCall<?> getCall() {
+    return m_call;
+  }
+
+  public LookupType getLookupType() {
+    return m_lookupType;
+  }
+
+  public Object getScope() {
+    return m_scope;
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + m_call.hashCode();
+    result = prime * result + m_lookupType.hashCode();
+    result = prime * result + ((m_scope == null) ? 0 : m_scope.hashCode());
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    BatchLookupCacheKey other = (BatchLookupCacheKey) obj;
+    return m_lookupType == other.m_lookupType
+        && m_call.equals(other.m_call)
+        && ObjectUtility.equals(m_scope, other.m_scope);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[call=" + m_call + ", lookupType=" + m_lookupType + ", scope=" + m_scope + "]";
+  }
+}
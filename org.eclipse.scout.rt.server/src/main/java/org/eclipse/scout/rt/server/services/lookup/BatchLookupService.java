@@ -11,25 +11,136 @@
 package org.eclipse.scout.rt.server.services.lookup;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import javax.annotation.PostConstruct;
+
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.cache.AllCacheEntryFilter;
+import org.eclipse.scout.rt.platform.cache.ICache;
+import org.eclipse.scout.rt.platform.cache.ICacheBuilder;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.security.IAccessControlService;
+import org.eclipse.scout.rt.server.ServerConfigProperties.BatchLookupCacheMaxSizeProperty;
+import org.eclipse.scout.rt.server.ServerConfigProperties.BatchLookupCacheTimeToLiveProperty;
+import org.eclipse.scout.rt.server.services.lookup.BatchLookupCacheKey.LookupType;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupResultCache;
 import org.eclipse.scout.rt.shared.services.lookup.IBatchLookupService;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
 import org.eclipse.scout.rt.shared.services.lookup.IServerBatchLookupService;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
 
 /**
  * Implementation of {@link IBatchLookupService} that can be used in a server.<br>
  * It is not implemented for client-only application, bug 447592 is not relevant anymore.<br>
  * If you want to use {@link IBatchLookupService} in a client-only application, copy this service to your client code.
+ * <p>
+ * Equal lookup calls within a batch are executed only once (see {@link BatchLookupResultCache}). If
+ * {@link BatchLookupCacheTimeToLiveProperty} is set, results are additionally shared across requests in a bounded
+ * cache. Results are only shared between lookups with the same scope (see {@link #getCacheScope(ILookupCall)}), by
+ * default the same user and locale. Use {@link #invalidateCache(Collection)} when the data of a lookup changes.
  *
  * @since 4.3.0 (Mars-M5)
  */
 @Order(5100)
 public class BatchLookupService implements IServerBatchLookupService {
+  public static final String BATCH_LOOKUP_SERVICE_CACHE_ID = BatchLookupService.class.getName();
+
+  private volatile ICache<BatchLookupCacheKey, List<ILookupRow<?>>> m_cache; // null if the shared cache is disabled
+
+  /**
+   * Creates the shared cache if it is enabled. Executed in {@link PostConstruct} to ensure that the cache is created
+   * exactly once.
+   */
+  @PostConstruct
+  protected void initCache() {
+    Long timeToLive = CONFIG.getPropertyValue(BatchLookupCacheTimeToLiveProperty.class);
+    if (timeToLive != null && timeToLive > 0) {
+      m_cache = createCacheBuilder(timeToLive).build();
+    }
+  }
+
+  /**
+   * Can be overridden to customize the cache builder
+   *
+   * @return {@link ICacheBuilder} for the shared cache
+   */
+  protected ICacheBuilder<BatchLookupCacheKey, List<ILookupRow<?>>> createCacheBuilder(long timeToLiveMillis) {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<BatchLookupCacheKey, List<ILookupRow<?>>> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    return cacheBuilder.withCacheId(BATCH_LOOKUP_SERVICE_CACHE_ID)
+        .withValueResolver(key -> Collections.unmodifiableList(CollectionUtility.arrayList(key.getLookupType().load(key.getCall()))))
+        .withClusterEnabled(true)
+        .withTimeToLive(timeToLiveMillis, TimeUnit.MILLISECONDS, false)
+        .withSizeBound(CONFIG.getPropertyValue(BatchLookupCacheMaxSizeProperty.class));
+  }
+
+  /**
+   * @return the shared cache or null if it is disabled
+   */
+  protected ICache<BatchLookupCacheKey, List<ILookupRow<?>>> getCache() {
+    return m_cache;
+  }
+
+  /**
+   * Results are only shared between lookups with equal scope. The default scope is the current user and locale, because
+   * lookup services often filter rows by the current user or its permissions and lookup rows contain translated texts.
+   * Results of lookup services annotated with {@link SharedBatchLookupResults} are shared across users.
+   *
+   * @return the scope or <code>null</code> if the shared cache must not be used, e.g. because there is no current user
+   */
+  protected Object getCacheScope(ILookupCall<?> call) {
+    if (isSharedAcrossUsers(call)) {
+      return Collections.singletonList(NlsLocale.get());
+    }
+    String userId = BEANS.get(IAccessControlService.class).getUserIdOfCurrentSubject();
+    if (userId == null) {
+      return null;
+    }
+    return Arrays.asList(NlsLocale.get(), userId);
+  }
+
+  /**
+   * @return <code>true</code> if the results of the given call may be shared across users, by default if its lookup
+   *         service is annotated with {@link SharedBatchLookupResults}
+   */
+  protected boolean isSharedAcrossUsers(ILookupCall<?> call) {
+    if (!(call instanceof LookupCall)) {
+      return false;
+    }
+    ILookupService<?> lookupService = ((LookupCall<?>) call).getLookupService();
+    return lookupService != null && lookupService.getClass().isAnnotationPresent(SharedBatchLookupResults.class);
+  }
+
+  /**
+   * Removes all results of lookup calls of the given classes from the shared cache on all cluster nodes.
+   */
+  public void invalidateCache(Collection<? extends Class<? extends ILookupCall>> lookupCallClasses) {
+    ICache<BatchLookupCacheKey, List<ILookupRow<?>>> cache = getCache();
+    if (cache != null && !CollectionUtility.isEmpty(lookupCallClasses)) {
+      cache.invalidate(new LookupCallCacheEntryFilter(lookupCallClasses), true);
+    }
+  }
+
+  /**
+   * Removes all results from the shared cache on all cluster nodes.
+   */
+  public void clearCache() {
+    ICache<BatchLookupCacheKey, List<ILookupRow<?>>> cache = getCache();
+    if (cache != null) {
+      cache.invalidate(new AllCacheEntryFilter<>(), true);
+    }
+  }
 
   @Override
   public List<List<ILookupRow<?>>> getBatchDataByKey(BatchLookupCall batch) {
@@ -37,7 +148,8 @@ public class BatchLookupService implements IServerBatchLookupService {
     List<List<ILookupRow<?>>> result = new ArrayList<>();
     BatchLookupResultCache cache = new BatchLookupResultCache();
     for (ILookupCall<?> call : calls) {
-      result.add(new ArrayList<>(cache.getDataByKey(call)));
+      List<ILookupRow<?>> sharedResult = call != null && call.getKey() != null ? getSharedResult(call, LookupType.KEY) : null;
+      result.add(new ArrayList<>(sharedResult != null ? sharedResult : cache.getDataByKey(call)));
     }
     return result;
   }
@@ -48,7 +160,8 @@ public class BatchLookupService implements IServerBatchLookupService {
     List<List<ILookupRow<?>>> result = new ArrayList<>();
     BatchLookupResultCache cache = new BatchLookupResultCache();
     for (ILookupCall<?> call : calls) {
-      result.add(new ArrayList<>(cache.getDataByText(call)));
+      List<ILookupRow<?>> sharedResult = getSharedResult(call, LookupType.TEXT);
+      result.add(new ArrayList<>(sharedResult != null ? sharedResult : cache.getDataByText(call)));
     }
     return result;
   }
@@ -59,7 +172,8 @@ public class BatchLookupService implements IServerBatchLookupService {
     List<List<ILookupRow<?>>> result = new ArrayList<>();
     BatchLookupResultCache cache = new BatchLookupResultCache();
     for (ILookupCall<?> call : calls) {
-      result.add(new ArrayList<>(cache.getDataByAll(call)));
+      List<ILookupRow<?>> sharedResult = getSharedResult(call, LookupType.ALL);
+      result.add(new ArrayList<>(sharedResult != null ? sharedResult : cache.getDataByAll(call)));
     }
     return result;
   }
@@ -70,9 +184,25 @@ public class BatchLookupService implements IServerBatchLookupService {
     List<List<ILookupRow<?>>> result = new ArrayList<>();
     BatchLookupResultCache cache = new BatchLookupResultCache();
     for (ILookupCall<?> call : calls) {
-      result.add(new ArrayList<>(cache.getDataByRec(call)));
+      List<ILookupRow<?>> sharedResult = getSharedResult(call, LookupType.REC);
+      result.add(new ArrayList<>(sharedResult != null ? sharedResult : cache.getDataByRec(call)));
     }
     return result;
   }
 
+  /**
+   * @return the result from the shared cache, or null if the shared cache is disabled, the call is not cacheable (see
+   *         {@link BatchLookupResultCache#isCacheable(Class)}) or has no scope (see {@link #getCacheScope(ILookupCall)})
+   */
+  protected List<ILookupRow<?>> getSharedResult(ILookupCall<?> call, LookupType lookupType) {
+    ICache<BatchLookupCacheKey, List<ILookupRow<?>>> cache = getCache();
+    if (cache == null || call == null || !BatchLookupResultCache.isCacheable(call.getClass())) {
+      return null;
+    }
+    Object scope = getCacheScope(call);
+    if (scope == null) {
+      return null;
+    }
+    return cache.get(new BatchLookupCacheKey(call, lookupType, scope));
+  }
 }
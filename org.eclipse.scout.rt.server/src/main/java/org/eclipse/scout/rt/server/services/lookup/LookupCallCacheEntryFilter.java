@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.server.services.lookup;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.scout.rt.platform.cache.ICacheEntryFilter;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+
+/**
+ * Filter that accepts all entries of the shared lookup result cache of {@link BatchLookupService} whose lookup call is
+ * of one of the given classes. Class names are used so that the filter can be sent to other cluster nodes.
+ * <p>
+ * This class is immutable.
+ *
+ * @since 11.0
+ */
+public final class LookupCallCacheEntryFilter implements ICacheEntryFilter<BatchLookupCacheKey, List<ILookupRow<?>>> {
+  private static final long serialVersionUID = 1L;
+  private final Set<String> m_lookupCallClassNames;
+
+  public LookupCallCacheEntryFilter(Collection<? extends Class<? extends ILookupCall>> lookupCallClasses) {
+    Set<String> classNames = new HashSet<>();
+    for (Class<? extends ILookupCall> c : lookupCallClasses) {
+      classNames.add(c.getName());
+    }
+    m_lookupCallClassNames = Collections.unmodifiableSet(classNames);
+  }
+
+  private LookupCallCacheEntryFilter(Set<String> lookupCallClassNames) {
+    m_lookupCallClassNames = Collections.unmodifiableSet(lookupCallClassNames);
+  }
+
+  public Set<String> getLookupCallClassNames() {
+    return m_lookupCallClassNames;
+  }
+
+  @Override
+  public boolean accept(BatchLookupCacheKey key, List<ILookupRow<?>> value) {
+    return m_lookupCallClassNames.contains(key.getCall().getClass().getName());
+  }
+
+  @Override
+  public ICacheEntryFilter<BatchLookupCacheKey, List<ILookupRow<?>>> coalesce(ICacheEntryFilter<BatchLookupCacheKey, List<ILookupRow<?>>> other) {
+    if (other instanceof LookupCallCacheEntryFilter) {
+      Set<String> classNames = new HashSet<>(m_lookupCallClassNames);
+      classNames.addAll(((LookupCallCacheEntryFilter) other).m_lookupCallClassNames);
+      return new LookupCallCacheEntryFilter(classNames);
+    }
+    return null;
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.clientnotification;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link ClientNotificationStreamCodec}
+ */
+@RunWith(PlatformTestRunner.class)
+public class ClientNotificationStreamCodecTest {
+
+  private ClientNotificationStreamCodec m_codec;
+  private BinaryServiceTunnelContentHandler m_contentHandler;
+
+  @Before
+  public void before() {
+    m_codec = BEANS.get(ClientNotificationStreamCodec.class);
+    m_contentHandler = new BinaryServiceTunnelContentHandler();
+    m_contentHandler.initialize();
+  }
+
+  @Test
+  public void testFrames() throws Exception {
+    ClientNotificationAddress allNodes = ClientNotificationAddress.createAllNodesAddress();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bos);
+    m_codec.writeFrame(out, m_contentHandler, Collections.emptyList());
+    m_codec.writeFrame(out, m_contentHandler, Arrays.asList(
+        new ClientNotificationMessage(allNodes, "test1", true, "cid"),
+        new ClientNotificationMessage(allNodes, "test2", true, "cid")));
+
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(bos.toByteArray()));
+    assertTrue(m_codec.readFrame(in, m_contentHandler).isEmpty());
+    List<ClientNotificationMessage> notifications = m_codec.readFrame(in, m_contentHandler);
+    assertEquals(2, notifications.size());
+    assertEquals("test1", notifications.get(0).getNotification());
+    assertEquals("test2", notifications.get(1).getNotification());
+    assertNull(m_codec.readFrame(in, m_contentHandler));
+  }
+
+  @Test(expected = StreamCorruptedException.class)
+  public void testInvalidFrameLength() throws Exception {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    new DataOutputStream(bos).writeInt(-1);
+    m_codec.readFrame(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())), m_contentHandler);
+  }
+}
@@ -10,7 +10,7 @@
  */
 package org.eclipse.scout.rt.shared.services.common.code;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 import java.util.List;
 
@@ -104,6 +104,61 @@ public class CodeTypeWithAddRemoveCodeTest {
     assertEquals("{id:10,text:Root10}", dumpCodeType(ct));
   }
 
+  @Test
+  public void testGetCodeAfterAddRemove() {
+    TestCodeType ct = new TestCodeType();
+    ICode<Long> root = ct.getCode(10L);
+    assertEquals("Test12", ct.getCode(12L).getText());
+    assertNull(ct.getCode(20L));
+
+    root.addChildCodeInternal(-1, new MutableCode<>(new CodeRow<Long>(20L, "Child20").withExtKey("ext20")));
+    assertEquals("Child20", ct.getCode(20L).getText());
+    assertSame(ct.getCode(20L), ct.getCodeByExtKey("ext20"));
+
+    //replace
+    root.addChildCodeInternal(-1, new MutableCode<>(new CodeRow<Long>(20L, "Child20b").withExtKey("ext20b")));
+    assertEquals("Child20b", ct.getCode(20L).getText());
+    assertNull(ct.getCodeByExtKey("ext20"));
+    assertSame(ct.getCode(20L), ct.getCodeByExtKey("ext20b"));
+
+    root.removeChildCodeInternal(20L);
+    assertNull(ct.getCode(20L));
+    assertNull(ct.getCodeByExtKey("ext20b"));
+
+    ct.addRootCodeInternal(-1, new MutableCode<>(new CodeRow<Long>(30L, "Root30").withExtKey("ext30")));
+    assertEquals("Root30", ct.getCodeByExtKey("ext30").getText());
+
+    ct.removeRootCodeInternal(10L);
+    assertNull(ct.getCode(10L));
+    assertNull(ct.getCode(12L));
+    assertEquals("Root30", ct.getCode(30L).getText());
+  }
+
+  @Test
+  public void testGetCodeDuplicateIds() {
+    TestCodeType ct = new TestCodeType();
+    ICode<Long> test11 = ct.getCode(11L);
+    test11.addChildCodeInternal(-1, new MutableCode<>(new CodeRow<Long>(12L, "Grandchild12").withExtKey("ext")));
+    ct.getCode(12L).addChildCodeInternal(-1, new MutableCode<>(new CodeRow<Long>(13L, "Grandchild13").withExtKey("ext")));
+
+    // same result as the recursive lookup: direct child codes win over deeper descendants
+    assertEquals("Test12", ct.getCode(12L).getText());
+    assertSame(ct.getCode(10L).getChildCode(12L), ct.getCode(12L));
+    // external keys are looked up in visiting order
+    assertEquals("Grandchild12", ct.getCodeByExtKey("ext").getText());
+    assertSame(ct.getCode(10L).getChildCodeByExtKey("ext"), ct.getCodeByExtKey("ext"));
+  }
+
+  @Test
+  public void testOutdatedCodeLookupIndex() {
+    TestCodeType ct = new TestCodeType();
+    // an index built before a structural change (e.g. by a concurrent lookup) is not used afterwards
+    AbstractCodeTypeWithGeneric.CodeLookupIndex<Long, ICode<Long>> index = ct.rebuildCodeLookupIndex();
+    ct.addRootCodeInternal(-1, new MutableCode<>(new CodeRow<>(20L, "Root20")));
+    assertNotSame(index, ct.getCodeLookupIndex());
+    assertEquals("Root20", ct.getCode(20L).getText());
+  }
+
   private static String dumpCodeType(ICodeType<Long, Long> ct) {
     StringBuilder buf = new StringBuilder();
     List<? extends ICode<Long>> list = ct.getCodes();
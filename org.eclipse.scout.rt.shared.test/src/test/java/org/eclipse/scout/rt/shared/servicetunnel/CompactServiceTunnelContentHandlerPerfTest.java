@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.CompressServiceTunnelRequestProperty;
+import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
+import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
+import org.eclipse.scout.rt.shared.data.form.fields.AbstractValueFieldData;
+import org.eclipse.scout.rt.shared.data.page.AbstractTablePageData;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares message size and serialization time of {@link CompactServiceTunnelContentHandler} and
+ * {@link BinaryServiceTunnelContentHandler} for a form data and a table page data response (uncompressed).
+ */
+@Category(ResourceIntensiveTest.class)
+@RunWith(PlatformTestRunner.class)
+public class CompactServiceTunnelContentHandlerPerfTest {
+  private static final Logger LOG = LoggerFactory.getLogger(CompactServiceTunnelContentHandlerPerfTest.class);
+
+  private static final int ROW_COUNT = 1000;
+  private static final int WARMUP_ROUNDS = 200;
+  private static final int ROUNDS = 500;
+
+  private IBean<?> m_compressProperty;
+
+  @Before
+  public void before() {
+    m_compressProperty = BeanTestingHelper.get().mockConfigProperty(CompressServiceTunnelRequestProperty.class, false);
+  }
+
+  @After
+  public void after() {
+    BeanTestingHelper.get().unregisterBean(m_compressProperty);
+  }
+
+  @Test
+  public void testFormData() throws Exception {
+    compare("form data", createFormData());
+  }
+
+  @Test
+  public void testTablePageData() throws Exception {
+    compare("table page data with " + ROW_COUNT + " rows", createTablePageData());
+  }
+
+  protected void compare(String name, Object data) throws Exception {
+    BinaryServiceTunnelContentHandler binaryHandler = new BinaryServiceTunnelContentHandler();
+    binaryHandler.initialize();
+    CompactServiceTunnelContentHandler compactHandler = new CompactServiceTunnelContentHandler();
+    compactHandler.initialize();
+
+    int sizeBinary = writeResponse(binaryHandler, data).length;
+    int sizeCompact = writeResponse(compactHandler, data).length;
+
+    roundTrip(binaryHandler, data, WARMUP_ROUNDS);
+    roundTrip(compactHandler, data, WARMUP_ROUNDS);
+    long millisBinary = roundTrip(binaryHandler, data, ROUNDS);
+    long millisCompact = roundTrip(compactHandler, data, ROUNDS);
+
+    LOG.info("{}: binary {} bytes, {}ms for {} round trips; compact {} bytes, {}ms for {} round trips",
+        name, sizeBinary, millisBinary, ROUNDS, sizeCompact, millisCompact, ROUNDS);
+    assertTrue(String.format("sizeBinary: %s, sizeCompact: %s", sizeBinary, sizeCompact), sizeCompact < sizeBinary);
+  }
+
+  /**
+   * @return milliseconds used to write and read the response the given number of times
+   */
+  protected long roundTrip(IServiceTunnelContentHandler handler, Object data, int rounds) throws Exception {
+    long start = System.nanoTime();
+    for (int i = 0; i < rounds; i++) {
+      ServiceTunnelResponse response = handler.readResponse(new ByteArrayInputStream(writeResponse(handler, data)));
+      assertNotNull(response.getData());
+    }
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+  }
+
+  protected byte[] writeResponse(IServiceTunnelContentHandler handler, Object data) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, new ServiceTunnelResponse(data, null));
+    bos.close();
+    return bos.toByteArray();
+  }
+
+  protected PersonFormData createFormData() {
+    PersonFormData formData = new PersonFormData();
+    formData.getPersonNr().setValue(4711L);
+    formData.getFirstName().setValue("John");
+    formData.getLastName().setValue("Doe");
+    formData.getStreet().setValue("Main Street 1");
+    formData.getZipCode().setValue("8000");
+    formData.getCity().setValue("Zurich");
+    formData.getCountry().setValue("CH");
+    formData.getEmail().setValue("john.doe@example.org");
+    formData.getPhone().setValue("+41 00 000 00 00");
+    formData.getBirthday().setValue(new Date(0));
+    formData.getSalary().setValue(new BigDecimal("85000.50"));
+    formData.getActive().setValue(Boolean.TRUE);
+    formData.getNotes().setValue("Lorem ipsum dolor sit amet");
+    return formData;
+  }
+
+  protected PersonTablePageData createTablePageData() {
+    PersonTablePageData pageData = new PersonTablePageData();
+    for (int i = 0; i < ROW_COUNT; i++) {
+      PersonTableRowData row = pageData.addRow();
+      row.setPersonNr((long) i);
+      row.setName("Name " + i);
+      row.setCity("City " + (i % 50));
+      row.setBirthday(new Date(i * 86400000L));
+      row.setSalary(BigDecimal.valueOf(i * 100L, 2));
+      row.setActive(i % 2 == 0);
+    }
+    return pageData;
+  }
+
+  public static class PersonFormData extends AbstractFormData {
+    private static final long serialVersionUID = 1L;
+
+    public PersonNr getPersonNr() {
+      return getFieldByClass(PersonNr.class);
+    }
+
+    public FirstName getFirstName() {
+      return getFieldByClass(FirstName.class);
+    }
+
+    public LastName getLastName() {
+      return getFieldByClass(LastName.class);
+    }
+
+    public Street getStreet() {
+      return getFieldByClass(Street.class);
+    }
+
+    public ZipCode getZipCode() {
+      return getFieldByClass(ZipCode.class);
+    }
+
+    public City getCity() {
+      return getFieldByClass(City.class);
+    }
+
+    public Country getCountry() {
+      return getFieldByClass(Country.class);
+    }
+
+    public Email getEmail() {
+      return getFieldByClass(Email.class);
+    }
+
+    public Phone getPhone() {
+      return getFieldByClass(Phone.class);
+    }
+
+    public Birthday getBirthday() {
+      return getFieldByClass(Birthday.class);
+    }
+
+    public Salary getSalary() {
+      return getFieldByClass(Salary.class);
+    }
+
+    public Active getActive() {
+      return getFieldByClass(Active.class);
+    }
+
+    public Notes getNotes() {
+      return getFieldByClass(Notes.class);
+    }
+
+    public static class PersonNr extends AbstractValueFieldData<Long> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public static class FirstName extends AbstractValueFieldData<String> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public static class LastName extends AbstractValueFieldData<String> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public static class Street extends AbstractValueFieldData<String> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public static class ZipCode extends AbstractValueFieldData<String> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public static class City extends AbstractValueFieldData<String> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public static class Country extends AbstractValueFieldData<String> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public static class Email extends AbstractValueFieldData<String> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public static class Phone extends AbstractValueFieldData<String> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public static class Birthday extends AbstractValueFieldData<Date> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public static class Salary extends AbstractValueFieldData<BigDecimal> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public static class Active extends AbstractValueFieldData<Boolean> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public static class Notes extends AbstractValueFieldData<String> {
+      private static final long serialVersionUID = 1L;
+    }
+  }
+
+  public static class PersonTablePageData extends AbstractTablePageData {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public PersonTableRowData addRow() {
+      return (PersonTableRowData) super.addRow();
+    }
+
+    @Override
+    public PersonTableRowData createRow() {
+      return new PersonTableRowData();
+    }
+
+    @Override
+    public Class<? extends AbstractTableRowData> getRowType() {
+      return PersonTableRowData.class;
+    }
+  }
+
+  public static class PersonTableRowData extends AbstractTableRowData {
+    private static final long serialVersionUID = 1L;
+    private Long m_personNr;
+    private String m_name;
+    private String m_city;
+    private Date m_birthday;
+    private BigDecimal m_salary;
+    private Boolean m_active;
+
+    public Long getPersonNr() {
+      return m_personNr;
+    }
+
+    public void setPersonNr(Long personNr) {
+      m_personNr = personNr;
+    }
+
+    public String getName() {
+      return m_name;
+    }
+
+    public void setName(String name) {
+      m_name = name;
+    }
+
+    public String getCity() {
+      return m_city;
+    }
+
+    public void setCity(String city) {
+      m_city = city;
+    }
+
+    public Date getBirthday() {
+      return m_birthday;
+    }
+
+    public void setBirthday(Date birthday) {
+      m_birthday = birthday;
+    }
+
+    public BigDecimal getSalary() {
+      return m_salary;
+    }
+
+    public void setSalary(BigDecimal salary) {
+      m_salary = salary;
+    }
+
+    public Boolean getActive() {
+      return m_active;
+    }
+
+    public void setActive(Boolean active) {
+      m_active = active;
+    }
+  }
+}
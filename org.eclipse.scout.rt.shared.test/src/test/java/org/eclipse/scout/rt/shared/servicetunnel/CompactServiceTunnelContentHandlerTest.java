@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.CompressServiceTunnelRequestProperty;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit test for {@link CompactServiceTunnelContentHandler}
+ */
+@RunWith(PlatformTestRunner.class)
+public class CompactServiceTunnelContentHandlerTest {
+
+  private IBean<?> m_compressProperty;
+
+  @Before
+  public void before() {
+    m_compressProperty = BeanTestingHelper.get().mockConfigProperty(CompressServiceTunnelRequestProperty.class, false);
+  }
+
+  @After
+  public void after() {
+    BeanTestingHelper.get().unregisterBean(m_compressProperty);
+  }
+
+  @Test
+  public void request() throws Throwable {
+    CompactServiceTunnelContentHandler handler = new CompactServiceTunnelContentHandler();
+    handler.initialize();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeRequest(bos, new ServiceTunnelRequest("test", "op", new Class[]{long.class, String.class}, new Object[]{1L, "a"}));
+    bos.close();
+    ServiceTunnelRequest readRequest = handler.readRequest(new ByteArrayInputStream(bos.toByteArray()));
+    assertEquals("test", readRequest.getServiceInterfaceClassName());
+    assertArrayEquals(new Class[]{long.class, String.class}, readRequest.getParameterTypes());
+    assertArrayEquals(new Object[]{1L, "a"}, readRequest.getArgs());
+  }
+
+  @Test
+  public void response() throws Throwable {
+    List<ILookupRow<Long>> rows = createLookupRows();
+    CompactServiceTunnelContentHandler handler = new CompactServiceTunnelContentHandler();
+    handler.initialize();
+    ServiceTunnelResponse readResponse = handler.readResponse(new ByteArrayInputStream(writeResponse(handler, rows)));
+    @SuppressWarnings("unchecked")
+    List<ILookupRow<Long>> readRows = (List<ILookupRow<Long>>) readResponse.getData();
+    assertEquals(rows.size(), readRows.size());
+    assertEquals(rows.get(7).getKey(), readRows.get(7).getKey());
+    assertEquals(rows.get(7).getText(), readRows.get(7).getText());
+  }
+
+  @Test
+  public void smallerThanBinary() throws Throwable {
+    List<ILookupRow<Long>> rows = createLookupRows();
+    BinaryServiceTunnelContentHandler binaryHandler = new BinaryServiceTunnelContentHandler();
+    binaryHandler.initialize();
+    CompactServiceTunnelContentHandler compactHandler = new CompactServiceTunnelContentHandler();
+    compactHandler.initialize();
+
+    int sizeBinary = writeResponse(binaryHandler, rows).length;
+    int sizeCompact = writeResponse(compactHandler, rows).length;
+    assertTrue(String.format("sizeBinary: %s, sizeCompact: %s", sizeBinary, sizeCompact), sizeCompact < sizeBinary);
+  }
+
+  protected byte[] writeResponse(IServiceTunnelContentHandler handler, Object data) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, new ServiceTunnelResponse(data, null));
+    bos.close();
+    return bos.toByteArray();
+  }
+
+  protected List<ILookupRow<Long>> createLookupRows() {
+    List<ILookupRow<Long>> rows = new ArrayList<>();
+    for (long i = 0; i < 20; i++) {
+      rows.add(new LookupRow<>(i, "row " + i));
+    }
+    return rows;
+  }
+}
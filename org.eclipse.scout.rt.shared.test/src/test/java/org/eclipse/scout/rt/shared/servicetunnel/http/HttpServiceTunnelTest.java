@@ -13,15 +13,24 @@ package org.eclipse.scout.rt.shared.servicetunnel.http;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelTargetUrlProperty;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationAddress;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationStreamCodec;
 import org.eclipse.scout.rt.shared.http.AbstractHttpTransportManager;
 import org.eclipse.scout.rt.shared.http.IHttpTransportBuilder;
 import org.eclipse.scout.rt.shared.http.IHttpTransportManager;
+import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
@@ -74,6 +83,72 @@ public class HttpServiceTunnelTest {
     assertEquals(401, ((HttpServiceTunnelException) response.getException()).getHttpStatus());
   }
 
+  /**
+   * The frames of a client notification stream are passed to the consumer until the server closes the stream.
+   */
+  @Test
+  public void testStreamClientNotifications() throws Exception {
+    when(mockUrl.getValue()).thenReturn("http://localhost");
+    BinaryServiceTunnelContentHandler contentHandler = new BinaryServiceTunnelContentHandler();
+    contentHandler.initialize();
+    ClientNotificationMessage message = new ClientNotificationMessage(ClientNotificationAddress.createAllNodesAddress(), "testNotification", false, null);
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bos);
+    ClientNotificationStreamCodec codec = new ClientNotificationStreamCodec();
+    codec.writeFrame(out, contentHandler, Collections.emptyList());
+    codec.writeFrame(out, contentHandler, Collections.singletonList(message));
+    MockLowLevelHttpResponse expectedResponse = new MockLowLevelHttpResponse()
+        .addHeader(ClientNotificationStreamCodec.STREAM_HTTP_HEADER, Boolean.TRUE.toString())
+        .setContent(bos.toByteArray());
+    HttpServiceTunnel tunnel = createHttpServiceTunnel(expectedResponse);
+    tunnel.setContentHandler(contentHandler);
+
+    List<List<ClientNotificationMessage>> frames = new ArrayList<>();
+    assertTrue(tunnel.streamClientNotifications("testNodeId", frames::add));
+    assertEquals(2, frames.size());
+    assertTrue(frames.get(0).isEmpty());
+    assertEquals(1, frames.get(1).size());
+    assertEquals("testNotification", frames.get(1).get(0).getNotification());
+  }
+
+  /**
+   * A server not confirming the stream with the response header does not support streams, the client falls back to
+   * polling.
+   */
+  @Test
+  public void testStreamClientNotificationsNotSupported() throws Exception {
+    when(mockUrl.getValue()).thenReturn("http://localhost");
+    MockLowLevelHttpResponse expectedResponse = new MockLowLevelHttpResponse().setContent(serialize(new ServiceTunnelResponse("testData")));
+    HttpServiceTunnel tunnel = createHttpServiceTunnel(expectedResponse);
+    tunnel.setContentHandler(getTestContentHandler());
+
+    List<List<ClientNotificationMessage>> frames = new ArrayList<>();
+    assertFalse(tunnel.streamClientNotifications("testNodeId", frames::add));
+    assertTrue(frames.isEmpty());
+  }
+
+  /**
+   * An error status (e.g. while the server restarts) is a connection error, the client retries the stream later instead
+   * of falling back to polling.
+   */
+  @Test
+  public void testStreamClientNotificationsErrorStatus() throws Exception {
+    when(mockUrl.getValue()).thenReturn("http://localhost");
+    MockLowLevelHttpResponse expectedResponse = new MockLowLevelHttpResponse().setStatusCode(503);
+    HttpServiceTunnel tunnel = createHttpServiceTunnel(expectedResponse);
+    tunnel.setContentHandler(getTestContentHandler());
+
+    List<List<ClientNotificationMessage>> frames = new ArrayList<>();
+    try {
+      tunnel.streamClientNotifications("testNodeId", frames::add);
+      fail("HttpServiceTunnelException expected");
+    }
+    catch (HttpServiceTunnelException e) {
+      assertEquals(503, e.getHttpStatus());
+    }
+    assertTrue(frames.isEmpty());
+  }
+
   protected HttpServiceTunnel createHttpServiceTunnel(final MockLowLevelHttpResponse expectedResponse) {
     HttpServiceTunnel tunnel = new HttpServiceTunnel() {
 
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit test for {@link ServiceTunnelRequestContent}
+ */
+@RunWith(PlatformTestRunner.class)
+public class ServiceTunnelRequestContentTest {
+
+  @Test
+  public void testWriteTo() throws Exception {
+    BinaryServiceTunnelContentHandler handler = new BinaryServiceTunnelContentHandler();
+    handler.initialize();
+    ServiceTunnelRequestContent content = new ServiceTunnelRequestContent(handler, new ServiceTunnelRequest("test", "op", new Class[]{String.class}, new Object[]{"arg"}));
+    assertEquals(-1, content.getLength());
+    assertFalse(content.retrySupported());
+    assertEquals(handler.getContentType(), content.getType());
+
+    AtomicBoolean closed = new AtomicBoolean();
+    ByteArrayOutputStream out = new ByteArrayOutputStream() {
+      @Override
+      public void close() throws IOException {
+        closed.set(true);
+        super.close();
+      }
+    };
+    content.writeTo(out);
+
+    // closing the HTTP request body is the responsibility of the HTTP client
+    assertFalse(closed.get());
+    assertEquals(out.size(), content.getWrittenBytes());
+
+    ServiceTunnelRequest readRequest = handler.readRequest(new ByteArrayInputStream(out.toByteArray()));
+    assertEquals("test", readRequest.getServiceInterfaceClassName());
+    assertArrayEquals(new Object[]{"arg"}, readRequest.getArgs());
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.clientnotification;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+
+/**
+ * Frame format of a client notification stream, in which the server pushes notifications to a client node over a
+ * single long-running HTTP response instead of answering one poll request after the other.
+ * <p>
+ * Each frame consists of its length (4 bytes) followed by a {@link ServiceTunnelResponse} serialized with the
+ * {@link IServiceTunnelContentHandler} of the service tunnel. The data of the response is the list of notifications.
+ * Frames without notifications are sent as heartbeat. The stream ends when the server closes the response.
+ *
+ * @since 11.0
+ */
+@ApplicationScoped
+public class ClientNotificationStreamCodec {
+
+  /**
+   * HTTP header of the service tunnel request opening a stream. Its value is the node id of the client. The server
+   * responds with the same header to confirm that it supports streams.
+   */
+  public static final String STREAM_HTTP_HEADER = "X-ScoutClientNotificationStream";
+
+  /**
+   * Upper bound for the length of a frame to detect corrupt streams.
+   */
+  protected static final int MAX_FRAME_LENGTH = 64 * 1024 * 1024;
+
+  /**
+   * Writes a frame containing the given notifications and flushes the stream.
+   *
+   * @param notifications
+   *          may be empty for a heartbeat frame
+   */
+  public void writeFrame(DataOutputStream out, IServiceTunnelContentHandler contentHandler, Collection<ClientNotificationMessage> notifications) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    contentHandler.writeResponse(buffer, new ServiceTunnelResponse(new ArrayList<>(notifications)));
+    out.writeInt(buffer.size());
+    buffer.writeTo(out);
+    out.flush();
+  }
+
+  /**
+   * Reads the next frame, blocks until it is available.
+   *
+   * @return notifications of the frame (empty for a heartbeat frame) or <code>null</code> if the stream has ended
+   */
+  @SuppressWarnings("unchecked")
+  public List<ClientNotificationMessage> readFrame(DataInputStream in, IServiceTunnelContentHandler contentHandler) throws IOException, ClassNotFoundException {
+    int length;
+    try {
+      length = in.readInt();
+    }
+    catch (EOFException e) { // NOSONAR
+      return null;
+    }
+    if (length < 0 || length > MAX_FRAME_LENGTH) {
+      throw new StreamCorruptedException("Invalid client notification frame length " + length);
+    }
+    byte[] frame = new byte[length];
+    in.readFully(frame);
+    ServiceTunnelResponse response = contentHandler.readResponse(new ByteArrayInputStream(frame));
+    return (List<ClientNotificationMessage>) response.getData();
+  }
+}
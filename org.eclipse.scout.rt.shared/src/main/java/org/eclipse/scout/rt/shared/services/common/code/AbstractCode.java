@@ -468,6 +468,7 @@ public abstract class AbstractCode<T> implements ICode<T>, Serializable, IContri
     else {
       m_codeList.add(Math.min(index, m_codeList.size()), code);
     }
+    invalidateCodeLookupIndex();
   }
 
   @Override
@@ -492,9 +493,20 @@ public abstract class AbstractCode<T> implements ICode<T>, Serializable, IContri
     }
     droppedCode.setCodeTypeInternal(null);
     droppedCode.setParentCodeInternal(null);
+    invalidateCodeLookupIndex();
     return index;
   }
 
+  /**
+   * Child codes are looked up using a flat index of the code type, which must be rebuilt after structural changes. Must
+   * be called after the change is completed.
+   */
+  protected void invalidateCodeLookupIndex() {
+    if (m_codeType instanceof AbstractCodeTypeWithGeneric) {
+      ((AbstractCodeTypeWithGeneric<?, ?, ?>) m_codeType).invalidateCodeLookupIndex();
+    }
+  }
+
   @Override
   public void setParentCodeInternal(ICode<T> c) {
     m_parentCode = c;
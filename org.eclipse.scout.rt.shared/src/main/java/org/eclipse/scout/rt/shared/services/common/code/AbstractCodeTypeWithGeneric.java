@@ -15,6 +15,7 @@ import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -57,6 +58,8 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
   private transient Map<CODE_ID, CODE> m_rootCodeMap = new HashMap<>();
   private List<CODE> m_rootCodeList = new ArrayList<>();
   private transient Map<CODE_ID, Integer> m_codeIndexMap = new HashMap<>();
+  private transient volatile CodeLookupIndex<CODE_ID, CODE> m_codeLookupIndex; // null or outdated if the index must be rebuilt
+  private transient volatile int m_codeStructureVersion; // incremented after each structural change
   protected IContributionOwner m_contributionHolder;
   private final ObjectExtensions<AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE>, ICodeTypeExtension<CODE_TYPE_ID, CODE_ID, ? extends AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE>>> m_objectExtensions;
 
@@ -357,37 +360,77 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
     return m_maxLevel;
   }
 
-  @SuppressWarnings("unchecked")
   @Override
   public CODE getCode(CODE_ID id) {
-    CODE c = m_rootCodeMap.get(id);
-    if (c == null) {
-      for (CODE childCode : m_rootCodeList) {
-        c = (CODE) childCode.getChildCode(id);
-        if (c != null) {
-          return c;
-        }
-      }
-    }
-    return c;
+    return getCodeLookupIndex().m_codesById.get(id);
   }
 
-  @SuppressWarnings("unchecked")
   @Override
   public CODE getCodeByExtKey(Object extKey) {
     if (extKey == null) {
       return null;
     }
-    for (CODE childCode : m_rootCodeList) {
-      if (extKey.equals(childCode.getExtKey())) {
-        return childCode;
+    return getCodeLookupIndex().m_codesByExtKey.get(extKey);
+  }
+
+  protected CodeLookupIndex<CODE_ID, CODE> getCodeLookupIndex() {
+    CodeLookupIndex<CODE_ID, CODE> index = m_codeLookupIndex;
+    if (index == null || index.m_version != m_codeStructureVersion) {
+      index = rebuildCodeLookupIndex();
+    }
+    return index;
+  }
+
+  /**
+   * Rebuilds the flat lookup index used by {@link #getCode(Object)} and {@link #getCodeByExtKey(Object)}. It contains
+   * all codes including inactive ones. If several codes have the same id or external key, the same code as with the
+   * recursive lookups {@link ICode#getChildCode(Object)} and {@link ICode#getChildCodeByExtKey(Object)} wins.
+   * <p>
+   * The index is tagged with the structure version read before it is built. If the structure changes meanwhile, the
+   * index is outdated when published and rebuilt on the next lookup.
+   */
+  @SuppressWarnings("unchecked")
+  protected CodeLookupIndex<CODE_ID, CODE> rebuildCodeLookupIndex() {
+    final int version = m_codeStructureVersion;
+    final Map<CODE_ID, CODE> codesById = new HashMap<>(m_rootCodeMap);
+    for (CODE code : m_rootCodeList) {
+      putChildCodesById(code, codesById);
+    }
+    final Map<Object, CODE> codesByExtKey = new HashMap<>();
+    visit((code, treeLevel) -> {
+      if (code.getExtKey() != null) {
+        codesByExtKey.putIfAbsent(code.getExtKey(), (CODE) code);
       }
-      CODE c = (CODE) childCode.getChildCodeByExtKey(extKey);
-      if (c != null) {
-        return c;
+      return true;
+    }, false);
+    CodeLookupIndex<CODE_ID, CODE> index = new CodeLookupIndex<>(version, codesById, codesByExtKey);
+    m_codeLookupIndex = index;
+    return index;
+  }
+
+  /**
+   * Adds the descendants of the given code in the order of {@link ICode#getChildCode(Object)}: the direct child codes
+   * first, then the descendants of each child code.
+   */
+  @SuppressWarnings("unchecked")
+  protected void putChildCodesById(ICode<CODE_ID> code, Map<CODE_ID, CODE> codesById) {
+    List<? extends ICode<CODE_ID>> childCodes = code.getChildCodes(false);
+    for (ICode<CODE_ID> childCode : childCodes) {
+      if (!codesById.containsKey(childCode.getId())) {
+        codesById.put(childCode.getId(), (CODE) code.getChildCode(childCode.getId()));
       }
     }
-    return null;
+    for (ICode<CODE_ID> childCode : childCodes) {
+      putChildCodesById(childCode, codesById);
+    }
+  }
+
+  /**
+   * Outdates the lookup index, called after each structural change of the codes. The index is rebuilt on the next
+   * lookup.
+   */
+  void invalidateCodeLookupIndex() {
+    m_codeStructureVersion++; // NOSONAR structural changes are not thread safe and must not run concurrently
   }
 
   protected void rebuildCodeIndexMap() {
@@ -513,6 +556,7 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
     }, false);
     // 4 rebuild code indices
     rebuildCodeIndexMap();
+    rebuildCodeLookupIndex();
   }
 
   /**
@@ -543,6 +587,7 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
     else {
       m_rootCodeList.add(Math.min(index, m_rootCodeList.size()), code);
     }
+    invalidateCodeLookupIndex();
   }
 
   /**
@@ -555,7 +600,7 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
    * @return the index the code had in the list or -1
    */
   protected int removeRootCodeInternal(CODE_ID codeId) {
-    CODE droppedCode = m_rootCodeMap.get(codeId);
+    CODE droppedCode = m_rootCodeMap.remove(codeId);
     if (droppedCode == null) {
       return -1;
     }
@@ -572,6 +617,7 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
     }
     droppedCode.setCodeTypeInternal(null);
     droppedCode.setParentCodeInternal(null);
+    invalidateCodeLookupIndex();
     return index;
   }
 
@@ -612,6 +658,7 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
       }
     }
     rebuildCodeIndexMap();
+    rebuildCodeLookupIndex();
 
     return this;
   }
@@ -621,6 +668,21 @@ public abstract class AbstractCodeTypeWithGeneric<CODE_TYPE_ID, CODE_ID, CODE ex
     return ConfigurationUtility.getAnnotatedClassIdWithFallback(getClass());
   }
 
+  /**
+   * Immutable lookup index of all codes of a code type by id and by external key.
+   */
+  protected static final class CodeLookupIndex<CODE_ID, CODE> {
+    private final int m_version;
+    private final Map<CODE_ID, CODE> m_codesById;
+    private final Map<Object, CODE> m_codesByExtKey;
+
+    private CodeLookupIndex(int version, Map<CODE_ID, CODE> codesById, Map<Object, CODE> codesByExtKey) {
+      m_version = version;
+      m_codesById = Collections.unmodifiableMap(codesById);
+      m_codesByExtKey = Collections.unmodifiableMap(codesByExtKey);
+    }
+  }
+
   /**
    * The extension delegating to the local methods. This Extension is always at the end of the chain and will not call
    * any further chain elements.
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.serialization.CompactObjectSerializer;
+import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
+import org.eclipse.scout.rt.platform.util.date.UTCDate;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationAddress;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
+import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
+import org.eclipse.scout.rt.shared.data.form.fields.AbstractFormFieldData;
+import org.eclipse.scout.rt.shared.data.form.fields.AbstractValueFieldData;
+import org.eclipse.scout.rt.shared.data.form.fields.tablefield.AbstractTableFieldBeanData;
+import org.eclipse.scout.rt.shared.data.form.properties.AbstractPropertyData;
+import org.eclipse.scout.rt.shared.data.page.AbstractTablePageData;
+import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
+
+/**
+ * Binary content handler using compact class descriptors (see {@link CompactObjectSerializer}). Smaller and faster
+ * than {@link BinaryServiceTunnelContentHandler} for messages with many different classes, e.g. form data, because
+ * field descriptors are not transferred and frequently used classes are written as index into a dictionary. Rows of
+ * table page data are written as with the binary handler: their class descriptor is written once per message and
+ * referenced by every row, so only the row values remain, which are the same for both handlers.
+ * <p>
+ * Client and server must both use this content handler and the same version of all transferred classes. Blacklist and
+ * whitelist checks are applied as with {@link BinaryServiceTunnelContentHandler}. To use it, replace the
+ * {@link IServiceTunnelContentHandler} bean on both sides or give this bean a lower order.
+ */
+@Order(5050)
+public class CompactServiceTunnelContentHandler extends BinaryServiceTunnelContentHandler {
+
+  @Override
+  protected IObjectSerializer createObjectSerializer() {
+    return new CompactObjectSerializer(new ServiceTunnelObjectReplacer(), getClassDictionary());
+  }
+
+  /**
+   * @return classes written as index instead of their name. The dictionary must be identical on client and server,
+   *         only append classes to keep compatibility with older clients.
+   */
+  protected List<Class<?>> getClassDictionary() {
+    return new ArrayList<>(Arrays.asList(
+        ServiceTunnelRequest.class,
+        ServiceTunnelResponse.class,
+        StaticDate.class,
+        LenientPermissionsWrapper.class,
+        LenientPermissionWrapper.class,
+        ClientNotificationMessage.class,
+        ClientNotificationAddress.class,
+        Object[].class,
+        Class[].class,
+        String[].class,
+        Number.class,
+        Boolean.class,
+        Integer.class,
+        Long.class,
+        Double.class,
+        BigDecimal.class,
+        BigInteger.class,
+        UTCDate.class,
+        Locale.class,
+        UUID.class,
+        Enum.class,
+        ArrayList.class,
+        HashMap.class,
+        LinkedHashMap.class,
+        TreeMap.class,
+        HashSet.class,
+        LinkedHashSet.class,
+        TreeSet.class,
+        AbstractFormData.class,
+        AbstractFormFieldData.class,
+        AbstractValueFieldData.class,
+        AbstractPropertyData.class,
+        AbstractTableFieldBeanData.class,
+        AbstractTablePageData.class,
+        AbstractTableRowData.class,
+        LookupRow.class,
+        LookupRow[].class));
+  }
+}
@@ -10,12 +10,17 @@
  */
 package org.eclipse.scout.rt.shared.servicetunnel.http;
 
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.net.URL;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
@@ -26,16 +31,21 @@ import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
 import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelTargetUrlProperty;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationStreamCodec;
 import org.eclipse.scout.rt.shared.http.IHttpTransportManager;
 import org.eclipse.scout.rt.shared.servicetunnel.AbstractServiceTunnel;
 import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelClientNotificationStreamReadTimeoutProperty;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelStreamRequestProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpContent;
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpRequest;
 import com.google.api.client.http.HttpRequestFactory;
@@ -53,6 +63,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
   private final URL m_serverUrl;
   private final GenericUrl m_genericUrl;
   private final boolean m_active;
+  private boolean m_streamRequest;
 
   public HttpServiceTunnel() {
     this(getConfiguredServerUrl());
@@ -62,6 +73,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     m_serverUrl = url;
     m_genericUrl = url != null ? new GenericUrl(url) : null;
     m_active = url != null;
+    m_streamRequest = BEANS.get(HttpServiceTunnelStreamRequestProperty.class).getValue();
   }
 
   protected static URL getConfiguredServerUrl() {
@@ -101,6 +113,30 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
    *           {@link #addCustomHeaders(HttpRequest, ServiceTunnelRequest, byte[])}
    */
   protected HttpResponse executeRequest(ServiceTunnelRequest call, byte[] callData) throws IOException {
+    HttpRequest request = createHttpRequest(new ByteArrayContentEx(null, callData, false));
+    addCustomHeaders(request, call, callData);
+    return request.execute();
+  }
+
+  /**
+   * Execute a {@link ServiceTunnelRequest} in streaming mode (see {@link #isStreamRequest()}): the request is
+   * serialized directly into the HTTP request body using the given {@link ServiceTunnelRequestContent}. Returns the
+   * plain {@link HttpResponse} - (executed and) ready to be processed to create a {@link ServiceTunnelResponse}.
+   * <p>
+   * {@link #addCustomHeaders(HttpRequest, ServiceTunnelRequest, byte[])} is invoked with <code>null</code> call data.
+   *
+   * @since 11.0
+   */
+  protected HttpResponse executeRequest(ServiceTunnelRequest call, ServiceTunnelRequestContent content) throws IOException {
+    HttpRequest request = createHttpRequest(content);
+    addCustomHeaders(request, call, null);
+    return request.execute();
+  }
+
+  /**
+   * Creates the POST request with the given content.
+   */
+  protected HttpRequest createHttpRequest(HttpContent content) throws IOException {
     // fast check of wrong URL's for this tunnel
     if (!"http".equalsIgnoreCase(getServerUrl().getProtocol()) && !"https".equalsIgnoreCase(getServerUrl().getProtocol())) {
       throw new IOException("URL '" + getServerUrl().toString() + "' is not supported by this tunnel ('" + getClass().getName() + "').");
@@ -111,13 +147,26 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     }
 
     HttpRequestFactory requestFactory = getHttpTransportManager().getHttpRequestFactory();
-    HttpRequest request = requestFactory.buildPostRequest(getGenericUrl(), new ByteArrayContentEx(null, callData, false));
+    HttpRequest request = requestFactory.buildPostRequest(getGenericUrl(), content);
     HttpHeaders headers = request.getHeaders();
     headers.setCacheControl("no-cache");
     headers.setContentType(getContentHandler().getContentType());
     headers.put("Pragma", "no-cache");
-    addCustomHeaders(request, call, callData);
-    return request.execute();
+    return request;
+  }
+
+  /**
+   * @return <code>true</code> if requests are serialized directly into the HTTP request body instead of being buffered
+   *         in a byte array first (see {@link HttpServiceTunnelStreamRequestProperty}). The response is always read
+   *         directly from the HTTP response body.
+   * @since 11.0
+   */
+  public boolean isStreamRequest() {
+    return m_streamRequest;
+  }
+
+  public void setStreamRequest(boolean streamRequest) {
+    m_streamRequest = streamRequest;
   }
 
   /**
@@ -135,7 +184,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
    * @param call
    *          request information
    * @param callData
-   *          data as byte array
+   *          data as byte array, <code>null</code> if the request is streamed (see {@link #isStreamRequest()})
    * @throws IOException
    * @since 6.0
    */
@@ -185,11 +234,115 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
 
   @Override
   public Object invokeService(Class serviceInterfaceClass, Method operation, Object[] callerArgs) {
+    ensureContentHandler();
+    return super.invokeService(serviceInterfaceClass, operation, callerArgs);
+  }
+
+  protected void ensureContentHandler() {
     if (m_contentHandler == null) {
       m_contentHandler = BEANS.get(IServiceTunnelContentHandler.class);
       m_contentHandler.initialize();
     }
-    return super.invokeService(serviceInterfaceClass, operation, callerArgs);
+  }
+
+  /**
+   * Opens a client notification stream for the given node (see {@link ClientNotificationStreamCodec}) and passes the
+   * notifications of each frame to the given consumer, in the current thread, until the server ends the stream or the
+   * current {@link RunMonitor} is cancelled. A slow consumer delays reading further frames and therefore slows down the
+   * server.
+   *
+   * @return <code>false</code> if the server does not support client notification streams (successful response
+   *         without stream header), <code>true</code> if the stream has ended
+   * @throws IOException
+   *           if the connection fails
+   * @throws HttpServiceTunnelException
+   *           if the server responds with an HTTP status code not between 200 and 299
+   * @since 11.0
+   */
+  public boolean streamClientNotifications(String nodeId, Consumer<List<ClientNotificationMessage>> consumer) throws IOException, ClassNotFoundException {
+    ensureContentHandler();
+    HttpRequest request = createHttpRequest(new ByteArrayContentEx(null, new byte[0], false));
+    request.getHeaders().put(ClientNotificationStreamCodec.STREAM_HTTP_HEADER, nodeId);
+    request.setReadTimeout(getClientNotificationStreamReadTimeout());
+    addSignatureHeader(request, null);
+    addCorrelationId(request);
+    HttpResponse resp = request.execute();
+    // disconnecting aborts the connection, also unblocks a pending read if the current run monitor is cancelled
+    RunMonitor monitor = RunMonitor.CURRENT.get();
+    ICancellable disconnector = new P_ResponseDisconnector(resp);
+    monitor.registerCancellable(disconnector);
+    try {
+      if (resp.getStatusCode() != 0 && (resp.getStatusCode() < 200 || resp.getStatusCode() > 299)) {
+        // e.g. server restarting or re-authentication: the caller retries the stream later
+        throw new HttpServiceTunnelException(resp.getStatusCode(), "Client notification stream request failed with status code {}", resp.getStatusCode());
+      }
+      if (resp.getHeaders().getFirstHeaderStringValue(ClientNotificationStreamCodec.STREAM_HTTP_HEADER) == null) {
+        return false;
+      }
+      ClientNotificationStreamCodec codec = BEANS.get(ClientNotificationStreamCodec.class);
+      DataInputStream in = new DataInputStream(resp.getContent());
+      while (true) {
+        List<ClientNotificationMessage> notifications;
+        try {
+          notifications = codec.readFrame(in, getContentHandler());
+        }
+        catch (IOException e) {
+          if (monitor.isCancelled()) {
+            LOG.debug("Client notification stream has been cancelled.", e);
+            return true;
+          }
+          throw e;
+        }
+        if (notifications == null || monitor.isCancelled() || Thread.currentThread().isInterrupted()) {
+          return true;
+        }
+        consumer.accept(notifications);
+      }
+    }
+    finally {
+      monitor.unregisterCancellable(disconnector);
+      disconnector.cancel(false);
+    }
+  }
+
+  /**
+   * @return read timeout in milliseconds of a client notification stream, see
+   *         {@link HttpServiceTunnelClientNotificationStreamReadTimeoutProperty}
+   * @since 11.0
+   */
+  protected int getClientNotificationStreamReadTimeout() {
+    return CONFIG.getPropertyValue(HttpServiceTunnelClientNotificationStreamReadTimeoutProperty.class);
+  }
+
+  /**
+   * Disconnects a response at most once. The connection is aborted instead of reading the remaining (endless) content.
+   */
+  private static final class P_ResponseDisconnector implements ICancellable {
+    private final HttpResponse m_response;
+    private final AtomicBoolean m_disconnected = new AtomicBoolean();
+
+    P_ResponseDisconnector(HttpResponse response) {
+      m_response = response;
+    }
+
+    @Override
+    public boolean cancel(boolean interruptIfRunning) {
+      if (!m_disconnected.compareAndSet(false, true)) {
+        return false;
+      }
+      try {
+        m_response.disconnect();
+      }
+      catch (IOException | RuntimeException e) {
+        LOG.debug("Failed to disconnect client notification stream.", e);
+      }
+      return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return m_disconnected.get();
+    }
   }
 
   /**
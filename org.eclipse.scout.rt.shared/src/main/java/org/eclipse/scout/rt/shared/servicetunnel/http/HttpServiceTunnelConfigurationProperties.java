@@ -11,7 +11,9 @@
 package org.eclipse.scout.rt.shared.servicetunnel.http;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractIntegerConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.shared.http.HttpConfigurationProperties.ApacheHttpTransportMaxConnectionsPerRouteProperty;
 import org.eclipse.scout.rt.shared.http.HttpConfigurationProperties.ApacheHttpTransportMaxConnectionsTotalProperty;
 
@@ -70,4 +72,46 @@ public final class HttpServiceTunnelConfigurationProperties {
           BEANS.get(ApacheHttpTransportMaxConnectionsTotalProperty.class).getKey());
     }
   }
+
+  public static class HttpServiceTunnelStreamRequestProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.streamRequest";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if service tunnel requests are serialized directly into the HTTP request body (chunked transfer encoding) "
+          + "instead of being buffered in memory first. Reduces the memory usage for large requests (e.g. uploaded files) "
+          + "but the requests cannot be retried by the HTTP client.\n"
+          + "The default value is false.";
+    }
+  }
+
+  public static class HttpServiceTunnelClientNotificationStreamReadTimeoutProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 60000;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.clientNotificationStreamReadTimeout";
+    }
+
+    @Override
+    public String description() {
+      return "Read timeout in milliseconds of a client notification stream (see 'scout.clientnotification.stream'). "
+          + "The server sends a heartbeat whenever no notifications were sent for 'scout.clientnotification.maxNotificationBlockingTimeOut', "
+          + "therefore this value must be larger than the one configured on the server. Otherwise streams time out and the client falls back to polling.\n"
+          + "The default value is 60000 (1 minute).";
+    }
+  }
 }
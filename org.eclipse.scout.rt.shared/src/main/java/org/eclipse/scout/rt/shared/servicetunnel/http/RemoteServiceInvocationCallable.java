@@ -67,15 +67,21 @@ public class RemoteServiceInvocationCallable implements Callable<ServiceTunnelRe
 
     final long tStart = LOG.isDebugEnabled() ? System.nanoTime() : 0L;
     try {
-      // Create the request.
-      final ByteArrayOutputStream requestMessage = new ByteArrayOutputStream();
-      m_tunnel.getContentHandler().writeRequest(requestMessage, m_serviceRequest);
-      requestMessage.close();
-      final byte[] requestData = requestMessage.toByteArray();
-      nBytes = requestData.length;
-
-      // Send the request to the server.
-      HttpResponse resp = m_tunnel.executeRequest(m_serviceRequest, requestData);
+      // Create and send the request to the server.
+      final HttpResponse resp;
+      if (m_tunnel.isStreamRequest()) {
+        final ServiceTunnelRequestContent requestContent = new ServiceTunnelRequestContent(m_tunnel.getContentHandler(), m_serviceRequest);
+        resp = m_tunnel.executeRequest(m_serviceRequest, requestContent);
+        nBytes = requestContent.getWrittenBytes();
+      }
+      else {
+        final ByteArrayOutputStream requestMessage = new ByteArrayOutputStream();
+        m_tunnel.getContentHandler().writeRequest(requestMessage, m_serviceRequest);
+        requestMessage.close();
+        final byte[] requestData = requestMessage.toByteArray();
+        nBytes = requestData.length;
+        resp = m_tunnel.executeRequest(m_serviceRequest, requestData);
+      }
       try {
         // Receive the response.
         m_tunnel.interceptHttpResponse(resp, m_serviceRequest);
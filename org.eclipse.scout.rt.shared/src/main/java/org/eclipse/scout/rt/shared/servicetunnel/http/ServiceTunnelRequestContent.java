@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+
+import com.google.api.client.http.HttpContent;
+
+/**
+ * {@link HttpContent} serializing a {@link ServiceTunnelRequest} directly into the HTTP request body. The length is
+ * unknown in advance, therefore the request is sent using chunked transfer encoding. As the content can only be written
+ * once, retries are not supported.
+ *
+ * @since 11.0
+ */
+public class ServiceTunnelRequestContent implements HttpContent {
+  private final IServiceTunnelContentHandler m_contentHandler;
+  private final ServiceTunnelRequest m_serviceRequest;
+  private long m_writtenBytes;
+
+  public ServiceTunnelRequestContent(IServiceTunnelContentHandler contentHandler, ServiceTunnelRequest serviceRequest) {
+    m_contentHandler = contentHandler;
+    m_serviceRequest = serviceRequest;
+  }
+
+  @Override
+  public long getLength() {
+    return -1;
+  }
+
+  @Override
+  public String getType() {
+    return m_contentHandler.getContentType();
+  }
+
+  @Override
+  public boolean retrySupported() {
+    return false;
+  }
+
+  @Override
+  public void writeTo(OutputStream out) throws IOException {
+    try (P_CountingOutputStream countingOut = new P_CountingOutputStream(out)) {
+      m_contentHandler.writeRequest(countingOut, m_serviceRequest);
+    }
+    out.flush();
+  }
+
+  /**
+   * @return number of bytes written by the last call to {@link #writeTo(OutputStream)}
+   */
+  public long getWrittenBytes() {
+    return m_writtenBytes;
+  }
+
+  /**
+   * Counts the written bytes and does not close the underlying stream, because the HTTP client is responsible for it.
+   */
+  private class P_CountingOutputStream extends FilterOutputStream {
+
+    P_CountingOutputStream(OutputStream out) {
+      super(out);
+      m_writtenBytes = 0;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      m_writtenBytes++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      m_writtenBytes += len;
+    }
+
+    @Override
+    public void close() throws IOException {
+      flush();
+    }
+  }
+}
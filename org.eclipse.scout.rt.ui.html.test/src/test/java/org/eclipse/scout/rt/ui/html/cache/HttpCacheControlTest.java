@@ -222,6 +222,46 @@ public class HttpCacheControlTest {
     Mockito.verify(resp, ONCE).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
   }
 
+  @Test
+  public void testCheckAndSet_EnableCaching_IfNoneMatch_EncodedRepresentation() {
+    BinaryResource res = BinaryResources.create()
+        .withFilename("a.html")
+        .withContent("<html></html>".getBytes(StandardCharsets.UTF_8))
+        .withCachingAllowed(true)
+        .withLastModifiedNow()
+        .build();
+    BinaryResource gzipRes = BinaryResources.create()
+        .withFilename("a.html.gz")
+        .withContent(new byte[]{1, 2, 3})
+        .withCachingAllowed(true)
+        .withLastModifiedNow()
+        .build();
+    HttpCacheObject obj = new HttpCacheObject(new HttpCacheKey("/"), res);
+    obj.putEncodedResource("gzip", gzipRes);
+    HttpCacheObject gzipObj = obj.getEncodedRepresentation("gzip");
+    Assert.assertEquals("gzip", gzipObj.getContentEncoding());
+    Assert.assertNull(obj.getEncodedRepresentation("br"));
+    Assert.assertNotEquals(obj.createETag(), gzipObj.createETag());
+    Assert.assertTrue(gzipObj.createETag().endsWith("-gzip\""));
+
+    Mockito.when(req.getPathInfo()).thenReturn("/");
+    Mockito.when(req.getHeader(HttpCacheControl.ETAG)).thenReturn(null);
+    Mockito.when(req.getHeader(HttpCacheControl.IF_NONE_MATCH)).thenReturn(obj.createETag());//E-Tag of unencoded representation
+    Mockito.when(req.getDateHeader(HttpCacheControl.IF_MODIFIED_SINCE)).thenReturn(0L);
+
+    boolean b = cc.checkAndSetCacheHeaders(req, resp, gzipObj);
+    Assert.assertFalse(b);
+
+    Mockito.verify(req, ANY_TIMES).getPathInfo();
+    Mockito.verify(req, ANY_TIMES).getAttribute("javax.servlet.forward.path_info");
+    Mockito.verify(req, ANY_TIMES).getHeader(HttpCacheControl.ETAG);
+    Mockito.verify(req, ANY_TIMES).getHeader(HttpCacheControl.IF_NONE_MATCH);
+    Mockito.verify(req, ANY_TIMES).getDateHeader(HttpCacheControl.IF_MODIFIED_SINCE);
+    Mockito.verify(resp, ONCE).setHeader(HttpCacheControl.CACHE_CONTROL, "private, max-age=0, must-revalidate");
+    Mockito.verify(resp, ONCE).setHeader(HttpCacheControl.ETAG, gzipObj.createETag());
+    Mockito.verify(resp, ONCE).setDateHeader(HttpCacheControl.LAST_MODIFIED, gzipObj.getResource().getLastModified());
+  }
+
   @Test
   public void testCheckAndSet_EnableCaching_IfModifiedSince_Modified() {
     Mockito.when(req.getPathInfo()).thenReturn("/");
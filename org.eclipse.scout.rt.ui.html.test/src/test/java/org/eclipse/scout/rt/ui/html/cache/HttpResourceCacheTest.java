@@ -92,4 +92,115 @@ public class HttpResourceCacheTest {
     Assert.assertNull(obj2);
   }
 
+  @Test
+  public void testWeight() {
+    HttpResourceCache cache = new HttpResourceCache(100);
+    Assert.assertTrue(cache.put(createCacheObject("/a", 60)));
+    Assert.assertEquals(60, cache.getWeight());
+
+    // replace
+    Assert.assertTrue(cache.put(createCacheObject("/a", 40)));
+    Assert.assertEquals(40, cache.getWeight());
+    Assert.assertEquals(1, cache.size());
+
+    cache.remove(new HttpCacheKey("/a"));
+    Assert.assertEquals(0, cache.getWeight());
+  }
+
+  @Test
+  public void testPutLargerThanMaxWeight() {
+    HttpResourceCache cache = new HttpResourceCache(100);
+    Assert.assertFalse(cache.put(createCacheObject("/a", 101)));
+    Assert.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testEvictLessFrequentlyUsed() {
+    HttpResourceCache cache = new HttpResourceCache(100);
+    Assert.assertTrue(cache.put(createCacheObject("/a", 60)));
+
+    // two cache misses for /b
+    Assert.assertNull(cache.get(new HttpCacheKey("/b")));
+    Assert.assertNull(cache.get(new HttpCacheKey("/b")));
+    Assert.assertTrue(cache.put(createCacheObject("/b", 60)));
+
+    Assert.assertNull(cache.get(new HttpCacheKey("/a")));
+    Assert.assertNotNull(cache.get(new HttpCacheKey("/b")));
+    Assert.assertEquals(60, cache.getWeight());
+    Assert.assertEquals(1, cache.getEvictionCount());
+  }
+
+  @Test
+  public void testEvictLeastRecentlyUsed() {
+    HttpResourceCache cache = new HttpResourceCache(100);
+    Assert.assertTrue(cache.put(createCacheObject("/a", 40)));
+    Assert.assertTrue(cache.put(createCacheObject("/b", 40)));
+    Assert.assertNotNull(cache.get(new HttpCacheKey("/a")));
+
+    // two cache misses for /c
+    Assert.assertNull(cache.get(new HttpCacheKey("/c")));
+    Assert.assertNull(cache.get(new HttpCacheKey("/c")));
+    Assert.assertTrue(cache.put(createCacheObject("/c", 40)));
+
+    // /b has been used less recently than /a
+    Assert.assertNotNull(cache.get(new HttpCacheKey("/a")));
+    Assert.assertNull(cache.get(new HttpCacheKey("/b")));
+    Assert.assertNotNull(cache.get(new HttpCacheKey("/c")));
+    Assert.assertEquals(80, cache.getWeight());
+    Assert.assertEquals(1, cache.getEvictionCount());
+  }
+
+  @Test
+  public void testRejectLessFrequentlyUsed() {
+    HttpResourceCache cache = new HttpResourceCache(100);
+    Assert.assertTrue(cache.put(createCacheObject("/a", 60)));
+    for (int i = 0; i < 3; i++) {
+      Assert.assertNotNull(cache.get(new HttpCacheKey("/a")));
+    }
+
+    Assert.assertNull(cache.get(new HttpCacheKey("/b")));
+    Assert.assertFalse(cache.put(createCacheObject("/b", 60)));
+
+    Assert.assertNotNull(cache.get(new HttpCacheKey("/a")));
+    Assert.assertEquals(1, cache.getRejectionCount());
+    Assert.assertEquals(4, cache.getHitCount());
+    Assert.assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  public void testReplaceAdmitted() {
+    HttpResourceCache cache = new HttpResourceCache(100);
+    Assert.assertTrue(cache.put(createCacheObject("/a", 60)));
+    Assert.assertTrue(cache.put(createCacheObject("/b", 40)));
+    for (int i = 0; i < 3; i++) {
+      Assert.assertNotNull(cache.get(new HttpCacheKey("/b")));
+    }
+
+    // a new version of /a is admitted although /b is used more frequently
+    Assert.assertTrue(cache.put(createCacheObject("/a", 70)));
+    Assert.assertNotNull(cache.get(new HttpCacheKey("/a")));
+    Assert.assertNull(cache.get(new HttpCacheKey("/b")));
+    Assert.assertEquals(70, cache.getWeight());
+    Assert.assertEquals(0, cache.getRejectionCount());
+  }
+
+  @Test
+  public void testReplaceLargerThanMaxWeight() {
+    HttpResourceCache cache = new HttpResourceCache(100);
+    Assert.assertTrue(cache.put(createCacheObject("/a", 60)));
+
+    // the outdated version is not kept
+    Assert.assertFalse(cache.put(createCacheObject("/a", 101)));
+    Assert.assertNull(cache.get(new HttpCacheKey("/a")));
+    Assert.assertEquals(0, cache.getWeight());
+  }
+
+  private static HttpCacheObject createCacheObject(String path, int contentLength) {
+    BinaryResource res = BinaryResources.create()
+        .withFilename("a.html")
+        .withContent(new byte[contentLength])
+        .withCachingAllowed(true)
+        .build();
+    return new HttpCacheObject(new HttpCacheKey(path), res);
+  }
 }
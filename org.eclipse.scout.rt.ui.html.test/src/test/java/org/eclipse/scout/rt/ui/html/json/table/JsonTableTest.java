@@ -1622,6 +1622,237 @@ public class JsonTableTest {
         .anyMatch(p -> "columnStructureChanged".equals(p.getType())));
   }
 
+  @Test
+  public void testRowWindow() throws JSONException {
+    Table table = new Table();
+    table.fill(25);
+    table.init();
+    table.setRowWindowSize(10);
+
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    JSONObject json = jsonTable.toJson();
+    assertEquals(10, json.getJSONArray(JsonTable.PROP_ROWS).length());
+    assertEquals(0, json.getInt(JsonTable.PROP_ROW_WINDOW_START));
+    assertEquals(25, json.getInt(JsonTable.PROP_ROW_COUNT));
+    assertNotNull(jsonTable.tableRowIdsMap().get(table.getRow(9)));
+    assertNull(jsonTable.tableRowIdsMap().get(table.getRow(10)));
+    JsonTestUtility.endRequest(m_uiSession);
+
+    // the window starts a quarter of the window size before the requested row, the rows before it are dropped
+    jsonTable.handleUiEvent(createJsonRowWindowRequestedEvent(12));
+    assertEquals(Integer.valueOf(10), JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_ROW_WINDOW_START));
+    List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(
+        m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_DELETED);
+    assertEquals(1, responseEvents.size());
+    assertEquals(10, responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROW_IDS).length());
+    responseEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    assertEquals(1, responseEvents.size());
+    assertEquals(10, responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).length());
+    assertTrue(JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), "rowOrderChanged").isEmpty());
+    assertNull(jsonTable.tableRowIdsMap().get(table.getRow(9)));
+    assertNotNull(jsonTable.tableRowIdsMap().get(table.getRow(10)));
+    assertNotNull(jsonTable.tableRowIdsMap().get(table.getRow(19)));
+    assertNull(jsonTable.tableRowIdsMap().get(table.getRow(20)));
+    JsonTestUtility.endRequest(m_uiSession);
+
+    // the window does not extend beyond the last row, only the new rows are sent
+    jsonTable.handleUiEvent(createJsonRowWindowRequestedEvent(24));
+    assertEquals(Integer.valueOf(15), JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_ROW_WINDOW_START));
+    responseEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    assertEquals(1, responseEvents.size());
+    assertEquals(5, responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).length());
+    assertNull(jsonTable.tableRowIdsMap().get(table.getRow(14)));
+    assertNotNull(jsonTable.tableRowIdsMap().get(table.getRow(24)));
+    assertEquals(10, jsonTable.tableRowIdsMap().size());
+  }
+
+  @Test
+  public void testRowWindowUpdateOutsideWindow() throws JSONException {
+    TableWith3Cols table = new TableWith3Cols();
+    table.fill(25);
+    table.init();
+    table.setRowWindowSize(10);
+
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    table.getColumnSet().getColumnByClass(TableWith3Cols.Col0Column.class).setValue(table.getRow(20), "newValue");
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+    assertTrue(JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_UPDATED).isEmpty());
+
+    table.getColumnSet().getColumnByClass(TableWith3Cols.Col0Column.class).setValue(table.getRow(5), "newValue");
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+    assertEquals(1, JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_UPDATED).size());
+  }
+
+  @Test
+  public void testRowWindowDeleteRows() throws JSONException {
+    Table table = new Table();
+    table.fill(25);
+    table.init();
+    table.setRowWindowSize(10);
+
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    ITableRow row10 = table.getRow(10);
+    table.deleteRow(0);
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+
+    // only the difference is sent: the deleted row and the row which moved into the window
+    List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(
+        m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_DELETED);
+    assertEquals(1, responseEvents.size());
+    assertEquals(1, responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROW_IDS).length());
+    responseEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    assertEquals(1, responseEvents.size());
+    assertEquals(1, responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).length());
+    assertTrue(JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ALL_ROWS_DELETED).isEmpty());
+    assertTrue(JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), "rowOrderChanged").isEmpty());
+    assertNotNull(jsonTable.tableRowIdsMap().get(row10));
+    assertEquals(Integer.valueOf(24), JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_ROW_COUNT));
+  }
+
+  @Test
+  public void testRowWindowRowOrderChanged() throws JSONException {
+    Table table = new Table();
+    table.fill(25);
+    table.init();
+    table.setRowWindowSize(10);
+
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    // row 20 moves into the window and row 9 out of it
+    table.moveRow(20, 0);
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+
+    List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(
+        m_uiSession.currentJsonResponse(), "rowOrderChanged");
+    assertEquals(1, responseEvents.size());
+    JSONArray rowIds = responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROW_IDS);
+    assertEquals(10, rowIds.length());
+    assertEquals(jsonTable.getTableRowId(table.getRow(0)), rowIds.get(0));
+    assertEquals(1, JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED).size());
+    assertEquals(1, JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_DELETED).size());
+    assertNull(jsonTable.tableRowIdsMap().get(table.getRow(10)));
+  }
+
+  @Test
+  public void testRowWindowRowFilter() throws JSONException {
+    Table table = new Table();
+    table.fill(25);
+    table.init();
+    table.setRowWindowSize(10);
+
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    table.addRowFilter(r -> r.getRowIndex() % 2 == 0);
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+
+    // the window holds the first 10 filtered rows
+    assertEquals(Integer.valueOf(13), JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_ROW_COUNT));
+    assertEquals(10, jsonTable.tableRowIdsMap().size());
+    assertNull(jsonTable.tableRowIdsMap().get(table.getRow(1)));
+    assertNotNull(jsonTable.tableRowIdsMap().get(table.getRow(18)));
+    assertNull(jsonTable.tableRowIdsMap().get(table.getRow(20)));
+  }
+
+  /**
+   * The row window is a flat slice of the filtered rows. It is ignored for hierarchical tables, otherwise the UI could
+   * receive rows without their parent rows.
+   */
+  @Test
+  public void testRowWindowHierarchical() throws JSONException {
+    HierarchicalTable table = new HierarchicalTable();
+    table.init();
+    table.setRowWindowSize(2);
+    List<ITableRow> rows = new ArrayList<>();
+    rows.add(table.createRow(new Object[]{0, null}));
+    rows.add(table.createRow(new Object[]{1, 0}));
+    rows.add(table.createRow(new Object[]{2, 0}));
+    rows.add(table.createRow(new Object[]{3, null}));
+    rows.add(table.createRow(new Object[]{4, 3}));
+    rows.add(table.createRow(new Object[]{5, 4}));
+    table.replaceRows(rows);
+    assertTrue(table.isHierarchical());
+
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    JSONObject json = jsonTable.toJson();
+    assertEquals(0, json.getInt(ITable.PROP_ROW_WINDOW_SIZE));
+    assertFalse(json.has(JsonTable.PROP_ROW_WINDOW_START));
+    assertEquals(6, json.getJSONArray(JsonTable.PROP_ROWS).length());
+    assertParentRowsSent(json.getJSONArray(JsonTable.PROP_ROWS));
+    JsonTestUtility.endRequest(m_uiSession);
+
+    // requests of a new window are ignored
+    jsonTable.handleUiEvent(createJsonRowWindowRequestedEvent(4));
+    assertTrue(JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_DELETED).isEmpty());
+    assertEquals(6, jsonTable.tableRowIdsMap().size());
+  }
+
+  @Test
+  public void testRowWindowTableBecomesHierarchical() throws JSONException {
+    HierarchicalTable table = new HierarchicalTable();
+    table.init();
+    table.setRowWindowSize(2);
+    List<ITableRow> rows = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      rows.add(table.createRow(new Object[]{i, null}));
+    }
+    table.replaceRows(rows);
+    assertFalse(table.isHierarchical());
+
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    JSONObject json = jsonTable.toJson();
+    assertEquals(2, json.getInt(ITable.PROP_ROW_WINDOW_SIZE));
+    assertEquals(2, json.getJSONArray(JsonTable.PROP_ROWS).length());
+    JsonTestUtility.endRequest(m_uiSession);
+
+    // the parent of the new row is outside of the window -> the window is disabled and all rows are sent
+    table.addRow(table.createRow(new Object[]{6, 5}));
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+
+    assertTrue(table.isHierarchical());
+    assertEquals(Integer.valueOf(0), JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), ITable.PROP_ROW_WINDOW_SIZE));
+    assertEquals(1, JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ALL_ROWS_DELETED).size());
+    JSONArray insertedRows = new JSONArray();
+    for (JsonEvent event : JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED)) {
+      JSONArray eventRows = event.getData().getJSONArray(JsonTable.PROP_ROWS);
+      for (int i = 0; i < eventRows.length(); i++) {
+        insertedRows.put(eventRows.get(i));
+      }
+    }
+    assertEquals(7, insertedRows.length());
+    assertParentRowsSent(insertedRows);
+    assertEquals(7, jsonTable.tableRowIdsMap().size());
+    JsonTestUtility.endRequest(m_uiSession);
+
+    // the row window is used again as soon as the table is no longer hierarchical
+    table.deleteRow(6);
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+
+    assertFalse(table.isHierarchical());
+    assertEquals(Integer.valueOf(2), JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), ITable.PROP_ROW_WINDOW_SIZE));
+    assertEquals(2, jsonTable.tableRowIdsMap().size());
+  }
+
+  protected void assertParentRowsSent(JSONArray jsonRows) throws JSONException {
+    Set<String> rowIds = new HashSet<>();
+    for (int i = 0; i < jsonRows.length(); i++) {
+      rowIds.add(jsonRows.getJSONObject(i).getString("id"));
+    }
+    for (int i = 0; i < jsonRows.length(); i++) {
+      String parentRowId = jsonRows.getJSONObject(i).optString("parentRow", null);
+      assertTrue("parent row " + parentRowId + " not sent", parentRowId == null || rowIds.contains(parentRowId));
+    }
+  }
+
   public static Table createTableFixture(int numRows) {
     Table table = new Table();
     table.fill(numRows);
@@ -1668,4 +1899,11 @@ public class JsonTableTest {
     data.put("index", index);
     return new JsonEvent(tableId, JsonTable.EVENT_COLUMN_MOVED, data);
   }
+
+  public static JsonEvent createJsonRowWindowRequestedEvent(int rowIndex) throws JSONException {
+    String tableId = "x"; // never used
+    JSONObject data = new JSONObject();
+    data.put(JsonTable.PROP_ROW_INDEX, rowIndex);
+    return new JsonEvent(tableId, JsonTable.EVENT_ROW_WINDOW_REQUESTED, data);
+  }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.json.table.control;
+
+import static org.junit.Assert.*;
+
+import java.util.Map;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.controls.AggregateTableControl;
+import org.eclipse.scout.rt.client.ui.basic.table.controls.IAggregateTableControl;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.ui.html.UiSessionTestUtility;
+import org.eclipse.scout.rt.ui.html.json.fixtures.UiSessionMock;
+import org.eclipse.scout.rt.ui.html.json.table.fixtures.TableWithLongColumn;
+import org.eclipse.scout.rt.ui.html.json.testing.JsonTestUtility;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class JsonAggregateTableControlTest {
+
+  private UiSessionMock m_uiSession;
+
+  @Before
+  public void setUp() {
+    m_uiSession = new UiSessionMock();
+  }
+
+  @Test
+  public void testAggregatesSentWhileSelected() throws JSONException {
+    TableWithLongColumn table = new TableWithLongColumn();
+    table.init();
+    table.addRowByArray(new Object[]{10L});
+    table.addRowByArray(new Object[]{20L});
+    AggregateTableControl control = new AggregateTableControl();
+    control.setTable(table);
+    JsonAggregateTableControl<IAggregateTableControl> jsonControl = UiSessionTestUtility.newJsonAdapter(m_uiSession, control);
+    assertNull(JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonControl.getId(), IAggregateTableControl.PROP_AGGREGATES));
+
+    control.setSelected(true);
+    JSONArray aggregates = JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonControl.getId(), IAggregateTableControl.PROP_AGGREGATES);
+    assertEquals(1, aggregates.length());
+    JSONObject aggregate = aggregates.getJSONObject(0);
+    assertEquals(2, aggregate.getLong("count"));
+    assertEquals(30, aggregate.getLong("sum"));
+    assertEquals(10, aggregate.getLong("min"));
+    assertEquals(20, aggregate.getLong("max"));
+    JsonTestUtility.endRequest(m_uiSession);
+
+    table.addRowByArray(new Object[]{5L});
+    aggregates = JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonControl.getId(), IAggregateTableControl.PROP_AGGREGATES);
+    assertEquals(35, aggregates.getJSONObject(0).getLong("sum"));
+    assertEquals(5, aggregates.getJSONObject(0).getLong("min"));
+    JsonTestUtility.endRequest(m_uiSession);
+
+    // the UI aggregates its rows again
+    control.setSelected(false);
+    Map<String, Object> properties = JsonTestUtility.extractPropertyChangeEvents(m_uiSession.currentJsonResponse(), jsonControl.getId()).get(0).getProperties();
+    assertTrue(properties.containsKey(IAggregateTableControl.PROP_AGGREGATES));
+    assertNull(properties.get(IAggregateTableControl.PROP_AGGREGATES));
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.res;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests the selection of precompressed representations by {@link ResourceRequestHandler}.
+ */
+@RunWith(PlatformTestRunner.class)
+public class ResourceRequestHandlerTest {
+
+  private ResourceRequestHandler m_handler;
+  private HttpServletRequest m_req;
+  private HttpServletResponse m_resp;
+
+  @Before
+  public void before() {
+    m_handler = BEANS.get(ResourceRequestHandler.class);
+    m_req = mock(HttpServletRequest.class);
+    m_resp = mock(HttpServletResponse.class);
+  }
+
+  @Test
+  public void testBrotliPreferredOverGzip() {
+    when(m_req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn("gzip, deflate, br");
+
+    HttpCacheObject representation = m_handler.resolveRepresentation(m_req, m_resp, createCacheObject(true, true));
+
+    assertEquals("br", representation.getContentEncoding());
+    assertEquals("br", new String(representation.getResource().getContent(), StandardCharsets.UTF_8));
+    verify(m_resp).addHeader(ResourceRequestHandler.VARY, GzipServletFilter.ACCEPT_ENCODING);
+  }
+
+  @Test
+  public void testGzipIfBrotliNotAccepted() {
+    when(m_req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn("gzip, deflate");
+
+    HttpCacheObject representation = m_handler.resolveRepresentation(m_req, m_resp, createCacheObject(true, true));
+
+    assertEquals("gzip", representation.getContentEncoding());
+    verify(m_resp).addHeader(ResourceRequestHandler.VARY, GzipServletFilter.ACCEPT_ENCODING);
+  }
+
+  @Test
+  public void testGzipIfBrotliRejected() {
+    when(m_req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn("br;q=0, gzip;q=0.5");
+
+    HttpCacheObject representation = m_handler.resolveRepresentation(m_req, m_resp, createCacheObject(true, true));
+
+    assertEquals("gzip", representation.getContentEncoding());
+  }
+
+  @Test
+  public void testGzipIfNoBrotliSibling() {
+    when(m_req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn("gzip, deflate, br");
+
+    HttpCacheObject representation = m_handler.resolveRepresentation(m_req, m_resp, createCacheObject(false, true));
+
+    assertEquals("gzip", representation.getContentEncoding());
+  }
+
+  @Test
+  public void testIdentityIfNoEncodingAccepted() {
+    HttpCacheObject cacheObject = createCacheObject(true, true);
+
+    HttpCacheObject representation = m_handler.resolveRepresentation(m_req, m_resp, cacheObject);
+
+    assertSame(cacheObject, representation);
+    assertNull(representation.getContentEncoding());
+    verify(m_resp).addHeader(ResourceRequestHandler.VARY, GzipServletFilter.ACCEPT_ENCODING);
+  }
+
+  @Test
+  public void testIdentityIfEncodingsRejected() {
+    when(m_req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn("deflate, gzip;q=0, br;q=0.0");
+    HttpCacheObject cacheObject = createCacheObject(true, true);
+
+    HttpCacheObject representation = m_handler.resolveRepresentation(m_req, m_resp, cacheObject);
+
+    assertSame(cacheObject, representation);
+    verify(m_resp).addHeader(ResourceRequestHandler.VARY, GzipServletFilter.ACCEPT_ENCODING);
+  }
+
+  @Test
+  public void testNoVaryWithoutPrecompressedSiblings() {
+    when(m_req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn("gzip, deflate, br");
+    HttpCacheObject cacheObject = createCacheObject(false, false);
+
+    HttpCacheObject representation = m_handler.resolveRepresentation(m_req, m_resp, cacheObject);
+
+    assertSame(cacheObject, representation);
+    verify(m_resp, never()).addHeader(eq(ResourceRequestHandler.VARY), anyString());
+  }
+
+  @Test
+  public void testRepresentationHasOwnETag() {
+    when(m_req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn("br");
+    HttpCacheObject cacheObject = createCacheObject(true, true);
+
+    HttpCacheObject representation = m_handler.resolveRepresentation(m_req, m_resp, cacheObject);
+
+    assertNotEquals(cacheObject.createETag(), representation.createETag());
+  }
+
+  @Test
+  public void testWriteContentEncoding() throws IOException {
+    when(m_req.getMethod()).thenReturn("HEAD");
+    when(m_req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn("gzip");
+    HttpCacheObject representation = m_handler.resolveRepresentation(m_req, m_resp, createCacheObject(true, true));
+
+    m_handler.writeResourceToResponse(m_req, m_resp, representation);
+
+    verify(m_resp).setHeader(GzipServletFilter.CONTENT_ENCODING, "gzip");
+    verify(m_resp).setContentLength(4);
+  }
+
+  @Test
+  public void testWriteIdentity() throws IOException {
+    when(m_req.getMethod()).thenReturn("HEAD");
+    HttpCacheObject representation = m_handler.resolveRepresentation(m_req, m_resp, createCacheObject(true, true));
+
+    m_handler.writeResourceToResponse(m_req, m_resp, representation);
+
+    verify(m_resp, never()).setHeader(eq(GzipServletFilter.CONTENT_ENCODING), anyString());
+    verify(m_resp).setContentLength(8);
+  }
+
+  protected HttpCacheObject createCacheObject(boolean brotli, boolean gzip) {
+    HttpCacheObject cacheObject = new HttpCacheObject(new HttpCacheKey("/scout.js"), createResource("identity"));
+    if (brotli) {
+      cacheObject.putEncodedResource("br", createResource("br"));
+    }
+    if (gzip) {
+      cacheObject.putEncodedResource("gzip", createResource("gzip"));
+    }
+    return cacheObject;
+  }
+
+  protected BinaryResource createResource(String content) {
+    return BinaryResources.create()
+        .withFilename("scout.js")
+        .withContent(content.getBytes(StandardCharsets.UTF_8))
+        .withLastModified(1600000000000L)
+        .withCachingAllowed(true)
+        .build();
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2010-2021 BSI Business Systems Integration AG.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     BSI Business Systems Integration AG - initial API and implementation
+ */
+package org.eclipse.scout.rt.ui.html.res.loader;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.ImmutablePair;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.shared.ui.webresource.WebResourceDescriptor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the precompressed siblings (e.g. <code>scout.js.br</code>) loaded by {@link WebResourceLoader}.
+ */
+public class WebResourceLoaderTest {
+
+  private static final long LAST_MODIFIED = 1600000000000L;
+
+  private File m_dir;
+  private File m_file;
+
+  @Before
+  public void before() throws IOException {
+    m_dir = IOUtility.createTempDirectory("webresources");
+    m_file = writeFile("scout.js", 1000, LAST_MODIFIED);
+  }
+
+  @After
+  public void after() {
+    IOUtility.deleteDirectory(m_dir);
+  }
+
+  @Test
+  public void testPrecompressedSiblingsPresent() throws IOException {
+    writeFile("scout.js.br", 10, LAST_MODIFIED);
+    writeFile("scout.js.gz", 20, LAST_MODIFIED + 1000);
+
+    HttpCacheObject cacheObject = createLoader().loadResource(new HttpCacheKey("/scout.js"));
+
+    assertEquals(1000, cacheObject.getResource().getContentLength());
+    assertEquals(Arrays.asList("br", "gzip"), Arrays.asList(cacheObject.getEncodedResources().keySet().toArray()));
+    assertEquals(10, cacheObject.getEncodedResources().get("br").getContentLength());
+    assertEquals(20, cacheObject.getEncodedResources().get("gzip").getContentLength());
+    // precompressed representations are served with the meta data of the original resource
+    assertEquals("scout.js", cacheObject.getEncodedResources().get("br").getFilename());
+    assertEquals(cacheObject.getResource().getContentType(), cacheObject.getEncodedResources().get("br").getContentType());
+    assertEquals(LAST_MODIFIED, cacheObject.getEncodedResources().get("br").getLastModified());
+    assertEquals(HttpCacheControl.MAX_AGE_4_HOURS, cacheObject.getEncodedResources().get("br").getCacheMaxAge());
+  }
+
+  @Test
+  public void testPrecompressedSiblingsMissing() throws IOException {
+    HttpCacheObject cacheObject = createLoader().loadResource(new HttpCacheKey("/scout.js"));
+
+    assertEquals(1000, cacheObject.getResource().getContentLength());
+    assertTrue(cacheObject.getEncodedResources().isEmpty());
+  }
+
+  @Test
+  public void testPrecompressedSiblingOnlyGzip() throws IOException {
+    writeFile("scout.js.gz", 20, LAST_MODIFIED);
+
+    HttpCacheObject cacheObject = createLoader().loadResource(new HttpCacheKey("/scout.js"));
+
+    assertEquals(Arrays.asList("gzip"), Arrays.asList(cacheObject.getEncodedResources().keySet().toArray()));
+  }
+
+  @Test
+  public void testPrecompressedSiblingOutdated() throws IOException {
+    writeFile("scout.js.br", 10, LAST_MODIFIED - 1000);
+    writeFile("scout.js.gz", 20, LAST_MODIFIED);
+
+    HttpCacheObject cacheObject = createLoader().loadResource(new HttpCacheKey("/scout.js"));
+
+    assertEquals(Arrays.asList("gzip"), Arrays.asList(cacheObject.getEncodedResources().keySet().toArray()));
+  }
+
+  @Test
+  public void testPrecompressedSiblingNotSmaller() throws IOException {
+    writeFile("scout.js.br", 1000, LAST_MODIFIED);
+    writeFile("scout.js.gz", 1001, LAST_MODIFIED);
+
+    HttpCacheObject cacheObject = createLoader().loadResource(new HttpCacheKey("/scout.js"));
+
+    assertTrue(cacheObject.getEncodedResources().isEmpty());
+  }
+
+  @Test
+  public void testLoadPrecompressedResource() throws IOException {
+    writeFile("scout.js.br", 10, LAST_MODIFIED);
+    P_WebResourceLoader loader = createLoader();
+    HttpCacheObject cacheObject = loader.loadResource(new HttpCacheKey("/scout.js"));
+
+    assertTrue(loader.loadPrecompressedResource(loader.m_resource, cacheObject.getResource(), ".br").isPresent());
+    assertFalse(loader.loadPrecompressedResource(loader.m_resource, cacheObject.getResource(), ".gz").isPresent());
+  }
+
+  @Test
+  public void testUnknownResource() throws IOException {
+    P_WebResourceLoader loader = createLoader();
+    loader.m_resource = null;
+
+    assertNull(loader.loadResource(new HttpCacheKey("/scout.js")));
+  }
+
+  @Test(expected = PlatformException.class)
+  public void testOriginalResourceMissing() throws IOException {
+    P_WebResourceLoader loader = createLoader();
+    assertTrue(m_file.delete());
+
+    loader.loadResource(new HttpCacheKey("/scout.js"));
+  }
+
+  protected P_WebResourceLoader createLoader() throws MalformedURLException {
+    return new P_WebResourceLoader(new WebResourceDescriptor(m_file.toURI().toURL(), "scout.js", "scout.js"));
+  }
+
+  protected File writeFile(String name, int length, long lastModified) throws IOException {
+    File file = new File(m_dir, name);
+    byte[] content = new byte[length];
+    Arrays.fill(content, (byte) 'a');
+    Files.write(file.toPath(), content);
+    assertTrue(file.setLastModified(lastModified));
+    return file;
+  }
+
+  private static class P_WebResourceLoader extends WebResourceLoader {
+    private ImmutablePair<WebResourceDescriptor, Integer> m_resource;
+
+    P_WebResourceLoader(WebResourceDescriptor resource) {
+      super(false, true, null);
+      m_resource = new ImmutablePair<>(resource, HttpCacheControl.MAX_AGE_4_HOURS);
+    }
+
+    @Override
+    protected Optional<ImmutablePair<WebResourceDescriptor, Integer>> lookupResource(String file) {
+      return Optional.ofNullable(m_resource);
+    }
+  }
+}
@@ -12,7 +12,10 @@ package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -131,29 +134,41 @@ public class JsonRequestHelper {
 
   /**
    * Writes the given {@link JSONObject} into the given {@link ServletResponse}.
+   * <p>
+   * The JSON text is encoded directly into the output stream of the response (see {@link JSONObject#write(Writer)}).
+   * The whole JSON text is only materialized in memory if trace logging is enabled.
    */
   public void writeResponse(final ServletResponse servletResponse, final JSONObject jsonResponse) throws IOException {
-    String jsonText = jsonResponse.toString();
-    final byte[] data = jsonText.getBytes(StandardCharsets.UTF_8);
-    servletResponse.setContentLength(data.length);
     if (servletResponse.getContentType() == null) {
       servletResponse.setContentType("application/json");
     }
     servletResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
 
+    String jsonText = null;
+    if (LOG.isTraceEnabled()) {
+      jsonText = jsonResponse.toString();
+    }
+
     // Clear the current thread's interruption status before writing the response to the output stream.
     // Otherwise, the stream gets silently corrupted, which makes the client to loose the connection.
     IRestorer interruption = ThreadInterruption.clear();
     try {
-      servletResponse.getOutputStream().write(data);
+      if (jsonText == null) {
+        writeJson(servletResponse.getOutputStream(), jsonResponse);
+      }
+      else {
+        final byte[] data = jsonText.getBytes(StandardCharsets.UTF_8);
+        servletResponse.setContentLength(data.length);
+        servletResponse.getOutputStream().write(data);
+      }
     }
     catch (final EOFException e) { // NOSONAR
       final StringBuilder sb = new StringBuilder("EOF - Client disconnected, cannot write response");
-      if (LOG.isDebugEnabled()) {
+      if (jsonText != null) {
         sb.append(": ").append(jsonText);
       }
-      else {
-        sb.append(" (").append(data.length).append(" bytes)");
+      else if (LOG.isDebugEnabled()) {
+        sb.append(": ").append(formatJsonResponseForLogging(jsonResponse));
       }
       LOG.warn(sb.toString());
       return;
@@ -161,7 +176,7 @@ public class JsonRequestHelper {
     finally {
       interruption.restore();
     }
-    if (LOG.isTraceEnabled()) {
+    if (jsonText != null) {
       LOG.trace("Returned: {}", formatJsonForLogging(jsonText));
     }
     else if (LOG.isDebugEnabled()) {
@@ -169,6 +184,16 @@ public class JsonRequestHelper {
     }
   }
 
+  /**
+   * Encodes the given {@link JSONObject} as UTF-8 into the given {@link OutputStream}. The stream is flushed but not
+   * closed.
+   */
+  protected void writeJson(final OutputStream out, final JSONObject json) throws IOException {
+    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    json.write(writer);
+    writer.flush();
+  }
+
   /**
    * Reads the content of {@link ServletRequest} into a {@link JSONObject}.
    */
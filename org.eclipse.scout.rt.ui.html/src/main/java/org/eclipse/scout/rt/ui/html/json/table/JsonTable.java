@@ -10,6 +10,7 @@
  */
 package org.eclipse.scout.rt.ui.html.json.table;
 
+import java.beans.PropertyChangeEvent;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -128,6 +129,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String EVENT_FILTER_REMOVED = "filterRemoved";
   public static final String EVENT_FILTERS_CHANGED = "filtersChanged";
   public static final String EVENT_FILTER = "filter";
+  public static final String EVENT_ROW_WINDOW_REQUESTED = "rowWindowRequested";
 
   public static final String PROP_ROWS = "rows";
   public static final String PROP_ROW_IDS = "rowIds";
@@ -140,6 +142,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String PROP_SELECTED_ROWS = "selectedRows";
   public static final String PROP_FILTERS = "filters";
   public static final String PROP_HAS_RELOAD_HANDLER = "hasReloadHandler";
+  public static final String PROP_ROW_COUNT = "rowCount";
+  public static final String PROP_ROW_WINDOW_START = "rowWindowStart";
+  public static final String PROP_ROW_INDEX = "rowIndex";
 
   private TableListener m_tableListener;
   private final Map<String, ITableRow> m_tableRows;
@@ -151,6 +156,15 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   private JsonContextMenu<IContextMenu> m_jsonContextMenu;
   private final BinaryResourceMediator m_binaryResourceMediator;
   private final JsonTableListeners m_listeners = new JsonTableListeners();
+  /**
+   * Index of the first row of the row window among the filtered rows, if the row window is enabled (see
+   * {@link #isRowWindowEnabled()}).
+   */
+  private int m_rowWindowStart;
+  /**
+   * Rows the UI holds in UI order, if the row window is enabled (see {@link #isRowWindowEnabled()}).
+   */
+  private List<ITableRow> m_rowWindow = new ArrayList<>();
 
   public JsonTable(T model, IUiSession uiSession, String id, IJsonAdapter<?> parent) {
     super(model, uiSession, id, parent);
@@ -359,6 +373,12 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
         return getModel().getMaxRowCount();
       }
     });
+    putJsonProperty(new JsonProperty<ITable>(ITable.PROP_ROW_WINDOW_SIZE, model) {
+      @Override
+      protected Integer modelValue() {
+        return getEffectiveRowWindowSize();
+      }
+    });
     putJsonProperty(new JsonProperty<ITable>(ITable.PROP_HIERARCHICAL_STYLE, model) {
       @Override
       protected HierarchicalStyle modelValue() {
@@ -449,6 +469,13 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void attachRows() {
+    if (isRowWindowEnabled()) {
+      m_rowWindow = getRowsInWindow();
+      for (ITableRow row : m_rowWindow) {
+        getOrCreateRowId(row);
+      }
+      return;
+    }
     List<ITableRow> rows = getModel().getRows();
     for (ITableRow row : rows) {
       if (isRowAccepted(row)) {
@@ -562,10 +589,17 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     JSONObject json = super.toJson();
     json.put(PROP_COLUMNS, columnsToJson(getColumnsInViewOrder()));
     json.put(PROP_COLUMN_ADDABLE, getModel().getTableOrganizer().isColumnAddable());
-    json.put(PROP_ROWS, tableRowsToJson(getModel().getRows()));
+    if (isRowWindowEnabled()) {
+      json.put(PROP_ROWS, tableRowsToJson(m_rowWindow));
+      json.put(PROP_ROW_WINDOW_START, m_rowWindowStart);
+      json.put(PROP_ROW_COUNT, getModel().getFilteredRowCount());
+    }
+    else {
+      json.put(PROP_ROWS, tableRowsToJson(getModel().getRows()));
+    }
     json.put(PROP_MENUS, getJsonContextMenu().childActionsToJson());
     json.put(PROP_SELECTED_ROWS, rowIdsToJson(getModel().getSelectedRows()));
-    if (getModel().getUserFilterManager() != null) {
+    if (getModel().getUserFilterManager() != null && !isRowWindowEnabled()) {
       json.put(PROP_FILTERS, filtersToJson(getModel().getUserFilterManager().getFilters()));
     }
     json.put(PROP_HAS_RELOAD_HANDLER, getModel().getReloadHandler() != null);
@@ -577,13 +611,19 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected JSONArray tableRowsToJson(Collection<ITableRow> rows, Set<ITableRow> acceptedRows) {
-    JSONArray jsonRows = new JSONArray();
+    List<ITableRow> rowsToSend = new ArrayList<>(rows.size());
     for (ITableRow row : rows) {
       if (isRowAccepted(row)) {
-        jsonRows.put(tableRowToJson(row));
-        acceptedRows.add(row);
+        rowsToSend.add(row);
       }
     }
+    // create the cells of tables with lazy cells in one batch, e.g. to look up the texts of smart columns at once
+    getModel().materializeCells(rowsToSend);
+    JSONArray jsonRows = new JSONArray();
+    for (ITableRow row : rowsToSend) {
+      jsonRows.put(tableRowToJson(row));
+      acceptedRows.add(row);
+    }
     return jsonRows;
   }
 
@@ -655,6 +695,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     else if (EVENT_COLUMN_ORGANIZE_ACTION.equals(event.getType())) {
       handleUiColumnOrganizeAction(event);
     }
+    else if (EVENT_ROW_WINDOW_REQUESTED.equals(event.getType())) {
+      handleUiRowWindowRequested(event);
+    }
     else {
       super.handleUiEvent(event);
     }
@@ -692,6 +735,20 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
   }
 
+  /**
+   * The UI requests a new row window while scrolling if a row window is used. The data contains the index of the first
+   * row in the viewport. The window starts a quarter of the window size before that row, the rows before and after the
+   * viewport are the prefetch margin.
+   */
+  protected void handleUiRowWindowRequested(JsonEvent event) {
+    if (!isRowWindowEnabled()) {
+      return;
+    }
+    int rowIndex = event.getData().getInt(PROP_ROW_INDEX);
+    m_rowWindowStart = Math.max(0, rowIndex - getEffectiveRowWindowSize() / 4);
+    updateRowWindow();
+  }
+
   protected void handleUiRowClick(JsonEvent event) {
     ITableRow tableRow = extractTableRow(event.getData());
     if (tableRow == null) {
@@ -997,6 +1054,10 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleUiFilter(JsonEvent event) {
+    if (isRowWindowEnabled()) {
+      // The UI only knows the rows of the row window and therefore cannot filter the rows
+      return;
+    }
     if (event.getData().optBoolean("remove")) {
       getModel().getUIFacade().removeFilteredRowsFromUI();
     }
@@ -1095,6 +1156,136 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     return jsonRowIds;
   }
 
+  /**
+   * @return the row window size of the model, 0 if the table is hierarchical. The row window is a flat slice of the
+   *         filtered rows, it cannot guarantee that the parent rows of its rows and their expansion state are known by
+   *         the UI.
+   */
+  protected int getEffectiveRowWindowSize() {
+    return getModel().isHierarchical() ? 0 : getModel().getRowWindowSize();
+  }
+
+  protected boolean isRowWindowEnabled() {
+    return getEffectiveRowWindowSize() > 0;
+  }
+
+  /**
+   * @return the filtered rows in the row window, in model order. The start of the window is moved back if the window
+   *         would extend beyond the last row.
+   */
+  protected List<ITableRow> getRowsInWindow() {
+    List<ITableRow> filteredRows = getModel().getFilteredRows();
+    int rowWindowSize = getEffectiveRowWindowSize();
+    m_rowWindowStart = Math.max(0, Math.min(m_rowWindowStart, filteredRows.size() - rowWindowSize));
+    int rowWindowEnd = Math.min(m_rowWindowStart + rowWindowSize, filteredRows.size());
+    return new ArrayList<>(filteredRows.subList(m_rowWindowStart, rowWindowEnd));
+  }
+
+  /**
+   * Brings the rows the UI holds in line with the rows in the row window. Only the difference is sent: rows that left
+   * the window are deleted, rows that entered the window are inserted, and the row order is only sent if it changed.
+   */
+  protected void updateRowWindow() {
+    List<ITableRow> rows = getRowsInWindow();
+    // Send the window first, the UI needs it to keep the scroll position while the rows are replaced
+    addPropertyChangeEvent(PROP_ROW_WINDOW_START, m_rowWindowStart);
+    addPropertyChangeEvent(PROP_ROW_COUNT, getModel().getFilteredRowCount());
+
+    Set<ITableRow> rowSet = new HashSet<>(rows);
+    Set<ITableRow> oldRowSet = new HashSet<>(m_rowWindow);
+    List<ITableRow> uiRows = new ArrayList<>(rows.size()); // the rows of the UI after deleting and inserting, in UI order
+    List<ITableRow> deletedRows = new ArrayList<>();
+    for (ITableRow row : m_rowWindow) {
+      if (rowSet.contains(row)) {
+        uiRows.add(row);
+      }
+      else {
+        deletedRows.add(row);
+      }
+    }
+    List<ITableRow> insertedRows = new ArrayList<>();
+    for (ITableRow row : rows) {
+      if (!oldRowSet.contains(row)) {
+        insertedRows.add(row);
+      }
+    }
+
+    if (rows.isEmpty()) {
+      handleModelAllRowsDeleted();
+    }
+    else {
+      handleModelRowsDeleted(deletedRows);
+    }
+    handleModelRowsInserted(insertedRows);
+    uiRows.addAll(insertedRows); // the UI appends inserted rows
+    if (!uiRows.equals(rows)) {
+      handleModelRowOrderChanged(rows);
+    }
+    m_rowWindow = rows;
+    if (insertedRows.stream().anyMatch(ITableRow::isSelected)) {
+      handleModelRowsSelected(getModel().getSelectedRows());
+    }
+  }
+
+  /**
+   * Moves the row window to the selected row if the UI does not hold it, so that the UI can scroll to it.
+   */
+  protected void moveRowWindowToSelection() {
+    ITableRow row = getModel().getSelectedRow();
+    if (row == null || getTableRowId(row) != null) {
+      return;
+    }
+    int rowIndex = getModel().getFilteredRows().indexOf(row);
+    if (rowIndex < 0) {
+      return;
+    }
+    m_rowWindowStart = Math.max(0, rowIndex - getEffectiveRowWindowSize() / 4);
+    updateRowWindow();
+  }
+
+  /**
+   * @return the event without the rows outside of the row window (the UI does not know them), <code>null</code> if no
+   *         row of a row update is in the window
+   */
+  protected TableEvent filterRowsOutsideWindow(TableEvent event) {
+    switch (event.getType()) {
+      case TableEvent.TYPE_ROWS_UPDATED:
+      case TableEvent.TYPE_ROWS_CHECKED:
+      case TableEvent.TYPE_ROWS_EXPANDED: {
+        List<ITableRow> rows = event.getRows().stream()
+            .filter(row -> getTableRowId(row) != null)
+            .collect(Collectors.toList());
+        if (rows.isEmpty()) {
+          return null;
+        }
+        return new TableEvent(getModel(), event.getType(), rows);
+      }
+      case TableEvent.TYPE_REQUEST_FOCUS_IN_CELL:
+      case TableEvent.TYPE_START_CELL_EDIT: {
+        ITableRow row = CollectionUtility.firstElement(event.getRows());
+        return row == null || getTableRowId(row) != null ? event : null;
+      }
+      default:
+        return event;
+    }
+  }
+
+  /**
+   * @return true if the event changes the set or order of the rows the UI holds
+   */
+  protected boolean isRowStructureEvent(TableEvent event) {
+    switch (event.getType()) {
+      case TableEvent.TYPE_ROWS_INSERTED:
+      case TableEvent.TYPE_ROWS_DELETED:
+      case TableEvent.TYPE_ALL_ROWS_DELETED:
+      case TableEvent.TYPE_ROW_ORDER_CHANGED:
+      case TableEvent.TYPE_ROW_FILTER_CHANGED:
+        return true;
+      default:
+        return false;
+    }
+  }
+
   /**
    * Ignore deleted or filtered rows, because for the UI, they don't exist
    */
@@ -1220,6 +1411,32 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     return jsonFilters;
   }
 
+  @Override
+  protected void handleModelPropertyChange(PropertyChangeEvent event) {
+    super.handleModelPropertyChange(event);
+    if (ITable.PROP_HIERARCHICAL_ROWS.equals(event.getPropertyName()) && getModel().getRowWindowSize() > 0) {
+      // The row window is disabled while the table is hierarchical
+      addPropertyChangeEvent(ITable.PROP_ROW_WINDOW_SIZE, getEffectiveRowWindowSize());
+      resendRows();
+    }
+    else if (ITable.PROP_ROW_WINDOW_SIZE.equals(event.getPropertyName())) {
+      resendRows();
+    }
+  }
+
+  /**
+   * Resends the rows after the row window has been enabled or disabled: all of them or the new window.
+   */
+  protected void resendRows() {
+    m_rowWindowStart = 0;
+    m_eventBuffer.add(new TableEvent(getModel(), TableEvent.TYPE_ALL_ROWS_DELETED));
+    m_eventBuffer.add(new TableEvent(getModel(), TableEvent.TYPE_ROWS_INSERTED, getModel().getRows()));
+    if (getModel().getSelectedRowCount() > 0) {
+      m_eventBuffer.add(new TableEvent(getModel(), TableEvent.TYPE_ROWS_SELECTED, getModel().getSelectedRows()));
+    }
+    registerAsBufferedEventsAdapter();
+  }
+
   protected void handleModelTableEvent(TableEvent event) {
     event = m_tableEventFilter.filter(event);
     if (event == null) {
@@ -1349,6 +1566,10 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     if (m_eventBuffer.isEmpty()) {
       return;
     }
+    if (isRowWindowEnabled()) {
+      processBufferedEventsInRowWindow();
+      return;
+    }
     preprocessBufferedEvents();
     List<TableEvent> coalescedEvents = m_eventBuffer.consumeAndCoalesceEvents();
     for (TableEvent event : coalescedEvents) {
@@ -1356,6 +1577,40 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
   }
 
+  /**
+   * Processes the buffered events if a row window is used. Events that change the rows or their order are not sent as
+   * they are, instead the row window is updated once after the last of them (see {@link #updateRowWindow()}). The
+   * other events are only sent for the rows in the window.
+   */
+  protected void processBufferedEventsInRowWindow() {
+    List<TableEvent> coalescedEvents = m_eventBuffer.consumeAndCoalesceEvents();
+    int lastRowStructureEvent = -1;
+    for (int i = 0; i < coalescedEvents.size(); i++) {
+      if (isRowStructureEvent(coalescedEvents.get(i))) {
+        lastRowStructureEvent = i;
+      }
+    }
+    for (int i = 0; i < coalescedEvents.size(); i++) {
+      TableEvent event = coalescedEvents.get(i);
+      if (event.getType() == TableEvent.TYPE_ALL_ROWS_DELETED) {
+        // The UI deletes all rows, e.g. after a column structure change -> the window is sent again
+        handleModelAllRowsDeleted();
+      }
+      else if (!isRowStructureEvent(event)) {
+        if (event.getType() == TableEvent.TYPE_SCROLL_TO_SELECTION) {
+          moveRowWindowToSelection();
+        }
+        event = filterRowsOutsideWindow(event);
+        if (event != null) {
+          processEvent(event);
+        }
+      }
+      if (i == lastRowStructureEvent) {
+        updateRowWindow();
+      }
+    }
+  }
+
   protected void processEvent(TableEvent event) {
     switch (event.getType()) {
       case TableEvent.TYPE_ROWS_INSERTED:
@@ -1478,6 +1733,10 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
    * @return the filtered row count excluding rows filtered by the user
    */
   protected int getFilteredRowCount() {
+    if (isRowWindowEnabled()) {
+      // The UI cannot filter rows if a row window is used
+      return getModel().getFilteredRowCount();
+    }
     if (getModel().getRowFilters().isEmpty()) {
       return getModel().getRowCount();
     }
@@ -1491,6 +1750,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelAllRowsDeleted() {
+    m_rowWindow.clear();
     if (m_tableRows.isEmpty()) {
       return;
     }
@@ -1621,6 +1881,10 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelUserFilterChange(TableEvent event) {
+    if (isRowWindowEnabled()) {
+      // User filters are not applied in the UI if a row window is used
+      return;
+    }
     Collection<IUserFilterState> filters = getModel().getUserFilterManager().getFilters();
     JSONObject jsonEvent = new JSONObject();
     jsonEvent.put(PROP_FILTERS, filtersToJson(filters));
@@ -10,9 +10,18 @@
  */
 package org.eclipse.scout.rt.ui.html.json.table.control;
 
+import java.util.Map;
+
+import org.eclipse.scout.rt.client.ui.basic.table.ITable;
+import org.eclipse.scout.rt.client.ui.basic.table.TableAggregator.Aggregate;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.INumberColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.controls.IAggregateTableControl;
 import org.eclipse.scout.rt.ui.html.IUiSession;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
+import org.eclipse.scout.rt.ui.html.json.JsonProperty;
+import org.json.JSONArray;
+import org.json.JSONObject;
 
 public class JsonAggregateTableControl<TABLE_CONTROL extends IAggregateTableControl> extends JsonTableControl<TABLE_CONTROL> {
 
@@ -25,4 +34,50 @@ public class JsonAggregateTableControl<TABLE_CONTROL extends IAggregateTableCont
     return "AggregateTableControl";
   }
 
+  @Override
+  protected void initJsonProperties(TABLE_CONTROL model) {
+    super.initJsonProperties(model);
+    putJsonProperty(new JsonProperty<TABLE_CONTROL>(IAggregateTableControl.PROP_AGGREGATES, model) {
+      @Override
+      protected Map<INumberColumn<?>, Aggregate> modelValue() {
+        return getModel().getAggregates();
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public Object prepareValueForToJson(Object value) {
+        return aggregatesToJson((Map<INumberColumn<?>, Aggregate>) value);
+      }
+    });
+  }
+
+  /**
+   * @return the aggregates of all rows by the index of the columns in the UI (see {@code JsonColumn}: invisible and
+   *         compacted columns are not sent), <code>null</code> if there are no aggregates. The UI then aggregates the
+   *         rows it holds.
+   */
+  protected JSONArray aggregatesToJson(Map<INumberColumn<?>, Aggregate> aggregates) {
+    ITable table = getModel().getTable();
+    if (aggregates == null || aggregates.isEmpty() || table == null) {
+      return null;
+    }
+    JSONArray json = new JSONArray();
+    for (IColumn<?> column : table.getColumns()) {
+      if (!column.isVisible() || column.isCompacted()) {
+        continue;
+      }
+      Aggregate aggregate = aggregates.get(column);
+      json.put(aggregate != null ? aggregateToJson(aggregate) : JSONObject.NULL);
+    }
+    return json;
+  }
+
+  protected JSONObject aggregateToJson(Aggregate aggregate) {
+    JSONObject json = new JSONObject();
+    json.put("count", aggregate.getCount());
+    json.put("sum", aggregate.getSum());
+    json.put("min", aggregate.getMin());
+    json.put("max", aggregate.getMax());
+    return json;
+  }
 }
@@ -13,6 +13,7 @@ package org.eclipse.scout.rt.ui.html.res;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map.Entry;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -22,12 +23,14 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.commons.servlet.UrlHints;
 import org.eclipse.scout.rt.server.commons.servlet.cache.GlobalHttpResourceCache;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
 import org.eclipse.scout.rt.server.commons.servlet.cache.IHttpResourceCache;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
 import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.UiServlet;
 import org.eclipse.scout.rt.ui.html.res.loader.IResourceLoader;
@@ -46,6 +49,7 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
 
   public static final String INDEX_HTML = "/index.html";
   public static final String URL_PARAM_CLEAR_CACHE = "clearCache";
+  public static final String VARY = "Vary";
 
   // Remember bean instances to save lookups on each GET request
   private final List<ResourceLoaders> m_resourceLoaders = Collections.unmodifiableList(BEANS.all(ResourceLoaders.class));
@@ -68,18 +72,41 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
       return false; // not valid
     }
 
+    // the representation (unencoded or precompressed) is chosen first, because each has its own ETag
+    HttpCacheObject representation = resolveRepresentation(req, resp, cachedObject);
+
     // cached in browser? -> returns 304 if the resource has not been modified
-    if (m_httpCacheControl.checkAndSetCacheHeaders(req, resp, cachedObject)) {
+    if (m_httpCacheControl.checkAndSetCacheHeaders(req, resp, representation)) {
       return true;
     }
 
     // set the resp headers only if no 304 (according to spec: http://www.w3.org/Protocols/rfc2616/rfc2616-sec10.html#sec10.3.5)
-    writeResourceToResponse(req, resp, cachedObject);
+    writeResourceToResponse(req, resp, representation);
     return true;
   }
 
+  /**
+   * @return the representation of the resource to send: the preferred precompressed representation accepted by the
+   *         request (see {@link #resolveEncodedResource(HttpServletRequest, HttpCacheObject)}) or the given object. Sets
+   *         the <code>Vary</code> header if the resource has precompressed representations, for 200 and 304 responses.
+   */
+  protected HttpCacheObject resolveRepresentation(HttpServletRequest req, HttpServletResponse resp, HttpCacheObject cachedObject) {
+    if (cachedObject.getEncodedResources().isEmpty()) {
+      return cachedObject;
+    }
+    resp.addHeader(VARY, GzipServletFilter.ACCEPT_ENCODING);
+    Entry<String, BinaryResource> encodedResource = resolveEncodedResource(req, cachedObject);
+    if (encodedResource == null) {
+      return cachedObject;
+    }
+    return cachedObject.getEncodedRepresentation(encodedResource.getKey());
+  }
+
   protected void writeResourceToResponse(HttpServletRequest req, HttpServletResponse resp, HttpCacheObject cachedObject) throws IOException {
     BinaryResource binaryResource = cachedObject.getResource();
+    if (cachedObject.getContentEncoding() != null) {
+      resp.setHeader(GzipServletFilter.CONTENT_ENCODING, cachedObject.getContentEncoding());
+    }
     setHttpResponseHeaders(resp, binaryResource);
 
     // Apply response interceptors
@@ -90,6 +117,44 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
     }
   }
 
+  /**
+   * @return the preferred precompressed representation of the resource which is accepted by the request (see
+   *         {@link HttpCacheObject#getEncodedResources()}), <code>null</code> if the resource must be sent unencoded
+   */
+  protected Entry<String, BinaryResource> resolveEncodedResource(HttpServletRequest req, HttpCacheObject cachedObject) {
+    String acceptEncoding = req.getHeader(GzipServletFilter.ACCEPT_ENCODING);
+    if (StringUtility.isNullOrEmpty(acceptEncoding)) {
+      return null;
+    }
+    for (Entry<String, BinaryResource> entry : cachedObject.getEncodedResources().entrySet()) {
+      if (acceptsEncoding(acceptEncoding, entry.getKey())) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return true if the <code>Accept-Encoding</code> header value contains the content coding without
+   *         <code>q=0</code>
+   */
+  protected boolean acceptsEncoding(String acceptEncoding, String contentEncoding) {
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.split(";");
+      if (!contentEncoding.equalsIgnoreCase(parts[0].trim())) {
+        continue;
+      }
+      for (int i = 1; i < parts.length; i++) {
+        String param = parts[i].replace(" ", "");
+        if (param.matches("q=0(\\.0*)?")) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
   /**
    * Clear global cache (only allowed in development mode). This allows to work with ?cache=true and clears the cache
    * only when required --> rebuilds script/less files.
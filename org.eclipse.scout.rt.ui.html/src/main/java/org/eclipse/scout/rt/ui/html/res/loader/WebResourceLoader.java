@@ -10,10 +10,14 @@
  */
 package org.eclipse.scout.rt.ui.html.res.loader;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 import org.eclipse.scout.rt.platform.exception.PlatformException;
@@ -22,6 +26,8 @@ import org.eclipse.scout.rt.platform.resource.BinaryResources;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.ImmutablePair;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
 import org.eclipse.scout.rt.shared.ui.webresource.WebResourceDescriptor;
 import org.eclipse.scout.rt.shared.ui.webresource.WebResources;
 
@@ -46,6 +52,67 @@ public class WebResourceLoader extends AbstractResourceLoader {
         .orElse(null);
   }
 
+  @Override
+  public HttpCacheObject loadResource(HttpCacheKey cacheKey) throws IOException {
+    String pathInfo = cacheKey.getResourcePath();
+    Optional<ImmutablePair<WebResourceDescriptor, Integer>> res = lookupResource(pathInfo);
+    if (!res.isPresent()) {
+      return null;
+    }
+    BinaryResource content = toBinaryResources(res.get()).withFilename(pathInfo).build();
+    HttpCacheObject cacheObject = new HttpCacheObject(cacheKey, content);
+    for (Entry<String, String> encoding : getPrecompressedEncodings().entrySet()) {
+      loadPrecompressedResource(res.get(), content, encoding.getValue()).ifPresent(r -> cacheObject.putEncodedResource(encoding.getKey(), r));
+    }
+    return cacheObject;
+  }
+
+  /**
+   * @return content coding to file extension of build-time precompressed resources, in order of preference. A
+   *         precompressed resource is a sibling file with an additional extension (e.g. <code>scout.js.br</code>).
+   */
+  protected Map<String, String> getPrecompressedEncodings() {
+    Map<String, String> encodings = new LinkedHashMap<>();
+    encodings.put("br", ".br");
+    encodings.put("gzip", ".gz");
+    return encodings;
+  }
+
+  /**
+   * @return the precompressed sibling of the resource if it exists, is smaller than the uncompressed resource and not
+   *         older
+   */
+  protected Optional<BinaryResource> loadPrecompressedResource(ImmutablePair<WebResourceDescriptor, Integer> res, BinaryResource uncompressed, String fileExtension) {
+    URL url = res.getLeft().getUrl();
+    try {
+      URL precompressedUrl = new URL(url.toExternalForm() + fileExtension);
+      URLConnection connection = precompressedUrl.openConnection();
+      long lastModified = connection.getLastModified();
+      if (lastModified != 0 && lastModified < uncompressed.getLastModified()) {
+        return Optional.empty(); // outdated
+      }
+      byte[] bytes = IOUtility.readFromUrl(precompressedUrl);
+      if (bytes.length >= uncompressed.getContentLength()) {
+        return Optional.empty();
+      }
+      return Optional.of(BinaryResources.create()
+          .withFilename(uncompressed.getFilename())
+          .withContentType(uncompressed.getContentType())
+          .withContent(bytes)
+          .withCharset(StandardCharsets.UTF_8)
+          .withLastModified(uncompressed.getLastModified())
+          .withCachingAllowed(m_cacheEnabled)
+          .withCacheMaxAge(res.getRight())
+          .build());
+    }
+    catch (FileNotFoundException e) { // NOSONAR
+      return Optional.empty(); // not precompressed
+    }
+    catch (IOException e) {
+      throw new PlatformException("Unable to read from url '{}'.", url, e);
+    }
+  }
+
   public boolean acceptFile(String file) {
     return lookupResource(file).isPresent();
   }